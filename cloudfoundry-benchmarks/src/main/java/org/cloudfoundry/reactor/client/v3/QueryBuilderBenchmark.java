@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client.v3;
+
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.reactor.client.QueryBuilder;
+import org.cloudfoundry.reactor.util.Endpoint;
+import org.cloudfoundry.reactor.util.UriQueryParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures building query parameters from the annotations on a typical filtered and paginated request, and expanding them into a URI with {@link Endpoint}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class QueryBuilderBenchmark {
+
+    private static final String ROOT = "https://api.run.pivotal.io/v3";
+
+    private final FilterBuilder filterBuilder = new FilterBuilder();
+
+    private final QueryBuilder queryBuilder = new QueryBuilder();
+
+    private final ListApplicationsRequest request = ListApplicationsRequest.builder()
+        .names("test-name", "another name")
+        .orderBy("-created_at")
+        .page(2)
+        .perPage(50)
+        .spaceId("2e3a7a2b-ae6b-4e38-9a8b-a0b3e3c0e4f1")
+        .build();
+
+    @Benchmark
+    public List<UriQueryParameter> filterBuilder() {
+        return this.filterBuilder.build(this.request)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<UriQueryParameter> queryBuilder() {
+        return this.queryBuilder.build(this.request)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public String uri() {
+        return Endpoint.of("/apps")
+            .toUriString(ROOT, Stream.concat(this.filterBuilder.build(this.request), this.queryBuilder.build(this.request)));
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.doppler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures splitting a recorded multipart recent logs response into frames.  The response is written in chunks, as it would be read from the network, because the decoder searches the
+ * whole of its accumulated buffer for each frame.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class MultipartCodecBenchmark {
+
+    static final String BOUNDARY = "74684f6bed3ee99aa98a13c609c354cd849b01a6e6051226906140ad31b2";
+
+    static final String FIXTURE = "fixtures/doppler/apps/GET_{id}_recentlogs_response-large.bin";
+
+    @Param({"8192", "65536"})
+    public int chunkSize;
+
+    private byte[] payload;
+
+    @Benchmark
+    public int decode() {
+        EmbeddedChannel channel = new EmbeddedChannel(MultipartCodec.createDecoder(BOUNDARY));
+        for (int offset = 0; offset < this.payload.length; offset += this.chunkSize) {
+            channel.writeInbound(Unpooled.wrappedBuffer(this.payload, offset, Math.min(this.chunkSize, this.payload.length - offset)));
+        }
+        channel.finish();
+
+        int frames = 0;
+        for (ByteBuf frame = channel.readInbound(); frame != null; frame = channel.readInbound()) {
+            frames++;
+            frame.release();
+        }
+
+        return frames;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        this.payload = read(FIXTURE);
+    }
+
+    static byte[] read(String path) throws IOException {
+        try (InputStream in = MultipartCodecBenchmark.class.getClassLoader().getResourceAsStream(path); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            if (in == null) {
+                throw new IllegalStateException(String.format("Fixture %s not found", path));
+            }
+
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+
+            return out.toByteArray();
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.doppler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.cloudfoundry.doppler.Envelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding the envelopes of a recorded recent logs response
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class ReactorDopplerEndpointsBenchmark {
+
+    private final List<byte[]> frames = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(MultipartCodec.createDecoder(MultipartCodecBenchmark.BOUNDARY));
+        channel.writeInbound(Unpooled.wrappedBuffer(MultipartCodecBenchmark.read(MultipartCodecBenchmark.FIXTURE)));
+        channel.finish();
+
+        for (ByteBuf frame = channel.readInbound(); frame != null; frame = channel.readInbound()) {
+            this.frames.add(ByteBufUtil.getBytes(frame));
+            frame.release();
+        }
+
+        this.frames.remove(0);
+    }
+
+    @Benchmark
+    public void toEnvelope(Blackhole blackhole) {
+        for (byte[] frame : this.frames) {
+            Envelope envelope = ReactorDopplerEndpoints.toEnvelope(new ByteArrayInputStream(frame));
+            blackhole.consume(envelope);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares expanding a precompiled {@link Endpoint} with the {@link UriComponentsBuilder} pipeline it replaces, for a typical paginated and filtered request.  Run with {@code -prof gc} to
+ * compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class EndpointBenchmark {
+
+    private static final String APPLICATION_ID = "2e3a7a2b-ae6b-4e38-9a8b-a0b3e3c0e4f1";
+
+    private static final String ROOT = "https://api.run.pivotal.io/v3";
+
+    private final List<UriQueryParameter> queryParameters = Arrays.asList(
+        UriQueryParameter.of("names", "test-name,another name"),
+        UriQueryParameter.of("order_by", "-created_at"),
+        UriQueryParameter.of("page", 2),
+        UriQueryParameter.of("per_page", 50),
+        UriQueryParameter.of("types", "web"));
+
+    @Benchmark
+    public String endpoint() {
+        return Endpoint.of("/apps/{applicationId}/processes", APPLICATION_ID)
+            .toUriString(ROOT, this.queryParameters.stream());
+    }
+
+    @Benchmark
+    public String uriComponentsBuilder() {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(ROOT);
+        UriQueryParameters.set(builder, this.queryParameters.stream());
+
+        return builder.pathSegment("apps", APPLICATION_ID, "processes")
+            .encode()
+            .build()
+            .toUriString();
+    }
+
+}
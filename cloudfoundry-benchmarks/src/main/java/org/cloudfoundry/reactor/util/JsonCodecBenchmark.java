@@ -0,0 +1,148 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.cloudfoundry.client.v2.applications.SummaryApplicationResponse;
+import org.cloudfoundry.client.v2.info.GetInfoResponse;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures deserialization throughput of recorded Cloud Controller responses with the {@link ObjectMapper} that {@link DefaultConnectionContext} configures, comparing
+ * {@link ObjectMapper#readValue(byte[], Class)} with the readers cached by {@link DefaultConnectionContext}, with and without the {@link AfterburnerModule}.  Serialization of the same
+ * responses into pooled buffers is measured alongside.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class JsonCodecBenchmark {
+
+    @Param({"false", "true"})
+    public boolean afterburner;
+
+    @Param
+    public Fixture fixture;
+
+    private DefaultConnectionContext connectionContext;
+
+    private ObjectMapper objectMapper;
+
+    private byte[] payload;
+
+    private Object value;
+
+    @Benchmark
+    public Object objectMapper() throws IOException {
+        return this.objectMapper.readValue(this.payload, this.fixture.type);
+    }
+
+    @Benchmark
+    public Object reader() throws IOException {
+        return this.connectionContext.getObjectReader(this.fixture.type).readValue(this.payload);
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        DefaultConnectionContext.Builder builder = DefaultConnectionContext.builder()
+            .apiHost("localhost");
+
+        if (this.afterburner) {
+            builder.module(new AfterburnerModule());
+        }
+
+        this.connectionContext = builder.build();
+        this.objectMapper = this.connectionContext.getObjectMapper();
+        this.payload = read(this.fixture.path);
+        this.value = this.objectMapper.readValue(this.payload, this.fixture.type);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.connectionContext.dispose();
+    }
+
+    @Benchmark
+    public int write() {
+        ByteBuf buffer = JsonCodec.write(this.objectMapper, this.value, PooledByteBufAllocator.DEFAULT);
+
+        try {
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static byte[] read(String path) throws IOException {
+        try (InputStream in = JsonCodecBenchmark.class.getClassLoader().getResourceAsStream(path); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            if (in == null) {
+                throw new IllegalStateException(String.format("Fixture %s not found", path));
+            }
+
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+
+            return out.toByteArray();
+        }
+    }
+
+    public enum Fixture {
+
+        GET_INFO("fixtures/client/v2/info/GET_response.json", GetInfoResponse.class),
+
+        LIST_APPLICATIONS_V2("fixtures/client/v2/apps/GET_apps_response.json", org.cloudfoundry.client.v2.applications.ListApplicationsResponse.class),
+
+        LIST_APPLICATIONS_V3("fixtures/client/v3/apps/GET_response.json", org.cloudfoundry.client.v3.applications.ListApplicationsResponse.class),
+
+        SUMMARY_APPLICATION("fixtures/client/v2/apps/GET_{id}_summary_response.json", SummaryApplicationResponse.class);
+
+        private final String path;
+
+        private final Class<?> type;
+
+        Fixture(String path, Class<?> type) {
+            this.path = path;
+            this.type = type;
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Command line arguments of the form {@code --name=value}
+ */
+final class Arguments {
+
+    private final Map<String, String> values;
+
+    private Arguments(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static Arguments parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+
+            if (!arg.startsWith("--") || index == -1) {
+                throw new IllegalArgumentException(String.format("Argument %s is not of the form --name=value", arg));
+            }
+
+            values.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+
+        return new Arguments(values);
+    }
+
+    double getDouble(String name, double defaultValue) {
+        return get(name, Double::parseDouble, defaultValue);
+    }
+
+    Duration getDuration(String name, Duration defaultValue) {
+        return get(name, Duration::parse, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        return get(name, Integer::parseInt, defaultValue);
+    }
+
+    long getLong(String name, long defaultValue) {
+        return get(name, Long::parseLong, defaultValue);
+    }
+
+    String getString(String name, String defaultValue) {
+        return get(name, Function.identity(), defaultValue);
+    }
+
+    private <T> T get(String name, Function<String, T> parser, T defaultValue) {
+        String value = this.values.get(name);
+        return value == null ? defaultValue : parser.apply(value);
+    }
+
+}
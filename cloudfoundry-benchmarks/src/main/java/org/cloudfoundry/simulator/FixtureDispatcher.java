@@ -0,0 +1,416 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import okhttp3.HttpUrl;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Dispatcher} that answers Cloud Controller, UAA token and token key, Doppler and Log Cache requests with recorded fixtures.  The root and info payloads point every endpoint back at the
+ * simulator, unfiltered list responses are expanded to the configured number of pages, and failures and throttling are injected at the configured rates.
+ */
+final class FixtureDispatcher extends Dispatcher {
+
+    private static final String KEY_ID = "simulator";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final List<String> PAGINATION_PARAMETERS = Arrays.asList("fields", "include", "inline-relations-depth", "order-direction", "order_by", "page", "per_page",
+        "results-per-page");
+
+    private static final Duration TOKEN_VALIDITY = Duration.ofHours(12);
+
+    private final SimulatorConfiguration configuration;
+
+    private final Fixtures fixtures;
+
+    private final KeyPair keyPair;
+
+    private final Random random;
+
+    FixtureDispatcher(SimulatorConfiguration configuration, Fixtures fixtures) {
+        this.configuration = configuration;
+        this.fixtures = fixtures;
+        this.keyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+        this.random = new Random(configuration.getSeed());
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        List<String> segments = getSegments(url);
+
+        return delay(dispatch(request.getMethod(), url, segments));
+    }
+
+    private MockResponse cloudController(String method, HttpUrl url, List<String> segments) {
+        if (segments.size() < 2) {
+            return notFound(segments);
+        }
+
+        String directory = String.format("client/%s/%s", segments.get(0), segments.get(1));
+
+        return this.fixtures.find(directory, method, segments.subList(2, segments.size()))
+            .map(fixture -> {
+                if ("GET".equals(method) && isUnfiltered(url)) {
+                    return json(200, paginate(url, segments.get(0), fixture));
+                }
+
+                return json(getStatus(method), fixture);
+            })
+            .orElseGet(() -> "DELETE".equals(method) ? new MockResponse().setResponseCode(204) : notFound(segments));
+    }
+
+    private MockResponse delay(MockResponse response) {
+        if (!this.configuration.getLatency().isZero()) {
+            response.setHeadersDelay(this.configuration.getLatency().toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        return response;
+    }
+
+    private MockResponse dispatch(String method, HttpUrl url, List<String> segments) {
+        if (segments.isEmpty()) {
+            return json(200, root(url));
+        }
+
+        if (segments.equals(Arrays.asList("v2", "info"))) {
+            return json(200, info(url));
+        }
+
+        double failure = this.random.nextDouble();
+
+        if (failure < this.configuration.getThrottleRate()) {
+            return error(429, segments, 10013, "CF-RateLimitExceeded", "Rate Limit Exceeded")
+                .setHeader("Retry-After", 1);
+        }
+
+        if (failure < this.configuration.getThrottleRate() + this.configuration.getErrorRate()) {
+            return error(500, segments, 10001, "CF-ServerError", "Simulated server error");
+        }
+
+        switch (segments.get(0)) {
+            case "api":
+                return logCache(segments);
+            case "apps":
+            case "firehose":
+                return doppler(segments);
+            case "oauth":
+                return json(200, token());
+            case "token_keys":
+                return json(200, tokenKeys());
+            case "v2":
+            case "v3":
+                return cloudController(method, url, segments);
+            default:
+                return notFound(segments);
+        }
+    }
+
+    private MockResponse doppler(List<String> segments) {
+        String last = segments.get(segments.size() - 1);
+
+        if ("containermetrics".equals(last) || "recentlogs".equals(last)) {
+            return this.fixtures.get(String.format("doppler/apps/GET_{id}_%s_response.bin", last))
+                .map(fixture -> new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader("Content-Type", String.format("multipart/x-protobuf; boundary=%s", Multipart.getBoundary(fixture)))
+                    .setBody(new Buffer().write(fixture)))
+                .orElseGet(() -> notFound(segments));
+        }
+
+        if ("firehose".equals(segments.get(0)) || "stream".equals(last)) {
+            return this.fixtures.get("doppler/apps/GET_{id}_recentlogs_response.bin")
+                .map(fixture -> new MockResponse().withWebSocketUpgrade(new EnvelopeWebSocketListener(Multipart.split(fixture))))
+                .orElseGet(() -> notFound(segments));
+        }
+
+        return notFound(segments);
+    }
+
+    private static MockResponse error(int status, List<String> segments, int code, String errorCode, String description) {
+        Map<String, Object> payload = new HashMap<>();
+
+        if (!segments.isEmpty() && "v3".equals(segments.get(0))) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("code", code);
+            error.put("detail", description);
+            error.put("title", errorCode);
+
+            payload.put("errors", Arrays.asList(error));
+        } else {
+            payload.put("code", code);
+            payload.put("description", description);
+            payload.put("error_code", errorCode);
+        }
+
+        return json(status, payload);
+    }
+
+    private static String getRoot(HttpUrl url, String scheme) {
+        return String.format("%s://%s:%d", scheme, url.host(), url.port());
+    }
+
+    private static List<String> getSegments(HttpUrl url) {
+        List<String> segments = new ArrayList<>(url.pathSegments());
+        segments.removeIf(String::isEmpty);
+        return segments;
+    }
+
+    private static int getStatus(String method) {
+        switch (method) {
+            case "DELETE":
+                return 202;
+            case "POST":
+                return 201;
+            default:
+                return 200;
+        }
+    }
+
+    private static Map<String, Object> info(HttpUrl url) {
+        String root = getRoot(url, "http");
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("api_version", "2.155.0");
+        payload.put("authorization_endpoint", root);
+        payload.put("doppler_logging_endpoint", getRoot(url, "ws"));
+        payload.put("name", "simulator");
+        payload.put("routing_endpoint", root + "/routing");
+        payload.put("token_endpoint", root);
+
+        return payload;
+    }
+
+    private static boolean isUnfiltered(HttpUrl url) {
+        return url.queryParameterNames().stream()
+            .allMatch(name -> PAGINATION_PARAMETERS.contains(name) || name.startsWith("fields["));
+    }
+
+    private static MockResponse json(int status, Object payload) {
+        try {
+            return json(status, OBJECT_MAPPER.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MockResponse json(int status, byte[] payload) {
+        return new MockResponse()
+            .setResponseCode(status)
+            .setHeader("Content-Type", "application/json")
+            .setBody(new Buffer().write(payload));
+    }
+
+    private static Map<String, Object> link(String href) {
+        Map<String, Object> link = new HashMap<>();
+        link.put("href", href);
+        return link;
+    }
+
+    private MockResponse logCache(List<String> segments) {
+        if (segments.size() == 4 && "read".equals(segments.get(2))) {
+            return this.fixtures.get("logcache.v1/GET_{id}_read_response.json")
+                .map(fixture -> json(200, fixture))
+                .orElseGet(() -> notFound(segments));
+        }
+
+        return this.fixtures.find("logcache.v1", "GET", segments.subList(Math.min(2, segments.size()), segments.size()))
+            .map(fixture -> json(200, fixture))
+            .orElseGet(() -> notFound(segments));
+    }
+
+    private static MockResponse notFound(List<String> segments) {
+        return error(404, segments, 10000, "CF-NotFound", String.format("No fixture recorded for /%s", String.join("/", segments)));
+    }
+
+    private byte[] paginate(HttpUrl url, String version, byte[] fixture) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(fixture);
+            JsonNode resources = node.get("resources");
+
+            if (!(resources instanceof ArrayNode) || resources.size() == 0) {
+                return fixture;
+            }
+
+            int pageCount = this.configuration.getPageCount();
+            int pageSize = this.configuration.getPageSize();
+            String page = url.queryParameter("page");
+            int number = page == null ? 1 : Integer.parseInt(page);
+
+            ArrayNode expanded = ((ObjectNode) node).putArray("resources");
+            if (number <= pageCount) {
+                for (int i = 0; i < pageSize; i++) {
+                    int index = (number - 1) * pageSize + i;
+                    expanded.add(uniquify(resources.get(index % resources.size()).deepCopy(), index));
+                }
+            }
+
+            if ("v2".equals(version)) {
+                ((ObjectNode) node)
+                    .put("total_pages", pageCount)
+                    .put("total_results", pageCount * pageSize)
+                    .put("next_url", number < pageCount ? page(url, "results-per-page", number + 1) : null)
+                    .put("prev_url", number > 1 ? page(url, "results-per-page", number - 1) : null);
+            } else {
+                ObjectNode pagination = ((ObjectNode) node).putObject("pagination")
+                    .put("total_pages", pageCount)
+                    .put("total_results", pageCount * pageSize);
+
+                pagination.set("first", OBJECT_MAPPER.valueToTree(link(page(url, "per_page", 1))));
+                pagination.set("last", OBJECT_MAPPER.valueToTree(link(page(url, "per_page", pageCount))));
+                pagination.set("next", number < pageCount ? OBJECT_MAPPER.valueToTree(link(page(url, "per_page", number + 1))) : null);
+                pagination.set("previous", number > 1 ? OBJECT_MAPPER.valueToTree(link(page(url, "per_page", number - 1))) : null);
+            }
+
+            return OBJECT_MAPPER.writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String page(HttpUrl url, String sizeParameter, int number) {
+        return url.newBuilder()
+            .setQueryParameter("page", String.valueOf(number))
+            .setQueryParameter(sizeParameter, String.valueOf(this.configuration.getPageSize()))
+            .build()
+            .toString();
+    }
+
+    private static Map<String, Object> root(HttpUrl url) {
+        String root = getRoot(url, "http");
+
+        Map<String, Object> links = new HashMap<>();
+        links.put("cloud_controller_v2", link(root + "/v2"));
+        links.put("cloud_controller_v3", link(root + "/v3"));
+        links.put("log-cache", link(root));
+        links.put("logging", link(getRoot(url, "ws")));
+        links.put("login", link(root));
+        links.put("network_policy_v1", link(root + "/networking/v1/external"));
+        links.put("routing", link(root + "/routing"));
+        links.put("self", link(root));
+        links.put("uaa", link(root));
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("links", links);
+
+        return payload;
+    }
+
+    private Map<String, Object> token() {
+        Instant now = Instant.now();
+
+        String accessToken = Jwts.builder()
+            .setExpiration(Date.from(now.plus(TOKEN_VALIDITY)))
+            .setHeaderParam("kid", KEY_ID)
+            .setIssuedAt(Date.from(now))
+            .claim("user_id", "simulator-user-id")
+            .claim("user_name", "simulator")
+            .signWith(this.keyPair.getPrivate(), SignatureAlgorithm.RS256)
+            .compact();
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("access_token", accessToken);
+        payload.put("expires_in", TOKEN_VALIDITY.getSeconds());
+        payload.put("jti", UUID.randomUUID().toString());
+        payload.put("refresh_token", accessToken);
+        payload.put("scope", "cloud_controller.read cloud_controller.write doppler.firehose openid");
+        payload.put("token_type", "bearer");
+
+        return payload;
+    }
+
+    private Map<String, Object> tokenKeys() {
+        RSAPublicKey publicKey = (RSAPublicKey) this.keyPair.getPublic();
+
+        Map<String, Object> key = new HashMap<>();
+        key.put("alg", "SHA256withRSA");
+        key.put("e", Base64.getEncoder().encodeToString(publicKey.getPublicExponent().toByteArray()));
+        key.put("kid", KEY_ID);
+        key.put("kty", "RSA");
+        key.put("n", Base64.getEncoder().encodeToString(publicKey.getModulus().toByteArray()));
+        key.put("use", "sig");
+        key.put("value", String.format("-----BEGIN PUBLIC KEY-----%n%s%n-----END PUBLIC KEY-----", Base64.getMimeEncoder().encodeToString(publicKey.getEncoded())));
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("keys", Collections.singletonList(key));
+
+        return payload;
+    }
+
+    private static JsonNode uniquify(JsonNode resource, int index) {
+        JsonNode metadata = resource.get("metadata");
+        JsonNode target = metadata instanceof ObjectNode && metadata.has("guid") ? metadata : resource;
+        JsonNode guid = target.get("guid");
+
+        if (index > 0 && guid != null && guid.isTextual()) {
+            ((ObjectNode) target).put("guid", String.format("%s-%d", guid.asText(), index));
+        }
+
+        return resource;
+    }
+
+    private static final class EnvelopeWebSocketListener extends WebSocketListener {
+
+        private final List<byte[]> envelopes;
+
+        private EnvelopeWebSocketListener(List<byte[]> envelopes) {
+            this.envelopes = envelopes;
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            this.envelopes.forEach(envelope -> webSocket.send(ByteString.of(envelope)));
+            webSocket.close(1000, null);
+        }
+
+    }
+
+}
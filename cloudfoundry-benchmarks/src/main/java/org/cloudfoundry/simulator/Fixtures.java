@@ -0,0 +1,184 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The recorded responses that the {@link Simulator} serves, indexed so that a request can be matched to the response recorded for its endpoint.  Fixtures are named
+ * {@code <METHOD>_<path segments>_response.<extension>}, with variable segments written as placeholders such as {@code {id}}.
+ */
+final class Fixtures {
+
+    private static final Pattern NAME = Pattern.compile("([A-Z]+(?:_.+)?)_response\\.(?:json|bin)");
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{[^}]+}");
+
+    private static final String ROOT = "fixtures";
+
+    private final Map<String, byte[]> contents;
+
+    private final Map<String, List<Template>> templates;
+
+    private Fixtures(Map<String, byte[]> contents) {
+        this.contents = contents;
+        this.templates = contents.keySet().stream()
+            .map(Template::from)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .sorted(Comparator.comparingInt(Template::getPlaceholders))
+            .collect(Collectors.groupingBy(Template::getDirectory));
+    }
+
+    /**
+     * Returns the fixture at a path
+     *
+     * @param path the path of the fixture, relative to the fixtures root
+     * @return the fixture, if it exists
+     */
+    Optional<byte[]> get(String path) {
+        return Optional.ofNullable(this.contents.get(path));
+    }
+
+    /**
+     * Returns the fixture recorded for a request
+     *
+     * @param directory the directory that fixtures for the endpoint are in, relative to the fixtures root
+     * @param method    the method of the request
+     * @param segments  the path segments of the request below the endpoint
+     * @return the fixture, if one matches
+     */
+    Optional<byte[]> find(String directory, String method, List<String> segments) {
+        StringBuilder name = new StringBuilder(method);
+        segments.forEach(segment -> name.append('_').append(segment));
+
+        return this.templates.getOrDefault(directory, Collections.emptyList()).stream()
+            .filter(template -> template.matches(name))
+            .findFirst()
+            .flatMap(template -> get(template.path));
+    }
+
+    static Fixtures load() {
+        try {
+            URL url = Fixtures.class.getClassLoader().getResource(ROOT);
+            if (url == null) {
+                throw new IllegalStateException("Fixtures are not on the classpath");
+            }
+
+            URI uri = url.toURI();
+
+            if ("jar".equals(uri.getScheme())) {
+                try (FileSystem fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
+                    return new Fixtures(read(fileSystem.getPath("/", ROOT)));
+                }
+            } else {
+                return new Fixtures(read(Paths.get(uri)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, byte[]> read(Path root) throws IOException {
+        Map<String, byte[]> contents = new HashMap<>();
+
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                contents.put(root.relativize(path).toString().replace('\\', '/'), Files.readAllBytes(path));
+            }
+        }
+
+        return contents;
+    }
+
+    private static final class Template {
+
+        private final String directory;
+
+        private final String path;
+
+        private final Pattern pattern;
+
+        private final int placeholders;
+
+        private Template(String directory, String path, Pattern pattern, int placeholders) {
+            this.directory = directory;
+            this.path = path;
+            this.pattern = pattern;
+            this.placeholders = placeholders;
+        }
+
+        private static Optional<Template> from(String path) {
+            int index = path.lastIndexOf('/');
+            Matcher name = NAME.matcher(path.substring(index + 1));
+
+            if (index == -1 || !name.matches()) {
+                return Optional.empty();
+            }
+
+            StringBuilder regex = new StringBuilder();
+            Matcher placeholder = PLACEHOLDER.matcher(name.group(1));
+            int placeholders = 0;
+            int start = 0;
+
+            while (placeholder.find()) {
+                regex.append(Pattern.quote(name.group(1).substring(start, placeholder.start()))).append("[^_]+");
+                placeholders++;
+                start = placeholder.end();
+            }
+            regex.append(Pattern.quote(name.group(1).substring(start)));
+
+            return Optional.of(new Template(path.substring(0, index), path, Pattern.compile(regex.toString()), placeholders));
+        }
+
+        private String getDirectory() {
+            return this.directory;
+        }
+
+        private int getPlaceholders() {
+            return this.placeholders;
+        }
+
+        private boolean matches(CharSequence name) {
+            return this.pattern.matcher(name).matches();
+        }
+
+    }
+
+}
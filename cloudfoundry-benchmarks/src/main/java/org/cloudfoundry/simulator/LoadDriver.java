@@ -0,0 +1,144 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import org.cloudfoundry.operations.CloudFoundryOperations;
+import org.cloudfoundry.operations.DefaultCloudFoundryOperations;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.client.ReactorCloudFoundryClient;
+import org.cloudfoundry.reactor.doppler.ReactorDopplerClient;
+import org.cloudfoundry.reactor.tokenprovider.PasswordGrantTokenProvider;
+import org.cloudfoundry.reactor.uaa.ReactorUaaClient;
+import org.cloudfoundry.reactor.util.LatencyHistogram;
+import org.cloudfoundry.reactor.util.LatencyHistogramRequestListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Drives a {@link Workload} against a {@link Simulator} from a number of concurrent callers, and reports the throughput of the workload and the latency percentiles of both the
+ * operations and the requests they make.
+ *
+ * <p>Run {@code java -cp benchmarks.jar org.cloudfoundry.simulator.LoadDriver --workload=LIST_APPLICATIONS --concurrency=16 --duration=PT30S}.  The warm up period can be set with
+ * {@code --warmup}, and the simulator accepts the same arguments as {@link Simulator}.</p>
+ */
+public final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) {
+        Arguments arguments = Arguments.parse(args);
+        Workload workload = Workload.valueOf(arguments.getString("workload", Workload.LIST_APPLICATIONS.name()));
+        int concurrency = arguments.getInt("concurrency", 16);
+        Duration duration = arguments.getDuration("duration", Duration.ofSeconds(30));
+        Duration warmup = arguments.getDuration("warmup", Duration.ofSeconds(10));
+
+        try (Simulator simulator = Simulator.start(Simulator.configuration(arguments))) {
+            LatencyHistogramRequestListener requests = new LatencyHistogramRequestListener();
+
+            DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+                .apiHost(simulator.getHost())
+                .port(simulator.getPort())
+                .requestListener(requests)
+                .secure(false)
+                .build();
+
+            try {
+                CloudFoundryOperations operations = getOperations(connectionContext);
+
+                run(workload, operations, concurrency, warmup);
+                requests.reset();
+
+                long start = System.nanoTime();
+                LatencyHistogram histogram = run(workload, operations, concurrency, duration);
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+                report(workload, concurrency, elapsed, histogram, requests.getHistograms());
+            } finally {
+                connectionContext.dispose();
+            }
+        }
+    }
+
+    private static Mono<Void> execute(Workload workload, CloudFoundryOperations operations, LatencyHistogram histogram) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return Flux.from(workload.apply(operations))
+                .then()
+                .doOnSuccess(v -> histogram.record(Duration.ofNanos(System.nanoTime() - start), false))
+                .onErrorResume(t -> {
+                    histogram.record(Duration.ofNanos(System.nanoTime() - start), true);
+                    return Mono.empty();
+                });
+        });
+    }
+
+    private static String format(Duration duration) {
+        return String.format("%.3f ms", duration.toNanos() / 1_000_000.0);
+    }
+
+    private static CloudFoundryOperations getOperations(DefaultConnectionContext connectionContext) {
+        PasswordGrantTokenProvider tokenProvider = PasswordGrantTokenProvider.builder()
+            .password("simulator")
+            .username("simulator")
+            .build();
+
+        return DefaultCloudFoundryOperations.builder()
+            .cloudFoundryClient(ReactorCloudFoundryClient.builder()
+                .connectionContext(connectionContext)
+                .tokenProvider(tokenProvider)
+                .build())
+            .dopplerClient(ReactorDopplerClient.builder()
+                .connectionContext(connectionContext)
+                .tokenProvider(tokenProvider)
+                .build())
+            .organization("test-organization")
+            .space("test-space")
+            .uaaClient(ReactorUaaClient.builder()
+                .connectionContext(connectionContext)
+                .tokenProvider(tokenProvider)
+                .build())
+            .build();
+    }
+
+    private static void report(Workload workload, int concurrency, Duration elapsed, LatencyHistogram histogram, Map<String, LatencyHistogram> requests) {
+        System.out.printf("Workload:   %s (concurrency %d, %.1f s)%n", workload, concurrency, elapsed.toNanos() / 1_000_000_000.0);
+        System.out.printf("Operations: %d (%d failed)%n", histogram.getCount(), histogram.getErrorCount());
+        System.out.printf("Throughput: %.1f ops/s%n", histogram.getCount() * 1_000_000_000.0 / elapsed.toNanos());
+        System.out.printf("Latency:    mean %s, p50 %s, p90 %s, p99 %s, p99.9 %s, max %s%n", format(histogram.getMean()), format(histogram.getPercentile(0.5)),
+            format(histogram.getPercentile(0.9)), format(histogram.getPercentile(0.99)), format(histogram.getPercentile(0.999)), format(histogram.getMax()));
+        System.out.println("Requests:");
+        requests.forEach((endpoint, requestHistogram) -> System.out.printf("  %s: %s%n", endpoint, requestHistogram));
+    }
+
+    private static LatencyHistogram run(Workload workload, CloudFoundryOperations operations, int concurrency, Duration duration) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        Flux.range(0, concurrency)
+            .flatMap(i -> execute(workload, operations, histogram)
+                .repeat(() -> System.nanoTime() - deadline < 0), concurrency)
+            .blockLast();
+
+        return histogram;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utilities for the recorded {@code multipart/x-protobuf} Doppler responses
+ */
+final class Multipart {
+
+    private static final String CRLF = "\r\n";
+
+    private Multipart() {
+    }
+
+    /**
+     * Returns the boundary of a recorded response, taken from its first delimiter line
+     */
+    static String getBoundary(byte[] multipart) {
+        int end = indexOf(multipart, CRLF.getBytes(StandardCharsets.US_ASCII), 0);
+
+        if (multipart.length < 2 || multipart[0] != '-' || multipart[1] != '-' || end == -1) {
+            throw new IllegalArgumentException("Payload does not start with a multipart boundary");
+        }
+
+        return new String(multipart, 2, end - 2, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Splits a recorded response into the payloads of its parts
+     */
+    static List<byte[]> split(byte[] multipart) {
+        String boundary = getBoundary(multipart);
+        byte[] delimiter = String.format("%s--%s", CRLF, boundary).getBytes(StandardCharsets.US_ASCII);
+        int headerLength = 2 * CRLF.length();
+
+        List<byte[]> parts = new ArrayList<>();
+        int start = boundary.length() + 2 + headerLength;
+
+        for (int end = indexOf(multipart, delimiter, start); end != -1; end = indexOf(multipart, delimiter, start)) {
+            parts.add(Arrays.copyOfRange(multipart, start, end));
+            start = end + delimiter.length;
+
+            if (start + 1 < multipart.length && multipart[start] == '-' && multipart[start + 1] == '-') {
+                break;
+            }
+
+            start += headerLength;
+        }
+
+        return parts;
+    }
+
+    private static int indexOf(byte[] source, byte[] target, int fromIndex) {
+        outer:
+        for (int i = fromIndex; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+
+            return i;
+        }
+
+        return -1;
+    }
+
+}
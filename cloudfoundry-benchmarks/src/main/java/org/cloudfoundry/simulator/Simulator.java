@@ -0,0 +1,160 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import okhttp3.mockwebserver.MockWebServer;
+
+import javax.net.ServerSocketFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A local stand-in for a Cloud Foundry foundation that serves the Cloud Controller v2 and v3, UAA token, Doppler and Log Cache APIs from recorded fixtures.  Every endpoint is served
+ * over plain HTTP from a single port, so clients should connect with {@code secure(false)}.
+ *
+ * <p>Run {@code java -cp benchmarks.jar org.cloudfoundry.simulator.Simulator --port=8080} to start a standalone simulator.  The behavior can be tuned with {@code --error-rate},
+ * {@code --latency} (an ISO-8601 duration), {@code --page-count}, {@code --page-size}, {@code --seed} and {@code --throttle-rate}.</p>
+ */
+public final class Simulator implements AutoCloseable {
+
+    private static final Logger MOCK_WEB_SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+    private final MockWebServer server;
+
+    private Simulator(MockWebServer server) {
+        this.server = server;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        SimulatorConfiguration configuration = configuration(Arguments.parse(args));
+        Simulator simulator = start(configuration);
+
+        System.out.printf("Simulating Cloud Foundry at http://%s:%d%n", simulator.getHost(), simulator.getPort());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::close));
+        new CountDownLatch(1).await();
+    }
+
+    /**
+     * Starts a simulator
+     *
+     * @param configuration the behavior of the simulator
+     * @return the running simulator
+     */
+    public static Simulator start(SimulatorConfiguration configuration) {
+        MOCK_WEB_SERVER_LOGGER.setLevel(Level.SEVERE);
+
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new FixtureDispatcher(configuration, Fixtures.load()));
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+
+        try {
+            server.start(configuration.getPort());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new Simulator(server);
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.server.shutdown();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the host the simulator is listening on
+     */
+    public String getHost() {
+        return this.server.getHostName();
+    }
+
+    /**
+     * Returns the port the simulator is listening on
+     */
+    public int getPort() {
+        return this.server.getPort();
+    }
+
+    static SimulatorConfiguration configuration(Arguments arguments) {
+        return SimulatorConfiguration.builder()
+            .errorRate(arguments.getDouble("error-rate", 0.0))
+            .latency(arguments.getDuration("latency", Duration.ZERO))
+            .pageCount(arguments.getInt("page-count", 1))
+            .pageSize(arguments.getInt("page-size", 50))
+            .port(arguments.getInt("port", 0))
+            .seed(arguments.getLong("seed", 0))
+            .throttleRate(arguments.getDouble("throttle-rate", 0.0))
+            .build();
+    }
+
+    /**
+     * Disables Nagle's algorithm on accepted connections.  Otherwise, responses written as separate header and body segments wait for the client's delayed acknowledgement.
+     */
+    private static final class NoDelayServerSocketFactory extends ServerSocketFactory {
+
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new NoDelayServerSocket();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            return createServerSocket(port, 50, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            return createServerSocket(port, backlog, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            ServerSocket serverSocket = createServerSocket();
+            serverSocket.bind(new InetSocketAddress(address, port), backlog);
+            return serverSocket;
+        }
+
+    }
+
+    private static final class NoDelayServerSocket extends ServerSocket {
+
+        private NoDelayServerSocket() throws IOException {
+        }
+
+        @Override
+        public Socket accept() throws IOException {
+            Socket socket = super.accept();
+            socket.setTcpNoDelay(true);
+            return socket;
+        }
+
+    }
+
+}
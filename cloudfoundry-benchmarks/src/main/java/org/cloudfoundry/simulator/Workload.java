@@ -0,0 +1,66 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import org.cloudfoundry.operations.CloudFoundryOperations;
+import org.cloudfoundry.operations.applications.GetApplicationRequest;
+import org.cloudfoundry.operations.applications.LogsRequest;
+import org.reactivestreams.Publisher;
+
+import java.util.function.Function;
+
+/**
+ * The {@link CloudFoundryOperations} that the {@link LoadDriver} can exercise
+ */
+enum Workload {
+
+    GET_APPLICATION(operations -> operations.applications()
+        .get(GetApplicationRequest.builder()
+            .name(Workload.APPLICATION_NAME)
+            .build())),
+
+    LIST_APPLICATIONS(operations -> operations.applications()
+        .list()),
+
+    LIST_ORGANIZATIONS(operations -> operations.organizations()
+        .list()),
+
+    LIST_SERVICE_INSTANCES(operations -> operations.services()
+        .listInstances()),
+
+    LIST_SPACES(operations -> operations.spaces()
+        .list()),
+
+    RECENT_LOGS(operations -> operations.applications()
+        .logs(LogsRequest.builder()
+            .name(Workload.APPLICATION_NAME)
+            .recent(true)
+            .build()));
+
+    private static final String APPLICATION_NAME = "test-application-name";
+
+    private final Function<CloudFoundryOperations, Publisher<?>> operation;
+
+    Workload(Function<CloudFoundryOperations, Publisher<?>> operation) {
+        this.operation = operation;
+    }
+
+    Publisher<?> apply(CloudFoundryOperations operations) {
+        return this.operation.apply(operations);
+    }
+
+}
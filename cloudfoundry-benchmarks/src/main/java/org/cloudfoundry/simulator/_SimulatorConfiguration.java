@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.simulator;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * The behavior of a {@link Simulator}
+ */
+@Value.Immutable
+abstract class _SimulatorConfiguration {
+
+    @Value.Check
+    void check() {
+        if (getErrorRate() < 0.0 || getThrottleRate() < 0.0 || getErrorRate() + getThrottleRate() > 1.0) {
+            throw new IllegalStateException("Error and throttle rates must be positive and must not total more than 1.0");
+        }
+
+        if (getPageCount() < 1 || getPageSize() < 1) {
+            throw new IllegalStateException("Page count and page size must be greater than zero");
+        }
+    }
+
+    /**
+     * The fraction of requests that fail with a {@code 500 Internal Server Error}.  Defaults to {@code 0.0}.
+     */
+    @Value.Default
+    double getErrorRate() {
+        return 0.0;
+    }
+
+    /**
+     * The delay before the headers of each response are sent.  Defaults to no delay.
+     */
+    @Value.Default
+    Duration getLatency() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * The number of pages returned by unfiltered list requests.  Defaults to {@code 1}.
+     */
+    @Value.Default
+    int getPageCount() {
+        return 1;
+    }
+
+    /**
+     * The number of resources on each page returned by unfiltered list requests.  Defaults to {@code 50}.
+     */
+    @Value.Default
+    int getPageSize() {
+        return 50;
+    }
+
+    /**
+     * The port to listen on.  Defaults to an ephemeral port.
+     */
+    @Value.Default
+    int getPort() {
+        return 0;
+    }
+
+    /**
+     * The seed used to choose which requests fail or are throttled, so that runs are reproducible.  Defaults to {@code 0}.
+     */
+    @Value.Default
+    long getSeed() {
+        return 0;
+    }
+
+    /**
+     * The fraction of requests that are rejected with a {@code 429 Too Many Requests}.  Defaults to {@code 0.0}.
+     */
+    @Value.Default
+    double getThrottleRate() {
+        return 0.0;
+    }
+
+}
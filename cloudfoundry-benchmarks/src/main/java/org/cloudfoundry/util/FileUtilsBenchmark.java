@@ -0,0 +1,99 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures hashing a file and compressing a directory, as done when pushing an application.  Content is generated from a fixed seed so that results are comparable between runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class FileUtilsBenchmark {
+
+    private static final int FILE_COUNT = 100;
+
+    @Param({"65536", "1048576"})
+    public int fileSize;
+
+    private Path directory;
+
+    @Benchmark
+    public long compress() throws IOException {
+        Path compressed = FileUtils.compress(this.directory).block();
+
+        try {
+            return Files.size(compressed);
+        } finally {
+            Files.delete(compressed);
+        }
+    }
+
+    @Benchmark
+    public String hash() {
+        return FileUtils.hash(this.directory.resolve("file-0"));
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("file-utils-benchmark");
+
+        Random random = new Random(0);
+        byte[] content = new byte[this.fileSize];
+
+        for (int i = 0; i < FILE_COUNT; i++) {
+            random.nextBytes(content);
+
+            try (OutputStream out = Files.newOutputStream(this.directory.resolve(String.format("file-%d", i)))) {
+                out.write(content);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted(Comparator.reverseOrder())
+                .forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.v3.Link;
+import org.cloudfoundry.client.v3.Pagination;
+import org.cloudfoundry.client.v3.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v3.spaces.SpaceResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of assembling resources from many pages, using a page supplier that returns prebuilt pages without any I/O
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class PaginationUtilsBenchmark {
+
+    private static final int RESOURCES_PER_PAGE = 50;
+
+    @Param({"1", "10", "100"})
+    public int pages;
+
+    private final List<ListSpacesResponse> responses = new ArrayList<>();
+
+    @Benchmark
+    public Long requestClientV3Resources() {
+        return PaginationUtils.requestClientV3Resources(page -> Mono.just(this.responses.get(page - 1)))
+            .count()
+            .block();
+    }
+
+    @Setup
+    public void setUp() {
+        for (int page = 1; page <= this.pages; page++) {
+            ListSpacesResponse.Builder builder = ListSpacesResponse.builder()
+                .pagination(Pagination.builder()
+                    .totalPages(this.pages)
+                    .totalResults(this.pages * RESOURCES_PER_PAGE)
+                    .build());
+
+            for (int i = 0; i < RESOURCES_PER_PAGE; i++) {
+                String id = String.format("space-%d-%d", page, i);
+
+                builder.resource(SpaceResource.builder()
+                    .createdAt("2017-02-01T01:33:58Z")
+                    .id(id)
+                    .link("self", Link.builder()
+                        .href(String.format("https://api.example.org/v3/spaces/%s", id))
+                        .build())
+                    .name(id)
+                    .build());
+            }
+
+            this.responses.add(builder.build());
+        }
+    }
+
+}
@@ -17,31 +17,57 @@
 package org.cloudfoundry.reactor;
 
 import io.netty.handler.codec.http.HttpHeaders;
+import org.cloudfoundry.Nullable;
 import org.cloudfoundry.reactor.util.JsonCodec;
 import org.cloudfoundry.reactor.util.Operator;
 import org.cloudfoundry.reactor.util.OperatorContext;
 import org.cloudfoundry.reactor.util.UserAgent;
 import org.immutables.value.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * An abstract implementation of {@link RootProvider} that ensures that returned values are trusted (if configured) and cached.
+ * An abstract implementation of {@link RootProvider} that ensures that returned values are trusted (if configured) and cached.  Values are cached per key and {@link ConnectionContext}, and
+ * can optionally be persisted to a file.
  */
 abstract class AbstractRootProvider implements RootProvider {
 
+    private static final Duration DEFAULT_CACHE_FILE_DURATION = Duration.ofDays(1);
+
     private static final int DEFAULT_PORT = 443;
 
     private static final Pattern HOSTNAME_PATTERN = Pattern.compile("^[a-zA-Z0-9-.]+$");
 
+    private static final Duration INFINITE = Duration.ofMillis(Long.MAX_VALUE);
+
     private static final int UNDEFINED_PORT = -1;
 
+    private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client");
+
+    private final ConcurrentMap<Key, Root> roots = new ConcurrentHashMap<>();
+
     @Value.Check
     public final void checkForValidApiHost() {
         Matcher matcher = HOSTNAME_PATTERN.matcher(getApiHost());
@@ -64,26 +90,22 @@ abstract class AbstractRootProvider implements RootProvider {
      */
     public abstract String getApiHost();
 
+    /**
+     * A file to persist resolved endpoints to, so that they can be reused by later processes without being resolved again.  If the connection context has no cache duration, persisted endpoints
+     * are resolved again once they are a day old.
+     */
+    public abstract Optional<Path> getCacheFile();
+
     @Override
     public final Mono<String> getRoot(String key, ConnectionContext connectionContext) {
-        Mono<String> cached = doGetRoot(key, connectionContext)
-            .delayUntil(uri -> trust(uri.getHost(), uri.getPort(), connectionContext))
-            .map(UriComponents::toUriString);
-
-        return connectionContext.getCacheDuration()
-            .map(cached::cache)
-            .orElseGet(cached::cache);
+        return this.roots.computeIfAbsent(new Key(key, connectionContext), k -> new Root(key, connectionContext, () -> doGetRoot(key, connectionContext)))
+            .get();
     }
 
     @Override
     public final Mono<String> getRoot(ConnectionContext connectionContext) {
-        Mono<String> cached = doGetRoot(connectionContext)
-            .delayUntil(uri -> trust(uri.getHost(), uri.getPort(), connectionContext))
-            .map(UriComponents::toUriString);
-
-        return connectionContext.getCacheDuration()
-            .map(cached::cache)
-            .orElseGet(cached::cache);
+        return this.roots.computeIfAbsent(new Key(null, connectionContext), k -> new Root(null, connectionContext, () -> doGetRoot(connectionContext)))
+            .get();
     }
 
     protected abstract Mono<UriComponents> doGetRoot(ConnectionContext connectionContext);
@@ -132,8 +154,213 @@ abstract class AbstractRootProvider implements RootProvider {
         }
     }
 
+    private String getCacheFileKey(@Nullable String key) {
+        return String.format("%s|%s", getRoot().toUriString(), key != null ? key : "");
+    }
+
+    private Mono<Entry> readCacheFile(@Nullable String key) {
+        return Mono.justOrEmpty(getCacheFile())
+            .flatMap(cacheFile -> Mono.fromCallable(() -> readCacheFile(cacheFile, key))
+                .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    @Nullable
+    private synchronized Entry readCacheFile(Path cacheFile, @Nullable String key) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            Properties properties = new Properties();
+            properties.load(in);
+
+            return Optional.ofNullable(properties.getProperty(getCacheFileKey(key)))
+                .map(Entry::parse)
+                .orElse(null);
+        } catch (IOException e) {
+            this.logger.warn("Unable to read endpoint cache file {}", cacheFile, e);
+            return null;
+        }
+    }
+
     private Mono<Void> trust(String host, int port, ConnectionContext connectionContext) {
         return connectionContext.trust(host, port);
     }
 
+    private Mono<Void> writeCacheFile(@Nullable String key, Entry entry) {
+        return Mono.justOrEmpty(getCacheFile())
+            .flatMap(cacheFile -> Mono.fromRunnable(() -> writeCacheFile(cacheFile, key, entry))
+                .subscribeOn(Schedulers.boundedElastic()))
+            .then();
+    }
+
+    private synchronized void writeCacheFile(Path cacheFile, @Nullable String key, Entry entry) {
+        try {
+            Properties properties = new Properties();
+
+            if (Files.isRegularFile(cacheFile)) {
+                try (InputStream in = Files.newInputStream(cacheFile)) {
+                    properties.load(in);
+                }
+            }
+
+            properties.setProperty(getCacheFileKey(key), entry.format());
+
+            Path temporary = Files.createTempFile(cacheFile.toAbsolutePath().getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temporary)) {
+                properties.store(out, null);
+            }
+
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            this.logger.warn("Unable to write endpoint cache file {}", cacheFile, e);
+        }
+    }
+
+    /**
+     * A resolved endpoint.  Entries are persisted with the time they were resolved at, as {@code <resolvedAt> <value>}.  An entry without a time, persisted by an earlier version, is treated as
+     * resolved at the epoch.
+     */
+    private static final class Entry {
+
+        private final long resolvedAt;
+
+        private final String value;
+
+        private Entry(String value, long resolvedAt) {
+            this.resolvedAt = resolvedAt;
+            this.value = value;
+        }
+
+        private static Entry parse(String s) {
+            int separator = s.indexOf(' ');
+
+            if (separator > 0) {
+                try {
+                    return new Entry(s.substring(separator + 1), Long.parseLong(s.substring(0, separator)));
+                } catch (NumberFormatException e) {
+                    // Fall through to an entry without a time
+                }
+            }
+
+            return new Entry(s, 0);
+        }
+
+        private String format() {
+            return String.format("%d %s", this.resolvedAt, this.value);
+        }
+
+    }
+
+    private static final class Key {
+
+        private final ConnectionContext connectionContext;
+
+        private final String key;
+
+        private Key(@Nullable String key, ConnectionContext connectionContext) {
+            this.connectionContext = connectionContext;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key other = (Key) o;
+            return this.connectionContext == other.connectionContext && Objects.equals(this.key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.connectionContext) + Objects.hashCode(this.key);
+        }
+
+    }
+
+    /**
+     * A memoized endpoint.  Once resolved, an endpoint is returned without being resolved again.  If the connection context has a cache duration, an endpoint that is older than the duration is
+     * still returned, but is resolved again in the background.
+     */
+    private final class Root {
+
+        private final ConnectionContext connectionContext;
+
+        private final Mono<String> initial;
+
+        private final String key;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private final Supplier<Mono<UriComponents>> resolver;
+
+        private volatile Entry entry;
+
+        private Root(@Nullable String key, ConnectionContext connectionContext, Supplier<Mono<UriComponents>> resolver) {
+            this.connectionContext = connectionContext;
+            this.key = key;
+            this.resolver = resolver;
+
+            this.initial = readCacheFile(key)
+                .filter(this::isCurrent)
+                .flatMap(entry -> Mono.just(UriComponentsBuilder.fromUriString(entry.value).build())
+                    .delayUntil(this::trust)
+                    .doOnNext(uri -> this.entry = entry)
+                    .map(uri -> entry.value))
+                .switchIfEmpty(Mono.defer(this::resolve))
+                .cache(value -> INFINITE, t -> Duration.ZERO, () -> Duration.ZERO);
+        }
+
+        private Mono<String> get() {
+            return Mono.defer(() -> {
+                Entry entry = this.entry;
+
+                if (entry == null) {
+                    return this.initial;
+                }
+
+                if (isExpired(entry) && this.refreshing.compareAndSet(false, true)) {
+                    resolve()
+                        .doFinally(signalType -> this.refreshing.set(false))
+                        .subscribe(null, t -> AbstractRootProvider.this.logger.warn("Unable to refresh endpoint {}", this.key != null ? this.key : getRoot(), t));
+                }
+
+                return Mono.just(entry.value);
+            });
+        }
+
+        // A persisted entry is used until it expires if the connection context has a cache duration, as it is then refreshed in the background.  Otherwise it is only used for a default duration.
+        private boolean isCurrent(Entry entry) {
+            return this.connectionContext.getCacheDuration().isPresent() || System.currentTimeMillis() - entry.resolvedAt < DEFAULT_CACHE_FILE_DURATION.toMillis();
+        }
+
+        private boolean isExpired(Entry entry) {
+            return this.connectionContext.getCacheDuration()
+                .map(cacheDuration -> System.currentTimeMillis() - entry.resolvedAt >= cacheDuration.toMillis())
+                .orElse(false);
+        }
+
+        private Mono<String> resolve() {
+            return Mono.defer(this.resolver)
+                .delayUntil(this::trust)
+                .map(UriComponents::toUriString)
+                .delayUntil(value -> {
+                    Entry entry = new Entry(value, System.currentTimeMillis());
+                    this.entry = entry;
+                    return writeCacheFile(this.key, entry);
+                });
+        }
+
+        private Mono<Void> trust(UriComponents uri) {
+            return AbstractRootProvider.this.trust(uri.getHost(), uri.getPort(), this.connectionContext);
+        }
+
+    }
+
 }
@@ -17,10 +17,13 @@
 package org.cloudfoundry.reactor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -48,6 +51,38 @@ public interface ConnectionContext {
      */
     ObjectMapper getObjectMapper();
 
+    /**
+     * Returns an {@link ObjectReader} for a type, created by {@link #getObjectMapper()}.  The default implementation creates a new reader on each call.
+     *
+     * @param type the type to read
+     * @return the reader for the type
+     */
+    default ObjectReader getObjectReader(Class<?> type) {
+        return getObjectMapper().readerFor(type);
+    }
+
+    /**
+     * The {@link RangedDownloadConfiguration} to use when downloading to a file.  Since not all connections want downloads to be ranged, the default implementation returns
+     * {@link Optional#empty()}.
+     */
+    default Optional<RangedDownloadConfiguration> getRangedDownloadConfiguration() {
+        return Optional.empty();
+    }
+
+    /**
+     * The {@link RequestListener}s to notify of request events.  Since not all connections want requests to be instrumented, the default implementation returns an empty list.
+     */
+    default List<RequestListener> getRequestListeners() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The {@link ResponseCache} to use.  Since not all connections want responses to be cached, the default implementation returns {@link Optional#empty()}.
+     */
+    default Optional<ResponseCache> getResponseCache() {
+        return Optional.empty();
+    }
+
     /**
      * The {@link RootProvider} to use
      */
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+/**
+ * The type of a {@link RequestEvent}
+ */
+public enum RequestEventType {
+
+    /**
+     * The body of the response has been completely received
+     */
+    BODY_COMPLETE,
+
+    /**
+     * A connection has been acquired for the request, either by establishing a new connection or by reusing a pooled one
+     */
+    CONNECTION_ACQUIRED,
+
+    /**
+     * The request failed, either before or after a response was received
+     */
+    ERROR,
+
+    /**
+     * The status and headers of the response have been received
+     */
+    FIRST_BYTE,
+
+    /**
+     * The request, including any body, has been sent
+     */
+    REQUEST_SENT
+
+}
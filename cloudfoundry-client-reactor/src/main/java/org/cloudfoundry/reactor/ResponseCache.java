@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.cloudfoundry.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * A client-side cache of deserialized responses to {@code GET} requests.  Mutating requests are never served from the cache, but invalidate any cached responses for the endpoint they target.
+ */
+public interface ResponseCache {
+
+    /**
+     * Returns a cached response for a {@code GET} request if one is present.  Otherwise, returns {@code response}, caching its value if the endpoint is cacheable.
+     *
+     * @param uri           the fully expanded URI of the request
+     * @param tokenProvider the {@link TokenProvider} the request is authorized with, if any
+     * @param responseType  the type of the response
+     * @param response      the response to use if no cached response is present
+     * @param <T>           the type of the response
+     * @return the cached or retrieved response
+     */
+    <T> Mono<T> get(String uri, @Nullable TokenProvider tokenProvider, Class<T> responseType, Mono<T> response);
+
+    /**
+     * Invalidates all cached responses for the endpoint that a URI belongs to
+     *
+     * @param uri the URI of the request
+     */
+    void invalidate(String uri);
+
+    /**
+     * Invalidates all cached responses
+     */
+    void invalidateAll();
+
+}
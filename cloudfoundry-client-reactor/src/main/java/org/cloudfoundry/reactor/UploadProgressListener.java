@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import reactor.util.context.Context;
+
+/**
+ * A listener that is notified of the progress of file uploads.  A listener is registered for an upload by writing it into the context of the returned {@link reactor.core.publisher.Mono}:
+ *
+ * <pre>
+ * packages.upload(request)
+ *     .contextWrite(UploadProgressListener.context(progress -&gt; ...))
+ * </pre>
+ */
+public interface UploadProgressListener {
+
+    /**
+     * Creates a {@link Context} that registers a listener
+     *
+     * @param listener the listener
+     * @return the context
+     */
+    static Context context(UploadProgressListener listener) {
+        return Context.of(UploadProgressListener.class, listener);
+    }
+
+    /**
+     * Called as each portion of an upload is written.  Implementations are called on I/O threads and must not block.
+     *
+     * @param progress the progress of the upload
+     */
+    void onProgress(UploadProgress progress);
+
+}
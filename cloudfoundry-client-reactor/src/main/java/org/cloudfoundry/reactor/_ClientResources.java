@@ -0,0 +1,176 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import org.cloudfoundry.reactor.util.ByteBufAllocatorMetricProviderWrapper;
+import org.immutables.value.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+
+import static io.netty.channel.ChannelOption.ALLOCATOR;
+
+/**
+ * Network resources that can be shared by many {@link DefaultConnectionContext}s, so that the number of event loop threads, buffer pools and connection pools stays constant as more Cloud Foundry
+ * instances are added.  Connections are pooled per host, so each host is still limited to {@link #getMaxConnectionsPerHost()} connections.  Shared resources are not disposed with the connection
+ * contexts that use them, and must be disposed once none of those connection contexts are in use.
+ */
+@Value.Immutable
+abstract class _ClientResources {
+
+    private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client");
+
+    @Value.Check
+    public final void checkMaxConnectionsPerHost() {
+        if (getMaxConnectionsPerHost() < 1) {
+            throw new IllegalArgumentException("Max connections per host must be greater than zero");
+        }
+    }
+
+    public HttpClient configure(HttpClient client) {
+        return client
+            .runOn(getLoopResources(), getPreferNative())
+            .resolver(getAddressResolverGroup())
+            .option(ALLOCATOR, getByteBufAllocator());
+    }
+
+    /**
+     * Disposes the shared resources
+     */
+    @PreDestroy
+    public final void dispose() {
+        getConnectionProvider().dispose();
+        getAddressResolverGroup().close();
+        getLoopResources().dispose();
+
+        try {
+            ObjectName name = getByteBufAllocatorObjectName();
+
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            this.logger.error("Unable to unregister ByteBufAllocator MBean", e);
+        }
+    }
+
+    /**
+     * The allocator for buffers used when processing requests and responses. Defaults to {@link PooledByteBufAllocator#DEFAULT}.
+     */
+    @Value.Default
+    public ByteBufAllocator getByteBufAllocator() {
+        return PooledByteBufAllocator.DEFAULT;
+    }
+
+    /**
+     * The maximum number of connections to each host. Defaults to {@code 500}.
+     */
+    @Value.Default
+    public Integer getMaxConnectionsPerHost() {
+        return ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+    }
+
+    /**
+     * The name of the shared resources, used to name threads, connection pools and MBeans. Defaults to {@code cloudfoundry-client}.
+     */
+    @Value.Default
+    public String getName() {
+        return "cloudfoundry-client";
+    }
+
+    /**
+     * Whether to use a native transport, such as epoll, when one is available. Defaults to {@code true}.
+     */
+    @Value.Default
+    public Boolean getPreferNative() {
+        return LoopResources.DEFAULT_NATIVE;
+    }
+
+    /**
+     * The number of worker threads to use when processing requests and responses
+     */
+    @Value.Default
+    public Integer getThreadPoolSize() {
+        return LoopResources.DEFAULT_IO_WORKER_COUNT;
+    }
+
+    @Value.Derived
+    AddressResolverGroup<InetSocketAddress> getAddressResolverGroup() {
+        EventLoopGroup eventLoopGroup = getLoopResources().onClient(getPreferNative());
+
+        return new DnsAddressResolverGroup(new DnsNameResolverBuilder()
+            .channelType(getLoopResources().onChannelClass(DatagramChannel.class, eventLoopGroup))
+            .resolveCache(new DefaultDnsCache()));
+    }
+
+    @Value.Derived
+    ConnectionProvider getConnectionProvider() {
+        return ConnectionProvider.builder(getName())
+            .maxConnections(getMaxConnectionsPerHost())
+            .pendingAcquireMaxCount(-1)
+            .build();
+    }
+
+    @Value.Derived
+    LoopResources getLoopResources() {
+        return LoopResources.create(getName(), getThreadPoolSize(), true);
+    }
+
+    @PostConstruct
+    void monitorByteBufAllocator() {
+        if (!(getByteBufAllocator() instanceof ByteBufAllocatorMetricProvider)) {
+            return;
+        }
+
+        try {
+            ObjectName name = getByteBufAllocatorObjectName();
+
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                this.logger.warn("MBean '{}' is already registered and will be removed. You should only have a single ClientResources per name.", name);
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+            }
+
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new ByteBufAllocatorMetricProviderWrapper((ByteBufAllocatorMetricProvider) getByteBufAllocator()), name);
+        } catch (JMException e) {
+            this.logger.error("Unable to register ByteBufAllocator MBean", e);
+        }
+    }
+
+    private ObjectName getByteBufAllocatorObjectName() throws MalformedObjectNameException {
+        return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=ByteBufAllocator,name=%s", getName()));
+    }
+
+}
@@ -17,7 +17,9 @@
 package org.cloudfoundry.reactor;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import io.netty.buffer.PooledByteBufAllocator;
@@ -26,11 +28,15 @@ import io.netty.handler.ssl.SslContextBuilder;
 import org.cloudfoundry.Nullable;
 import org.cloudfoundry.reactor.util.ByteBufAllocatorMetricProviderWrapper;
 import org.cloudfoundry.reactor.util.DefaultSslCertificateTruster;
+import org.cloudfoundry.reactor.util.ResponseCacheMXBean;
 import org.cloudfoundry.reactor.util.SslCertificateTruster;
 import org.cloudfoundry.reactor.util.StaticTrustManagerFactory;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
@@ -45,9 +51,13 @@ import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 import javax.net.ssl.TrustManagerFactory;
 import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.UnaryOperator;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
@@ -64,26 +74,42 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private static final int DEFAULT_PORT = 443;
 
+    private static final List<String> ROOT_KEYS = Arrays.asList("cloud_controller_v2", "cloud_controller_v3", "log-cache", "logging", "network_policy_v1", "routing", "uaa");
+
     private static final int SEND_RECEIVE_BUFFER_SIZE = 10 * 1024 * 1024;
 
     private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client");
 
+    private final ConcurrentMap<Class<?>, ObjectReader> objectReaders = new ConcurrentHashMap<>();
+
     /**
      * Disposes resources created to service this connection context
      */
     @PreDestroy
     public final void dispose() {
-        getConnectionProvider().ifPresent(ConnectionProvider::dispose);
-        getThreadPool().dispose();
+        if (!getClientResources().isPresent()) {
+            getConnectionProvider().ifPresent(ConnectionProvider::dispose);
+            getThreadPool().dispose();
+
+            try {
+                ObjectName name = getByteBufAllocatorObjectName();
+
+                if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                    ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                this.logger.error("Unable to register ByteBufAllocator MBean", e);
+            }
+        }
 
         try {
-            ObjectName name = getByteBufAllocatorObjectName();
+            ObjectName name = getResponseCacheObjectName();
 
             if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
                 ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
             }
         } catch (JMException e) {
-            this.logger.error("Unable to register ByteBufAllocator MBean", e);
+            this.logger.error("Unable to unregister ResponseCache MBean", e);
         }
     }
 
@@ -91,7 +117,7 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     public abstract Optional<Duration> getCacheDuration();
 
     /**
-     * The number of connections to use when processing requests and responses. Setting this to {@code null} disables connection pooling.
+     * The number of connections to use when processing requests and responses. Setting this to {@code null} disables connection pooling. Ignored if {@link #getClientResources()} is set.
      */
     @Nullable
     @Value.Default
@@ -102,7 +128,7 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     @Override
     @Value.Default
     public HttpClient getHttpClient() {
-        HttpClient client = createHttpClient().compress(true)
+        HttpClient client = configureClientResources(createHttpClient()).compress(true)
             .secure(this::configureSsl);
 
         return getAdditionalHttpClientConfiguration().map(configuration -> configuration.apply(configureHttpClient(client)))
@@ -124,15 +150,34 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .setSerializationInclusion(NON_NULL);
 
         getProblemHandlers().forEach(objectMapper::addHandler);
+        objectMapper.registerModules(getModules());
 
         return objectMapper;
     }
 
+    /**
+     * Returns an {@link ObjectReader} for a type, reusing the reader previously created for that type by this connection context
+     */
+    @Override
+    public ObjectReader getObjectReader(Class<?> type) {
+        return this.objectReaders.computeIfAbsent(type, getObjectMapper()::readerFor);
+    }
+
+    @Override
+    public abstract Optional<RangedDownloadConfiguration> getRangedDownloadConfiguration();
+
+    @Override
+    public abstract List<RequestListener> getRequestListeners();
+
+    @Override
+    public abstract Optional<ResponseCache> getResponseCache();
+
     @Override
     @Value.Default
     public RootProvider getRootProvider() {
         return DelegatingRootProvider.builder()
             .apiHost(getApiHost())
+            .cacheFile(getRootCacheFile())
             .objectMapper(getObjectMapper())
             .port(getPort())
             .secure(getSecure())
@@ -140,13 +185,28 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     }
 
     /**
-     * The number of worker threads to use when processing requests and responses
+     * The number of worker threads to use when processing requests and responses. Ignored if {@link #getClientResources()} is set.
      */
     @Value.Default
     public Integer getThreadPoolSize() {
         return LoopResources.DEFAULT_IO_WORKER_COUNT;
     }
 
+    /**
+     * The number of connections to open to each host when warming up.  Defaults to {@code 1}.
+     */
+    @Value.Default
+    public Integer getWarmUpConnectionsPerHost() {
+        return 1;
+    }
+
+    @Value.Check
+    public final void checkWarmUpConnectionsPerHost() {
+        if (getWarmUpConnectionsPerHost() < 1) {
+            throw new IllegalArgumentException("Warm up connections per host must be greater than zero");
+        }
+    }
+
     @Override
     public Mono<Void> trust(String host, int port) {
         return getSslCertificateTruster()
@@ -154,6 +214,27 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .orElse(Mono.empty());
     }
 
+    /**
+     * Warms up this connection context so that the first requests made with it do not pay for connection setup.  The event loops and DNS resolver are initialized, the root endpoints are
+     * resolved, and {@link #getWarmUpConnectionsPerHost()} connections are opened to each host that a root endpoint points to, in parallel.  Connections that cannot be opened are logged and
+     * otherwise ignored.
+     *
+     * @return completes when warm up is complete
+     */
+    public final Mono<Void> warmUp() {
+        return warmUp(Mono.empty());
+    }
+
+    /**
+     * Warms up this connection context as {@link #warmUp()} does, and also retrieves a token from a {@link TokenProvider}
+     *
+     * @param tokenProvider the token provider to retrieve a token from
+     * @return completes when warm up is complete
+     */
+    public final Mono<Void> warmUp(TokenProvider tokenProvider) {
+        return warmUp(tokenProvider.getToken(this).then());
+    }
+
     /**
      * Additional configuration for the underlying HttpClient
      */
@@ -164,6 +245,12 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract String getApiHost();
 
+    /**
+     * Network resources shared with other connection contexts. If set, the event loops, buffer allocator, DNS resolver and connection pool of these resources are used instead of ones dedicated
+     * to this connection context, and are not disposed with it.
+     */
+    abstract Optional<ClientResources> getClientResources();
+
     /**
      * The {@code CONNECT_TIMEOUT_MILLIS} value
      */
@@ -171,6 +258,10 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     @Value.Derived
     Optional<ConnectionProvider> getConnectionProvider() {
+        if (getClientResources().isPresent()) {
+            return getClientResources().map(ClientResources::getConnectionProvider);
+        }
+
         ConnectionProvider.Builder builder = ConnectionProvider.builder("cloudfoundry-client");
 
         return Optional.ofNullable(getConnectionPoolSize())
@@ -184,6 +275,12 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract Optional<Boolean> getKeepAlive();
 
+    /**
+     * Additional Jackson modules to register with the default {@link ObjectMapper}.  For example, registering {@code AfterburnerModule} replaces reflective deserialization with generated
+     * bytecode.
+     */
+    abstract List<Module> getModules();
+
     /**
      * The port for the Cloud Foundry instance. Defaults to {@code 443}.
      */
@@ -199,6 +296,11 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract Optional<ProxyConfiguration> getProxyConfiguration();
 
+    /**
+     * A file to persist resolved root endpoints to, so that later processes can reuse them without resolving them again
+     */
+    abstract Optional<Path> getRootCacheFile();
+
     /**
      * Whether the connection to the root API should be secure (i.e. using HTTPS). Defaults to {@code true}.
      */
@@ -233,13 +335,29 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract Optional<Duration> getSslHandshakeTimeout();
 
+    /**
+     * The number of SSL sessions to cache for resumption
+     */
+    abstract Optional<Long> getSslSessionCacheSize();
+
+    /**
+     * The duration that SSL sessions are cached for resumption
+     */
+    abstract Optional<Duration> getSslSessionTimeout();
+
     @Value.Derived
     LoopResources getThreadPool() {
-        return LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true);
+        return getClientResources()
+            .map(ClientResources::getLoopResources)
+            .orElseGet(() -> LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true));
     }
 
     @PostConstruct
     void monitorByteBufAllocator() {
+        if (getClientResources().isPresent()) {
+            return;
+        }
+
         try {
             ObjectName name = getByteBufAllocatorObjectName();
 
@@ -254,6 +372,32 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         }
     }
 
+    @PostConstruct
+    void monitorResponseCache() {
+        getResponseCache()
+            .filter(ResponseCacheMXBean.class::isInstance)
+            .ifPresent(responseCache -> {
+                try {
+                    ObjectName name = getResponseCacheObjectName();
+
+                    if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                        this.logger.warn("MBean '{}' is already registered and will be removed. You should only have a single DefaultConnectionContext per endpoint.", name);
+                        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+                    }
+
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(responseCache, name);
+                } catch (JMException e) {
+                    this.logger.error("Unable to register ResponseCache MBean", e);
+                }
+            });
+    }
+
+    private HttpClient configureClientResources(HttpClient client) {
+        return getClientResources()
+            .map(clientResources -> clientResources.configure(client))
+            .orElse(client);
+    }
+
     private HttpClient configureConnectTimeout(HttpClient client) {
         return getConnectTimeout()
             .map(connectTimeout -> client.option(CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis()))
@@ -262,7 +406,7 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private HttpClient configureHttpClient(HttpClient client) {
         client = configureProxy(client);
-        client = client.runOn(getThreadPool())
+        client = configureThreadPool(client)
             .option(SO_SNDBUF, SEND_RECEIVE_BUFFER_SIZE)
             .option(SO_RCVBUF, SEND_RECEIVE_BUFFER_SIZE);
         client = configureKeepAlive(client);
@@ -291,6 +435,15 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         getSslCloseNotifyFlushTimeout().ifPresent(builder::closeNotifyFlushTimeout);
     }
 
+    // Shared client resources are applied once, in getHttpClient(), and include their own event loops
+    private HttpClient configureThreadPool(HttpClient client) {
+        if (getClientResources().isPresent()) {
+            return client;
+        }
+
+        return client.runOn(getThreadPool());
+    }
+
     private HttpClient createHttpClient() {
         return getConnectionProvider()
             .map(HttpClient::create)
@@ -304,6 +457,9 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .map(this::createTrustManagerFactory)
             .ifPresent(sslContextBuilder::trustManager);
 
+        getSslSessionCacheSize().ifPresent(sslContextBuilder::sessionCacheSize);
+        getSslSessionTimeout().map(Duration::getSeconds).ifPresent(sslContextBuilder::sessionTimeout);
+
         return sslContextBuilder;
     }
 
@@ -315,4 +471,43 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=ByteBufAllocator,endpoint=%s/%d", getApiHost(), getPort().orElse(DEFAULT_PORT)));
     }
 
+    private static String getOrigin(String root) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(root).build();
+        String scheme = "wss".equals(uri.getScheme()) ? "https" : "ws".equals(uri.getScheme()) ? "http" : uri.getScheme();
+
+        return UriComponentsBuilder.newInstance().scheme(scheme).host(uri.getHost()).port(uri.getPort()).path("/").toUriString();
+    }
+
+    private ObjectName getResponseCacheObjectName() throws MalformedObjectNameException {
+        return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=ResponseCache,endpoint=%s/%d", getApiHost(), getPort().orElse(DEFAULT_PORT)));
+    }
+
+    private Mono<Void> openConnections(HttpClient httpClient, String origin) {
+        return Flux.range(0, getWarmUpConnectionsPerHost())
+            .flatMap(i -> httpClient.get()
+                .uri(origin)
+                .responseSingle((response, body) -> body.then())
+                .onErrorResume(t -> {
+                    this.logger.warn("Unable to open connection to {} during warm up", origin, t);
+                    return Mono.empty();
+                }), getWarmUpConnectionsPerHost())
+            .then();
+    }
+
+    private Mono<Void> warmUp(Mono<Void> token) {
+        HttpClient httpClient = getHttpClient();
+
+        Mono<Void> connections = httpClient.warmup()
+            .thenMany(Flux.fromIterable(ROOT_KEYS)
+                .flatMap(key -> getRootProvider().getRoot(key, this)
+                    .onErrorResume(t -> Mono.empty()))
+                .mergeWith(getRootProvider().getRoot(this)))
+            .map(_DefaultConnectionContext::getOrigin)
+            .distinct()
+            .flatMap(origin -> openConnections(httpClient, origin))
+            .then();
+
+        return Mono.when(connections, token);
+    }
+
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.reactor.util.ResponseCacheMXBean;
+import org.immutables.value.Value;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ResponseCache} that caches responses for a configured set of endpoints, each with its own time to live, evicting the least recently used response once a maximum size is reached.
+ * Endpoints are identified by a path prefix such as {@code /v2/stacks} or {@code /v3/isolation_segments}, and a response is cached for the longest prefix that matches its path.
+ */
+@Value.Immutable
+abstract class _DefaultResponseCache implements ResponseCache, ResponseCacheMXBean {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > getMaximumSize()) {
+                _DefaultResponseCache.this.evictions.increment();
+                return true;
+            }
+
+            return false;
+        }
+
+    };
+
+    @Value.Check
+    public final void checkMaximumSize() {
+        if (getMaximumSize() < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+    }
+
+    @Override
+    public final <T> Mono<T> get(String uri, @Nullable TokenProvider tokenProvider, Class<T> responseType, Mono<T> response) {
+        String endpoint = getEndpoint(uri);
+
+        if (endpoint == null) {
+            return response;
+        }
+
+        Key key = new Key(uri, tokenProvider, responseType);
+
+        return Mono.defer(() -> {
+            Object value = getValue(key);
+
+            if (value != null) {
+                this.hits.increment();
+                return Mono.just(responseType.cast(value));
+            }
+
+            this.misses.increment();
+            return response
+                .doOnNext(v -> putValue(key, endpoint, v));
+        });
+    }
+
+    /**
+     * The endpoints to cache responses for, keyed by path prefix, with the duration that responses should be cached for
+     */
+    abstract Map<String, Duration> getEndpoints();
+
+    @Override
+    public final long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public final long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * The maximum number of responses to cache.  Defaults to {@code 1000}.
+     */
+    @Value.Default
+    public Integer getMaximumSize() {
+        return DEFAULT_MAXIMUM_SIZE;
+    }
+
+    @Override
+    public final long getMissCount() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public final long getSize() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    @Override
+    public final void invalidate(String uri) {
+        String endpoint = getEndpoint(uri);
+
+        if (endpoint == null) {
+            return;
+        }
+
+        synchronized (this.entries) {
+            this.entries.values().removeIf(entry -> entry.endpoint.equals(endpoint));
+        }
+    }
+
+    @Override
+    public final void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    @Nullable
+    private String getEndpoint(String uri) {
+        String path = UriComponentsBuilder.fromUriString(uri).build().getPath();
+
+        if (path == null) {
+            return null;
+        }
+
+        String endpoint = null;
+
+        for (String candidate : getEndpoints().keySet()) {
+            if (matches(path, candidate) && (endpoint == null || candidate.length() > endpoint.length())) {
+                endpoint = candidate;
+            }
+        }
+
+        return endpoint;
+    }
+
+    @Nullable
+    private Object getValue(Key key) {
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(key);
+
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.isExpired()) {
+                this.entries.remove(key);
+                return null;
+            }
+
+            return entry.value;
+        }
+    }
+
+    private static boolean matches(String path, String endpoint) {
+        return path.startsWith(endpoint) && (path.length() == endpoint.length() || path.charAt(endpoint.length()) == '/' || endpoint.endsWith("/"));
+    }
+
+    private void putValue(Key key, String endpoint, Object value) {
+        long expiresAt = System.nanoTime() + getEndpoints().get(endpoint).toNanos();
+
+        synchronized (this.entries) {
+            this.entries.put(key, new Entry(endpoint, expiresAt, value));
+        }
+    }
+
+    private static final class Entry {
+
+        private final String endpoint;
+
+        private final long expiresAt;
+
+        private final Object value;
+
+        private Entry(String endpoint, long expiresAt, Object value) {
+            this.endpoint = endpoint;
+            this.expiresAt = expiresAt;
+            this.value = value;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - this.expiresAt >= 0;
+        }
+
+    }
+
+    private static final class Key {
+
+        private final Class<?> responseType;
+
+        private final TokenProvider tokenProvider;
+
+        private final String uri;
+
+        private Key(String uri, @Nullable TokenProvider tokenProvider, Class<?> responseType) {
+            this.responseType = responseType;
+            this.tokenProvider = tokenProvider;
+            this.uri = uri;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return this.responseType.equals(key.responseType) && Objects.equals(this.tokenProvider, key.tokenProvider) && this.uri.equals(key.uri);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.responseType, this.tokenProvider, this.uri);
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.immutables.value.Value;
+
+/**
+ * Configuration for downloading bits and droplets from a blobstore with concurrent HTTP {@code Range} requests.  When a download is redirected to a blobstore, the blob is divided into ranges
+ * that are requested concurrently and written into a preallocated file.  A range that fails part way through is resumed from the last byte written.  If the blobstore identifies the blob
+ * with an {@code ETag} or {@code Last-Modified} header, the completed ranges are recorded in a {@code .ranges} file next to the destination so that a failed download can be resumed by a later
+ * download to the same file.  If the blobstore does not support ranges, the blob is downloaded with a single request.
+ */
+@Value.Immutable
+abstract class _RangedDownloadConfiguration {
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private static final long DEFAULT_RANGE_SIZE = 16 * 1024 * 1024;
+
+    private static final int DEFAULT_RETRIES = 3;
+
+    @Value.Check
+    public final void check() {
+        if (getParallelism() < 1) {
+            throw new IllegalArgumentException("Parallelism must be greater than zero");
+        }
+
+        if (getRangeSize() < 1) {
+            throw new IllegalArgumentException("Range size must be greater than zero");
+        }
+
+        if (getRetries() < 0) {
+            throw new IllegalArgumentException("Retries must not be negative");
+        }
+    }
+
+    /**
+     * The maximum number of ranges to request concurrently.  Defaults to {@code 4}.
+     */
+    @Value.Default
+    public Integer getParallelism() {
+        return DEFAULT_PARALLELISM;
+    }
+
+    /**
+     * The size of each range, in bytes.  Defaults to {@code 16 MiB}.
+     */
+    @Value.Default
+    public Long getRangeSize() {
+        return DEFAULT_RANGE_SIZE;
+    }
+
+    /**
+     * The number of times to resume a range after an I/O error or a server error.  Defaults to {@code 3}.
+     */
+    @Value.Default
+    public Integer getRetries() {
+        return DEFAULT_RETRIES;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A timed event in the lifecycle of a request
+ */
+@Value.Immutable
+interface _RequestEvent {
+
+    /**
+     * The number of bytes in the body of the request or response, if known
+     */
+    Optional<Long> getBytes();
+
+    /**
+     * The time elapsed between the start of the request and this event
+     */
+    Duration getElapsed();
+
+    /**
+     * The template of the endpoint that the request was made to.  Typically something like {@code /v2/apps/{applicationId}}, or {@code /v2/apps/{id}} when the template is inferred from the URI.
+     */
+    String getEndpoint();
+
+    /**
+     * The error that caused the request to fail
+     */
+    Optional<Throwable> getError();
+
+    /**
+     * The method of the request
+     */
+    HttpMethod getMethod();
+
+    /**
+     * The headers of the response
+     */
+    Optional<HttpHeaders> getResponseHeaders();
+
+    /**
+     * The status code of the response
+     */
+    Optional<Integer> getStatus();
+
+    /**
+     * The type of the event
+     */
+    RequestEventType getType();
+
+    /**
+     * The URI of the request
+     */
+    String getUri();
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * The progress of a file upload
+ */
+@Value.Immutable
+interface _UploadProgress {
+
+    /**
+     * The average throughput of the upload so far, in bytes per second
+     */
+    default double getBytesPerSecond() {
+        long nanos = getElapsed().toNanos();
+        return nanos == 0 ? 0 : getBytesTransferred() * 1e9 / nanos;
+    }
+
+    /**
+     * The number of bytes of the request body that have been written
+     */
+    long getBytesTransferred();
+
+    /**
+     * The time elapsed since the upload started
+     */
+    Duration getElapsed();
+
+    /**
+     * The total number of bytes in the request body
+     */
+    long getTotalBytes();
+
+}
@@ -23,6 +23,7 @@ import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameterBuilder;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -34,24 +35,39 @@ public final class QueryBuilder implements UriQueryParameterBuilder {
 
     public Stream<UriQueryParameter> build(Object instance) {
         return AnnotationUtils.streamAnnotatedValues(instance, QueryParameter.class)
-            .map(QueryBuilder::processValue)
+            .flatMap(QueryBuilder::processValue)
             .filter(Objects::nonNull);
     }
 
-    private static UriQueryParameter processCollection(QueryParameter queryParameter, Object value) {
-        return processValue(queryParameter.value(), ((Collection<?>) value).stream()
+    private static UriQueryParameter processCollection(String name, String delimiter, Object value) {
+        return processValue(name, ((Collection<?>) value).stream()
             .map(Object::toString)
             .map(String::trim)
-            .collect(Collectors.joining(queryParameter.delimiter())));
+            .collect(Collectors.joining(delimiter)));
     }
 
-    private static UriQueryParameter processValue(AnnotatedValue<QueryParameter> annotatedValue) {
+    private static Stream<UriQueryParameter> processMap(QueryParameter queryParameter, Object value) {
+        return ((Map<?, ?>) value).entrySet().stream()
+            .map(entry -> {
+                String name = String.format("%s[%s]", queryParameter.value(), entry.getKey());
+
+                if (entry.getValue() instanceof Collection) {
+                    return processCollection(name, queryParameter.delimiter(), entry.getValue());
+                } else {
+                    return processValue(name, entry.getValue().toString());
+                }
+            });
+    }
+
+    private static Stream<UriQueryParameter> processValue(AnnotatedValue<QueryParameter> annotatedValue) {
         QueryParameter queryParameter = annotatedValue.getAnnotation();
         Object value = annotatedValue.getValue();
         if (value instanceof Collection) {
-            return processCollection(queryParameter, value);
+            return Stream.of(processCollection(queryParameter.value(), queryParameter.delimiter(), value));
+        } else if (value instanceof Map) {
+            return processMap(queryParameter, value);
         } else {
-            return processValue(queryParameter.value(), value.toString());
+            return Stream.of(processValue(queryParameter.value(), value.toString()));
         }
     }
 
@@ -58,17 +58,21 @@ import org.cloudfoundry.client.v2.applications.UploadApplicationResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
+import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.function.Function;
 
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
 
@@ -91,121 +95,145 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations impl
 
     @Override
     public Mono<AssociateApplicationRouteResponse> associateRoute(AssociateApplicationRouteRequest request) {
-        return put(request, AssociateApplicationRouteResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes", request.getRouteId()))
+        return put(request, AssociateApplicationRouteResponse.class, Endpoint.of("/apps/{applicationId}/routes/{routeId}", request.getApplicationId(), request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CopyApplicationResponse> copy(CopyApplicationRequest request) {
-        return post(request, CopyApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "copy_bits"))
+        return post(request, CopyApplicationResponse.class, Endpoint.of("/apps/{applicationId}/copy_bits", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateApplicationResponse> create(CreateApplicationRequest request) {
-        return post(request, CreateApplicationResponse.class, builder -> builder.pathSegment("apps"))
+        return post(request, CreateApplicationResponse.class, Endpoint.of("/apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteApplicationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return delete(request, Void.class, Endpoint.of("/apps/{applicationId}", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Flux<byte[]> download(DownloadApplicationRequest request) {
-        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "download"), ByteBufFlux::asByteArray)
+        return get(request, Endpoint.of("/apps/{applicationId}/download", request.getApplicationId()), ByteBufFlux::asByteArray)
+            .checkpoint();
+    }
+
+    @Override
+    public Mono<Path> download(DownloadApplicationRequest request, Path destination) {
+        return download(request, Endpoint.of("/apps/{applicationId}/download", request.getApplicationId()), destination)
+            .checkpoint();
+    }
+
+    @Override
+    public <T> Flux<T> download(DownloadApplicationRequest request, Function<Flux<ByteBuffer>, Publisher<T>> bodyTransformer) {
+        return get(request, Endpoint.of("/apps/{applicationId}/download", request.getApplicationId()), body -> Flux.from(bodyTransformer.apply(body.asByteBuffer())))
             .checkpoint();
     }
 
     @Override
     public Flux<byte[]> downloadDroplet(DownloadApplicationDropletRequest request) {
-        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "download"), ByteBufFlux::asByteArray)
+        return get(request, Endpoint.of("/apps/{applicationId}/droplet/download", request.getApplicationId()), ByteBufFlux::asByteArray)
+            .checkpoint();
+    }
+
+    @Override
+    public Mono<Path> downloadDroplet(DownloadApplicationDropletRequest request, Path destination) {
+        return download(request, Endpoint.of("/apps/{applicationId}/droplet/download", request.getApplicationId()), destination)
+            .checkpoint();
+    }
+
+    @Override
+    public <T> Flux<T> downloadDroplet(DownloadApplicationDropletRequest request, Function<Flux<ByteBuffer>, Publisher<T>> bodyTransformer) {
+        return get(request, Endpoint.of("/apps/{applicationId}/droplet/download", request.getApplicationId()), body -> Flux.from(bodyTransformer.apply(body.asByteBuffer())))
             .checkpoint();
     }
 
     @Override
     public Mono<ApplicationEnvironmentResponse> environment(ApplicationEnvironmentRequest request) {
-        return get(request, ApplicationEnvironmentResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
+        return get(request, ApplicationEnvironmentResponse.class, Endpoint.of("/apps/{applicationId}/env", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return get(request, GetApplicationResponse.class, Endpoint.of("/apps/{applicationId}", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationPermissionsResponse> getPermissions(GetApplicationPermissionsRequest request) {
-        return get(request, GetApplicationPermissionsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "permissions"))
+        return get(request, GetApplicationPermissionsResponse.class, Endpoint.of("/apps/{applicationId}/permissions", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ApplicationInstancesResponse> instances(ApplicationInstancesRequest request) {
-        return get(request, ApplicationInstancesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "instances"))
+        return get(request, ApplicationInstancesResponse.class, Endpoint.of("/apps/{applicationId}/instances", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationsResponse> list(ListApplicationsRequest request) {
-        return get(request, ListApplicationsResponse.class, builder -> builder.pathSegment("apps"))
+        return get(request, ListApplicationsResponse.class, Endpoint.of("/apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationRoutesResponse> listRoutes(ListApplicationRoutesRequest request) {
-        return get(request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes"))
+        return get(request, ListApplicationRoutesResponse.class, Endpoint.of("/apps/{applicationId}/routes", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationServiceBindingsResponse> listServiceBindings(ListApplicationServiceBindingsRequest request) {
-        return get(request, ListApplicationServiceBindingsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "service_bindings"))
+        return get(request, ListApplicationServiceBindingsResponse.class, Endpoint.of("/apps/{applicationId}/service_bindings", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeRoute(RemoveApplicationRouteRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes", request.getRouteId()))
+        return delete(request, Void.class, Endpoint.of("/apps/{applicationId}/routes/{routeId}", request.getApplicationId(), request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeServiceBinding(RemoveApplicationServiceBindingRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "service_bindings", request.getServiceBindingId()))
+        return delete(request, Void.class, Endpoint.of("/apps/{applicationId}/service_bindings/{serviceBindingId}", request.getApplicationId(), request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RestageApplicationResponse> restage(RestageApplicationRequest request) {
-        return post(request, RestageApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "restage"))
+        return post(request, RestageApplicationResponse.class, Endpoint.of("/apps/{applicationId}/restage", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ApplicationStatisticsResponse> statistics(ApplicationStatisticsRequest request) {
-        return get(request, ApplicationStatisticsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "stats"))
+        return get(request, ApplicationStatisticsResponse.class, Endpoint.of("/apps/{applicationId}/stats", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SummaryApplicationResponse> summary(SummaryApplicationRequest request) {
-        return get(request, SummaryApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "summary"))
+        return get(request, SummaryApplicationResponse.class, Endpoint.of("/apps/{applicationId}/summary", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateApplicationInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "instances", request.getIndex()))
+        return delete(request, Void.class, Endpoint.of("/apps/{applicationId}/instances/{index}", request.getApplicationId(), request.getIndex()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
-        return put(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return put(request, UpdateApplicationResponse.class, Endpoint.of("/apps/{applicationId}", request.getApplicationId()))
             .checkpoint();
     }
 
@@ -235,13 +263,13 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations impl
     @Override
     public Mono<UploadApplicationDropletResponse> uploadDroplet(UploadApplicationDropletRequest request) {
         return put(request, UploadApplicationDropletResponse.class,
-            builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "upload"),
+            Endpoint.of("/apps/{applicationId}/droplet/upload", request.getApplicationId()),
             multipartRequest -> upload(multipartRequest, request), () -> {
             }).checkpoint();
     }
 
     private Mono<UploadApplicationResponse> upload(UploadApplicationRequest request, Runnable onTerminate) {
-        return put(request, UploadApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "bits"),
+        return put(request, UploadApplicationResponse.class, Endpoint.of("/apps/{applicationId}/bits", request.getApplicationId()),
             multipartRequest -> upload(request.getApplication(), multipartRequest, request), onTerminate).checkpoint();
     }
 
@@ -25,6 +25,7 @@ import org.cloudfoundry.client.v2.applicationusageevents.PurgeAndReseedApplicati
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -48,19 +49,19 @@ public final class ReactorApplicationUsageEvents extends AbstractClientV2Operati
 
     @Override
     public Mono<GetApplicationUsageEventResponse> get(GetApplicationUsageEventRequest request) {
-        return get(request, GetApplicationUsageEventResponse.class, builder -> builder.pathSegment("app_usage_events", request.getApplicationUsageEventId()))
+        return get(request, GetApplicationUsageEventResponse.class, Endpoint.of("/app_usage_events/{applicationUsageEventId}", request.getApplicationUsageEventId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationUsageEventsResponse> list(ListApplicationUsageEventsRequest request) {
-        return get(request, ListApplicationUsageEventsResponse.class, builder -> builder.pathSegment("app_usage_events"))
+        return get(request, ListApplicationUsageEventsResponse.class, Endpoint.of("/app_usage_events"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> purgeAndReseed(PurgeAndReseedApplicationUsageEventsRequest request) {
-        return post(request, Void.class, builder -> builder.pathSegment("app_usage_events", "destructively_purge_all_and_reseed_started_apps"))
+        return post(request, Void.class, Endpoint.of("/app_usage_events/destructively_purge_all_and_reseed_started_apps"))
             .checkpoint();
     }
 
@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v2.blobstores.DeleteBlobstoreBuildpackCachesRespo
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -45,7 +46,7 @@ public final class ReactorBlobstores extends AbstractClientV2Operations implemen
 
     @Override
     public Mono<DeleteBlobstoreBuildpackCachesResponse> deleteBuildpackCaches(DeleteBlobstoreBuildpackCachesRequest request) {
-        return delete(request, DeleteBlobstoreBuildpackCachesResponse.class, builder -> builder.pathSegment("blobstores", "buildpack_cache"))
+        return delete(request, DeleteBlobstoreBuildpackCachesResponse.class, Endpoint.of("/blobstores/buildpack_cache"))
             .checkpoint();
     }
 
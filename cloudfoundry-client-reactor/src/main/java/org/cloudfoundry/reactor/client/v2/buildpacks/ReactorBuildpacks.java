@@ -32,6 +32,7 @@ import org.cloudfoundry.client.v2.buildpacks.UploadBuildpackResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
 import reactor.core.Exceptions;
@@ -61,31 +62,31 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
 
     @Override
     public Mono<CreateBuildpackResponse> create(CreateBuildpackRequest request) {
-        return post(request, CreateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks"))
+        return post(request, CreateBuildpackResponse.class, Endpoint.of("/buildpacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteBuildpackResponse> delete(DeleteBuildpackRequest request) {
-        return delete(request, DeleteBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return delete(request, DeleteBuildpackResponse.class, Endpoint.of("/buildpacks/{buildpackId}", request.getBuildpackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetBuildpackResponse> get(GetBuildpackRequest request) {
-        return get(request, GetBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return get(request, GetBuildpackResponse.class, Endpoint.of("/buildpacks/{buildpackId}", request.getBuildpackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListBuildpacksResponse> list(ListBuildpacksRequest request) {
-        return get(request, ListBuildpacksResponse.class, builder -> builder.pathSegment("buildpacks"))
+        return get(request, ListBuildpacksResponse.class, Endpoint.of("/buildpacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateBuildpackResponse> update(UpdateBuildpackRequest request) {
-        return put(request, UpdateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return put(request, UpdateBuildpackResponse.class, Endpoint.of("/buildpacks/{buildpackId}", request.getBuildpackId()))
             .checkpoint();
     }
 
@@ -113,7 +114,7 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
     }
 
     private Mono<UploadBuildpackResponse> upload(UploadBuildpackRequest request, String filename, Runnable onTerminate) {
-        return put(request, UploadBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId(), "bits"),
+        return put(request, UploadBuildpackResponse.class, Endpoint.of("/buildpacks/{buildpackId}/bits", request.getBuildpackId()),
             multipartRequest -> upload(request.getBuildpack(), multipartRequest, filename), onTerminate)
             .checkpoint();
     }
@@ -30,6 +30,7 @@ import org.cloudfoundry.client.v2.domains.ListDomainsResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -54,35 +55,35 @@ public final class ReactorDomains extends AbstractClientV2Operations implements
     @Override
     @SuppressWarnings("deprecation")
     public Mono<CreateDomainResponse> create(CreateDomainRequest request) {
-        return post(request, CreateDomainResponse.class, builder -> builder.pathSegment("domains"))
+        return post(request, CreateDomainResponse.class, Endpoint.of("/domains"))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<DeleteDomainResponse> delete(DeleteDomainRequest request) {
-        return delete(request, DeleteDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return delete(request, DeleteDomainResponse.class, Endpoint.of("/domains/{domainId}", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<GetDomainResponse> get(GetDomainRequest request) {
-        return get(request, GetDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return get(request, GetDomainResponse.class, Endpoint.of("/domains/{domainId}", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<ListDomainsResponse> list(ListDomainsRequest request) {
-        return get(request, ListDomainsResponse.class, builder -> builder.pathSegment("domains"))
+        return get(request, ListDomainsResponse.class, Endpoint.of("/domains"))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<ListDomainSpacesResponse> listSpaces(ListDomainSpacesRequest request) {
-        return get(request, ListDomainSpacesResponse.class, builder -> builder.pathSegment("domains", request.getDomainId(), "spaces"))
+        return get(request, ListDomainSpacesResponse.class, Endpoint.of("/domains/{domainId}/spaces", request.getDomainId()))
             .checkpoint();
     }
 
@@ -24,6 +24,7 @@ import org.cloudfoundry.client.v2.events.ListEventsResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -47,13 +48,13 @@ public final class ReactorEvents extends AbstractClientV2Operations implements E
 
     @Override
     public Mono<GetEventResponse> get(GetEventRequest request) {
-        return get(request, GetEventResponse.class, builder -> builder.pathSegment("events", request.getEventId()))
+        return get(request, GetEventResponse.class, Endpoint.of("/events/{eventId}", request.getEventId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListEventsResponse> list(ListEventsRequest request) {
-        return get(request, ListEventsResponse.class, builder -> builder.pathSegment("events"))
+        return get(request, ListEventsResponse.class, Endpoint.of("/events"))
             .checkpoint();
     }
 
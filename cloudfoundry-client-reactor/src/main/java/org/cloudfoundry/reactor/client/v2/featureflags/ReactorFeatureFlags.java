@@ -26,6 +26,7 @@ import org.cloudfoundry.client.v2.featureflags.SetFeatureFlagResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -49,19 +50,19 @@ public final class ReactorFeatureFlags extends AbstractClientV2Operations implem
 
     @Override
     public Mono<GetFeatureFlagResponse> get(GetFeatureFlagRequest request) {
-        return get(request, GetFeatureFlagResponse.class, builder -> builder.pathSegment("config", "feature_flags", request.getName()))
+        return get(request, GetFeatureFlagResponse.class, Endpoint.of("/config/feature_flags/{name}", request.getName()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListFeatureFlagsResponse> list(ListFeatureFlagsRequest request) {
-        return get(request, ListFeatureFlagsResponse.class, builder -> builder.pathSegment("config", "feature_flags"))
+        return get(request, ListFeatureFlagsResponse.class, Endpoint.of("/config/feature_flags"))
             .checkpoint();
     }
 
     @Override
     public Mono<SetFeatureFlagResponse> set(SetFeatureFlagRequest request) {
-        return put(request, SetFeatureFlagResponse.class, builder -> builder.pathSegment("config", "feature_flags", request.getName()))
+        return put(request, SetFeatureFlagResponse.class, Endpoint.of("/config/feature_flags/{name}", request.getName()))
             .checkpoint();
     }
 
@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v2.info.Info;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -45,7 +46,7 @@ public final class ReactorInfo extends AbstractClientV2Operations implements Inf
 
     @Override
     public Mono<GetInfoResponse> get(GetInfoRequest request) {
-        return get(request, GetInfoResponse.class, builder -> builder.pathSegment("info"))
+        return get(request, GetInfoResponse.class, Endpoint.of("/info"))
             .checkpoint();
     }
 
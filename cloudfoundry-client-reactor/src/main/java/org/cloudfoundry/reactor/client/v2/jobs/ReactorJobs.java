@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v2.jobs.Jobs;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -45,7 +46,7 @@ public final class ReactorJobs extends AbstractClientV2Operations implements Job
 
     @Override
     public Mono<GetJobResponse> get(GetJobRequest request) {
-        return get(request, GetJobResponse.class, builder -> builder.pathSegment("jobs", request.getJobId()))
+        return get(request, GetJobResponse.class, Endpoint.of("/jobs/{jobId}", request.getJobId()))
             .checkpoint();
     }
 
@@ -30,6 +30,7 @@ import org.cloudfoundry.client.v2.organizationquotadefinitions.UpdateOrganizatio
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -53,31 +54,31 @@ public final class ReactorOrganizationQuotaDefinitions extends AbstractClientV2O
 
     @Override
     public Mono<CreateOrganizationQuotaDefinitionResponse> create(CreateOrganizationQuotaDefinitionRequest request) {
-        return post(request, CreateOrganizationQuotaDefinitionResponse.class, builder -> builder.pathSegment("quota_definitions"))
+        return post(request, CreateOrganizationQuotaDefinitionResponse.class, Endpoint.of("/quota_definitions"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteOrganizationQuotaDefinitionResponse> delete(DeleteOrganizationQuotaDefinitionRequest request) {
-        return delete(request, DeleteOrganizationQuotaDefinitionResponse.class, builder -> builder.pathSegment("quota_definitions", request.getOrganizationQuotaDefinitionId()))
+        return delete(request, DeleteOrganizationQuotaDefinitionResponse.class, Endpoint.of("/quota_definitions/{organizationQuotaDefinitionId}", request.getOrganizationQuotaDefinitionId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationQuotaDefinitionResponse> get(GetOrganizationQuotaDefinitionRequest request) {
-        return get(request, GetOrganizationQuotaDefinitionResponse.class, builder -> builder.pathSegment("quota_definitions", request.getOrganizationQuotaDefinitionId()))
+        return get(request, GetOrganizationQuotaDefinitionResponse.class, Endpoint.of("/quota_definitions/{organizationQuotaDefinitionId}", request.getOrganizationQuotaDefinitionId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationQuotaDefinitionsResponse> list(ListOrganizationQuotaDefinitionsRequest request) {
-        return get(request, ListOrganizationQuotaDefinitionsResponse.class, builder -> builder.pathSegment("quota_definitions"))
+        return get(request, ListOrganizationQuotaDefinitionsResponse.class, Endpoint.of("/quota_definitions"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateOrganizationQuotaDefinitionResponse> update(UpdateOrganizationQuotaDefinitionRequest request) {
-        return put(request, UpdateOrganizationQuotaDefinitionResponse.class, builder -> builder.pathSegment("quota_definitions", request.getOrganizationQuotaDefinitionId()))
+        return put(request, UpdateOrganizationQuotaDefinitionResponse.class, Endpoint.of("/quota_definitions/{organizationQuotaDefinitionId}", request.getOrganizationQuotaDefinitionId()))
             .checkpoint();
     }
 
@@ -83,6 +83,7 @@ import org.cloudfoundry.client.v2.organizations.UpdateOrganizationResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -106,220 +107,220 @@ public final class ReactorOrganizations extends AbstractClientV2Operations imple
 
     @Override
     public Mono<AssociateOrganizationAuditorResponse> associateAuditor(AssociateOrganizationAuditorRequest request) {
-        return put(request, AssociateOrganizationAuditorResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors", request.getAuditorId()))
+        return put(request, AssociateOrganizationAuditorResponse.class, Endpoint.of("/organizations/{organizationId}/auditors/{auditorId}", request.getOrganizationId(), request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationAuditorByUsernameResponse> associateAuditorByUsername(AssociateOrganizationAuditorByUsernameRequest request) {
-        return put(request, AssociateOrganizationAuditorByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
+        return put(request, AssociateOrganizationAuditorByUsernameResponse.class, Endpoint.of("/organizations/{organizationId}/auditors", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationBillingManagerResponse> associateBillingManager(AssociateOrganizationBillingManagerRequest request) {
         return put(request, AssociateOrganizationBillingManagerResponse.class,
-            builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers", request.getBillingManagerId()))
+            Endpoint.of("/organizations/{organizationId}/billing_managers/{billingManagerId}", request.getOrganizationId(), request.getBillingManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationBillingManagerByUsernameResponse> associateBillingManagerByUsername(AssociateOrganizationBillingManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationBillingManagerByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
+        return put(request, AssociateOrganizationBillingManagerByUsernameResponse.class, Endpoint.of("/organizations/{organizationId}/billing_managers", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationManagerResponse> associateManager(AssociateOrganizationManagerRequest request) {
-        return put(request, AssociateOrganizationManagerResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers", request.getManagerId()))
+        return put(request, AssociateOrganizationManagerResponse.class, Endpoint.of("/organizations/{organizationId}/managers/{managerId}", request.getOrganizationId(), request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationManagerByUsernameResponse> associateManagerByUsername(AssociateOrganizationManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationManagerByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
+        return put(request, AssociateOrganizationManagerByUsernameResponse.class, Endpoint.of("/organizations/{organizationId}/managers", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationPrivateDomainResponse> associatePrivateDomain(AssociateOrganizationPrivateDomainRequest request) {
         return put(request, AssociateOrganizationPrivateDomainResponse.class,
-            builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains", request.getPrivateDomainId()))
+            Endpoint.of("/organizations/{organizationId}/private_domains/{privateDomainId}", request.getOrganizationId(), request.getPrivateDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationUserResponse> associateUser(AssociateOrganizationUserRequest request) {
-        return put(request, AssociateOrganizationUserResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users", request.getUserId()))
+        return put(request, AssociateOrganizationUserResponse.class, Endpoint.of("/organizations/{organizationId}/users/{userId}", request.getOrganizationId(), request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationUserByUsernameResponse> associateUserByUsername(AssociateOrganizationUserByUsernameRequest request) {
-        return put(request, AssociateOrganizationUserByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
+        return put(request, AssociateOrganizationUserByUsernameResponse.class, Endpoint.of("/organizations/{organizationId}/users", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateOrganizationResponse> create(CreateOrganizationRequest request) {
-        return post(request, CreateOrganizationResponse.class, builder -> builder.pathSegment("organizations"))
+        return post(request, CreateOrganizationResponse.class, Endpoint.of("/organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteOrganizationResponse> delete(DeleteOrganizationRequest request) {
-        return delete(request, DeleteOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return delete(request, DeleteOrganizationResponse.class, Endpoint.of("/organizations/{organizationId}", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationResponse> get(GetOrganizationRequest request) {
-        return get(request, GetOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return get(request, GetOrganizationResponse.class, Endpoint.of("/organizations/{organizationId}", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationInstanceUsageResponse> getInstanceUsage(GetOrganizationInstanceUsageRequest request) {
-        return get(request, GetOrganizationInstanceUsageResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "instance_usage"))
+        return get(request, GetOrganizationInstanceUsageResponse.class, Endpoint.of("/organizations/{organizationId}/instance_usage", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationMemoryUsageResponse> getMemoryUsage(GetOrganizationMemoryUsageRequest request) {
-        return get(request, GetOrganizationMemoryUsageResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "memory_usage"))
+        return get(request, GetOrganizationMemoryUsageResponse.class, Endpoint.of("/organizations/{organizationId}/memory_usage", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationUserRolesResponse> getUserRoles(GetOrganizationUserRolesRequest request) {
-        return get(request, GetOrganizationUserRolesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "user_roles"))
+        return get(request, GetOrganizationUserRolesResponse.class, Endpoint.of("/organizations/{organizationId}/user_roles", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationsResponse> list(ListOrganizationsRequest request) {
-        return get(request, ListOrganizationsResponse.class, builder -> builder.pathSegment("organizations"))
+        return get(request, ListOrganizationsResponse.class, Endpoint.of("/organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationAuditorsResponse> listAuditors(ListOrganizationAuditorsRequest request) {
-        return get(request, ListOrganizationAuditorsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
+        return get(request, ListOrganizationAuditorsResponse.class, Endpoint.of("/organizations/{organizationId}/auditors", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationBillingManagersResponse> listBillingManagers(ListOrganizationBillingManagersRequest request) {
-        return get(request, ListOrganizationBillingManagersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
+        return get(request, ListOrganizationBillingManagersResponse.class, Endpoint.of("/organizations/{organizationId}/billing_managers", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<ListOrganizationDomainsResponse> listDomains(ListOrganizationDomainsRequest request) {
-        return get(request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains"))
+        return get(request, ListOrganizationDomainsResponse.class, Endpoint.of("/organizations/{organizationId}/domains", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationManagersResponse> listManagers(ListOrganizationManagersRequest request) {
-        return get(request, ListOrganizationManagersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
+        return get(request, ListOrganizationManagersResponse.class, Endpoint.of("/organizations/{organizationId}/managers", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationPrivateDomainsResponse> listPrivateDomains(ListOrganizationPrivateDomainsRequest request) {
-        return get(request, ListOrganizationPrivateDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains"))
+        return get(request, ListOrganizationPrivateDomainsResponse.class, Endpoint.of("/organizations/{organizationId}/private_domains", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationServicesResponse> listServices(ListOrganizationServicesRequest request) {
-        return get(request, ListOrganizationServicesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "services"))
+        return get(request, ListOrganizationServicesResponse.class, Endpoint.of("/organizations/{organizationId}/services", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationSpaceQuotaDefinitionsResponse> listSpaceQuotaDefinitions(ListOrganizationSpaceQuotaDefinitionsRequest request) {
-        return get(request, ListOrganizationSpaceQuotaDefinitionsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "space_quota_definitions"))
+        return get(request, ListOrganizationSpaceQuotaDefinitionsResponse.class, Endpoint.of("/organizations/{organizationId}/space_quota_definitions", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationSpacesResponse> listSpaces(ListOrganizationSpacesRequest request) {
-        return get(request, ListOrganizationSpacesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "spaces"))
+        return get(request, ListOrganizationSpacesResponse.class, Endpoint.of("/organizations/{organizationId}/spaces", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationUsersResponse> listUsers(ListOrganizationUsersRequest request) {
-        return get(request, ListOrganizationUsersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
+        return get(request, ListOrganizationUsersResponse.class, Endpoint.of("/organizations/{organizationId}/users", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditor(RemoveOrganizationAuditorRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors", request.getAuditorId()))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/auditors/{auditorId}", request.getOrganizationId(), request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditorByUsername(RemoveOrganizationAuditorByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/auditors", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeBillingManager(RemoveOrganizationBillingManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers", request.getBillingManagerId()))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/billing_managers/{billingManagerId}", request.getOrganizationId(), request.getBillingManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeBillingManagerByUsername(RemoveOrganizationBillingManagerByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/billing_managers", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManager(RemoveOrganizationManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers", request.getManagerId()))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/managers/{managerId}", request.getOrganizationId(), request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManagerByUsername(RemoveOrganizationManagerByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/managers", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removePrivateDomain(RemoveOrganizationPrivateDomainRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains", request.getPrivateDomainId()))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/private_domains/{privateDomainId}", request.getOrganizationId(), request.getPrivateDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeUser(RemoveOrganizationUserRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users", request.getUserId()))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/users/{userId}", request.getOrganizationId(), request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeUserByUsername(RemoveOrganizationUserByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
+        return delete(request, Void.class, Endpoint.of("/organizations/{organizationId}/users", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SummaryOrganizationResponse> summary(SummaryOrganizationRequest request) {
-        return get(request, SummaryOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "summary"))
+        return get(request, SummaryOrganizationResponse.class, Endpoint.of("/organizations/{organizationId}/summary", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateOrganizationResponse> update(UpdateOrganizationRequest request) {
-        return put(request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return put(request, UpdateOrganizationResponse.class, Endpoint.of("/organizations/{organizationId}", request.getOrganizationId()))
             .checkpoint();
     }
 
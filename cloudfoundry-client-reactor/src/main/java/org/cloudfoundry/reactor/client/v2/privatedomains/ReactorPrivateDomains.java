@@ -30,6 +30,7 @@ import org.cloudfoundry.client.v2.privatedomains.PrivateDomains;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -53,31 +54,31 @@ public final class ReactorPrivateDomains extends AbstractClientV2Operations impl
 
     @Override
     public Mono<CreatePrivateDomainResponse> create(CreatePrivateDomainRequest request) {
-        return post(request, CreatePrivateDomainResponse.class, builder -> builder.pathSegment("private_domains"))
+        return post(request, CreatePrivateDomainResponse.class, Endpoint.of("/private_domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeletePrivateDomainResponse> delete(DeletePrivateDomainRequest request) {
-        return delete(request, DeletePrivateDomainResponse.class, builder -> builder.pathSegment("private_domains", request.getPrivateDomainId()))
+        return delete(request, DeletePrivateDomainResponse.class, Endpoint.of("/private_domains/{privateDomainId}", request.getPrivateDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetPrivateDomainResponse> get(GetPrivateDomainRequest request) {
-        return get(request, GetPrivateDomainResponse.class, builder -> builder.pathSegment("private_domains", request.getPrivateDomainId()))
+        return get(request, GetPrivateDomainResponse.class, Endpoint.of("/private_domains/{privateDomainId}", request.getPrivateDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListPrivateDomainsResponse> list(ListPrivateDomainsRequest request) {
-        return get(request, ListPrivateDomainsResponse.class, builder -> builder.pathSegment("private_domains"))
+        return get(request, ListPrivateDomainsResponse.class, Endpoint.of("/private_domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListPrivateDomainSharedOrganizationsResponse> listSharedOrganizations(ListPrivateDomainSharedOrganizationsRequest request) {
-        return get(request, ListPrivateDomainSharedOrganizationsResponse.class, builder -> builder.pathSegment("private_domains", request.getPrivateDomainId(), "shared_organizations"))
+        return get(request, ListPrivateDomainSharedOrganizationsResponse.class, Endpoint.of("/private_domains/{privateDomainId}/shared_organizations", request.getPrivateDomainId()))
             .checkpoint();
     }
 
@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v2.resourcematch.ResourceMatch;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -45,7 +46,7 @@ public final class ReactorResourceMatch extends AbstractClientV2Operations imple
 
     @Override
     public Mono<ListMatchingResourcesResponse> list(ListMatchingResourcesRequest request) {
-        return put(request, ListMatchingResourcesResponse.class, builder -> builder.pathSegment("resource_match"))
+        return put(request, ListMatchingResourcesResponse.class, Endpoint.of("/resource_match"))
             .checkpoint();
     }
 
@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.routemappings.RouteMappings;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -51,25 +52,25 @@ public final class ReactorRouteMappings extends AbstractClientV2Operations imple
 
     @Override
     public Mono<CreateRouteMappingResponse> create(CreateRouteMappingRequest request) {
-        return post(request, CreateRouteMappingResponse.class, builder -> builder.pathSegment("route_mappings"))
+        return post(request, CreateRouteMappingResponse.class, Endpoint.of("/route_mappings"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteRouteMappingResponse> delete(DeleteRouteMappingRequest request) {
-        return delete(request, DeleteRouteMappingResponse.class, builder -> builder.pathSegment("route_mappings", request.getRouteMappingId()))
+        return delete(request, DeleteRouteMappingResponse.class, Endpoint.of("/route_mappings/{routeMappingId}", request.getRouteMappingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetRouteMappingResponse> get(GetRouteMappingRequest request) {
-        return get(request, GetRouteMappingResponse.class, builder -> builder.pathSegment("route_mappings", request.getRouteMappingId()))
+        return get(request, GetRouteMappingResponse.class, Endpoint.of("/route_mappings/{routeMappingId}", request.getRouteMappingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRouteMappingsResponse> list(ListRouteMappingsRequest request) {
-        return get(request, ListRouteMappingsResponse.class, builder -> builder.pathSegment("route_mappings"))
+        return get(request, ListRouteMappingsResponse.class, Endpoint.of("/route_mappings"))
             .checkpoint();
     }
 
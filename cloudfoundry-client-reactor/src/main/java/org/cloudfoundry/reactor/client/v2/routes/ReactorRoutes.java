@@ -38,6 +38,7 @@ import org.cloudfoundry.client.v2.routes.UpdateRouteResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import org.cloudfoundry.util.ExceptionUtils;
 import reactor.core.publisher.Mono;
 
@@ -65,30 +66,29 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
 
     @Override
     public Mono<AssociateRouteApplicationResponse> associateApplication(AssociateRouteApplicationRequest request) {
-        return put(request, AssociateRouteApplicationResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps", request.getApplicationId()))
+        return put(request, AssociateRouteApplicationResponse.class, Endpoint.of("/routes/{routeId}/apps/{applicationId}", request.getRouteId(), request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateRouteResponse> create(CreateRouteRequest request) {
-        return post(request, CreateRouteResponse.class, builder -> builder.pathSegment("routes"))
+        return post(request, CreateRouteResponse.class, Endpoint.of("/routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteRouteResponse> delete(DeleteRouteRequest request) {
-        return delete(request, DeleteRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
+        return delete(request, DeleteRouteResponse.class, Endpoint.of("/routes/{routeId}", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Boolean> exists(RouteExistsRequest request) {
-        return get(request, Boolean.class,
-            builder -> {
-                builder.pathSegment("routes", "reserved", "domain", request.getDomainId());
-                Optional.ofNullable(request.getHost()).ifPresent(host -> builder.pathSegment("host", host));
-                return builder;
-            })
+        Endpoint endpoint = Optional.ofNullable(request.getHost())
+            .map(host -> Endpoint.of("/routes/reserved/domain/{domainId}/host/{host}", request.getDomainId(), host))
+            .orElseGet(() -> Endpoint.of("/routes/reserved/domain/{domainId}", request.getDomainId()));
+
+        return get(request, Boolean.class, endpoint)
             .defaultIfEmpty(true)
             .onErrorResume(ExceptionUtils.statusCode(CF_NOT_FOUND), t -> Mono.just(false))
             .checkpoint();
@@ -96,37 +96,37 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
 
     @Override
     public Mono<GetRouteResponse> get(GetRouteRequest request) {
-        return get(request, GetRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
+        return get(request, GetRouteResponse.class, Endpoint.of("/routes/{routeId}", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRoutesResponse> list(ListRoutesRequest request) {
-        return get(request, ListRoutesResponse.class, builder -> builder.pathSegment("routes"))
+        return get(request, ListRoutesResponse.class, Endpoint.of("/routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRouteApplicationsResponse> listApplications(ListRouteApplicationsRequest request) {
-        return get(request, ListRouteApplicationsResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps"))
+        return get(request, ListRouteApplicationsResponse.class, Endpoint.of("/routes/{routeId}/apps", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRouteMappingsResponse> listMappings(ListRouteMappingsRequest request) {
-        return get(request, ListRouteMappingsResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "route_mappings"))
+        return get(request, ListRouteMappingsResponse.class, Endpoint.of("/routes/{routeId}/route_mappings", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeApplication(RemoveRouteApplicationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps", request.getApplicationId()))
+        return delete(request, Void.class, Endpoint.of("/routes/{routeId}/apps/{applicationId}", request.getRouteId(), request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateRouteResponse> update(UpdateRouteRequest request) {
-        return put(request, UpdateRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
+        return put(request, UpdateRouteResponse.class, Endpoint.of("/routes/{routeId}", request.getRouteId()))
             .checkpoint();
     }
 
@@ -45,6 +45,7 @@ import org.cloudfoundry.client.v2.securitygroups.UpdateSecurityGroupResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -68,85 +69,85 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
 
     @Override
     public Mono<AssociateSecurityGroupSpaceResponse> associateSpace(AssociateSecurityGroupSpaceRequest request) {
-        return put(request, AssociateSecurityGroupSpaceResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces", request.getSpaceId()))
+        return put(request, AssociateSecurityGroupSpaceResponse.class, Endpoint.of("/security_groups/{securityGroupId}/spaces/{spaceId}", request.getSecurityGroupId(), request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateSecurityGroupResponse> create(CreateSecurityGroupRequest request) {
-        return post(request, CreateSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups"))
+        return post(request, CreateSecurityGroupResponse.class, Endpoint.of("/security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteSecurityGroupResponse> delete(DeleteSecurityGroupRequest request) {
-        return delete(request, DeleteSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
+        return delete(request, DeleteSecurityGroupResponse.class, Endpoint.of("/security_groups/{securityGroupId}", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSecurityGroupResponse> get(GetSecurityGroupRequest request) {
-        return get(request, GetSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
+        return get(request, GetSecurityGroupResponse.class, Endpoint.of("/security_groups/{securityGroupId}", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupsResponse> list(ListSecurityGroupsRequest request) {
-        return get(request, ListSecurityGroupsResponse.class, builder -> builder.pathSegment("security_groups"))
+        return get(request, ListSecurityGroupsResponse.class, Endpoint.of("/security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupRunningDefaultsResponse> listRunningDefaults(ListSecurityGroupRunningDefaultsRequest request) {
-        return get(request, ListSecurityGroupRunningDefaultsResponse.class, builder -> builder.pathSegment("config", "running_security_groups"))
+        return get(request, ListSecurityGroupRunningDefaultsResponse.class, Endpoint.of("/config/running_security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupSpacesResponse> listSpaces(ListSecurityGroupSpacesRequest request) {
-        return get(request, ListSecurityGroupSpacesResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces"))
+        return get(request, ListSecurityGroupSpacesResponse.class, Endpoint.of("/security_groups/{securityGroupId}/spaces", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupStagingDefaultsResponse> listStagingDefaults(ListSecurityGroupStagingDefaultsRequest request) {
-        return get(request, ListSecurityGroupStagingDefaultsResponse.class, builder -> builder.pathSegment("config", "staging_security_groups"))
+        return get(request, ListSecurityGroupStagingDefaultsResponse.class, Endpoint.of("/config/staging_security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeRunningDefault(RemoveSecurityGroupRunningDefaultRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("config", "running_security_groups", request.getSecurityGroupId()))
+        return delete(request, Void.class, Endpoint.of("/config/running_security_groups/{securityGroupId}", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeSpace(RemoveSecurityGroupSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces", request.getSpaceId()))
+        return delete(request, Void.class, Endpoint.of("/security_groups/{securityGroupId}/spaces/{spaceId}", request.getSecurityGroupId(), request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeStagingDefault(RemoveSecurityGroupStagingDefaultRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("config", "staging_security_groups", request.getSecurityGroupId()))
+        return delete(request, Void.class, Endpoint.of("/config/staging_security_groups/{securityGroupId}", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SetSecurityGroupRunningDefaultResponse> setRunningDefault(SetSecurityGroupRunningDefaultRequest request) {
-        return put(request, SetSecurityGroupRunningDefaultResponse.class, builder -> builder.pathSegment("config", "running_security_groups", request.getSecurityGroupId()))
+        return put(request, SetSecurityGroupRunningDefaultResponse.class, Endpoint.of("/config/running_security_groups/{securityGroupId}", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SetSecurityGroupStagingDefaultResponse> setStagingDefault(SetSecurityGroupStagingDefaultRequest request) {
-        return put(request, SetSecurityGroupStagingDefaultResponse.class, builder -> builder.pathSegment("config", "staging_security_groups", request.getSecurityGroupId()))
+        return put(request, SetSecurityGroupStagingDefaultResponse.class, Endpoint.of("/config/staging_security_groups/{securityGroupId}", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateSecurityGroupResponse> update(UpdateSecurityGroupRequest request) {
-        return put(request, UpdateSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
+        return put(request, UpdateSecurityGroupResponse.class, Endpoint.of("/security_groups/{securityGroupId}", request.getSecurityGroupId()))
             .checkpoint();
     }
 
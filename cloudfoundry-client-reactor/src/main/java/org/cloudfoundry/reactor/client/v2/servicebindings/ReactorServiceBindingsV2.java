@@ -30,6 +30,7 @@ import org.cloudfoundry.client.v2.servicebindings.ServiceBindingsV2;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -53,31 +54,31 @@ public final class ReactorServiceBindingsV2 extends AbstractClientV2Operations i
 
     @Override
     public Mono<CreateServiceBindingResponse> create(CreateServiceBindingRequest request) {
-        return post(request, CreateServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings"))
+        return post(request, CreateServiceBindingResponse.class, Endpoint.of("/service_bindings"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteServiceBindingResponse> delete(DeleteServiceBindingRequest request) {
-        return delete(request, DeleteServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
+        return delete(request, DeleteServiceBindingResponse.class, Endpoint.of("/service_bindings/{serviceBindingId}", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceBindingResponse> get(GetServiceBindingRequest request) {
-        return get(request, GetServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
+        return get(request, GetServiceBindingResponse.class, Endpoint.of("/service_bindings/{serviceBindingId}", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceBindingParametersResponse> getParameters(GetServiceBindingParametersRequest request) {
-        return get(request, GetServiceBindingParametersResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId(), "parameters"))
+        return get(request, GetServiceBindingParametersResponse.class, Endpoint.of("/service_bindings/{serviceBindingId}/parameters", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceBindingsResponse> list(ListServiceBindingsRequest request) {
-        return get(request, ListServiceBindingsResponse.class, builder -> builder.pathSegment("service_bindings"))
+        return get(request, ListServiceBindingsResponse.class, Endpoint.of("/service_bindings"))
             .checkpoint();
     }
 
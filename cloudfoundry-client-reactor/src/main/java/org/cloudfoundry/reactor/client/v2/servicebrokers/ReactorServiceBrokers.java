@@ -29,6 +29,7 @@ import org.cloudfoundry.client.v2.servicebrokers.UpdateServiceBrokerResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -52,31 +53,31 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations impl
 
     @Override
     public Mono<CreateServiceBrokerResponse> create(CreateServiceBrokerRequest request) {
-        return post(request, CreateServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers"))
+        return post(request, CreateServiceBrokerResponse.class, Endpoint.of("/service_brokers"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteServiceBrokerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
+        return delete(request, Void.class, Endpoint.of("/service_brokers/{serviceBrokerId}", request.getServiceBrokerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceBrokerResponse> get(GetServiceBrokerRequest request) {
-        return get(request, GetServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
+        return get(request, GetServiceBrokerResponse.class, Endpoint.of("/service_brokers/{serviceBrokerId}", request.getServiceBrokerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceBrokersResponse> list(ListServiceBrokersRequest request) {
-        return get(request, ListServiceBrokersResponse.class, builder -> builder.pathSegment("service_brokers"))
+        return get(request, ListServiceBrokersResponse.class, Endpoint.of("/service_brokers"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServiceBrokerResponse> update(UpdateServiceBrokerRequest request) {
-        return put(request, UpdateServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
+        return put(request, UpdateServiceBrokerResponse.class, Endpoint.of("/service_brokers/{serviceBrokerId}", request.getServiceBrokerId()))
             .checkpoint();
     }
 
@@ -43,6 +43,7 @@ import org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceResponse
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -66,73 +67,73 @@ public final class ReactorServiceInstances extends AbstractClientV2Operations im
 
     @Override
     public Mono<BindServiceInstanceRouteResponse> bindRoute(BindServiceInstanceRouteRequest request) {
-        return put(request, BindServiceInstanceRouteResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "routes", request.getRouteId()))
+        return put(request, BindServiceInstanceRouteResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/routes/{routeId}", request.getServiceInstanceId(), request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateServiceInstanceResponse> create(CreateServiceInstanceRequest request) {
-        return post(request, CreateServiceInstanceResponse.class, builder -> builder.pathSegment("service_instances"))
+        return post(request, CreateServiceInstanceResponse.class, Endpoint.of("/service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteServiceInstanceResponse> delete(DeleteServiceInstanceRequest request) {
-        return delete(request, DeleteServiceInstanceResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId()))
+        return delete(request, DeleteServiceInstanceResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceInstanceResponse> get(GetServiceInstanceRequest request) {
-        return get(request, GetServiceInstanceResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId()))
+        return get(request, GetServiceInstanceResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceInstanceParametersResponse> getParameters(GetServiceInstanceParametersRequest request) {
-        return get(request, GetServiceInstanceParametersResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "parameters"))
+        return get(request, GetServiceInstanceParametersResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/parameters", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceInstancePermissionsResponse> getPermissions(GetServiceInstancePermissionsRequest request) {
-        return get(request, GetServiceInstancePermissionsResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "permissions"))
+        return get(request, GetServiceInstancePermissionsResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/permissions", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceInstancesResponse> list(ListServiceInstancesRequest request) {
-        return get(request, ListServiceInstancesResponse.class, builder -> builder.pathSegment("service_instances"))
+        return get(request, ListServiceInstancesResponse.class, Endpoint.of("/service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceInstanceRoutesResponse> listRoutes(ListServiceInstanceRoutesRequest request) {
-        return get(request, ListServiceInstanceRoutesResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "routes"))
+        return get(request, ListServiceInstanceRoutesResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/routes", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceInstanceServiceBindingsResponse> listServiceBindings(ListServiceInstanceServiceBindingsRequest request) {
-        return get(request, ListServiceInstanceServiceBindingsResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "service_bindings"))
+        return get(request, ListServiceInstanceServiceBindingsResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/service_bindings", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceInstanceServiceKeysResponse> listServiceKeys(ListServiceInstanceServiceKeysRequest request) {
-        return get(request, ListServiceInstanceServiceKeysResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "service_keys"))
+        return get(request, ListServiceInstanceServiceKeysResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/service_keys", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> unbindRoute(UnbindServiceInstanceRouteRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "routes", request.getRouteId()))
+        return delete(request, Void.class, Endpoint.of("/service_instances/{serviceInstanceId}/routes/{routeId}", request.getServiceInstanceId(), request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServiceInstanceResponse> update(UpdateServiceInstanceRequest request) {
-        return put(request, UpdateServiceInstanceResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId()))
+        return put(request, UpdateServiceInstanceResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}", request.getServiceInstanceId()))
             .checkpoint();
     }
 
@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.servicekeys.ServiceKeys;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -51,25 +52,25 @@ public final class ReactorServiceKeys extends AbstractClientV2Operations impleme
 
     @Override
     public Mono<CreateServiceKeyResponse> create(CreateServiceKeyRequest request) {
-        return post(request, CreateServiceKeyResponse.class, builder -> builder.pathSegment("service_keys"))
+        return post(request, CreateServiceKeyResponse.class, Endpoint.of("/service_keys"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteServiceKeyRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_keys", request.getServiceKeyId()))
+        return delete(request, Void.class, Endpoint.of("/service_keys/{serviceKeyId}", request.getServiceKeyId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceKeyResponse> get(GetServiceKeyRequest request) {
-        return get(request, GetServiceKeyResponse.class, builder -> builder.pathSegment("service_keys", request.getServiceKeyId()))
+        return get(request, GetServiceKeyResponse.class, Endpoint.of("/service_keys/{serviceKeyId}", request.getServiceKeyId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceKeysResponse> list(ListServiceKeysRequest request) {
-        return get(request, ListServiceKeysResponse.class, builder -> builder.pathSegment("service_keys"))
+        return get(request, ListServiceKeysResponse.class, Endpoint.of("/service_keys"))
             .checkpoint();
     }
 
@@ -30,6 +30,7 @@ import org.cloudfoundry.client.v2.serviceplans.UpdateServicePlanResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -53,32 +54,32 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
 
     @Override
     public Mono<DeleteServicePlanResponse> delete(DeleteServicePlanRequest request) {
-        return delete(request, DeleteServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return delete(request, DeleteServicePlanResponse.class, Endpoint.of("/service_plans/{servicePlanId}", request.getServicePlanId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServicePlanResponse> get(GetServicePlanRequest request) {
-        return get(request, GetServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return get(request, GetServicePlanResponse.class, Endpoint.of("/service_plans/{servicePlanId}", request.getServicePlanId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServicePlansResponse> list(ListServicePlansRequest request) {
-        return get(request, ListServicePlansResponse.class, builder -> builder.pathSegment("service_plans"))
+        return get(request, ListServicePlansResponse.class, Endpoint.of("/service_plans"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServicePlanServiceInstancesResponse> listServiceInstances(ListServicePlanServiceInstancesRequest request) {
         return get(request, ListServicePlanServiceInstancesResponse.class,
-            builder -> builder.pathSegment("service_plans", request.getServicePlanId(), "service_instances"))
+            Endpoint.of("/service_plans/{servicePlanId}/service_instances", request.getServicePlanId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServicePlanResponse> update(UpdateServicePlanRequest request) {
-        return put(request, UpdateServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return put(request, UpdateServicePlanResponse.class, Endpoint.of("/service_plans/{servicePlanId}", request.getServicePlanId()))
             .checkpoint();
     }
 
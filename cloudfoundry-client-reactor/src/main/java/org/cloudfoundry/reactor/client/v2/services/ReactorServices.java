@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.services.Services;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -51,25 +52,25 @@ public final class ReactorServices extends AbstractClientV2Operations implements
 
     @Override
     public Mono<DeleteServiceResponse> delete(DeleteServiceRequest request) {
-        return delete(request, DeleteServiceResponse.class, builder -> builder.pathSegment("services", request.getServiceId()))
+        return delete(request, DeleteServiceResponse.class, Endpoint.of("/services/{serviceId}", request.getServiceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceResponse> get(GetServiceRequest request) {
-        return get(request, GetServiceResponse.class, builder -> builder.pathSegment("services", request.getServiceId()))
+        return get(request, GetServiceResponse.class, Endpoint.of("/services/{serviceId}", request.getServiceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServicesResponse> list(ListServicesRequest request) {
-        return get(request, ListServicesResponse.class, builder -> builder.pathSegment("services"))
+        return get(request, ListServicesResponse.class, Endpoint.of("/services"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceServicePlansResponse> listServicePlans(ListServiceServicePlansRequest request) {
-        return get(request, ListServiceServicePlansResponse.class, builder -> builder.pathSegment("services", request.getServiceId(), "service_plans"))
+        return get(request, ListServiceServicePlansResponse.class, Endpoint.of("/services/{serviceId}/service_plans", request.getServiceId()))
             .checkpoint();
     }
 
@@ -25,6 +25,7 @@ import org.cloudfoundry.client.v2.serviceusageevents.ServiceUsageEvents;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -48,19 +49,19 @@ public final class ReactorServiceUsageEvents extends AbstractClientV2Operations
 
     @Override
     public Mono<GetServiceUsageEventResponse> get(GetServiceUsageEventRequest request) {
-        return get(request, GetServiceUsageEventResponse.class, builder -> builder.pathSegment("service_usage_events", request.getServiceUsageEventId()))
+        return get(request, GetServiceUsageEventResponse.class, Endpoint.of("/service_usage_events/{serviceUsageEventId}", request.getServiceUsageEventId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceUsageEventsResponse> list(ListServiceUsageEventsRequest request) {
-        return get(request, ListServiceUsageEventsResponse.class, builder -> builder.pathSegment("service_usage_events"))
+        return get(request, ListServiceUsageEventsResponse.class, Endpoint.of("/service_usage_events"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> purgeAndReseed(PurgeAndReseedServiceUsageEventsRequest request) {
-        return post(request, Void.class, builder -> builder.pathSegment("service_usage_events", "destructively_purge_all_and_reseed_existing_instances"))
+        return post(request, Void.class, Endpoint.of("/service_usage_events/destructively_purge_all_and_reseed_existing_instances"))
             .checkpoint();
     }
 
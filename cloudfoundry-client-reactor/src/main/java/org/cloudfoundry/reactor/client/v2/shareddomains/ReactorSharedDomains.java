@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.shareddomains.SharedDomains;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -51,26 +52,26 @@ public final class ReactorSharedDomains extends AbstractClientV2Operations imple
 
     @Override
     public Mono<CreateSharedDomainResponse> create(CreateSharedDomainRequest request) {
-        return post(request, CreateSharedDomainResponse.class, builder -> builder.pathSegment("shared_domains"))
+        return post(request, CreateSharedDomainResponse.class, Endpoint.of("/shared_domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteSharedDomainResponse> delete(DeleteSharedDomainRequest request) {
-        return delete(request, DeleteSharedDomainResponse.class, builder -> builder.pathSegment("shared_domains", request.getSharedDomainId()))
+        return delete(request, DeleteSharedDomainResponse.class, Endpoint.of("/shared_domains/{sharedDomainId}", request.getSharedDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSharedDomainResponse> get(GetSharedDomainRequest request) {
-        return get(request, GetSharedDomainResponse.class, builder -> builder.pathSegment("shared_domains", request.getSharedDomainId()))
+        return get(request, GetSharedDomainResponse.class, Endpoint.of("/shared_domains/{sharedDomainId}", request.getSharedDomainId()))
             .checkpoint();
 
     }
 
     @Override
     public Mono<ListSharedDomainsResponse> list(ListSharedDomainsRequest request) {
-        return get(request, ListSharedDomainsResponse.class, builder -> builder.pathSegment("shared_domains"))
+        return get(request, ListSharedDomainsResponse.class, Endpoint.of("/shared_domains"))
             .checkpoint();
     }
 
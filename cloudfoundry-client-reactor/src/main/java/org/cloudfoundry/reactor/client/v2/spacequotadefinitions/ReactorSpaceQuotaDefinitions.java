@@ -35,6 +35,7 @@ import org.cloudfoundry.client.v2.spacequotadefinitions.UpdateSpaceQuotaDefiniti
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -59,49 +60,49 @@ public final class ReactorSpaceQuotaDefinitions extends AbstractClientV2Operatio
     @Override
     public Mono<AssociateSpaceQuotaDefinitionResponse> associateSpace(AssociateSpaceQuotaDefinitionRequest request) {
         return put(request, AssociateSpaceQuotaDefinitionResponse.class,
-            builder -> builder.pathSegment("space_quota_definitions", request.getSpaceQuotaDefinitionId(), "spaces", request.getSpaceId()))
+            Endpoint.of("/space_quota_definitions/{spaceQuotaDefinitionId}/spaces/{spaceId}", request.getSpaceQuotaDefinitionId(), request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateSpaceQuotaDefinitionResponse> create(CreateSpaceQuotaDefinitionRequest request) {
-        return post(request, CreateSpaceQuotaDefinitionResponse.class, builder -> builder.pathSegment("space_quota_definitions"))
+        return post(request, CreateSpaceQuotaDefinitionResponse.class, Endpoint.of("/space_quota_definitions"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteSpaceQuotaDefinitionResponse> delete(DeleteSpaceQuotaDefinitionRequest request) {
-        return delete(request, DeleteSpaceQuotaDefinitionResponse.class, builder -> builder.pathSegment("space_quota_definitions", request.getSpaceQuotaDefinitionId()))
+        return delete(request, DeleteSpaceQuotaDefinitionResponse.class, Endpoint.of("/space_quota_definitions/{spaceQuotaDefinitionId}", request.getSpaceQuotaDefinitionId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceQuotaDefinitionResponse> get(GetSpaceQuotaDefinitionRequest request) {
-        return get(request, GetSpaceQuotaDefinitionResponse.class, builder -> builder.pathSegment("space_quota_definitions", request.getSpaceQuotaDefinitionId()))
+        return get(request, GetSpaceQuotaDefinitionResponse.class, Endpoint.of("/space_quota_definitions/{spaceQuotaDefinitionId}", request.getSpaceQuotaDefinitionId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceQuotaDefinitionsResponse> list(ListSpaceQuotaDefinitionsRequest request) {
-        return get(request, ListSpaceQuotaDefinitionsResponse.class, builder -> builder.pathSegment("space_quota_definitions"))
+        return get(request, ListSpaceQuotaDefinitionsResponse.class, Endpoint.of("/space_quota_definitions"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceQuotaDefinitionSpacesResponse> listSpaces(ListSpaceQuotaDefinitionSpacesRequest request) {
-        return get(request, ListSpaceQuotaDefinitionSpacesResponse.class, builder -> builder.pathSegment("space_quota_definitions", request.getSpaceQuotaDefinitionId(), "spaces"))
+        return get(request, ListSpaceQuotaDefinitionSpacesResponse.class, Endpoint.of("/space_quota_definitions/{spaceQuotaDefinitionId}/spaces", request.getSpaceQuotaDefinitionId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeSpace(RemoveSpaceQuotaDefinitionRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("space_quota_definitions", request.getSpaceQuotaDefinitionId(), "spaces", request.getSpaceId()))
+        return delete(request, Void.class, Endpoint.of("/space_quota_definitions/{spaceQuotaDefinitionId}/spaces/{spaceId}", request.getSpaceQuotaDefinitionId(), request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateSpaceQuotaDefinitionResponse> update(UpdateSpaceQuotaDefinitionRequest request) {
-        return put(request, UpdateSpaceQuotaDefinitionResponse.class, builder -> builder.pathSegment("space_quota_definitions", request.getSpaceQuotaDefinitionId()))
+        return put(request, UpdateSpaceQuotaDefinitionResponse.class, Endpoint.of("/space_quota_definitions/{spaceQuotaDefinitionId}", request.getSpaceQuotaDefinitionId()))
             .checkpoint();
     }
 
@@ -78,6 +78,7 @@ import org.cloudfoundry.client.v2.spaces.UpdateSpaceResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -101,188 +102,188 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
 
     @Override
     public Mono<AssociateSpaceAuditorResponse> associateAuditor(AssociateSpaceAuditorRequest request) {
-        return put(request, AssociateSpaceAuditorResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors", request.getAuditorId()))
+        return put(request, AssociateSpaceAuditorResponse.class, Endpoint.of("/spaces/{spaceId}/auditors/{auditorId}", request.getSpaceId(), request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceAuditorByUsernameResponse> associateAuditorByUsername(AssociateSpaceAuditorByUsernameRequest request) {
-        return put(request, AssociateSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+        return put(request, AssociateSpaceAuditorByUsernameResponse.class, Endpoint.of("/spaces/{spaceId}/auditors", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceDeveloperResponse> associateDeveloper(AssociateSpaceDeveloperRequest request) {
-        return put(request, AssociateSpaceDeveloperResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers", request.getDeveloperId()))
+        return put(request, AssociateSpaceDeveloperResponse.class, Endpoint.of("/spaces/{spaceId}/developers/{developerId}", request.getSpaceId(), request.getDeveloperId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceDeveloperByUsernameResponse> associateDeveloperByUsername(AssociateSpaceDeveloperByUsernameRequest request) {
-        return put(request, AssociateSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+        return put(request, AssociateSpaceDeveloperByUsernameResponse.class, Endpoint.of("/spaces/{spaceId}/developers", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceManagerResponse> associateManager(AssociateSpaceManagerRequest request) {
-        return put(request, AssociateSpaceManagerResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers", request.getManagerId()))
+        return put(request, AssociateSpaceManagerResponse.class, Endpoint.of("/spaces/{spaceId}/managers/{managerId}", request.getSpaceId(), request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceManagerByUsernameResponse> associateManagerByUsername(AssociateSpaceManagerByUsernameRequest request) {
-        return put(request, AssociateSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+        return put(request, AssociateSpaceManagerByUsernameResponse.class, Endpoint.of("/spaces/{spaceId}/managers", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceSecurityGroupResponse> associateSecurityGroup(AssociateSpaceSecurityGroupRequest request) {
-        return put(request, AssociateSpaceSecurityGroupResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()))
+        return put(request, AssociateSpaceSecurityGroupResponse.class, Endpoint.of("/spaces/{spaceId}/security_groups/{securityGroupId}", request.getSpaceId(), request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateSpaceResponse> create(CreateSpaceRequest request) {
-        return post(request, CreateSpaceResponse.class, builder -> builder.pathSegment("spaces"))
+        return post(request, CreateSpaceResponse.class, Endpoint.of("/spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteSpaceResponse> delete(DeleteSpaceRequest request) {
-        return delete(request, DeleteSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return delete(request, DeleteSpaceResponse.class, Endpoint.of("/spaces/{spaceId}", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceResponse> get(GetSpaceRequest request) {
-        return get(request, GetSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return get(request, GetSpaceResponse.class, Endpoint.of("/spaces/{spaceId}", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceSummaryResponse> getSummary(GetSpaceSummaryRequest request) {
-        return get(request, GetSpaceSummaryResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "summary"))
+        return get(request, GetSpaceSummaryResponse.class, Endpoint.of("/spaces/{spaceId}/summary", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpacesResponse> list(ListSpacesRequest request) {
-        return get(request, ListSpacesResponse.class, builder -> builder.pathSegment("spaces"))
+        return get(request, ListSpacesResponse.class, Endpoint.of("/spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceApplicationsResponse> listApplications(ListSpaceApplicationsRequest request) {
-        return get(request, ListSpaceApplicationsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "apps"))
+        return get(request, ListSpaceApplicationsResponse.class, Endpoint.of("/spaces/{spaceId}/apps", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceAuditorsResponse> listAuditors(ListSpaceAuditorsRequest request) {
-        return get(request, ListSpaceAuditorsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+        return get(request, ListSpaceAuditorsResponse.class, Endpoint.of("/spaces/{spaceId}/auditors", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceDevelopersResponse> listDevelopers(ListSpaceDevelopersRequest request) {
-        return get(request, ListSpaceDevelopersResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+        return get(request, ListSpaceDevelopersResponse.class, Endpoint.of("/spaces/{spaceId}/developers", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<ListSpaceDomainsResponse> listDomains(ListSpaceDomainsRequest request) {
-        return get(request, ListSpaceDomainsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "domains"))
+        return get(request, ListSpaceDomainsResponse.class, Endpoint.of("/spaces/{spaceId}/domains", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceEventsResponse> listEvents(ListSpaceEventsRequest request) {
-        return get(request, ListSpaceEventsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "events"))
+        return get(request, ListSpaceEventsResponse.class, Endpoint.of("/spaces/{spaceId}/events", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceManagersResponse> listManagers(ListSpaceManagersRequest request) {
-        return get(request, ListSpaceManagersResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+        return get(request, ListSpaceManagersResponse.class, Endpoint.of("/spaces/{spaceId}/managers", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceRoutesResponse> listRoutes(ListSpaceRoutesRequest request) {
-        return get(request, ListSpaceRoutesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "routes"))
+        return get(request, ListSpaceRoutesResponse.class, Endpoint.of("/spaces/{spaceId}/routes", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceSecurityGroupsResponse> listSecurityGroups(ListSpaceSecurityGroupsRequest request) {
-        return get(request, ListSpaceSecurityGroupsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups"))
+        return get(request, ListSpaceSecurityGroupsResponse.class, Endpoint.of("/spaces/{spaceId}/security_groups", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceServiceInstancesResponse> listServiceInstances(ListSpaceServiceInstancesRequest request) {
-        return get(request, ListSpaceServiceInstancesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "service_instances"))
+        return get(request, ListSpaceServiceInstancesResponse.class, Endpoint.of("/spaces/{spaceId}/service_instances", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceServicesResponse> listServices(ListSpaceServicesRequest request) {
-        return get(request, ListSpaceServicesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "services"))
+        return get(request, ListSpaceServicesResponse.class, Endpoint.of("/spaces/{spaceId}/services", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceUserRolesResponse> listUserRoles(ListSpaceUserRolesRequest request) {
-        return get(request, ListSpaceUserRolesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "user_roles"))
+        return get(request, ListSpaceUserRolesResponse.class, Endpoint.of("/spaces/{spaceId}/user_roles", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditor(RemoveSpaceAuditorRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors", request.getAuditorId()))
+        return delete(request, Void.class, Endpoint.of("/spaces/{spaceId}/auditors/{auditorId}", request.getSpaceId(), request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RemoveSpaceAuditorByUsernameResponse> removeAuditorByUsername(RemoveSpaceAuditorByUsernameRequest request) {
-        return delete(request, RemoveSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+        return delete(request, RemoveSpaceAuditorByUsernameResponse.class, Endpoint.of("/spaces/{spaceId}/auditors", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeDeveloper(RemoveSpaceDeveloperRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers", request.getDeveloperId()))
+        return delete(request, Void.class, Endpoint.of("/spaces/{spaceId}/developers/{developerId}", request.getSpaceId(), request.getDeveloperId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RemoveSpaceDeveloperByUsernameResponse> removeDeveloperByUsername(RemoveSpaceDeveloperByUsernameRequest request) {
-        return delete(request, RemoveSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+        return delete(request, RemoveSpaceDeveloperByUsernameResponse.class, Endpoint.of("/spaces/{spaceId}/developers", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManager(RemoveSpaceManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers", request.getManagerId()))
+        return delete(request, Void.class, Endpoint.of("/spaces/{spaceId}/managers/{managerId}", request.getSpaceId(), request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RemoveSpaceManagerByUsernameResponse> removeManagerByUsername(RemoveSpaceManagerByUsernameRequest request) {
-        return delete(request, RemoveSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+        return delete(request, RemoveSpaceManagerByUsernameResponse.class, Endpoint.of("/spaces/{spaceId}/managers", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeSecurityGroup(RemoveSpaceSecurityGroupRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()))
+        return delete(request, Void.class, Endpoint.of("/spaces/{spaceId}/security_groups/{securityGroupId}", request.getSpaceId(), request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateSpaceResponse> update(UpdateSpaceRequest request) {
-        return put(request, UpdateSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return put(request, UpdateSpaceResponse.class, Endpoint.of("/spaces/{spaceId}", request.getSpaceId()))
             .checkpoint();
     }
 
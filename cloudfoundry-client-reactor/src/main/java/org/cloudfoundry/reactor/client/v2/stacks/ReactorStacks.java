@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v2.stacks.Stacks;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -51,25 +52,25 @@ public final class ReactorStacks extends AbstractClientV2Operations implements S
 
     @Override
     public Mono<CreateStackResponse> create(CreateStackRequest request) {
-        return post(request, CreateStackResponse.class, builder -> builder.pathSegment("stacks"))
+        return post(request, CreateStackResponse.class, Endpoint.of("/stacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteStackResponse> delete(DeleteStackRequest request) {
-        return delete(request, DeleteStackResponse.class, builder -> builder.pathSegment("stacks", request.getStackId()))
+        return delete(request, DeleteStackResponse.class, Endpoint.of("/stacks/{stackId}", request.getStackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetStackResponse> get(GetStackRequest request) {
-        return get(request, GetStackResponse.class, builder -> builder.pathSegment("stacks", request.getStackId()))
+        return get(request, GetStackResponse.class, Endpoint.of("/stacks/{stackId}", request.getStackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListStacksResponse> list(ListStacksRequest request) {
-        return get(request, ListStacksResponse.class, builder -> builder.pathSegment("stacks"))
+        return get(request, ListStacksResponse.class, Endpoint.of("/stacks"))
             .checkpoint();
     }
 
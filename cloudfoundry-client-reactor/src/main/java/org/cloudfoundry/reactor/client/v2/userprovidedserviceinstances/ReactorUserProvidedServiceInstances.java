@@ -36,6 +36,7 @@ import org.cloudfoundry.client.v2.userprovidedserviceinstances.UserProvidedServi
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -60,57 +61,56 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
     @Override
     public Mono<AssociateUserProvidedServiceInstanceRouteResponse> associateRoute(AssociateUserProvidedServiceInstanceRouteRequest request) {
         return put(request, AssociateUserProvidedServiceInstanceRouteResponse.class,
-            builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "routes", request.getRouteId()))
+            Endpoint.of("/user_provided_service_instances/{userProvidedServiceInstanceId}/routes/{routeId}", request.getUserProvidedServiceInstanceId(), request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateUserProvidedServiceInstanceResponse> create(CreateUserProvidedServiceInstanceRequest request) {
-        return post(request, CreateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances"))
+        return post(request, CreateUserProvidedServiceInstanceResponse.class, Endpoint.of("/user_provided_service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteUserProvidedServiceInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
+        return delete(request, Void.class, Endpoint.of("/user_provided_service_instances/{userProvidedServiceInstanceId}", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetUserProvidedServiceInstanceResponse> get(GetUserProvidedServiceInstanceRequest request) {
-        return get(request, GetUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
+        return get(request, GetUserProvidedServiceInstanceResponse.class, Endpoint.of("/user_provided_service_instances/{userProvidedServiceInstanceId}", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserProvidedServiceInstancesResponse> list(ListUserProvidedServiceInstancesRequest request) {
-        return get(request, ListUserProvidedServiceInstancesResponse.class, builder -> builder.pathSegment("user_provided_service_instances"))
+        return get(request, ListUserProvidedServiceInstancesResponse.class, Endpoint.of("/user_provided_service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserProvidedServiceInstanceRoutesResponse> listRoutes(ListUserProvidedServiceInstanceRoutesRequest request) {
-        return get(request, ListUserProvidedServiceInstanceRoutesResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(),
-            "routes"))
+        return get(request, ListUserProvidedServiceInstanceRoutesResponse.class, Endpoint.of("/user_provided_service_instances/{userProvidedServiceInstanceId}/routes", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserProvidedServiceInstanceServiceBindingsResponse> listServiceBindings(ListUserProvidedServiceInstanceServiceBindingsRequest request) {
         return get(request, ListUserProvidedServiceInstanceServiceBindingsResponse.class,
-            builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "service_bindings"))
+            Endpoint.of("/user_provided_service_instances/{userProvidedServiceInstanceId}/service_bindings", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeRoute(RemoveUserProvidedServiceInstanceRouteRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "routes", request.getRouteId()))
+        return delete(request, Void.class, Endpoint.of("/user_provided_service_instances/{userProvidedServiceInstanceId}/routes/{routeId}", request.getUserProvidedServiceInstanceId(), request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateUserProvidedServiceInstanceResponse> update(UpdateUserProvidedServiceInstanceRequest request) {
-        return put(request, UpdateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
+        return put(request, UpdateUserProvidedServiceInstanceResponse.class, Endpoint.of("/user_provided_service_instances/{userProvidedServiceInstanceId}", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
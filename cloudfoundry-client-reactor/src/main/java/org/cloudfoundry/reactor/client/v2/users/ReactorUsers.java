@@ -67,6 +67,7 @@ import org.cloudfoundry.client.v2.users.Users;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -90,166 +91,163 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
 
     @Override
     public Mono<AssociateUserAuditedOrganizationResponse> associateAuditedOrganization(AssociateUserAuditedOrganizationRequest request) {
-        return put(request, AssociateUserAuditedOrganizationResponse.class, builder ->
-            builder.pathSegment("users", request.getUserId(), "audited_organizations", request.getAuditedOrganizationId()))
+        return put(request, AssociateUserAuditedOrganizationResponse.class, Endpoint.of("/users/{userId}/audited_organizations/{auditedOrganizationId}", request.getUserId(), request.getAuditedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserAuditedSpaceResponse> associateAuditedSpace(AssociateUserAuditedSpaceRequest request) {
-        return put(request, AssociateUserAuditedSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces", request.getAuditedSpaceId()))
+        return put(request, AssociateUserAuditedSpaceResponse.class, Endpoint.of("/users/{userId}/audited_spaces/{auditedSpaceId}", request.getUserId(), request.getAuditedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserBillingManagedOrganizationResponse> associateBillingManagedOrganization(AssociateUserBillingManagedOrganizationRequest request) {
-        return put(request, AssociateUserBillingManagedOrganizationResponse.class, builder ->
-            builder.pathSegment("users", request.getUserId(), "billing_managed_organizations", request.getBillingManagedOrganizationId()))
+        return put(request, AssociateUserBillingManagedOrganizationResponse.class, Endpoint.of("/users/{userId}/billing_managed_organizations/{billingManagedOrganizationId}", request.getUserId(), request.getBillingManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserManagedOrganizationResponse> associateManagedOrganization(AssociateUserManagedOrganizationRequest request) {
-        return put(request, AssociateUserManagedOrganizationResponse.class, builder ->
-            builder.pathSegment("users", request.getUserId(), "managed_organizations", request.getManagedOrganizationId()))
+        return put(request, AssociateUserManagedOrganizationResponse.class, Endpoint.of("/users/{userId}/managed_organizations/{managedOrganizationId}", request.getUserId(), request.getManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserManagedSpaceResponse> associateManagedSpace(AssociateUserManagedSpaceRequest request) {
-        return put(request, AssociateUserManagedSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces", request.getManagedSpaceId()))
+        return put(request, AssociateUserManagedSpaceResponse.class, Endpoint.of("/users/{userId}/managed_spaces/{managedSpaceId}", request.getUserId(), request.getManagedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserOrganizationResponse> associateOrganization(AssociateUserOrganizationRequest request) {
-        return put(request, AssociateUserOrganizationResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations", request.getOrganizationId()))
+        return put(request, AssociateUserOrganizationResponse.class, Endpoint.of("/users/{userId}/organizations/{organizationId}", request.getUserId(), request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserSpaceResponse> associateSpace(AssociateUserSpaceRequest request) {
-        return put(request, AssociateUserSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces", request.getSpaceId()))
+        return put(request, AssociateUserSpaceResponse.class, Endpoint.of("/users/{userId}/spaces/{spaceId}", request.getUserId(), request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateUserResponse> create(CreateUserRequest request) {
-        return post(request, CreateUserResponse.class, builder -> builder.pathSegment("users"))
+        return post(request, CreateUserResponse.class, Endpoint.of("/users"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteUserResponse> delete(DeleteUserRequest request) {
-        return delete(request, DeleteUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
+        return delete(request, DeleteUserResponse.class, Endpoint.of("/users/{userId}", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetUserResponse> get(GetUserRequest request) {
-        return get(request, GetUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
+        return get(request, GetUserResponse.class, Endpoint.of("/users/{userId}", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUsersResponse> list(ListUsersRequest request) {
-        return get(request, ListUsersResponse.class, builder -> builder.pathSegment("users"))
+        return get(request, ListUsersResponse.class, Endpoint.of("/users"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserAuditedOrganizationsResponse> listAuditedOrganizations(ListUserAuditedOrganizationsRequest request) {
-        return get(request, ListUserAuditedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_organizations"))
+        return get(request, ListUserAuditedOrganizationsResponse.class, Endpoint.of("/users/{userId}/audited_organizations", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserAuditedSpacesResponse> listAuditedSpaces(ListUserAuditedSpacesRequest request) {
-        return get(request, ListUserAuditedSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces"))
+        return get(request, ListUserAuditedSpacesResponse.class, Endpoint.of("/users/{userId}/audited_spaces", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserBillingManagedOrganizationsResponse> listBillingManagedOrganizations(ListUserBillingManagedOrganizationsRequest request) {
-        return get(request, ListUserBillingManagedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "billing_managed_organizations"))
+        return get(request, ListUserBillingManagedOrganizationsResponse.class, Endpoint.of("/users/{userId}/billing_managed_organizations", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserManagedOrganizationsResponse> listManagedOrganizations(ListUserManagedOrganizationsRequest request) {
-        return get(request, ListUserManagedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_organizations"))
+        return get(request, ListUserManagedOrganizationsResponse.class, Endpoint.of("/users/{userId}/managed_organizations", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserManagedSpacesResponse> listManagedSpaces(ListUserManagedSpacesRequest request) {
-        return get(request, ListUserManagedSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces"))
+        return get(request, ListUserManagedSpacesResponse.class, Endpoint.of("/users/{userId}/managed_spaces", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserOrganizationsResponse> listOrganizations(ListUserOrganizationsRequest request) {
-        return get(request, ListUserOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations"))
+        return get(request, ListUserOrganizationsResponse.class, Endpoint.of("/users/{userId}/organizations", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserSpacesResponse> listSpaces(ListUserSpacesRequest request) {
-        return get(request, ListUserSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces"))
+        return get(request, ListUserSpacesResponse.class, Endpoint.of("/users/{userId}/spaces", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditedOrganization(RemoveUserAuditedOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_organizations", request.getAuditedOrganizationId()))
+        return delete(request, Void.class, Endpoint.of("/users/{userId}/audited_organizations/{auditedOrganizationId}", request.getUserId(), request.getAuditedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditedSpace(RemoveUserAuditedSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces", request.getAuditedSpaceId()))
+        return delete(request, Void.class, Endpoint.of("/users/{userId}/audited_spaces/{auditedSpaceId}", request.getUserId(), request.getAuditedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeBillingManagedOrganization(RemoveUserBillingManagedOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "billing_managed_organizations", request.getBillingManagedOrganizationId()))
+        return delete(request, Void.class, Endpoint.of("/users/{userId}/billing_managed_organizations/{billingManagedOrganizationId}", request.getUserId(), request.getBillingManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManagedOrganization(RemoveUserManagedOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_organizations", request.getManagedOrganizationId()))
+        return delete(request, Void.class, Endpoint.of("/users/{userId}/managed_organizations/{managedOrganizationId}", request.getUserId(), request.getManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManagedSpace(RemoveUserManagedSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces", request.getManagedSpaceId()))
+        return delete(request, Void.class, Endpoint.of("/users/{userId}/managed_spaces/{managedSpaceId}", request.getUserId(), request.getManagedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeOrganization(RemoveUserOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations", request.getOrganizationId()))
+        return delete(request, Void.class, Endpoint.of("/users/{userId}/organizations/{organizationId}", request.getUserId(), request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeSpace(RemoveUserSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces", request.getSpaceId()))
+        return delete(request, Void.class, Endpoint.of("/users/{userId}/spaces/{spaceId}", request.getUserId(), request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SummaryUserResponse> summary(SummaryUserRequest request) {
-        return get(request, SummaryUserResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "summary"))
+        return get(request, SummaryUserResponse.class, Endpoint.of("/users/{userId}/summary", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateUserResponse> update(UpdateUserRequest request) {
-        return put(request, UpdateUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
+        return put(request, UpdateUserResponse.class, Endpoint.of("/users/{userId}", request.getUserId()))
             .checkpoint();
     }
 
@@ -22,23 +22,28 @@ import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.QueryBuilder;
 import org.cloudfoundry.reactor.util.AbstractReactorOperations;
 import org.cloudfoundry.reactor.util.DelegatingUriQueryParameterBuilder;
+import org.cloudfoundry.reactor.util.Endpoint;
 import org.cloudfoundry.reactor.util.ErrorPayloadMappers;
+import org.cloudfoundry.reactor.util.FileChannelWriter;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RangedDownload;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameterBuilder;
-import org.cloudfoundry.reactor.util.UriQueryParameters;
+import org.reactivestreams.Publisher;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
-import reactor.netty.http.client.HttpClientForm;
+import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClientRequest;
 import reactor.netty.http.client.HttpClientResponse;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -54,90 +59,130 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
         return super.createOperator().map(this::attachErrorPayloadMapper);
     }
 
-    protected final Mono<String> delete(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final Mono<String> delete(Object requestPayload, Endpoint endpoint) {
         return createOperator()
             .flatMap(operator -> operator.delete()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .send(requestPayload)
                 .response()
                 .get())
             .map(AbstractClientV3Operations::extractJobId);
     }
 
-    protected final <T> Mono<T> delete(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> delete(Object requestPayload, Class<T> responseType, Endpoint endpoint) {
         return createOperator()
             .flatMap(operator -> operator.delete()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .send(requestPayload)
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final <T> Flux<T> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<ByteBufFlux, Flux<T>> bodyTransformer) {
+    protected final Mono<Path> download(Object requestPayload, Endpoint endpoint, Path destination) {
+        return this.connectionContext.getRangedDownloadConfiguration()
+            .map(configuration -> createOperator()
+                .flatMap(operator -> operator.get()
+                    .uri(endpoint, queryParameters(requestPayload))
+                    .response()
+                    .parseBodyToMono(responseWithBody -> RangedDownload.download(this.connectionContext.getHttpClient(), responseWithBody, destination, configuration))))
+            .orElseGet(() -> get(requestPayload, endpoint, body -> FileChannelWriter.write(body, destination).flux())
+                .single());
+    }
+
+    protected final <T> Flux<T> get(Object requestPayload, Endpoint endpoint, Function<ByteBufFlux, Flux<T>> bodyTransformer) {
         return createOperator()
             .flatMapMany(operator -> operator.followRedirects()
                 .get()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .response()
                 .parseBodyToFlux(responseWithBody -> bodyTransformer.apply(responseWithBody.getBody())));
     }
 
-    protected final <T> Mono<T> get(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> get(Object requestPayload, Class<T> responseType, Endpoint endpoint) {
         return createOperator()
             .flatMap(operator -> operator.get()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> patch(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> patch(Object requestPayload, Class<T> responseType, Endpoint endpoint) {
         return createOperator()
             .flatMap(operator -> operator.patch()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .send(requestPayload)
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Endpoint endpoint,
                                      Consumer<MultipartHttpClientRequest> requestTransformer, Runnable onTerminate) {
         return createOperator()
             .flatMap(operator -> operator.post()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
-                .sendForm(multipartRequest(requestTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
+                .send(multipartRequest(requestTransformer))
                 .response()
                 .parseBody(responseType))
             .doFinally(signalType -> onTerminate.run());
     }
 
-    protected <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected <T> Mono<T> post(Object requestPayload, Class<T> responseType, Endpoint endpoint) {
         return createOperator()
             .flatMap(operator -> operator.post()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .send(requestPayload)
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final Mono<String> post(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final Mono<String> post(Object requestPayload, Endpoint endpoint) {
         return createOperator()
             .flatMap(operator -> operator.post()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .send(requestPayload)
                 .response()
                 .get())
             .map(AbstractClientV3Operations::extractJobId);
     }
 
-    protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+    protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Endpoint endpoint, CharSequence contentType, String body) {
+        return createOperator()
+            .flatMap(operator -> operator.post()
+                .uri(endpoint, queryParameters(requestPayload))
+                .send(encoded(contentType, body))
+                .response()
+                .parseBody(responseType));
+    }
+
+    protected final Mono<String> post(Object requestPayload, Endpoint endpoint, CharSequence contentType, String body) {
+        return createOperator()
+            .flatMap(operator -> operator.post()
+                .uri(endpoint, queryParameters(requestPayload))
+                .send(encoded(contentType, body))
+                .response()
+                .get())
+            .map(AbstractClientV3Operations::extractJobId);
+    }
+
+    protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Endpoint endpoint) {
         return createOperator()
             .flatMap(operator -> operator.put()
-                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .uri(endpoint, queryParameters(requestPayload))
                 .send(requestPayload)
                 .response()
                 .parseBody(responseType));
     }
 
+    private static BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> encoded(CharSequence contentType, String body) {
+        return (request, outbound) -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+            request.header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(bytes.length));
+            request.header(HttpHeaderNames.CONTENT_TYPE, contentType);
+            return outbound.sendByteArray(Mono.just(bytes));
+        };
+    }
+
     private static String extractJobId(HttpClientResponse response) {
         List<String> pathSegments = UriComponentsBuilder.fromUriString(response.responseHeaders().get(HttpHeaderNames.LOCATION)).build().getPathSegments();
 
@@ -148,28 +193,24 @@ public abstract class AbstractClientV3Operations extends AbstractReactorOperatio
         return operator.withErrorPayloadMapper(ErrorPayloadMappers.clientV3(this.connectionContext.getObjectMapper()));
     }
 
-    private MultipartHttpClientRequest createMultipartRequest(HttpClientRequest request, HttpClientForm form) {
-        return new MultipartHttpClientRequest(this.connectionContext.getObjectMapper(), request, form);
+    private MultipartHttpClientRequest createMultipartRequest(HttpClientRequest request, NettyOutbound outbound) {
+        return new MultipartHttpClientRequest(this.connectionContext.getObjectMapper(), request, outbound);
     }
 
     private UriQueryParameterBuilder getUriQueryParameterBuilder() {
         return DelegatingUriQueryParameterBuilder.builder().builders(new FilterBuilder(), new QueryBuilder()).build();
     }
 
-    private BiConsumer<HttpClientRequest, HttpClientForm>
-    multipartRequest(Consumer<MultipartHttpClientRequest> requestTransformer) {
+    private BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> multipartRequest(Consumer<MultipartHttpClientRequest> requestTransformer) {
         return (request, outbound) -> {
             MultipartHttpClientRequest multipartRequest = createMultipartRequest(request, outbound);
             requestTransformer.accept(multipartRequest);
+            return multipartRequest.getBody();
         };
     }
 
-    private Function<UriComponentsBuilder, UriComponentsBuilder> queryTransformer(Object requestPayload) {
-        return builder -> {
-            Stream<UriQueryParameter> parameters = getUriQueryParameterBuilder().build(requestPayload);
-            UriQueryParameters.set(builder, parameters);
-            return builder;
-        };
+    private Stream<UriQueryParameter> queryParameters(Object requestPayload) {
+        return getUriQueryParameterBuilder().build(requestPayload);
     }
 
 }
@@ -21,6 +21,7 @@ import org.cloudfoundry.client.v3.admin.ClearBuildpackCacheRequest;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -44,7 +45,7 @@ public final class ReactorAdminV3 extends AbstractClientV3Operations implements
 
     @Override
     public Mono<String> clearBuildpackCache(ClearBuildpackCacheRequest request) {
-        return post(request, builder -> builder.pathSegment("admin", "actions", "clear_buildpack_cache"))
+        return post(request, Endpoint.of("/admin/actions/clear_buildpack_cache"))
             .checkpoint();
     }
 
@@ -74,6 +74,7 @@ import org.cloudfoundry.client.v3.applications.UpdateApplicationResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -97,169 +98,169 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations impl
 
     @Override
     public Mono<CreateApplicationResponse> create(CreateApplicationRequest request) {
-        return post(request, CreateApplicationResponse.class, builder -> builder.pathSegment("apps"))
+        return post(request, CreateApplicationResponse.class, Endpoint.of("/apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteApplicationRequest request) {
-        return delete(request, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return delete(request, Endpoint.of("/apps/{applicationId}", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return get(request, GetApplicationResponse.class, Endpoint.of("/apps/{applicationId}", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationCurrentDropletResponse> getCurrentDroplet(GetApplicationCurrentDropletRequest request) {
-        return get(request, GetApplicationCurrentDropletResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplets", "current"))
+        return get(request, GetApplicationCurrentDropletResponse.class, Endpoint.of("/apps/{applicationId}/droplets/current", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationCurrentDropletRelationshipResponse> getCurrentDropletRelationship(GetApplicationCurrentDropletRelationshipRequest request) {
-        return get(request, GetApplicationCurrentDropletRelationshipResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "relationships", "current_droplet"))
+        return get(request, GetApplicationCurrentDropletRelationshipResponse.class, Endpoint.of("/apps/{applicationId}/relationships/current_droplet", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationEnvironmentResponse> getEnvironment(GetApplicationEnvironmentRequest request) {
-        return get(request, GetApplicationEnvironmentResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
+        return get(request, GetApplicationEnvironmentResponse.class, Endpoint.of("/apps/{applicationId}/env", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationEnvironmentVariablesResponse> getEnvironmentVariables(GetApplicationEnvironmentVariablesRequest request) {
-        return get(request, GetApplicationEnvironmentVariablesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "environment_variables"))
+        return get(request, GetApplicationEnvironmentVariablesResponse.class, Endpoint.of("/apps/{applicationId}/environment_variables", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationFeatureResponse> getFeature(GetApplicationFeatureRequest request) {
-        return get(request, GetApplicationFeatureResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "features", request.getFeatureName()))
+        return get(request, GetApplicationFeatureResponse.class, Endpoint.of("/apps/{applicationId}/features/{featureName}", request.getApplicationId(), request.getFeatureName()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationPermissionsResponse> getPermissions(GetApplicationPermissionsRequest request) {
-        return get(request, GetApplicationPermissionsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "permissions"))
+        return get(request, GetApplicationPermissionsResponse.class, Endpoint.of("/apps/{applicationId}/permissions", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationProcessResponse> getProcess(GetApplicationProcessRequest request) {
-        return get(request, GetApplicationProcessResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType()))
+        return get(request, GetApplicationProcessResponse.class, Endpoint.of("/apps/{applicationId}/processes/{type}", request.getApplicationId(), request.getType()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationProcessStatisticsResponse> getProcessStatistics(GetApplicationProcessStatisticsRequest request) {
-        return get(request, GetApplicationProcessStatisticsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "stats"))
+        return get(request, GetApplicationProcessStatisticsResponse.class, Endpoint.of("/apps/{applicationId}/processes/{type}/stats", request.getApplicationId(), request.getType()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationSshEnabledResponse> getSshEnabled(GetApplicationSshEnabledRequest request) {
-        return get(request, GetApplicationSshEnabledResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "ssh_enabled"))
+        return get(request, GetApplicationSshEnabledResponse.class, Endpoint.of("/apps/{applicationId}/ssh_enabled", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationsResponse> list(ListApplicationsRequest request) {
-        return get(request, ListApplicationsResponse.class, builder -> builder.pathSegment("apps"))
+        return get(request, ListApplicationsResponse.class, Endpoint.of("/apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationBuildsResponse> listBuilds(ListApplicationBuildsRequest request) {
-        return get(request, ListApplicationBuildsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "builds"))
+        return get(request, ListApplicationBuildsResponse.class, Endpoint.of("/apps/{applicationId}/builds", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationDropletsResponse> listDroplets(ListApplicationDropletsRequest request) {
-        return get(request, ListApplicationDropletsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplets"))
+        return get(request, ListApplicationDropletsResponse.class, Endpoint.of("/apps/{applicationId}/droplets", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationFeaturesResponse> listFeatures(ListApplicationFeaturesRequest request) {
-        return get(request, ListApplicationFeaturesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "features"))
+        return get(request, ListApplicationFeaturesResponse.class, Endpoint.of("/apps/{applicationId}/features", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationPackagesResponse> listPackages(ListApplicationPackagesRequest request) {
-        return get(request, ListApplicationPackagesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "packages"))
+        return get(request, ListApplicationPackagesResponse.class, Endpoint.of("/apps/{applicationId}/packages", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationProcessesResponse> listProcesses(ListApplicationProcessesRequest request) {
-        return get(request, ListApplicationProcessesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes"))
+        return get(request, ListApplicationProcessesResponse.class, Endpoint.of("/apps/{applicationId}/processes", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationRoutesResponse> listRoutes(ListApplicationRoutesRequest request) {
-        return get(request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes"))
+        return get(request, ListApplicationRoutesResponse.class, Endpoint.of("/apps/{applicationId}/routes", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationTasksResponse> listTasks(ListApplicationTasksRequest request) {
-        return get(request, ListApplicationTasksResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "tasks"))
+        return get(request, ListApplicationTasksResponse.class, Endpoint.of("/apps/{applicationId}/tasks", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ScaleApplicationResponse> scale(ScaleApplicationRequest request) {
-        return post(request, ScaleApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "actions", "scale"))
+        return post(request, ScaleApplicationResponse.class, Endpoint.of("/apps/{applicationId}/processes/{type}/actions/scale", request.getApplicationId(), request.getType()))
             .checkpoint();
     }
 
     @Override
     public Mono<SetApplicationCurrentDropletResponse> setCurrentDroplet(SetApplicationCurrentDropletRequest request) {
-        return patch(request, SetApplicationCurrentDropletResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "relationships", "current_droplet"))
+        return patch(request, SetApplicationCurrentDropletResponse.class, Endpoint.of("/apps/{applicationId}/relationships/current_droplet", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<StartApplicationResponse> start(StartApplicationRequest request) {
-        return post(request, StartApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "actions", "start"))
+        return post(request, StartApplicationResponse.class, Endpoint.of("/apps/{applicationId}/actions/start", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<StopApplicationResponse> stop(StopApplicationRequest request) {
-        return post(request, StopApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "actions", "stop"))
+        return post(request, StopApplicationResponse.class, Endpoint.of("/apps/{applicationId}/actions/stop", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateApplicationInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "instances", request.getIndex()))
+        return delete(request, Void.class, Endpoint.of("/apps/{applicationId}/processes/{type}/instances/{index}", request.getApplicationId(), request.getType(), request.getIndex()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
-        return patch(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return patch(request, UpdateApplicationResponse.class, Endpoint.of("/apps/{applicationId}", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateApplicationEnvironmentVariablesResponse> updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest request) {
-        return patch(request, UpdateApplicationEnvironmentVariablesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "environment_variables"))
+        return patch(request, UpdateApplicationEnvironmentVariablesResponse.class, Endpoint.of("/apps/{applicationId}/environment_variables", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateApplicationFeatureResponse> updateFeature(UpdateApplicationFeatureRequest request) {
-        return patch(request, UpdateApplicationFeatureResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "features", request.getFeatureName()))
+        return patch(request, UpdateApplicationFeatureResponse.class, Endpoint.of("/apps/{applicationId}/features/{featureName}", request.getApplicationId(), request.getFeatureName()))
             .checkpoint();
     }
 
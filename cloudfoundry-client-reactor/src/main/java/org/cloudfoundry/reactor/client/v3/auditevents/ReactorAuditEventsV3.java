@@ -24,6 +24,7 @@ import org.cloudfoundry.client.v3.auditevents.ListAuditEventsResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -36,13 +37,13 @@ public class ReactorAuditEventsV3 extends AbstractClientV3Operations implements
 
     @Override
     public Mono<GetAuditEventResponse> get(GetAuditEventRequest request) {
-        return get(request, GetAuditEventResponse.class, builder -> builder.pathSegment("audit_events", request.getEventId()))
+        return get(request, GetAuditEventResponse.class, Endpoint.of("/audit_events/{eventId}", request.getEventId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListAuditEventsResponse> list(ListAuditEventsRequest request) {
-        return get(request, ListAuditEventsResponse.class, builder -> builder.pathSegment("audit_events"))
+        return get(request, ListAuditEventsResponse.class, Endpoint.of("/audit_events"))
             .checkpoint();
     }
 
@@ -26,6 +26,7 @@ import org.cloudfoundry.client.v3.builds.ListBuildsResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -50,19 +51,19 @@ public final class ReactorBuilds extends AbstractClientV3Operations implements B
 
     @Override
     public Mono<CreateBuildResponse> create(CreateBuildRequest request) {
-        return post(request, CreateBuildResponse.class, builder -> builder.pathSegment("builds"))
+        return post(request, CreateBuildResponse.class, Endpoint.of("/builds"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetBuildResponse> get(GetBuildRequest request) {
-        return get(request, GetBuildResponse.class, builder -> builder.pathSegment("builds", request.getBuildId()))
+        return get(request, GetBuildResponse.class, Endpoint.of("/builds/{buildId}", request.getBuildId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListBuildsResponse> list(ListBuildsRequest request) {
-        return get(request, ListBuildsResponse.class, builder -> builder.pathSegment("builds"))
+        return get(request, ListBuildsResponse.class, Endpoint.of("/builds"))
             .checkpoint();
     }
 
@@ -31,6 +31,7 @@ import org.cloudfoundry.client.v3.buildpacks.UploadBuildpackResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
 import reactor.core.Exceptions;
@@ -60,31 +61,31 @@ public final class ReactorBuildpacksV3 extends AbstractClientV3Operations implem
 
     @Override
     public Mono<CreateBuildpackResponse> create(CreateBuildpackRequest request) {
-        return post(request, CreateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks"))
+        return post(request, CreateBuildpackResponse.class, Endpoint.of("/buildpacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteBuildpackRequest request) {
-        return delete(request, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return delete(request, Endpoint.of("/buildpacks/{buildpackId}", request.getBuildpackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetBuildpackResponse> get(GetBuildpackRequest request) {
-        return get(request, GetBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return get(request, GetBuildpackResponse.class, Endpoint.of("/buildpacks/{buildpackId}", request.getBuildpackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListBuildpacksResponse> list(ListBuildpacksRequest request) {
-        return get(request, ListBuildpacksResponse.class, builder -> builder.pathSegment("buildpacks"))
+        return get(request, ListBuildpacksResponse.class, Endpoint.of("/buildpacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateBuildpackResponse> update(UpdateBuildpackRequest request) {
-        return patch(request, UpdateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return patch(request, UpdateBuildpackResponse.class, Endpoint.of("/buildpacks/{buildpackId}", request.getBuildpackId()))
             .checkpoint();
     }
 
@@ -112,7 +113,7 @@ public final class ReactorBuildpacksV3 extends AbstractClientV3Operations implem
     }
 
     private Mono<UploadBuildpackResponse> upload(UploadBuildpackRequest request, Runnable onTerminate) {
-        return post(request, UploadBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId(), "upload"), outbound ->
+        return post(request, UploadBuildpackResponse.class, Endpoint.of("/buildpacks/{buildpackId}/upload", request.getBuildpackId()), outbound ->
             upload(request.getBits(), outbound), onTerminate)
             .checkpoint();
     }
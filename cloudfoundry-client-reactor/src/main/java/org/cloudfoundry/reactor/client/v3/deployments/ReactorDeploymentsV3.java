@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v3.deployments.ListDeploymentsResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -51,25 +52,25 @@ public final class ReactorDeploymentsV3 extends AbstractClientV3Operations imple
 
     @Override
     public Mono<CancelDeploymentResponse> cancel(CancelDeploymentRequest request) {
-        return post(request, CancelDeploymentResponse.class, builder -> builder.pathSegment("deployments", request.getDeploymentId(), "actions", "cancel"))
+        return post(request, CancelDeploymentResponse.class, Endpoint.of("/deployments/{deploymentId}/actions/cancel", request.getDeploymentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateDeploymentResponse> create(CreateDeploymentRequest request) {
-        return post(request, CreateDeploymentResponse.class, builder -> builder.pathSegment("deployments"))
+        return post(request, CreateDeploymentResponse.class, Endpoint.of("/deployments"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetDeploymentResponse> get(GetDeploymentRequest request) {
-        return get(request, GetDeploymentResponse.class, builder -> builder.pathSegment("deployments", request.getDeploymentId()))
+        return get(request, GetDeploymentResponse.class, Endpoint.of("/deployments/{deploymentId}", request.getDeploymentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListDeploymentsResponse> list(ListDeploymentsRequest request) {
-        return get(request, ListDeploymentsResponse.class, builder -> builder.pathSegment("deployments"))
+        return get(request, ListDeploymentsResponse.class, Endpoint.of("/deployments"))
             .checkpoint();
     }
 
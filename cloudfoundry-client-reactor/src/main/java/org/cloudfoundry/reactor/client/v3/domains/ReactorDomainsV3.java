@@ -34,6 +34,7 @@ import org.cloudfoundry.client.v3.domains.UpdateDomainResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -57,49 +58,49 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
 
     @Override
     public Mono<CheckReservedRoutesResponse> checkReservedRoutes(CheckReservedRoutesRequest request) {
-        return get(request, CheckReservedRoutesResponse.class, builder -> builder.pathSegment("domains", request.getDomainId(), "route_reservations"))
+        return get(request, CheckReservedRoutesResponse.class, Endpoint.of("/domains/{domainId}/route_reservations", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateDomainResponse> create(CreateDomainRequest request) {
-        return post(request, CreateDomainResponse.class, builder -> builder.pathSegment("domains"))
+        return post(request, CreateDomainResponse.class, Endpoint.of("/domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteDomainRequest request) {
-        return delete(request, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return delete(request, Endpoint.of("/domains/{domainId}", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetDomainResponse> get(GetDomainRequest request) {
-        return get(request, GetDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return get(request, GetDomainResponse.class, Endpoint.of("/domains/{domainId}", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListDomainsResponse> list(ListDomainsRequest request) {
-        return get(request, ListDomainsResponse.class, builder -> builder.pathSegment("domains"))
+        return get(request, ListDomainsResponse.class, Endpoint.of("/domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<ShareDomainResponse> share(ShareDomainRequest request) {
-        return post(request, ShareDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId(), "relationships", "shared_organizations"))
+        return post(request, ShareDomainResponse.class, Endpoint.of("/domains/{domainId}/relationships/shared_organizations", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> unshare(UnshareDomainRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("domains", request.getDomainId(), "relationships", "shared_organizations", request.getOrganizationId()))
+        return delete(request, Void.class, Endpoint.of("/domains/{domainId}/relationships/shared_organizations/{organizationId}", request.getDomainId(), request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateDomainResponse> update(UpdateDomainRequest request) {
-        return patch(request, UpdateDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return patch(request, UpdateDomainResponse.class, Endpoint.of("/domains/{domainId}", request.getDomainId()))
             .checkpoint();
     }
 }
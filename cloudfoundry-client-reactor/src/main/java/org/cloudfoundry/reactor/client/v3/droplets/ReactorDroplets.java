@@ -27,6 +27,7 @@ import org.cloudfoundry.client.v3.droplets.ListDropletsResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -50,24 +51,24 @@ public final class ReactorDroplets extends AbstractClientV3Operations implements
 
     @Override
     public Mono<CopyDropletResponse> copy(CopyDropletRequest request) {
-        return post(request, CopyDropletResponse.class, builder -> builder.pathSegment("droplets"));
+        return post(request, CopyDropletResponse.class, Endpoint.of("/droplets"));
     }
 
     @Override
     public Mono<String> delete(DeleteDropletRequest request) {
-        return delete(request, builder -> builder.pathSegment("droplets", request.getDropletId()))
+        return delete(request, Endpoint.of("/droplets/{dropletId}", request.getDropletId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetDropletResponse> get(GetDropletRequest request) {
-        return get(request, GetDropletResponse.class, builder -> builder.pathSegment("droplets", request.getDropletId()))
+        return get(request, GetDropletResponse.class, Endpoint.of("/droplets/{dropletId}", request.getDropletId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListDropletsResponse> list(ListDropletsRequest request) {
-        return get(request, ListDropletsResponse.class, builder -> builder.pathSegment("droplets"))
+        return get(request, ListDropletsResponse.class, Endpoint.of("/droplets"))
             .checkpoint();
     }
 
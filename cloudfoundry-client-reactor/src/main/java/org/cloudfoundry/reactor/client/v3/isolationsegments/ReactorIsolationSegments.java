@@ -38,6 +38,7 @@ import org.cloudfoundry.client.v3.isolationsegments.UpdateIsolationSegmentRespon
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -61,64 +62,61 @@ public final class ReactorIsolationSegments extends AbstractClientV3Operations i
 
     @Override
     public Mono<AddIsolationSegmentOrganizationEntitlementResponse> addOrganizationEntitlement(AddIsolationSegmentOrganizationEntitlementRequest request) {
-        return post(request, AddIsolationSegmentOrganizationEntitlementResponse.class, builder ->
-            builder.pathSegment("isolation_segments", request.getIsolationSegmentId(), "relationships", "organizations"))
+        return post(request, AddIsolationSegmentOrganizationEntitlementResponse.class, Endpoint.of("/isolation_segments/{isolationSegmentId}/relationships/organizations", request.getIsolationSegmentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateIsolationSegmentResponse> create(CreateIsolationSegmentRequest request) {
-        return post(request, CreateIsolationSegmentResponse.class, builder -> builder.pathSegment("isolation_segments"))
+        return post(request, CreateIsolationSegmentResponse.class, Endpoint.of("/isolation_segments"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteIsolationSegmentRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("isolation_segments", request.getIsolationSegmentId()))
+        return delete(request, Void.class, Endpoint.of("/isolation_segments/{isolationSegmentId}", request.getIsolationSegmentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetIsolationSegmentResponse> get(GetIsolationSegmentRequest request) {
-        return get(request, GetIsolationSegmentResponse.class, builder -> builder.pathSegment("isolation_segments", request.getIsolationSegmentId()))
+        return get(request, GetIsolationSegmentResponse.class, Endpoint.of("/isolation_segments/{isolationSegmentId}", request.getIsolationSegmentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListIsolationSegmentsResponse> list(ListIsolationSegmentsRequest request) {
-        return get(request, ListIsolationSegmentsResponse.class, builder -> builder.pathSegment("isolation_segments"))
+        return get(request, ListIsolationSegmentsResponse.class, Endpoint.of("/isolation_segments"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListIsolationSegmentEntitledOrganizationsResponse> listEntitledOrganizations(ListIsolationSegmentEntitledOrganizationsRequest request) {
-        return get(request, ListIsolationSegmentEntitledOrganizationsResponse.class, builder -> builder.pathSegment("isolation_segments", request.getIsolationSegmentId(), "organizations"))
+        return get(request, ListIsolationSegmentEntitledOrganizationsResponse.class, Endpoint.of("/isolation_segments/{isolationSegmentId}/organizations", request.getIsolationSegmentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListIsolationSegmentOrganizationsRelationshipResponse> listOrganizationsRelationship(ListIsolationSegmentOrganizationsRelationshipRequest request) {
-        return get(request, ListIsolationSegmentOrganizationsRelationshipResponse.class, builder ->
-            builder.pathSegment("isolation_segments", request.getIsolationSegmentId(), "relationships", "organizations"))
+        return get(request, ListIsolationSegmentOrganizationsRelationshipResponse.class, Endpoint.of("/isolation_segments/{isolationSegmentId}/relationships/organizations", request.getIsolationSegmentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListIsolationSegmentSpacesRelationshipResponse> listSpacesRelationship(ListIsolationSegmentSpacesRelationshipRequest request) {
-        return get(request, ListIsolationSegmentSpacesRelationshipResponse.class, builder ->
-            builder.pathSegment("isolation_segments", request.getIsolationSegmentId(), "relationships", "spaces"))
+        return get(request, ListIsolationSegmentSpacesRelationshipResponse.class, Endpoint.of("/isolation_segments/{isolationSegmentId}/relationships/spaces", request.getIsolationSegmentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeOrganizationEntitlement(RemoveIsolationSegmentOrganizationEntitlementRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("isolation_segments", request.getIsolationSegmentId(), "relationships", "organizations", request.getOrganizationId()))
+        return delete(request, Void.class, Endpoint.of("/isolation_segments/{isolationSegmentId}/relationships/organizations/{organizationId}", request.getIsolationSegmentId(), request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateIsolationSegmentResponse> update(UpdateIsolationSegmentRequest request) {
-        return patch(request, UpdateIsolationSegmentResponse.class, builder -> builder.pathSegment("isolation_segments", request.getIsolationSegmentId()))
+        return patch(request, UpdateIsolationSegmentResponse.class, Endpoint.of("/isolation_segments/{isolationSegmentId}", request.getIsolationSegmentId()))
             .checkpoint();
     }
 
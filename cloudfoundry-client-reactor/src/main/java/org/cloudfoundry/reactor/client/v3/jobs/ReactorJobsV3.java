@@ -22,6 +22,7 @@ import org.cloudfoundry.client.v3.jobs.JobsV3;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -45,7 +46,7 @@ public final class ReactorJobsV3 extends AbstractClientV3Operations implements J
 
     @Override
     public Mono<GetJobResponse> get(GetJobRequest request) {
-        return get(request, GetJobResponse.class, builder -> builder.pathSegment("jobs", request.getJobId()))
+        return get(request, GetJobResponse.class, Endpoint.of("/jobs/{jobId}", request.getJobId()))
             .checkpoint();
     }
 
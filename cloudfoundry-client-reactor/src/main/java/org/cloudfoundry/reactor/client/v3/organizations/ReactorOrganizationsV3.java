@@ -39,6 +39,7 @@ import org.cloudfoundry.client.v3.organizations.UpdateOrganizationResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -62,63 +63,61 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations imp
 
     @Override
     public Mono<AssignOrganizationDefaultIsolationSegmentResponse> assignDefaultIsolationSegment(AssignOrganizationDefaultIsolationSegmentRequest request) {
-        return patch(request, AssignOrganizationDefaultIsolationSegmentResponse.class, builder ->
-            builder.pathSegment("organizations", request.getOrganizationId(), "relationships", "default_isolation_segment"))
+        return patch(request, AssignOrganizationDefaultIsolationSegmentResponse.class, Endpoint.of("/organizations/{organizationId}/relationships/default_isolation_segment", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateOrganizationResponse> create(CreateOrganizationRequest request) {
-        return post(request, CreateOrganizationResponse.class, builder -> builder.pathSegment("organizations"))
+        return post(request, CreateOrganizationResponse.class, Endpoint.of("/organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteOrganizationRequest request) {
-        return delete(request, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return delete(request, Endpoint.of("/organizations/{organizationId}", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationResponse> get(GetOrganizationRequest request) {
-        return get(request, GetOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return get(request, GetOrganizationResponse.class, Endpoint.of("/organizations/{organizationId}", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationDefaultDomainResponse> getDefaultDomain(GetOrganizationDefaultDomainRequest request) {
-        return get(request, GetOrganizationDefaultDomainResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains", "default"))
+        return get(request, GetOrganizationDefaultDomainResponse.class, Endpoint.of("/organizations/{organizationId}/domains/default", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationDefaultIsolationSegmentResponse> getDefaultIsolationSegment(GetOrganizationDefaultIsolationSegmentRequest request) {
-        return get(request, GetOrganizationDefaultIsolationSegmentResponse.class, builder ->
-            builder.pathSegment("organizations", request.getOrganizationId(), "relationships", "default_isolation_segment"))
+        return get(request, GetOrganizationDefaultIsolationSegmentResponse.class, Endpoint.of("/organizations/{organizationId}/relationships/default_isolation_segment", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationUsageSummaryResponse> getUsageSummary(GetOrganizationUsageSummaryRequest request) {
-        return get(request, GetOrganizationUsageSummaryResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "usage_summary"))
+        return get(request, GetOrganizationUsageSummaryResponse.class, Endpoint.of("/organizations/{organizationId}/usage_summary", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationsResponse> list(ListOrganizationsRequest request) {
-        return get(request, ListOrganizationsResponse.class, builder -> builder.pathSegment("organizations"))
+        return get(request, ListOrganizationsResponse.class, Endpoint.of("/organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationDomainsResponse> listDomains(ListOrganizationDomainsRequest request) {
-        return get(request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains"))
+        return get(request, ListOrganizationDomainsResponse.class, Endpoint.of("/organizations/{organizationId}/domains", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateOrganizationResponse> update(UpdateOrganizationRequest request) {
-        return patch(request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return patch(request, UpdateOrganizationResponse.class, Endpoint.of("/organizations/{organizationId}", request.getOrganizationId()))
             .checkpoint();
     }
 
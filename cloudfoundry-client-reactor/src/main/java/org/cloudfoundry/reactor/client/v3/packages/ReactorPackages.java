@@ -34,17 +34,21 @@ import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
+import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * The Reactor-based implementation of {@link Packages}
@@ -65,43 +69,55 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
 
     @Override
     public Mono<CopyPackageResponse> copy(CopyPackageRequest request) {
-        return post(request, CopyPackageResponse.class, builder -> builder.pathSegment("packages"))
+        return post(request, CopyPackageResponse.class, Endpoint.of("/packages"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreatePackageResponse> create(CreatePackageRequest request) {
-        return post(request, CreatePackageResponse.class, builder -> builder.pathSegment("packages"))
+        return post(request, CreatePackageResponse.class, Endpoint.of("/packages"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeletePackageRequest request) {
-        return delete(request, builder -> builder.pathSegment("packages", request.getPackageId()))
+        return delete(request, Endpoint.of("/packages/{packageId}", request.getPackageId()))
             .checkpoint();
     }
 
     @Override
     public Flux<byte[]> download(DownloadPackageRequest request) {
-        return get(request, builder -> builder.pathSegment("packages", request.getPackageId(), "download"), ByteBufFlux::asByteArray)
+        return get(request, Endpoint.of("/packages/{packageId}/download", request.getPackageId()), ByteBufFlux::asByteArray)
+            .checkpoint();
+    }
+
+    @Override
+    public Mono<Path> download(DownloadPackageRequest request, Path destination) {
+        return download(request, Endpoint.of("/packages/{packageId}/download", request.getPackageId()), destination)
+            .checkpoint();
+    }
+
+    @Override
+    public <T> Flux<T> download(DownloadPackageRequest request, Function<Flux<ByteBuffer>, Publisher<T>> bodyTransformer) {
+        return get(request, Endpoint.of("/packages/{packageId}/download", request.getPackageId()), body -> Flux.from(bodyTransformer.apply(body.asByteBuffer())))
             .checkpoint();
     }
 
     @Override
     public Mono<GetPackageResponse> get(GetPackageRequest request) {
-        return get(request, GetPackageResponse.class, builder -> builder.pathSegment("packages", request.getPackageId()))
+        return get(request, GetPackageResponse.class, Endpoint.of("/packages/{packageId}", request.getPackageId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListPackagesResponse> list(ListPackagesRequest request) {
-        return get(request, ListPackagesResponse.class, builder -> builder.pathSegment("packages"))
+        return get(request, ListPackagesResponse.class, Endpoint.of("/packages"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListPackageDropletsResponse> listDroplets(ListPackageDropletsRequest request) {
-        return get(request, ListPackageDropletsResponse.class, builder -> builder.pathSegment("packages", request.getPackageId(), "droplets"))
+        return get(request, ListPackageDropletsResponse.class, Endpoint.of("/packages/{packageId}/droplets", request.getPackageId()))
             .checkpoint();
     }
 
@@ -129,7 +145,7 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
     }
 
     private Mono<UploadPackageResponse> upload(UploadPackageRequest request, Runnable onTerminate) {
-        return post(request, UploadPackageResponse.class, builder -> builder.pathSegment("packages", request.getPackageId(), "upload"), outbound -> upload(request.getBits(), outbound), onTerminate)
+        return post(request, UploadPackageResponse.class, Endpoint.of("/packages/{packageId}/upload", request.getPackageId()), outbound -> upload(request.getBits(), outbound), onTerminate)
             .checkpoint();
     }
 
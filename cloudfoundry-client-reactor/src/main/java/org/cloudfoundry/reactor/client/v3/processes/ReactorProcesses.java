@@ -31,6 +31,7 @@ import org.cloudfoundry.client.v3.processes.UpdateProcessResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -54,37 +55,37 @@ public final class ReactorProcesses extends AbstractClientV3Operations implement
 
     @Override
     public Mono<GetProcessResponse> get(GetProcessRequest request) {
-        return get(request, GetProcessResponse.class, builder -> builder.pathSegment("processes", request.getProcessId()))
+        return get(request, GetProcessResponse.class, Endpoint.of("/processes/{processId}", request.getProcessId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetProcessStatisticsResponse> getStatistics(GetProcessStatisticsRequest request) {
-        return get(request, GetProcessStatisticsResponse.class, builder -> builder.pathSegment("processes", request.getProcessId(), "stats"))
+        return get(request, GetProcessStatisticsResponse.class, Endpoint.of("/processes/{processId}/stats", request.getProcessId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListProcessesResponse> list(ListProcessesRequest request) {
-        return get(request, ListProcessesResponse.class, builder -> builder.pathSegment("processes"))
+        return get(request, ListProcessesResponse.class, Endpoint.of("/processes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ScaleProcessResponse> scale(ScaleProcessRequest request) {
-        return post(request, ScaleProcessResponse.class, builder -> builder.pathSegment("processes", request.getProcessId(), "actions", "scale"))
+        return post(request, ScaleProcessResponse.class, Endpoint.of("/processes/{processId}/actions/scale", request.getProcessId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateProcessInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("processes", request.getProcessId(), "instances", request.getIndex()))
+        return delete(request, Void.class, Endpoint.of("/processes/{processId}/instances/{index}", request.getProcessId(), request.getIndex()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateProcessResponse> update(UpdateProcessRequest request) {
-        return patch(request, UpdateProcessResponse.class, builder -> builder.pathSegment("processes", request.getProcessId()))
+        return patch(request, UpdateProcessResponse.class, Endpoint.of("/processes/{processId}", request.getProcessId()))
             .checkpoint();
     }
 
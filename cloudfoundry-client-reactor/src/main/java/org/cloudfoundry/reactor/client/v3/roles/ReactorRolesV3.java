@@ -27,6 +27,7 @@ import org.cloudfoundry.client.v3.roles.RolesV3;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -50,25 +51,25 @@ public final class ReactorRolesV3 extends AbstractClientV3Operations implements
 
     @Override
     public Mono<CreateRoleResponse> create(CreateRoleRequest request) {
-        return post(request, CreateRoleResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("roles"))
+        return post(request, CreateRoleResponse.class, Endpoint.of("/roles"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteRoleRequest request) {
-        return delete(request, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("roles", request.getRoleId()))
+        return delete(request, Endpoint.of("/roles/{roleId}", request.getRoleId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetRoleResponse> get(GetRoleRequest request) {
-        return get(request, GetRoleResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("roles", request.getRoleId()))
+        return get(request, GetRoleResponse.class, Endpoint.of("/roles/{roleId}", request.getRoleId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRolesResponse> list(ListRolesRequest request) {
-        return get(request, ListRolesResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("roles"))
+        return get(request, ListRolesResponse.class, Endpoint.of("/roles"))
             .checkpoint();
     }
 
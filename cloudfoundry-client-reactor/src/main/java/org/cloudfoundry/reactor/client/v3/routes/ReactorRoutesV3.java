@@ -20,6 +20,7 @@ import org.cloudfoundry.client.v3.routes.UpdateRouteResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -43,55 +44,55 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
 
     @Override
     public Mono<CreateRouteResponse> create(CreateRouteRequest request) {
-        return post(request, CreateRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes"))
+        return post(request, CreateRouteResponse.class, Endpoint.of("/routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteRouteRequest request) {
-        return delete(request, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+        return delete(request, Endpoint.of("/routes/{routeId}", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetRouteResponse> get(GetRouteRequest request) {
-        return get(request, GetRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+        return get(request, GetRouteResponse.class, Endpoint.of("/routes/{routeId}", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<InsertRouteDestinationsResponse> insertDestinations(InsertRouteDestinationsRequest request) {
-        return post(request, InsertRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
+        return post(request, InsertRouteDestinationsResponse.class, Endpoint.of("/routes/{routeId}/destinations", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRoutesResponse> list(ListRoutesRequest request) {
-        return get(request, ListRoutesResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes"))
+        return get(request, ListRoutesResponse.class, Endpoint.of("/routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRouteDestinationsResponse> listDestinations(ListRouteDestinationsRequest request) {
-        return get(request, ListRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
+        return get(request, ListRouteDestinationsResponse.class, Endpoint.of("/routes/{routeId}/destinations", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeDestinations(RemoveRouteDestinationsRequest request) {
-        return delete(request, Void.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations", request.getDestinationId()))
+        return delete(request, Void.class, Endpoint.of("/routes/{routeId}/destinations/{destinationId}", request.getRouteId(), request.getDestinationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ReplaceRouteDestinationsResponse> replaceDestinations(ReplaceRouteDestinationsRequest request) {
-        return patch(request, ReplaceRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
+        return patch(request, ReplaceRouteDestinationsResponse.class, Endpoint.of("/routes/{routeId}/destinations", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateRouteResponse> update(UpdateRouteRequest request) {
-        return patch(request, UpdateRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+        return patch(request, UpdateRouteResponse.class, Endpoint.of("/routes/{routeId}", request.getRouteId()))
             .checkpoint();
     }
 
@@ -27,6 +27,7 @@ import org.cloudfoundry.client.v3.servicebindings.ServiceBindingsV3;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -50,25 +51,25 @@ public final class ReactorServiceBindingsV3 extends AbstractClientV3Operations i
 
     @Override
     public Mono<CreateServiceBindingResponse> create(CreateServiceBindingRequest request) {
-        return post(request, CreateServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings"))
+        return post(request, CreateServiceBindingResponse.class, Endpoint.of("/service_bindings"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteServiceBindingRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
+        return delete(request, Void.class, Endpoint.of("/service_bindings/{serviceBindingId}", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceBindingResponse> get(GetServiceBindingRequest request) {
-        return get(request, GetServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
+        return get(request, GetServiceBindingResponse.class, Endpoint.of("/service_bindings/{serviceBindingId}", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceBindingsResponse> list(ListServiceBindingsRequest request) {
-        return get(request, ListServiceBindingsResponse.class, builder -> builder.pathSegment("service_bindings"))
+        return get(request, ListServiceBindingsResponse.class, Endpoint.of("/service_bindings"))
             .checkpoint();
     }
 
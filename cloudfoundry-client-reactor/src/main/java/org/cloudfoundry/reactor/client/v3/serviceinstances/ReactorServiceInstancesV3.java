@@ -29,6 +29,7 @@ import org.cloudfoundry.client.v3.serviceinstances.UpdateServiceInstanceResponse
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -52,30 +53,30 @@ public final class ReactorServiceInstancesV3 extends AbstractClientV3Operations
 
     @Override
     public Mono<ListServiceInstancesResponse> list(ListServiceInstancesRequest request) {
-        return get(request, ListServiceInstancesResponse.class, builder -> builder.pathSegment("service_instances"))
+        return get(request, ListServiceInstancesResponse.class, Endpoint.of("/service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSharedSpacesRelationshipResponse> listSharedSpacesRelationship(ListSharedSpacesRelationshipRequest request) {
-        return get(request, ListSharedSpacesRelationshipResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "relationships", "shared_spaces"))
+        return get(request, ListSharedSpacesRelationshipResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/relationships/shared_spaces", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ShareServiceInstanceResponse> share(ShareServiceInstanceRequest request) {
-        return post(request, ShareServiceInstanceResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "relationships", "shared_spaces"))
+        return post(request, ShareServiceInstanceResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}/relationships/shared_spaces", request.getServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> unshare(UnshareServiceInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId(), "relationships", "shared_spaces", request.getSpaceId()))
+        return delete(request, Void.class, Endpoint.of("/service_instances/{serviceInstanceId}/relationships/shared_spaces/{spaceId}", request.getServiceInstanceId(), request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServiceInstanceResponse> update(UpdateServiceInstanceRequest request) {
-        return patch(request, UpdateServiceInstanceResponse.class, builder -> builder.pathSegment("service_instances", request.getServiceInstanceId()));
+        return patch(request, UpdateServiceInstanceResponse.class, Endpoint.of("/service_instances/{serviceInstanceId}", request.getServiceInstanceId()));
     }
 }
@@ -27,6 +27,7 @@ import org.cloudfoundry.client.v3.serviceofferings.UpdateServiceOfferingResponse
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -50,25 +51,25 @@ public final class ReactorServiceOfferingsV3 extends AbstractClientV3Operations
 
     @Override
     public Mono<Void> delete(DeleteServiceOfferingRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_offerings", request.getServiceOfferingId()))
+        return delete(request, Void.class, Endpoint.of("/service_offerings/{serviceOfferingId}", request.getServiceOfferingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceOfferingResponse> get(GetServiceOfferingRequest request) {
-        return get(request, GetServiceOfferingResponse.class, builder -> builder.pathSegment("service_offerings", request.getServiceOfferingId()))
+        return get(request, GetServiceOfferingResponse.class, Endpoint.of("/service_offerings/{serviceOfferingId}", request.getServiceOfferingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceOfferingsResponse> list(ListServiceOfferingsRequest request) {
-        return get(request, ListServiceOfferingsResponse.class, builder -> builder.pathSegment("service_offerings"))
+        return get(request, ListServiceOfferingsResponse.class, Endpoint.of("/service_offerings"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServiceOfferingResponse> update(UpdateServiceOfferingRequest request) {
-        return patch(request, UpdateServiceOfferingResponse.class, builder -> builder.pathSegment("service_offerings", request.getServiceOfferingId()))
+        return patch(request, UpdateServiceOfferingResponse.class, Endpoint.of("/service_offerings/{serviceOfferingId}", request.getServiceOfferingId()))
             .checkpoint();
     }
 
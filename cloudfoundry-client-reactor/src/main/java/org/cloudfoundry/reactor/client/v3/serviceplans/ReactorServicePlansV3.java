@@ -27,6 +27,7 @@ import org.cloudfoundry.client.v3.serviceplans.UpdateServicePlanResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -50,25 +51,25 @@ public final class ReactorServicePlansV3 extends AbstractClientV3Operations impl
 
     @Override
     public Mono<Void> delete(DeleteServicePlanRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return delete(request, Void.class, Endpoint.of("/service_plans/{servicePlanId}", request.getServicePlanId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServicePlanResponse> get(GetServicePlanRequest request) {
-        return get(request, GetServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return get(request, GetServicePlanResponse.class, Endpoint.of("/service_plans/{servicePlanId}", request.getServicePlanId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServicePlansResponse> list(ListServicePlansRequest request) {
-        return get(request, ListServicePlansResponse.class, builder -> builder.pathSegment("service_plans"))
+        return get(request, ListServicePlansResponse.class, Endpoint.of("/service_plans"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServicePlanResponse> update(UpdateServicePlanRequest request) {
-        return patch(request, UpdateServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return patch(request, UpdateServicePlanResponse.class, Endpoint.of("/service_plans/{servicePlanId}", request.getServicePlanId()))
             .checkpoint();
     }
 
@@ -16,8 +16,11 @@
 
 package org.cloudfoundry.reactor.client.v3.spaces;
 
+import org.cloudfoundry.client.v3.spaces.ApplyManifestRequest;
 import org.cloudfoundry.client.v3.spaces.AssignSpaceIsolationSegmentRequest;
 import org.cloudfoundry.client.v3.spaces.AssignSpaceIsolationSegmentResponse;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffRequest;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffResponse;
 import org.cloudfoundry.client.v3.spaces.CreateSpaceRequest;
 import org.cloudfoundry.client.v3.spaces.CreateSpaceResponse;
 import org.cloudfoundry.client.v3.spaces.DeleteSpaceRequest;
@@ -34,6 +37,7 @@ import org.cloudfoundry.client.v3.spaces.UpdateSpaceResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -43,6 +47,8 @@ import java.util.Map;
  */
 public final class ReactorSpacesV3 extends AbstractClientV3Operations implements SpacesV3 {
 
+    private static final String APPLICATION_YAML = "application/x-yaml";
+
     /**
      * Creates an instance
      *
@@ -55,51 +61,63 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
+    @Override
+    public Mono<String> applyManifest(ApplyManifestRequest request) {
+        return post(request, Endpoint.of("/spaces/{spaceId}/actions/apply_manifest", request.getSpaceId()), APPLICATION_YAML, request.getManifest())
+            .checkpoint();
+    }
+
     @Override
     public Mono<AssignSpaceIsolationSegmentResponse> assignIsolationSegment(AssignSpaceIsolationSegmentRequest request) {
-        return patch(request, AssignSpaceIsolationSegmentResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "relationships", "isolation_segment"))
+        return patch(request, AssignSpaceIsolationSegmentResponse.class, Endpoint.of("/spaces/{spaceId}/relationships/isolation_segment", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateSpaceResponse> create(CreateSpaceRequest request) {
-        return post(request, CreateSpaceResponse.class, builder -> builder.pathSegment("spaces"))
+        return post(request, CreateSpaceResponse.class, Endpoint.of("/spaces"))
+            .checkpoint();
+    }
+
+    @Override
+    public Mono<CreateManifestDiffResponse> createManifestDiff(CreateManifestDiffRequest request) {
+        return post(request, CreateManifestDiffResponse.class, Endpoint.of("/spaces/{spaceId}/manifest_diff", request.getSpaceId()), APPLICATION_YAML, request.getManifest())
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteSpaceRequest request) {
-        return delete(request, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return delete(request, Endpoint.of("/spaces/{spaceId}", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<String> deleteUnmappedRoutes(DeleteUnmappedRoutesRequest request) {
-        return delete(request, builder -> builder.pathSegment("spaces", request.getSpaceId(), "routes").query("unmapped=true"))
+        return delete(request, Endpoint.of("/spaces/{spaceId}/routes?unmapped=true", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceResponse> get(GetSpaceRequest request) {
-        return get(request, GetSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return get(request, GetSpaceResponse.class, Endpoint.of("/spaces/{spaceId}", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceIsolationSegmentResponse> getIsolationSegment(GetSpaceIsolationSegmentRequest request) {
-        return get(request, GetSpaceIsolationSegmentResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "relationships", "isolation_segment"))
+        return get(request, GetSpaceIsolationSegmentResponse.class, Endpoint.of("/spaces/{spaceId}/relationships/isolation_segment", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpacesResponse> list(ListSpacesRequest request) {
-        return get(request, ListSpacesResponse.class, builder -> builder.pathSegment("spaces"))
+        return get(request, ListSpacesResponse.class, Endpoint.of("/spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateSpaceResponse> update(UpdateSpaceRequest request) {
-        return patch(request, UpdateSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return patch(request, UpdateSpaceResponse.class, Endpoint.of("/spaces/{spaceId}", request.getSpaceId()))
             .checkpoint();
     }
 
@@ -29,6 +29,7 @@ import org.cloudfoundry.client.v3.stacks.UpdateStackResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -52,31 +53,31 @@ public class ReactorStacksV3 extends AbstractClientV3Operations implements Stack
 
     @Override
     public Mono<CreateStackResponse> create(CreateStackRequest request) {
-        return post(request, CreateStackResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("stacks"))
+        return post(request, CreateStackResponse.class, Endpoint.of("/stacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteStackRequest request) {
-        return delete(request, Void.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("stacks", request.getStackId()))
+        return delete(request, Void.class, Endpoint.of("/stacks/{stackId}", request.getStackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetStackResponse> get(GetStackRequest request) {
-        return get(request, GetStackResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("stacks", request.getStackId()))
+        return get(request, GetStackResponse.class, Endpoint.of("/stacks/{stackId}", request.getStackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListStacksResponse> list(ListStacksRequest request) {
-        return get(request, ListStacksResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("stacks"))
+        return get(request, ListStacksResponse.class, Endpoint.of("/stacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateStackResponse> update(UpdateStackRequest request) {
-        return patch(request, UpdateStackResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("stacks", request.getStackId()))
+        return patch(request, UpdateStackResponse.class, Endpoint.of("/stacks/{stackId}", request.getStackId()))
             .checkpoint();
     }
 }
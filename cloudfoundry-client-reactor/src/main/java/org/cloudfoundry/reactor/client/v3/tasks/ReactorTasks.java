@@ -28,6 +28,7 @@ import org.cloudfoundry.client.v3.tasks.Tasks;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
+import org.cloudfoundry.reactor.util.Endpoint;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -51,25 +52,25 @@ public final class ReactorTasks extends AbstractClientV3Operations implements Ta
 
     @Override
     public Mono<CancelTaskResponse> cancel(CancelTaskRequest request) {  // TODO: Modify once support has aged out https://v3-apidocs.cloudfoundry.org/version/3.27.0/#cancel-a-task
-        return put(request, CancelTaskResponse.class, builder -> builder.pathSegment("tasks", request.getTaskId(), "cancel"))
+        return put(request, CancelTaskResponse.class, Endpoint.of("/tasks/{taskId}/cancel", request.getTaskId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateTaskResponse> create(CreateTaskRequest request) {
-        return post(request, CreateTaskResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "tasks"))
+        return post(request, CreateTaskResponse.class, Endpoint.of("/apps/{applicationId}/tasks", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetTaskResponse> get(GetTaskRequest request) {
-        return get(request, GetTaskResponse.class, builder -> builder.pathSegment("tasks", request.getTaskId()))
+        return get(request, GetTaskResponse.class, Endpoint.of("/tasks/{taskId}", request.getTaskId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListTasksResponse> list(ListTasksRequest request) {
-        return get(request, ListTasksResponse.class, builder -> builder.pathSegment("tasks"))
+        return get(request, ListTasksResponse.class, Endpoint.of("/tasks"))
             .checkpoint();
     }
 
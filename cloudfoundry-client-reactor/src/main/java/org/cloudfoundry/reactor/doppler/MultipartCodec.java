@@ -43,8 +43,10 @@ final class MultipartCodec {
     }
 
     static DelimiterBasedFrameDecoder createDecoder(HttpClientResponse response) {
-        String boundary = extractMultipartBoundary(response);
+        return createDecoder(extractMultipartBoundary(response));
+    }
 
+    static DelimiterBasedFrameDecoder createDecoder(String boundary) {
         return new DelimiterBasedFrameDecoder(MAX_PAYLOAD_SIZE,
             Unpooled.copiedBuffer(String.format("--%s\r\n\r\n", boundary), Charset.defaultCharset()),
             Unpooled.copiedBuffer(String.format("\r\n--%s\r\n\r\n", boundary), Charset.defaultCharset()),
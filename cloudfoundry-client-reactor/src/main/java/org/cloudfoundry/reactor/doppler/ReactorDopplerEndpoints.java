@@ -57,7 +57,7 @@ final class ReactorDopplerEndpoints extends AbstractDopplerOperations {
             .checkpoint();
     }
 
-    private static Envelope toEnvelope(InputStream content) {
+    static Envelope toEnvelope(InputStream content) {
         try (InputStream in = content) {
             return Envelope.from(org.cloudfoundry.dropsonde.events.Envelope.ADAPTER.decode(in));
         } catch (IOException e) {
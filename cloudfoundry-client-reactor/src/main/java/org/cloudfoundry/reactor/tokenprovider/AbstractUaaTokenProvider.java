@@ -261,10 +261,8 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
             .checkpoint();
     }
 
-    @SuppressWarnings("unchecked")
     private Function<ByteBufFlux, Mono<String>> tokensExtractor(ConnectionContext connectionContext) {
-        return body -> JsonCodec.decode(connectionContext.getObjectMapper(), body, Map.class)
-            .map(payload -> (Map<String, String>) payload)
+        return body -> JsonCodec.<Map<String, String>>decode(connectionContext.getObjectReader(Map.class), body)
             .doOnNext(extractRefreshToken(connectionContext))
             .map(AbstractUaaTokenProvider::extractAccessToken);
     }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * An endpoint, relative to the root of an API, that a request is made to.  An endpoint is described by a template such as {@code /apps/{applicationId}/routes}, which is compiled once and
+ * cached, and the values of the template's variables.  Expanding an endpoint produces the same URI as the equivalent {@link UriComponentsBuilder#pathSegment(String...)} transformation, without
+ * parsing the root or the template on each request.
+ */
+public final class Endpoint {
+
+    private static final Map<String, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final Template template;
+
+    private final Object[] variables;
+
+    private Endpoint(Template template, Object[] variables) {
+        this.template = template;
+        this.variables = variables;
+    }
+
+    /**
+     * Creates an endpoint
+     *
+     * @param template  the template of the endpoint.  Each path segment is either a literal or a variable such as {@code {applicationId}}, and the template may end with a literal query.
+     * @param variables the values of the template's variables, in the order they appear in the template
+     * @return the endpoint
+     */
+    public static Endpoint of(String template, Object... variables) {
+        Template compiled = getTemplate(template);
+
+        if (compiled.variableCount != variables.length) {
+            throw new IllegalArgumentException(String.format("Template %s requires %d variables but %d were provided", template, compiled.variableCount, variables.length));
+        }
+
+        return new Endpoint(compiled, variables);
+    }
+
+    /**
+     * Returns the template of the endpoint
+     *
+     * @return the template of the endpoint
+     */
+    public String getTemplate() {
+        return this.template.template;
+    }
+
+    /**
+     * Expands the endpoint into a URI.  Path variables are encoded as path segments, and query parameter values are strictly encoded.
+     *
+     * @param root            the root URI of the API
+     * @param queryParameters the query parameters of the request
+     * @return the expanded URI
+     */
+    public String toUriString(String root, Stream<UriQueryParameter> queryParameters) {
+        StringBuilder uri = new StringBuilder(root.length() + this.template.template.length() + 64);
+        uri.append(root, 0, root.endsWith("/") ? root.length() - 1 : root.length());
+
+        int variable = 0;
+        boolean appended = false;
+
+        for (String literal : this.template.segments) {
+            String segment = literal != null ? literal : toString(this.variables[variable++]);
+
+            if (segment.trim().isEmpty()) {
+                continue;
+            }
+
+            uri.append('/').append(literal != null ? literal : UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8));
+            appended = true;
+        }
+
+        if (!appended) {
+            uri.setLength(0);
+            uri.append(root);
+        }
+
+        appendQuery(uri, queryParameters);
+        return uri.toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.template.template;
+    }
+
+    private static Template getTemplate(String template) {
+        Template compiled = TEMPLATES.get(template);
+        return compiled != null ? compiled : TEMPLATES.computeIfAbsent(template, Template::new);
+    }
+
+    private static String toString(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private void appendQuery(StringBuilder uri, Stream<UriQueryParameter> queryParameters) {
+        Iterator<UriQueryParameter> iterator = queryParameters.iterator();
+
+        if (!iterator.hasNext() && this.template.query.isEmpty()) {
+            return;
+        }
+
+        // Parameters with the same key are grouped together, in the order each key first appears, as UriComponentsBuilder does
+        Map<String, List<String>> query = new LinkedHashMap<>();
+        iterator.forEachRemaining(parameter -> query.computeIfAbsent(UriUtils.encodeQueryParam(parameter.getKey(), StandardCharsets.UTF_8), key -> new ArrayList<>())
+            .add(UriUtils.encode(toString(parameter.getValue()), StandardCharsets.UTF_8)));
+        this.template.query.forEach((key, values) -> query.computeIfAbsent(key, k -> new ArrayList<>()).addAll(values));
+
+        char separator = '?';
+        for (Map.Entry<String, List<String>> entry : query.entrySet()) {
+            for (String value : entry.getValue()) {
+                uri.append(separator).append(entry.getKey());
+
+                if (value != null) {
+                    uri.append('=').append(value);
+                }
+
+                separator = '&';
+            }
+        }
+    }
+
+    private static final class Template {
+
+        private final Map<String, List<String>> query = new LinkedHashMap<>();
+
+        private final List<String> segments = new ArrayList<>();
+
+        private final String template;
+
+        private final int variableCount;
+
+        private Template(String template) {
+            this.template = template;
+
+            int queryStart = template.indexOf('?');
+            String path = queryStart == -1 ? template : template.substring(0, queryStart);
+
+            int variableCount = 0;
+            for (String segment : path.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    this.segments.add(null);
+                    variableCount++;
+                } else if (segment.indexOf('{') != -1 || segment.indexOf('}') != -1) {
+                    throw new IllegalArgumentException(String.format("Template %s must contain only literal or variable path segments", template));
+                } else {
+                    this.segments.add(UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8));
+                }
+            }
+            this.variableCount = variableCount;
+
+            if (queryStart != -1) {
+                for (String parameter : template.substring(queryStart + 1).split("&")) {
+                    int equals = parameter.indexOf('=');
+                    String key = equals == -1 ? parameter : parameter.substring(0, equals);
+                    String value = equals == -1 ? null : UriUtils.encodeQueryParam(parameter.substring(equals + 1), StandardCharsets.UTF_8);
+
+                    this.query.computeIfAbsent(UriUtils.encodeQueryParam(key, StandardCharsets.UTF_8), k -> new ArrayList<>()).add(value);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ByteBufFlux;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Utilities for writing response bodies to files.  Each received buffer is retained and written on a {@link Schedulers#boundedElastic()} thread, so that blocking file writes do not run on an
+ * event loop and no copy of the buffer is made.  Each buffer is released once it has been written, or once it is discarded if the write is cancelled or fails.
+ */
+public final class FileChannelWriter {
+
+    private FileChannelWriter() {
+    }
+
+    /**
+     * Writes a body to a file.  The file is created if it does not exist, truncated if it does, and deleted if the body cannot be written.
+     *
+     * @param body        the body to write
+     * @param destination the file to write to
+     * @return the file, once the body has been written
+     */
+    public static Mono<Path> write(ByteBufFlux body, Path destination) {
+        return Mono.using(() -> FileChannel.open(destination, CREATE, TRUNCATE_EXISTING, WRITE), channel -> write(body, channel, 0, bytes -> {
+        }), FileChannelWriter::close)
+            .doOnError(t -> delete(destination))
+            .thenReturn(destination);
+    }
+
+    /**
+     * Writes a body to a channel, starting at a position in the channel
+     *
+     * @param body      the body to write
+     * @param channel   the channel to write to
+     * @param position  the position in the channel to write the first byte of the body to
+     * @param onWritten notified with the number of bytes written after each buffer is written
+     * @return completes once the body has been written
+     */
+    public static Mono<Void> write(ByteBufFlux body, FileChannel channel, long position, LongConsumer onWritten) {
+        return Mono.defer(() -> {
+            long[] next = {position};
+
+            return body
+                .retain()
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(buffer -> {
+                    try {
+                        long bytes = write(channel, buffer, next[0]);
+                        next[0] += bytes;
+                        onWritten.accept(bytes);
+                    } finally {
+                        buffer.release();
+                    }
+                })
+                .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease)
+                .then();
+        });
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Ignore, as the original error is more useful
+        }
+    }
+
+    private static long write(FileChannel channel, ByteBuf buffer, long position) {
+        long written = 0;
+
+        try {
+            while (buffer.isReadable()) {
+                written += buffer.readBytes(channel, position + written, buffer.readableBytes());
+            }
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+
+        return written;
+    }
+
+}
@@ -16,9 +16,12 @@
 
 package org.cloudfoundry.reactor.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -30,6 +33,8 @@ import reactor.netty.ByteBufFlux;
 import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClientRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.function.BiFunction;
 
@@ -38,10 +43,17 @@ public final class JsonCodec {
     private static final int MAX_PAYLOAD_SIZE = 100 * 1024 * 1024;
 
     public static <T> Mono<T> decode(ObjectMapper objectMapper, ByteBufFlux responseBody, Class<T> responseType) {
+        return decode(objectMapper.readerFor(responseType), responseBody);
+    }
+
+    /**
+     * Decodes a response with a reader for the response type, allowing a reader to be reused across responses
+     */
+    public static <T> Mono<T> decode(ObjectReader reader, ByteBufFlux responseBody) {
         return responseBody.aggregate().asByteArray()
             .map(payload -> {
                 try {
-                    return objectMapper.readValue(payload, responseType);
+                    return reader.readValue(payload);
                 } catch (Throwable t) {
                     throw new JsonParsingException(t.getMessage(), t, new String(payload, Charset.defaultCharset()));
                 }
@@ -62,18 +74,27 @@ public final class JsonCodec {
         }
 
         return (request, outbound) -> {
-            try {
-                byte[] bytes = objectMapper.writeValueAsBytes(requestPayload);
-                String contentLength = String.valueOf(bytes.length);
-                Mono<byte[]> body = Mono.just(bytes);
+            ByteBuf body = write(objectMapper, requestPayload, outbound.alloc());
 
-                request.header(HttpHeaderNames.CONTENT_LENGTH, contentLength);
-                request.header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
-                return outbound.sendByteArray(body);
-            } catch (JsonProcessingException e) {
-                throw Exceptions.propagate(e);
-            }
+            request.header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(body.readableBytes()));
+            request.header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+            return outbound.send(Mono.just(body));
         };
     }
 
+    /**
+     * Serializes a value directly into a buffer from an allocator, avoiding an intermediate {@code byte[]}.  The caller is responsible for releasing the buffer.
+     */
+    static ByteBuf write(ObjectMapper objectMapper, Object value, ByteBufAllocator allocator) {
+        ByteBuf buffer = allocator.buffer();
+
+        try (ByteBufOutputStream out = new ByteBufOutputStream(buffer)) {
+            objectMapper.writeValue((OutputStream) out, value);
+            return buffer;
+        } catch (IOException e) {
+            buffer.release();
+            throw Exceptions.propagate(e);
+        }
+    }
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies.  Latencies are recorded into buckets whose bounds double in size, starting at one microsecond, so percentiles are accurate to within a factor of two.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 42;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Returns the number of latencies recorded
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns the number of latencies recorded for requests that failed
+     */
+    public long getErrorCount() {
+        return this.errors.sum();
+    }
+
+    /**
+     * Returns the largest latency recorded
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(this.max.get());
+    }
+
+    /**
+     * Returns the mean of the latencies recorded
+     */
+    public Duration getMean() {
+        long count = getCount();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(this.total.sum() / count);
+    }
+
+    /**
+     * Returns an estimate of a percentile of the latencies recorded
+     *
+     * @param percentile the percentile to estimate, between {@code 0.0} and {@code 1.0}
+     * @return the upper bound of the bucket containing the percentile, or {@link Duration#ZERO} if no latencies have been recorded
+     */
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 1.0) {
+            throw new IllegalArgumentException("Percentile must be between 0.0 and 1.0");
+        }
+
+        long count = getCount();
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long cumulative = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += this.buckets.get(i);
+
+            if (cumulative >= rank) {
+                return Duration.ofNanos(Math.min(upperBound(i), this.max.get()));
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Records a latency
+     *
+     * @param latency the latency to record
+     * @param error   whether the request failed
+     */
+    public void record(Duration latency, boolean error) {
+        long nanos = Math.max(0, latency.toNanos());
+
+        this.buckets.incrementAndGet(bucket(nanos));
+        this.count.increment();
+        this.total.add(nanos);
+        this.max.accumulateAndGet(nanos, Math::max);
+
+        if (error) {
+            this.errors.increment();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram{count=%d, errors=%d, mean=%s, p50=%s, p99=%s, max=%s}", getCount(), getErrorCount(), getMean(), getPercentile(0.5), getPercentile(0.99), getMax());
+    }
+
+    private static int bucket(long nanos) {
+        long micros = nanos / 1_000;
+        return micros == 0 ? 0 : Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    private static long upperBound(int bucket) {
+        return (1L << bucket) * 1_000;
+    }
+
+}
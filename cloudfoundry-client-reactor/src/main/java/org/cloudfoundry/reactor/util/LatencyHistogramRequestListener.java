@@ -0,0 +1,81 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.reactor.RequestEvent;
+import org.cloudfoundry.reactor.RequestEventType;
+import org.cloudfoundry.reactor.RequestListener;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link RequestListener} that records the latency of completed requests in a {@link LatencyHistogram} per method and endpoint template (e.g. {@code GET /v2/apps/{applicationId}})
+ */
+public final class LatencyHistogramRequestListener implements RequestListener {
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the histogram for a method and endpoint template
+     *
+     * @param method   the method of the requests
+     * @param endpoint the template of the endpoint
+     * @return the histogram, or {@code null} if no requests have completed
+     */
+    public LatencyHistogram getHistogram(String method, String endpoint) {
+        return this.histograms.get(getKey(method, endpoint));
+    }
+
+    /**
+     * Returns all histograms, keyed by method and endpoint template
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(this.histograms));
+    }
+
+    @Override
+    public void onEvent(RequestEvent event) {
+        if (event.getType() != RequestEventType.BODY_COMPLETE && event.getType() != RequestEventType.ERROR) {
+            return;
+        }
+
+        String key = getKey(event.getMethod().name(), event.getEndpoint());
+
+        LatencyHistogram histogram = this.histograms.get(key);
+        if (histogram == null) {
+            histogram = this.histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+        }
+
+        histogram.record(event.getElapsed(), event.getType() == RequestEventType.ERROR);
+    }
+
+    /**
+     * Clears all recorded latencies
+     */
+    public void reset() {
+        this.histograms.clear();
+    }
+
+    private static String getKey(String method, String endpoint) {
+        return method + " " + endpoint;
+    }
+
+}
@@ -16,34 +16,57 @@
 
 package org.cloudfoundry.reactor.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import org.cloudfoundry.reactor.UploadProgress;
+import org.cloudfoundry.reactor.UploadProgressListener;
+import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
-import reactor.netty.http.client.HttpClientForm;
+import reactor.core.publisher.Mono;
+import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClientRequest;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * A {@code multipart/form-data} request body.  Files are written with {@link NettyOutbound#sendFile(Path, long, long)}, which transfers them with a zero-copy {@link io.netty.channel.FileRegion}
+ * when the connection allows it and in chunks of direct buffers when it does not (e.g. over TLS).  Files are written in segments, and an {@link UploadProgressListener} in the subscriber's context is
+ * notified as each segment is written.
+ */
 public final class MultipartHttpClientRequest {
 
-    private final HttpClientForm form;
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private static final long SEGMENT_SIZE = 8 * 1024 * 1024;
+
+    private final String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(ThreadLocalRandom.current().nextLong());
 
     private final ObjectMapper objectMapper;
 
     private final List<Consumer<PartHttpClientRequest>> partConsumers = new ArrayList<>();
 
+    private final NettyOutbound outbound;
+
     private final HttpClientRequest request;
 
-    public MultipartHttpClientRequest(ObjectMapper objectMapper, HttpClientRequest request, HttpClientForm form) {
+    private Publisher<Void> body;
+
+    public MultipartHttpClientRequest(ObjectMapper objectMapper, HttpClientRequest request, NettyOutbound outbound) {
         this.objectMapper = objectMapper;
         this.request = request;
-        this.form = form;
+        this.outbound = outbound;
+        this.body = outbound;
     }
 
     public MultipartHttpClientRequest addPart(Consumer<PartHttpClientRequest> partConsumer) {
@@ -60,42 +83,79 @@ public final class MultipartHttpClientRequest {
             })
             .collect(Collectors.toList());
 
+        byte[] closeDelimiter = String.format("--%s--\r\n", this.boundary).getBytes(StandardCharsets.UTF_8);
+        long contentLength = closeDelimiter.length;
+        try {
+            for (PartHttpClientRequest part : parts) {
+                contentLength += part.prepare(this.boundary, this.outbound);
+            }
+        } catch (RuntimeException e) {
+            parts.forEach(PartHttpClientRequest::release);
+            throw e;
+        }
+
         this.request.requestHeaders()
             .remove(HttpHeaderNames.TRANSFER_ENCODING);
+        this.request
+            .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength))
+            .header(HttpHeaderNames.CONTENT_TYPE, String.format("multipart/form-data; boundary=%s", this.boundary));
 
-        this.form.multipart(true);
-
-        HttpClientForm intermediateForm = this.form;
+        Progress progress = new Progress(contentLength);
+        // The request headers are sent on their own, as reactor-netty sends a single buffer written before them as a complete request
+        Mono<Void> body = Mono.defer(this.outbound::then)
+            .then(Mono.fromRunnable(progress::start));
         for (PartHttpClientRequest part : parts) {
-            intermediateForm = part.send(intermediateForm);
+            body = part.send(body, this.outbound, progress);
         }
+
+        // Serialized parts are held until the body terminates, whether it completes, fails or is cancelled
+        this.body = body.then(write(() -> this.outbound.sendByteArray(Mono.just(closeDelimiter)), closeDelimiter.length, progress))
+            .doFinally(signalType -> parts.forEach(PartHttpClientRequest::release));
+    }
+
+    /**
+     * Returns the body of the request.  The body is empty until {@link #done()} is called.
+     *
+     * @return the body of the request
+     */
+    public Publisher<Void> getBody() {
+        return this.body;
+    }
+
+    // Each write is created when the previous one completes, as reactor-netty decides how to write when a write is created
+    private static Mono<Void> write(Supplier<NettyOutbound> write, long bytes, Progress progress) {
+        return Mono.defer(() -> write.get().then())
+            .then(progress.advance(bytes));
     }
 
     public static final class PartHttpClientRequest {
 
+        private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.UTF_8);
+
         private final ObjectMapper objectMapper;
 
+        private ByteBuf content;
+
         private String contentType;
 
         private Path file;
 
+        private long fileSize;
+
         private String filename;
 
+        private byte[] headers;
+
         private String name;
 
-        private ByteArrayInputStream payload;
+        private Object payload;
 
         private PartHttpClientRequest(ObjectMapper objectMapper) {
             this.objectMapper = objectMapper;
         }
 
         public void send(Object source) {
-            try {
-                byte[] bytes = this.objectMapper.writeValueAsBytes(source);
-                this.payload = new ByteArrayInputStream(bytes);
-            } catch (JsonProcessingException e) {
-                throw Exceptions.propagate(e);
-            }
+            this.payload = source;
         }
 
         public void sendFile(Path file) {
@@ -117,17 +177,100 @@ public final class MultipartHttpClientRequest {
             return this;
         }
 
-        private String getFilenameOrDefault() {
-            return this.filename != null ? this.filename : this.file.getFileName().toString();
+        private String getContentDisposition() {
+            if (this.file == null) {
+                return String.format("form-data; name=\"%s\"", this.name);
+            }
+
+            return String.format("form-data; name=\"%s\"; filename=\"%s\"", this.name, this.filename != null ? this.filename : this.file.getFileName().toString());
+        }
+
+        private long getContentLength() {
+            return this.content != null ? this.content.readableBytes() : this.fileSize;
         }
 
-        private HttpClientForm send(HttpClientForm form) {
+        private long prepare(String boundary, NettyOutbound outbound) {
             if (this.file != null) {
-                return form.file(this.name, getFilenameOrDefault(), this.file.toFile(), this.contentType);
+                try {
+                    this.fileSize = Files.size(this.file);
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
             } else if (this.payload != null) {
-                return form.file(this.name, this.payload, this.contentType);
+                this.content = JsonCodec.write(this.objectMapper, this.payload, outbound.alloc());
+            } else {
+                return 0;
             }
-            return form;
+
+            this.headers = String.format("--%s\r\n" +
+                    "content-disposition: %s\r\n" +
+                    "content-length: %d\r\n" +
+                    "content-type: %s\r\n" +
+                    "content-transfer-encoding: binary\r\n" +
+                    "\r\n",
+                boundary, getContentDisposition(), getContentLength(), this.contentType != null ? this.contentType : DEFAULT_CONTENT_TYPE)
+                .getBytes(StandardCharsets.UTF_8);
+
+            return this.headers.length + getContentLength() + CRLF.length;
+        }
+
+        private void release() {
+            if (this.content != null && this.content.refCnt() > 0) {
+                this.content.release();
+            }
+        }
+
+        private Mono<Void> send(Mono<Void> body, NettyOutbound outbound, Progress progress) {
+            if (this.headers == null) {
+                return body;
+            }
+
+            body = body.then(write(() -> outbound.sendByteArray(Mono.just(this.headers)), this.headers.length, progress));
+
+            if (this.content != null) {
+                body = body.then(write(() -> outbound.send(Mono.fromSupplier(this.content::retainedDuplicate)), this.content.readableBytes(), progress));
+            } else {
+                for (long position = 0; position < this.fileSize; position += SEGMENT_SIZE) {
+                    long start = position;
+                    long count = Math.min(SEGMENT_SIZE, this.fileSize - position);
+                    body = body.then(write(() -> outbound.sendFile(this.file, start, count), count, progress));
+                }
+            }
+
+            return body.then(write(() -> outbound.sendByteArray(Mono.just(CRLF)), CRLF.length, progress));
+        }
+
+    }
+
+    private static final class Progress {
+
+        private final long totalBytes;
+
+        private volatile long bytesTransferred;
+
+        private volatile long start;
+
+        private Progress(long totalBytes) {
+            this.totalBytes = totalBytes;
+        }
+
+        private Mono<Void> advance(long bytes) {
+            return Mono.deferContextual(context -> {
+                this.bytesTransferred += bytes;
+
+                context.<UploadProgressListener>getOrEmpty(UploadProgressListener.class)
+                    .ifPresent(listener -> listener.onProgress(UploadProgress.builder()
+                        .bytesTransferred(this.bytesTransferred)
+                        .elapsed(Duration.ofNanos(System.nanoTime() - this.start))
+                        .totalBytes(this.totalBytes)
+                        .build()));
+
+                return Mono.empty();
+            });
+        }
+
+        private void start() {
+            this.start = System.nanoTime();
         }
 
     }
@@ -22,9 +22,11 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import org.cloudfoundry.Nullable;
 import org.cloudfoundry.reactor.HttpClientResponseWithBody;
 import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
 import org.reactivestreams.Publisher;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -42,10 +44,14 @@ import reactor.util.retry.Retry;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class Operator extends OperatorContextAware {
 
@@ -89,7 +95,7 @@ public class Operator extends OperatorContextAware {
     }
 
     public UriConfiguration request(HttpMethod method) {
-        return new UriConfiguration(this.context, attachRequestLogger(this.httpClient).request(method));
+        return new UriConfiguration(this.context, method, this.httpClient);
     }
 
     public WebsocketUriConfiguration websocket() {
@@ -100,24 +106,23 @@ public class Operator extends OperatorContextAware {
         return new Operator(this.context.withErrorPayloadMapper(errorPayloadMapper), this.httpClient);
     }
 
-    private static HttpClient attachRequestLogger(HttpClient httpClient) {
-        RequestLogger requestLogger = new RequestLogger();
-        return httpClient.doAfterRequest((request, connection) -> requestLogger.request(request))
-            .doAfterResponseSuccess((response, connection) -> requestLogger.response(response))
-            .doOnResponseError((response, connection) -> requestLogger.response(response));
-    }
-
     public static class PayloadConfiguration extends OperatorContextAware {
 
+        private final HttpMethod method;
+
         private final HttpClient.RequestSender requestSender;
 
-        PayloadConfiguration(OperatorContext context, HttpClient.RequestSender requestSender) {
+        private final String uri;
+
+        PayloadConfiguration(OperatorContext context, HttpMethod method, String uri, HttpClient.RequestSender requestSender) {
             super(context);
+            this.method = method;
             this.requestSender = requestSender;
+            this.uri = uri;
         }
 
         public ResponseReceiver response() {
-            return new ResponseReceiver(this.context, this.requestSender);
+            return new ResponseReceiver(this.context, this.method, this.uri, this.requestSender);
         }
 
         public ResponseReceiverConstructor send(Object payload) {
@@ -126,12 +131,12 @@ public class Operator extends OperatorContextAware {
 
         public ResponseReceiverConstructor send(BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> requestTransformer) {
             HttpClient.ResponseReceiver<?> responseReceiver = this.requestSender.send(requestTransformer);
-            return new ResponseReceiverConstructor(this.context, responseReceiver);
+            return new ResponseReceiverConstructor(this.context, this.method, this.uri, responseReceiver);
         }
 
         public ResponseReceiverConstructor sendForm(BiConsumer<HttpClientRequest, HttpClientForm> requestTransformer) {
             HttpClient.ResponseReceiver<?> responseReceiver = this.requestSender.sendForm(requestTransformer);
-            return new ResponseReceiverConstructor(this.context, responseReceiver);
+            return new ResponseReceiverConstructor(this.context, this.method, this.uri, responseReceiver);
         }
 
         private BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> serialized(Object payload) {
@@ -144,11 +149,17 @@ public class Operator extends OperatorContextAware {
 
         private final List<Function<HttpClientResponse, ChannelHandler>> channelHandlerBuilders = new ArrayList<>();
 
+        private final HttpMethod method;
+
         private final HttpClient.ResponseReceiver<?> responseReceiver;
 
-        ResponseReceiver(OperatorContext context, HttpClient.ResponseReceiver<?> responseReceiver) {
+        private final String uri;
+
+        ResponseReceiver(OperatorContext context, HttpMethod method, String uri, HttpClient.ResponseReceiver<?> responseReceiver) {
             super(context);
+            this.method = method;
             this.responseReceiver = responseReceiver;
+            this.uri = uri;
         }
 
         public ResponseReceiver addChannelHandler(Function<HttpClientResponse, ChannelHandler> channelHandlerBuilder) {
@@ -179,7 +190,15 @@ public class Operator extends OperatorContextAware {
                 return null;
             });
 
-            return parseBodyToMono(responseWithBody -> deserialized(responseWithBody.getBody(), bodyType));
+            Mono<T> response = parseBodyToMono(responseWithBody -> deserialized(responseWithBody.getBody(), bodyType));
+
+            if (!HttpMethod.GET.equals(this.method)) {
+                return response;
+            }
+
+            return this.context.getConnectionContext().getResponseCache()
+                .map(responseCache -> responseCache.get(this.uri, this.context.getTokenProvider().orElse(null), bodyType, response))
+                .orElse(response);
         }
 
         public <T> Flux<T> parseBodyToFlux(Function<HttpClientResponseWithBody, Publisher<T>> responseTransformer) {
@@ -232,7 +251,17 @@ public class Operator extends OperatorContextAware {
         }
 
         private <T> Mono<T> deserialized(ByteBufFlux body, Class<T> bodyType) {
-            return JsonCodec.decode(this.context.getConnectionContext().getObjectMapper(), body, bodyType);
+            return JsonCodec.decode(this.context.getConnectionContext().getObjectReader(bodyType), body);
+        }
+
+        private Flux<HttpClientResponseWithConnection> invalidateResponseCache(Flux<HttpClientResponseWithConnection> inbound) {
+            if (HttpMethod.GET.equals(this.method) || HttpMethod.HEAD.equals(this.method)) {
+                return inbound;
+            }
+
+            return this.context.getConnectionContext().getResponseCache()
+                .map(responseCache -> inbound.doOnNext(response -> responseCache.invalidate(this.uri)))
+                .orElse(inbound);
         }
 
         private Flux<HttpClientResponseWithConnection> invalidateToken(Flux<HttpClientResponseWithConnection> inbound) {
@@ -250,7 +279,8 @@ public class Operator extends OperatorContextAware {
                 .transform(this::invalidateToken)
                 .retryWhen(Retry.max(this.context.getConnectionContext().getInvalidTokenRetries()).filter(InvalidTokenException.class::isInstance))
                 .transform(this.context.getErrorPayloadMapper()
-                    .orElse(ErrorPayloadMappers.fallback()));
+                    .orElse(ErrorPayloadMappers.fallback()))
+                .transform(this::invalidateResponseCache);
         }
 
         private static final class InvalidTokenException extends RuntimeException {
@@ -270,31 +300,52 @@ public class Operator extends OperatorContextAware {
 
     public static class ResponseReceiverConstructor extends OperatorContextAware {
 
+        private final HttpMethod method;
+
         private final HttpClient.ResponseReceiver<?> responseReceiver;
 
-        ResponseReceiverConstructor(OperatorContext context, HttpClient.ResponseReceiver<?> responseReceiver) {
+        private final String uri;
+
+        ResponseReceiverConstructor(OperatorContext context, HttpMethod method, String uri, HttpClient.ResponseReceiver<?> responseReceiver) {
             super(context);
+            this.method = method;
             this.responseReceiver = responseReceiver;
+            this.uri = uri;
         }
 
         public ResponseReceiver response() {
-            return new ResponseReceiver(this.context, this.responseReceiver);
+            return new ResponseReceiver(this.context, this.method, this.uri, this.responseReceiver);
         }
 
     }
 
     public static class UriConfiguration extends OperatorContextAware {
 
-        private final HttpClient.RequestSender requestSender;
+        private final HttpClient httpClient;
+
+        private final HttpMethod method;
 
-        private UriConfiguration(OperatorContext context, HttpClient.RequestSender requestSender) {
+        private UriConfiguration(OperatorContext context, HttpMethod method, HttpClient httpClient) {
             super(context);
-            this.requestSender = requestSender;
+            this.httpClient = httpClient;
+            this.method = method;
+        }
+
+        public PayloadConfiguration uri(Endpoint endpoint, Stream<UriQueryParameter> queryParameters) {
+            String root = this.context.getRoot();
+            return uri(endpoint.toUriString(root, queryParameters), () -> RequestInstrumentation.toEndpoint(root, endpoint.getTemplate()));
         }
 
         public PayloadConfiguration uri(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-            String uri = transformRoot(uriTransformer);
-            return new PayloadConfiguration(this.context, this.requestSender.uri(uri));
+            return uri(transformRoot(uriTransformer), null);
+        }
+
+        private PayloadConfiguration uri(String uri, @Nullable Supplier<String> endpoint) {
+            HttpClient.RequestSender requestSender = RequestInstrumentation.instrument(this.httpClient, this.context.getConnectionContext(), this.method, uri, endpoint)
+                .request(this.method)
+                .uri(uri);
+
+            return new PayloadConfiguration(this.context, this.method, uri, requestSender);
         }
 
     }
@@ -346,6 +397,8 @@ public class Operator extends OperatorContextAware {
 
 class OperatorContextAware {
 
+    private static final Map<String, UriComponents> ROOTS = new ConcurrentHashMap<>();
+
     protected final OperatorContext context;
 
     OperatorContextAware(OperatorContext context) {
@@ -353,11 +406,16 @@ class OperatorContextAware {
     }
 
     protected String transformRoot(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(this.context.getRoot());
+        UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.newInstance().uriComponents(getRoot(this.context.getRoot()));
         return uriTransformer.apply(uriComponentsBuilder)
             .encode()
             .build()
             .toUriString();
     }
 
+    private static UriComponents getRoot(String root) {
+        UriComponents uriComponents = ROOTS.get(root);
+        return uriComponents != null ? uriComponents : ROOTS.computeIfAbsent(root, r -> UriComponentsBuilder.fromUriString(r).build());
+    }
+
 }
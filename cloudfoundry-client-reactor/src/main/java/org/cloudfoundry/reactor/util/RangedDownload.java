@@ -0,0 +1,364 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import org.cloudfoundry.UnknownCloudFoundryException;
+import org.cloudfoundry.reactor.HttpClientResponseWithBody;
+import org.cloudfoundry.reactor.RangedDownloadConfiguration;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.util.retry.Retry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Utilities for downloading a redirected blob to a file with concurrent HTTP {@code Range} requests
+ */
+public final class RangedDownload {
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (?:\\d+-\\d+|\\*)/(\\d+)");
+
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(100);
+
+    private static final String STATE_FILE_SUFFIX = ".ranges";
+
+    private RangedDownload() {
+    }
+
+    /**
+     * Downloads the body of a response to a file.  If the response is a redirect, the target of the redirect is downloaded with concurrent {@code Range} requests.  Otherwise, the body of the
+     * response is written to the file directly.
+     * <p>
+     * If the blobstore identifies the blob with an {@code ETag} or {@code Last-Modified} header, the ranges that have been written are recorded in a {@code .ranges} file next to the destination.
+     * When a download fails, the partial file and that record are kept, and a later download of the same blob to the same destination only requests the ranges that were not written.  The record
+     * is removed once the download completes.  Without either header, a failed download's file is deleted and the next download starts again.
+     *
+     * @param httpClient    the client to request the target of a redirect with
+     * @param response      the response to download
+     * @param destination   the file to write to
+     * @param configuration the configuration of the ranged requests
+     * @return the file that was written to
+     */
+    public static Mono<Path> download(HttpClient httpClient, HttpClientResponseWithBody response, Path destination, RangedDownloadConfiguration configuration) {
+        String location = response.getResponse().responseHeaders().get(HttpHeaderNames.LOCATION);
+
+        if (response.getResponse().status().codeClass() != HttpStatusClass.REDIRECTION || location == null) {
+            return FileChannelWriter.write(response.getBody(), destination);
+        }
+
+        String uri = URI.create(response.getResponse().resourceUrl()).resolve(location).toString();
+        HttpClient blobstoreClient = httpClient.compress(false);
+        Path stateFile = destination.resolveSibling(destination.getFileName() + STATE_FILE_SUFFIX);
+
+        return response.getBody()
+            .then(Mono.fromCallable(() -> State.read(stateFile))
+                .subscribeOn(Schedulers.boundedElastic()))
+            .flatMap(previous -> {
+                AtomicReference<State> state = new AtomicReference<>();
+
+                return withFile(destination, state, channel -> {
+                    Range first = new Range(0, configuration.getRangeSize() - 1);
+
+                    return requestRange(blobstoreClient, uri, channel, first, configuration, r -> prepare(channel, r, previous, state))
+                        .flatMap(length -> complete(state.get(), first)
+                            .thenReturn(length))
+                        .flatMapMany(length -> Flux.fromIterable(getRemainingRanges(length, configuration.getRangeSize())))
+                        .filter(range -> !state.get().isComplete(range))
+                        .flatMap(range -> requestRange(blobstoreClient, uri, channel, range, configuration, r -> Mono.empty())
+                            .then(complete(state.get(), range)), configuration.getParallelism())
+                        .then();
+                });
+            })
+            .thenReturn(destination);
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static Mono<Void> complete(State state, Range range) {
+        return Mono.fromRunnable(() -> state.complete(range))
+            .subscribeOn(Schedulers.boundedElastic())
+            .then();
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Ignore, as the original error is more useful
+        }
+    }
+
+    private static long getLength(HttpClientResponse response) {
+        String contentRange = response.responseHeaders().get(HttpHeaderNames.CONTENT_RANGE);
+        Matcher matcher = contentRange != null ? CONTENT_RANGE.matcher(contentRange) : null;
+
+        if (matcher == null || !matcher.matches()) {
+            throw new IllegalStateException(String.format("Invalid Content-Range header: %s", contentRange));
+        }
+
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static List<Range> getRemainingRanges(long length, long rangeSize) {
+        List<Range> ranges = new ArrayList<>();
+
+        for (long start = rangeSize; start < length; start += rangeSize) {
+            ranges.add(new Range(start, Math.min(start + rangeSize, length) - 1));
+        }
+
+        return ranges;
+    }
+
+    private static String getValidator(HttpClientResponse response) {
+        String etag = response.responseHeaders().get(HttpHeaderNames.ETAG);
+        return etag != null ? etag : response.responseHeaders().get(HttpHeaderNames.LAST_MODIFIED);
+    }
+
+    private static boolean isTransient(Throwable t) {
+        return t instanceof IOException || (t instanceof UnknownCloudFoundryException && ((UnknownCloudFoundryException) t).getStatusCode() >= 500);
+    }
+
+    private static void preallocate(FileChannel channel, long length) throws IOException {
+        if (length > 0) {
+            channel.write(ByteBuffer.allocate(1), length - 1);
+        }
+    }
+
+    // Runs before the first range is written.  A previous download of the same blob is resumed if its record matches the blob and the file is complete in length, otherwise the file is started again.
+    private static Mono<Void> prepare(FileChannel channel, HttpClientResponse response, State previous, AtomicReference<State> state) {
+        return Mono.fromRunnable(() -> {
+            if (state.get() != null) {
+                return;
+            }
+
+            try {
+                if (!HttpResponseStatus.PARTIAL_CONTENT.equals(response.status())) {
+                    channel.truncate(0);
+                    previous.delete();
+                    state.set(new State(previous.file, -1, null));
+                    return;
+                }
+
+                long length = getLength(response);
+                String validator = getValidator(response);
+
+                if (previous.matches(length, validator) && channel.size() == length) {
+                    state.set(previous);
+                    return;
+                }
+
+                State current = new State(previous.file, length, validator);
+                channel.truncate(0);
+                preallocate(channel, length);
+                current.create();
+                state.set(current);
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        })
+            .subscribeOn(Schedulers.boundedElastic())
+            .then();
+    }
+
+    // Each attempt requests the range from the last byte written, so that a failed range is resumed rather than restarted.  Only I/O errors and server errors are retried.  Emits the length of the blob if the server supports ranges.
+    private static Mono<Long> requestRange(HttpClient httpClient, String uri, FileChannel channel, Range range, RangedDownloadConfiguration configuration,
+                                           Function<HttpClientResponse, Mono<Void>> beforeWrite) {
+        return Mono.defer(() -> httpClient
+            .headers(headers -> headers.set(HttpHeaderNames.RANGE, String.format("bytes=%d-%d", range.position, range.end)))
+            .get()
+            .uri(uri)
+            .response((response, body) -> {
+                if (HttpResponseStatus.PARTIAL_CONTENT.equals(response.status())) {
+                    long length = getLength(response);
+                    long end = Math.min(range.end, length - 1);
+
+                    // A connection that is closed cleanly before the range is complete is retried from the last byte written
+                    return beforeWrite.apply(response)
+                        .then(write(body, channel, range))
+                        .then(Mono.defer(() -> range.position > end ? Mono.just(length) :
+                            Mono.error(new IOException(String.format("Range ended at byte %d of %d-%d", range.position, range.start, end)))));
+                }
+
+                if (HttpResponseStatus.OK.equals(response.status())) {
+                    range.position = 0;
+                    return beforeWrite.apply(response)
+                        .then(write(body, channel, range))
+                        .then(Mono.<Long>empty());
+                }
+
+                if (HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE.equals(response.status()) && getLength(response) == 0) {
+                    return beforeWrite.apply(response)
+                        .then(body.then())
+                        .then(Mono.<Long>empty());
+                }
+
+                return body.then(Mono.error(new UnknownCloudFoundryException(response.status().code())));
+            })
+            .singleOrEmpty())
+            .retryWhen(Retry.backoff(configuration.getRetries(), RETRY_BACKOFF)
+                .filter(RangedDownload::isTransient)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    // A failed download is kept if its ranges are recorded, so that it can be resumed
+    private static Mono<Void> withFile(Path destination, AtomicReference<State> state, Function<FileChannel, Mono<Void>> writer) {
+        return Mono.using(() -> FileChannel.open(destination, CREATE, WRITE), writer, RangedDownload::close)
+            .then(Mono.fromRunnable(() -> Optional.ofNullable(state.get()).ifPresent(State::delete))
+                .subscribeOn(Schedulers.boundedElastic()))
+            .onErrorResume(t -> Mono.fromRunnable(() -> {
+                State current = state.get();
+
+                if (current == null || !current.isPersistent()) {
+                    delete(destination);
+                }
+            })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.error(t)))
+            .then();
+    }
+
+    private static Mono<Void> write(ByteBufFlux body, FileChannel channel, Range range) {
+        return FileChannelWriter.write(body, channel, range.position, bytes -> range.position += bytes);
+    }
+
+    private static final class Range {
+
+        private final long end;
+
+        private final long start;
+
+        private volatile long position;
+
+        private Range(long start, long end) {
+            this.end = end;
+            this.position = start;
+            this.start = start;
+        }
+
+    }
+
+    // The ranges of a blob that have been written.  Recorded in a file when the blob has a validator, as a line with the blob's length and validator followed by the start of each range.
+    private static final class State {
+
+        private final Set<Long> completed = ConcurrentHashMap.newKeySet();
+
+        private final Path file;
+
+        private final long length;
+
+        private final String validator;
+
+        private State(Path file, long length, String validator) {
+            this.file = file;
+            this.length = length;
+            this.validator = validator;
+        }
+
+        private static State read(Path file) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String[] header = reader.readLine().split(" ", 2);
+                State state = new State(file, Long.parseLong(header[0]), header[1]);
+
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    state.completed.add(Long.parseLong(line));
+                }
+
+                return state;
+            } catch (IOException | RuntimeException e) {
+                // A missing or unreadable record is treated as absent, so the download starts again
+                return new State(file, -1, null);
+            }
+        }
+
+        private synchronized void complete(Range range) {
+            this.completed.add(range.start);
+
+            if (isPersistent()) {
+                write(String.format("%d%n", range.start), APPEND);
+            }
+        }
+
+        private void create() {
+            if (isPersistent()) {
+                write(String.format("%d %s%n", this.length, this.validator), TRUNCATE_EXISTING);
+            }
+        }
+
+        private void delete() {
+            RangedDownload.delete(this.file);
+        }
+
+        private boolean isComplete(Range range) {
+            return this.completed.contains(range.start);
+        }
+
+        private boolean isPersistent() {
+            return this.validator != null;
+        }
+
+        private boolean matches(long length, String validator) {
+            return this.validator != null && this.validator.equals(validator) && this.length == length;
+        }
+
+        private void write(String content, OpenOption option) {
+            try {
+                Files.write(this.file, content.getBytes(StandardCharsets.UTF_8), CREATE, WRITE, option);
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+    }
+
+}
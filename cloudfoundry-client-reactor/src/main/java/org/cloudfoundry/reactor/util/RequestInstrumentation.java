@@ -0,0 +1,211 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.RequestEvent;
+import org.cloudfoundry.reactor.RequestEventType;
+import org.cloudfoundry.reactor.RequestListener;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Instruments a single request, notifying {@link RequestListener}s of each event in its lifecycle
+ */
+final class RequestInstrumentation {
+
+    private static final String BYTE_COUNTER = "cloudfoundry-client.byteCounter";
+
+    private static final Pattern GUID = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private static final RequestLogger REQUEST_LOGGER = new RequestLogger();
+
+    private final String endpoint;
+
+    private final List<RequestListener> listeners;
+
+    private final HttpMethod method;
+
+    private final String uri;
+
+    private volatile boolean acquired;
+
+    private volatile long received;
+
+    private volatile long start;
+
+    private RequestInstrumentation(List<RequestListener> listeners, HttpMethod method, String uri, String endpoint) {
+        this.endpoint = endpoint;
+        this.listeners = listeners;
+        this.method = method;
+        this.uri = uri;
+    }
+
+    /**
+     * Attaches instrumentation to an {@link HttpClient} that will be used for a single request.  If there are no listeners, the client is returned unchanged.
+     *
+     * @param httpClient        the client to instrument
+     * @param connectionContext the {@link ConnectionContext} to retrieve listeners from
+     * @param method            the method of the request
+     * @param uri               the URI of the request
+     * @param endpoint          supplies the template of the endpoint that the request is made to, if known
+     * @return the instrumented client
+     */
+    static HttpClient instrument(HttpClient httpClient, ConnectionContext connectionContext, HttpMethod method, String uri, @Nullable Supplier<String> endpoint) {
+        List<RequestListener> listeners = getListeners(connectionContext);
+
+        if (listeners.isEmpty()) {
+            return httpClient;
+        }
+
+        RequestInstrumentation instrumentation = new RequestInstrumentation(listeners, method, uri, endpoint != null ? endpoint.get() : toEndpoint(uri));
+
+        // Deferred header configuration is resolved each time the request is subscribed to, before a connection is acquired, so it marks the start of every attempt
+        return httpClient
+            .headersWhen(headers -> Mono.fromSupplier(() -> {
+                instrumentation.start();
+                return headers;
+            }))
+            .observe(instrumentation::onStateChange)
+            .doAfterRequest((request, connection) -> instrumentation.publish(RequestEventType.REQUEST_SENT, null, getContentLength(request.requestHeaders()), null))
+            .doOnResponse(instrumentation::onResponse)
+            .doAfterResponseSuccess((response, connection) -> instrumentation.publish(RequestEventType.BODY_COMPLETE, response, instrumentation.received, null))
+            .doOnError((request, t) -> instrumentation.publish(RequestEventType.ERROR, null, null, t),
+                (response, t) -> instrumentation.publish(RequestEventType.ERROR, response, null, t));
+    }
+
+    static String toEndpoint(String root, String template) {
+        String path = toEndpoint(root);
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) + template : path + template;
+    }
+
+    static String toEndpoint(String uri) {
+        int start = uri.indexOf("://");
+        start = start == -1 ? 0 : uri.indexOf('/', start + 3);
+
+        if (start == -1) {
+            return "/";
+        }
+
+        int end = uri.indexOf('?', start);
+        String path = end == -1 ? uri.substring(start) : uri.substring(start, end);
+
+        return GUID.matcher(path).replaceAll("{id}");
+    }
+
+    @Nullable
+    private static Long getContentLength(HttpHeaders headers) {
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+
+        if (contentLength == null) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static List<RequestListener> getListeners(ConnectionContext connectionContext) {
+        List<RequestListener> listeners = connectionContext.getRequestListeners();
+
+        if (!RequestLogger.isEnabled()) {
+            return listeners;
+        }
+
+        List<RequestListener> withLogger = new ArrayList<>(listeners.size() + 1);
+        withLogger.addAll(listeners);
+        withLogger.add(REQUEST_LOGGER);
+        return withLogger;
+    }
+
+    private void publish(RequestEventType type, @Nullable HttpClientResponse response, @Nullable Long bytes, @Nullable Throwable error) {
+        RequestEvent.Builder builder = RequestEvent.builder()
+            .bytes(Optional.ofNullable(bytes))
+            .elapsed(Duration.ofNanos(System.nanoTime() - this.start))
+            .endpoint(this.endpoint)
+            .error(Optional.ofNullable(error))
+            .method(this.method)
+            .type(type)
+            .uri(this.uri);
+
+        if (response != null) {
+            builder
+                .responseHeaders(response.responseHeaders())
+                .status(response.status().code());
+        }
+
+        RequestEvent event = builder.build();
+        this.listeners.forEach(listener -> listener.onEvent(event));
+    }
+
+    private void onResponse(HttpClientResponse response, Connection connection) {
+        this.received = 0;
+        connection.addHandlerFirst(BYTE_COUNTER, new ByteCounter());
+        publish(RequestEventType.FIRST_BYTE, response, null, null);
+    }
+
+    private void onStateChange(Connection connection, ConnectionObserver.State newState) {
+        if (this.acquired || (newState != ConnectionObserver.State.CONFIGURED && newState != ConnectionObserver.State.ACQUIRED)) {
+            return;
+        }
+
+        this.acquired = true;
+        publish(RequestEventType.CONNECTION_ACQUIRED, null, null, null);
+    }
+
+    private void start() {
+        this.acquired = false;
+        this.start = System.nanoTime();
+    }
+
+    private final class ByteCounter extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof ByteBufHolder) {
+                RequestInstrumentation.this.received += ((ByteBufHolder) msg).content().readableBytes();
+            } else if (msg instanceof ByteBuf) {
+                RequestInstrumentation.this.received += ((ByteBuf) msg).readableBytes();
+            }
+
+            ctx.fireChannelRead(msg);
+        }
+
+    }
+
+}
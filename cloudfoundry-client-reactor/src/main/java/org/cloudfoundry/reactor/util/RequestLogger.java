@@ -16,15 +16,20 @@
 
 package org.cloudfoundry.reactor.util;
 
+import io.netty.handler.codec.http.HttpHeaders;
+import org.cloudfoundry.reactor.RequestEvent;
+import org.cloudfoundry.reactor.RequestListener;
 import org.cloudfoundry.util.TimeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import reactor.netty.http.client.HttpClientRequest;
-import reactor.netty.http.client.HttpClientResponse;
 
+import java.util.Collections;
 import java.util.List;
 
-public class RequestLogger {
+/**
+ * A {@link RequestListener} that logs requests and responses when the {@code cloudfoundry-client.request} and {@code cloudfoundry-client.response} loggers are enabled at {@code DEBUG}
+ */
+public class RequestLogger implements RequestListener {
 
     static final Logger REQUEST_LOGGER = LoggerFactory.getLogger("cloudfoundry-client.request");
 
@@ -32,44 +37,72 @@ public class RequestLogger {
 
     private static final String CF_WARNINGS = "X-Cf-Warnings";
 
-    private long requestSentTime;
+    private static final String VCAP_REQUEST_ID = "X-Vcap-Request-Id";
+
+    /**
+     * Whether either of the request and response loggers are enabled
+     *
+     * @return {@code true} if requests or responses would be logged
+     */
+    public static boolean isEnabled() {
+        return REQUEST_LOGGER.isDebugEnabled() || RESPONSE_LOGGER.isDebugEnabled();
+    }
+
+    @Override
+    public void onEvent(RequestEvent event) {
+        switch (event.getType()) {
+            case REQUEST_SENT:
+                request(event);
+                break;
+            case BODY_COMPLETE:
+                response(event);
+                break;
+            case ERROR:
+                if (event.getStatus().isPresent()) {
+                    response(event);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void websocketRequest(String uri) {
+        REQUEST_LOGGER.debug("WS     {}", uri);
+    }
+
+    private void request(RequestEvent event) {
+        if (!REQUEST_LOGGER.isDebugEnabled()) {
+            return;
+        }
 
-    public void request(HttpClientRequest request) {
-        request(String.format("%-6s {}", request.method()), request.uri());
+        REQUEST_LOGGER.debug("{} {}", String.format("%-6s", event.getMethod()), event.getUri());
     }
 
-    public void response(HttpClientResponse response) {
+    private void response(RequestEvent event) {
         if (!RESPONSE_LOGGER.isDebugEnabled()) {
             return;
         }
 
-        String elapsed = TimeUtils.asTime(System.currentTimeMillis() - this.requestSentTime);
-        List<String> warnings = response.responseHeaders().getAll(CF_WARNINGS);
+        int status = event.getStatus().orElse(0);
+        String elapsed = TimeUtils.asTime(event.getElapsed().toMillis());
+        HttpHeaders headers = event.getResponseHeaders().orElse(null);
+        List<String> warnings = headers != null ? headers.getAll(CF_WARNINGS) : Collections.emptyList();
+        String requestId = headers != null ? headers.get(VCAP_REQUEST_ID) : null;
 
         if (warnings.isEmpty()) {
             if (RESPONSE_LOGGER.isTraceEnabled()) {
-                RESPONSE_LOGGER.debug("{}    {} ({}, {})", response.status().code(), response.uri(), elapsed, response.responseHeaders().get("X-Vcap-Request-Id"));
+                RESPONSE_LOGGER.debug("{}    {} ({}, {})", status, event.getUri(), elapsed, requestId);
             } else {
-                RESPONSE_LOGGER.debug("{}    {} ({})", response.status().code(), response.uri(), elapsed);
+                RESPONSE_LOGGER.debug("{}    {} ({})", status, event.getUri(), elapsed);
             }
         } else {
             if (RESPONSE_LOGGER.isTraceEnabled()) {
-                RESPONSE_LOGGER.warn("{}    {} ({}, {}) [{}]", response.status().code(), response.uri(), elapsed, response.responseHeaders().get("X-Vcap-Request-Id"),
-                    String.join(", ", warnings));
+                RESPONSE_LOGGER.warn("{}    {} ({}, {}) [{}]", status, event.getUri(), elapsed, requestId, String.join(", ", warnings));
             } else {
-                RESPONSE_LOGGER.warn("{}    {} ({}) [{}]", response.status().code(), response.uri(), elapsed, String.join(", ", warnings));
-
+                RESPONSE_LOGGER.warn("{}    {} ({}) [{}]", status, event.getUri(), elapsed, String.join(", ", warnings));
             }
         }
     }
 
-    public void websocketRequest(String uri) {
-        request("WS     {}", uri);
-    }
-
-    private void request(String message, String uri) {
-        REQUEST_LOGGER.debug(message, uri);
-        this.requestSentTime = System.currentTimeMillis();
-    }
-
 }
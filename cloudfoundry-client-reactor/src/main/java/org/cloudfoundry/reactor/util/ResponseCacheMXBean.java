@@ -0,0 +1,41 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+public interface ResponseCacheMXBean {
+
+    /**
+     * Returns the number of cached responses that have been evicted to stay within the maximum size of the cache
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of requests that have been served from the cache
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of cacheable requests that could not be served from the cache
+     */
+    long getMissCount();
+
+    /**
+     * Returns the number of responses currently in the cache
+     */
+    long getSize();
+
+}
@@ -18,12 +18,15 @@ package org.cloudfoundry.reactor;
 
 import org.junit.After;
 import org.junit.Test;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.Map;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public final class DefaultConnectionContextTest extends AbstractRestTest {
 
@@ -38,6 +41,56 @@ public final class DefaultConnectionContextTest extends AbstractRestTest {
         this.connectionContext.dispose();
     }
 
+    @Test
+    public void clientResources() {
+        ClientResources clientResources = ClientResources.builder()
+            .threadPoolSize(1)
+            .build();
+
+        DefaultConnectionContext first = DefaultConnectionContext.builder()
+            .apiHost(this.mockWebServer.getHostName())
+            .clientResources(clientResources)
+            .port(this.mockWebServer.getPort())
+            .secure(false)
+            .build();
+
+        DefaultConnectionContext second = DefaultConnectionContext.builder()
+            .apiHost(this.mockWebServer.getHostName())
+            .clientResources(clientResources)
+            .port(this.mockWebServer.getPort())
+            .secure(false)
+            .build();
+
+        try {
+            mockRequest(InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/GET_response.json")
+                    .build())
+                .build());
+
+            first.getRootProvider()
+                .getRoot("cloud_controller_v2", first)
+                .as(StepVerifier::create)
+                .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+            assertThat(first.getThreadPool()).isSameAs(second.getThreadPool());
+            assertThat(first.getConnectionProvider()).isEqualTo(second.getConnectionProvider());
+
+            first.dispose();
+            second.dispose();
+
+            assertThat(clientResources.getLoopResources().isDisposed()).isFalse();
+        } finally {
+            clientResources.dispose();
+        }
+    }
+
     @Test
     public void getInfo() {
         mockRequest(InteractionContext.builder()
@@ -68,6 +121,20 @@ public final class DefaultConnectionContextTest extends AbstractRestTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void getObjectReader() {
+        DefaultConnectionContext other = DefaultConnectionContext.builder()
+            .apiHost("test-host")
+            .build();
+
+        try {
+            assertThat(this.connectionContext.getObjectReader(Map.class)).isSameAs(this.connectionContext.getObjectReader(Map.class));
+            assertThat(other.getObjectReader(Map.class)).isNotSameAs(this.connectionContext.getObjectReader(Map.class));
+        } finally {
+            other.dispose();
+        }
+    }
+
     @Test
     public void multipleInstances() {
         DefaultConnectionContext first = DefaultConnectionContext.builder()
@@ -85,4 +152,59 @@ public final class DefaultConnectionContextTest extends AbstractRestTest {
         second.dispose();
     }
 
+    @Test
+    public void warmUp() throws InterruptedException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .build())
+            .build());
+
+        String root = this.mockWebServer.url("/").toString();
+
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost(this.mockWebServer.getHostName())
+            .port(this.mockWebServer.getPort())
+            .rootProvider(new RootProvider() {
+
+                @Override
+                public Mono<String> getRoot(ConnectionContext connectionContext) {
+                    return Mono.just(root);
+                }
+
+                @Override
+                public Mono<String> getRoot(String key, ConnectionContext connectionContext) {
+                    return "uaa".equals(key) ? Mono.just(root) : Mono.error(new IllegalArgumentException());
+                }
+
+            })
+            .secure(false)
+            .warmUpConnectionsPerHost(2)
+            .build();
+
+        try {
+            connectionContext.warmUp()
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+            assertThat(this.mockWebServer.takeRequest().getSequenceNumber()).isZero();
+            assertThat(this.mockWebServer.takeRequest().getSequenceNumber()).isZero();
+        } finally {
+            connectionContext.dispose();
+        }
+    }
+
 }
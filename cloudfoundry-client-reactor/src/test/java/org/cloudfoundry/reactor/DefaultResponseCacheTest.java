@@ -0,0 +1,196 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.cloudfoundry.client.v2.stacks.DeleteStackRequest;
+import org.cloudfoundry.client.v2.stacks.GetStackRequest;
+import org.cloudfoundry.client.v2.stacks.GetStackResponse;
+import org.cloudfoundry.reactor.client.v2.stacks.ReactorStacks;
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.netty.handler.codec.http.HttpMethod.DELETE;
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.NO_CONTENT;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class DefaultResponseCacheTest extends AbstractRestTest {
+
+    private final DefaultResponseCache responseCache = DefaultResponseCache.builder()
+        .endpoint("/stacks", Duration.ofMinutes(5))
+        .endpoint("/v2/info", Duration.ofMinutes(5))
+        .endpoint("/v2/shared_domains", Duration.ZERO)
+        .maximumSize(2)
+        .build();
+
+    private final DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+        .apiHost(this.mockWebServer.getHostName())
+        .port(this.mockWebServer.getPort())
+        .responseCache(this.responseCache)
+        .secure(false)
+        .build();
+
+    private final ReactorStacks stacks = new ReactorStacks(this.connectionContext, this.root, TOKEN_PROVIDER, Collections.emptyMap());
+
+    @After
+    public void dispose() {
+        this.connectionContext.dispose();
+    }
+
+    @Test
+    public void cachedRequest() {
+        AtomicInteger count = new AtomicInteger();
+
+        getInfo(count)
+            .then(getInfo(count))
+            .as(StepVerifier::create)
+            .expectNext("test-value-1")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.responseCache.getHitCount()).isEqualTo(1);
+        assertThat(this.responseCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void evicted() {
+        AtomicInteger count = new AtomicInteger();
+
+        getInfo(count, "https://api.test-host/v2/info?page=1")
+            .then(getInfo(count, "https://api.test-host/v2/info?page=2"))
+            .then(getInfo(count, "https://api.test-host/v2/info?page=3"))
+            .then(getInfo(count, "https://api.test-host/v2/info?page=1"))
+            .as(StepVerifier::create)
+            .expectNext("test-value-4")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.responseCache.getEvictionCount()).isEqualTo(2);
+        assertThat(this.responseCache.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void expired() {
+        AtomicInteger count = new AtomicInteger();
+
+        getInfo(count, "https://api.test-host/v2/shared_domains")
+            .then(getInfo(count, "https://api.test-host/v2/shared_domains"))
+            .as(StepVerifier::create)
+            .expectNext("test-value-2")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.responseCache.getHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void invalidate() {
+        AtomicInteger count = new AtomicInteger();
+
+        getInfo(count)
+            .doOnNext(value -> this.responseCache.invalidate("https://api.test-host/v2/info/other"))
+            .then(getInfo(count))
+            .as(StepVerifier::create)
+            .expectNext("test-value-2")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void invalidatedByMutatingRequest() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/stacks/test-stack-id")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/stacks/GET_{id}_response.json")
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(DELETE).path("/stacks/test-stack-id")
+                .build())
+            .response(TestResponse.builder()
+                .status(NO_CONTENT)
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/stacks/test-stack-id")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/stacks/GET_{id}_response.json")
+                .build())
+            .build());
+
+        getStack()
+            .then(getStack())
+            .then(this.stacks
+                .delete(DeleteStackRequest.builder()
+                    .stackId("test-stack-id")
+                    .build()))
+            .then(getStack())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.responseCache.getHitCount()).isEqualTo(1);
+        assertThat(this.responseCache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void uncachedEndpoint() {
+        AtomicInteger count = new AtomicInteger();
+
+        getInfo(count, "https://api.test-host/v2/apps")
+            .then(getInfo(count, "https://api.test-host/v2/apps"))
+            .as(StepVerifier::create)
+            .expectNext("test-value-2")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.responseCache.getMissCount()).isEqualTo(0);
+    }
+
+    private Mono<String> getInfo(AtomicInteger count) {
+        return getInfo(count, "https://api.test-host/v2/info");
+    }
+
+    private Mono<String> getInfo(AtomicInteger count, String uri) {
+        return this.responseCache.get(uri, TOKEN_PROVIDER, String.class, Mono.fromSupplier(() -> String.format("test-value-%d", count.incrementAndGet())));
+    }
+
+    private Mono<GetStackResponse> getStack() {
+        return this.stacks
+            .get(GetStackRequest.builder()
+                .stackId("test-stack-id")
+                .build());
+    }
+
+}
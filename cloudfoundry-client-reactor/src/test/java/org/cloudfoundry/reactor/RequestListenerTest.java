@@ -0,0 +1,140 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.cloudfoundry.client.v2.stacks.GetStackRequest;
+import org.cloudfoundry.reactor.client.v2.stacks.ReactorStacks;
+import org.cloudfoundry.reactor.util.LatencyHistogram;
+import org.cloudfoundry.reactor.util.LatencyHistogramRequestListener;
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.reactor.RequestEventType.BODY_COMPLETE;
+import static org.cloudfoundry.reactor.RequestEventType.CONNECTION_ACQUIRED;
+import static org.cloudfoundry.reactor.RequestEventType.ERROR;
+import static org.cloudfoundry.reactor.RequestEventType.FIRST_BYTE;
+import static org.cloudfoundry.reactor.RequestEventType.REQUEST_SENT;
+
+public final class RequestListenerTest extends AbstractRestTest {
+
+    private final Sinks.Many<RequestEvent> events = Sinks.many().replay().all();
+
+    private final LatencyHistogramRequestListener histograms = new LatencyHistogramRequestListener();
+
+    private final DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+        .apiHost(this.mockWebServer.getHostName())
+        .port(this.mockWebServer.getPort())
+        .requestListener(this.histograms)
+        .requestListener(this.events::tryEmitNext)
+        .secure(false)
+        .build();
+
+    private final ReactorStacks stacks = new ReactorStacks(this.connectionContext, this.root, TOKEN_PROVIDER, Collections.emptyMap());
+
+    @After
+    public void dispose() {
+        this.connectionContext.dispose();
+    }
+
+    @Test
+    public void error() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/stacks/fe4999cf-a207-4d40-bb03-f4bbf697edac")
+                .build())
+            .response(TestResponse.builder()
+                .status(NOT_FOUND)
+                .payload("fixtures/client/v2/error_response.json")
+                .build())
+            .build());
+
+        this.stacks
+            .get(GetStackRequest.builder()
+                .stackId("fe4999cf-a207-4d40-bb03-f4bbf697edac")
+                .build())
+            .as(StepVerifier::create)
+            .expectError()
+            .verify(Duration.ofSeconds(5));
+
+        this.events.asFlux()
+            .filter(event -> event.getType() == FIRST_BYTE)
+            .next()
+            .as(StepVerifier::create)
+            .consumeNextWith(event -> assertThat(event.getStatus()).hasValue(404))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void events() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/stacks/fe4999cf-a207-4d40-bb03-f4bbf697edac")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/stacks/GET_{id}_response.json")
+                .build())
+            .build());
+
+        this.stacks
+            .get(GetStackRequest.builder()
+                .stackId("fe4999cf-a207-4d40-bb03-f4bbf697edac")
+                .build())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        this.events.asFlux()
+            .filter(event -> event.getType() != ERROR)
+            .take(4)
+            .as(StepVerifier::create)
+            .consumeNextWith(event -> assertThat(event.getType()).isEqualTo(CONNECTION_ACQUIRED))
+            .consumeNextWith(event -> {
+                assertThat(event.getType()).isEqualTo(REQUEST_SENT);
+                assertThat(event.getEndpoint()).isEqualTo("/stacks/{stackId}");
+                assertThat(event.getMethod()).isEqualTo(GET);
+            })
+            .consumeNextWith(event -> {
+                assertThat(event.getType()).isEqualTo(FIRST_BYTE);
+                assertThat(event.getStatus()).hasValue(200);
+            })
+            .consumeNextWith(event -> {
+                assertThat(event.getType()).isEqualTo(BODY_COMPLETE);
+                assertThat(event.getBytes()).hasValueSatisfying(bytes -> assertThat(bytes).isPositive());
+                assertThat(event.getElapsed()).isLessThan(Duration.ofSeconds(5));
+            })
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        LatencyHistogram histogram = this.histograms.getHistogram("GET", "/stacks/{stackId}");
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getErrorCount()).isEqualTo(0);
+        assertThat(histogram.getPercentile(0.99)).isEqualTo(histogram.getMax());
+    }
+
+}
@@ -19,10 +19,17 @@ package org.cloudfoundry.reactor;
 import org.junit.Test;
 import reactor.test.StepVerifier;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Properties;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public final class RootPayloadRootProviderTest extends AbstractRestTest {
 
@@ -63,6 +70,115 @@ public final class RootPayloadRootProviderTest extends AbstractRestTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void getRootKeyCacheFile() throws IOException {
+        Path cacheFile = Files.createTempFile("root-provider-test", ".properties");
+        Files.delete(cacheFile);
+
+        try {
+            mockRequest(InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/GET_response.json")
+                    .build())
+                .build());
+
+            RootPayloadRootProvider.builder()
+                .from(this.rootProvider)
+                .cacheFile(cacheFile)
+                .build()
+                .getRoot("cloud_controller_v2", CONNECTION_CONTEXT)
+                .as(StepVerifier::create)
+                .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(cacheFile)) {
+                properties.load(in);
+            }
+            assertThat(properties.getProperty(String.format("http://localhost:%d|cloud_controller_v2", this.mockWebServer.getPort())))
+                .matches(String.format("\\d+ http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()));
+
+            RootPayloadRootProvider.builder()
+                .from(this.rootProvider)
+                .cacheFile(cacheFile)
+                .build()
+                .getRoot("cloud_controller_v2", CONNECTION_CONTEXT)
+                .as(StepVerifier::create)
+                .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    @Test
+    public void getRootKeyCacheFileExpired() throws IOException {
+        Path cacheFile = Files.createTempFile("root-provider-test", ".properties");
+
+        try {
+            Properties properties = new Properties();
+            properties.setProperty(String.format("http://localhost:%d|cloud_controller_v2", this.mockWebServer.getPort()), "0 http://api.stale.pivotal.io/v2");
+            try (OutputStream out = Files.newOutputStream(cacheFile)) {
+                properties.store(out, null);
+            }
+
+            mockRequest(InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(GET).path("/")
+                    .build())
+                .response(TestResponse.builder()
+                    .status(OK)
+                    .payload("fixtures/GET_response.json")
+                    .build())
+                .build());
+
+            RootPayloadRootProvider.builder()
+                .from(this.rootProvider)
+                .cacheFile(cacheFile)
+                .build()
+                .getRoot("cloud_controller_v2", CONNECTION_CONTEXT)
+                .as(StepVerifier::create)
+                .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    @Test
+    public void getRootKeyMemoized() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .build())
+            .build());
+
+        this.rootProvider
+            .getRoot("cloud_controller_v2", CONNECTION_CONTEXT)
+            .as(StepVerifier::create)
+            .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        this.rootProvider
+            .getRoot("cloud_controller_v2", CONNECTION_CONTEXT)
+            .as(StepVerifier::create)
+            .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void getRootKeyNoKey() {
         mockRequest(InteractionContext.builder()
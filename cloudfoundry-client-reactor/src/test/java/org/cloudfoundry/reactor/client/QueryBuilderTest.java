@@ -25,7 +25,9 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,10 +43,12 @@ public final class QueryBuilderTest {
 
         MultiValueMap<String, String> queryParams = builder.encode().build().getQueryParams();
 
-        assertThat(queryParams).hasSize(8);
+        assertThat(queryParams).hasSize(10);
         assertThat(queryParams.getFirst("test-single")).isEqualTo("test-value-1");
         assertThat(queryParams.getFirst("test-collection")).isEqualTo("test-value-2%2Ctest-value-3");
         assertThat(queryParams.getFirst("test-collection-custom-delimiter")).isEqualTo("test-value-4%20test-value-5");
+        assertThat(queryParams.getFirst("test-map%5Btest-key-1%5D")).isEqualTo("test-value-8%2Ctest-value-9");
+        assertThat(queryParams.getFirst("test-map%5Btest-key-2%5D")).isEqualTo("test-value-10");
         assertThat(queryParams.getFirst("test-subclass")).isEqualTo("test-value-6");
         assertThat(queryParams.getFirst("test-override")).isEqualTo("test-value-7");
         assertThat(queryParams.getFirst("test-reserved-characters")).isEqualTo("%3A%2F%3F%23%5B%5D%40%21%24%26%27%28%29%2A%2B%2C%3B%3D");
@@ -72,6 +76,14 @@ public final class QueryBuilderTest {
             return "";
         }
 
+        @QueryParameter("test-map")
+        public final Map<String, Object> getMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("test-key-1", Arrays.asList("test-value-8", "test-value-9"));
+            map.put("test-key-2", "test-value-10");
+            return map;
+        }
+
         @QueryParameter("test-null")
         public final String getNull() {
             return null;
@@ -84,6 +84,8 @@ import reactor.test.StepVerifier;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collections;
 
@@ -321,6 +323,33 @@ public final class ReactorApplicationsV2Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void downloadDropletFile() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/apps/test-application-id/droplet/download")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/apps/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        Path destination = Files.createTempFile("test-droplet", ".tgz");
+
+        this.applications
+            .downloadDroplet(DownloadApplicationDropletRequest.builder()
+                .applicationId("test-application-id")
+                .build(), destination)
+            .as(StepVerifier::create)
+            .expectNext(destination)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(getBytes("fixtures/client/v2/apps/GET_{id}_download_response.bin"));
+        Files.delete(destination);
+    }
+
     @Test
     public void environment() {
         mockRequest(InteractionContext.builder()
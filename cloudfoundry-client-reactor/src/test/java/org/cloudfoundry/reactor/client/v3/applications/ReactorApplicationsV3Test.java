@@ -28,6 +28,8 @@ import org.cloudfoundry.client.v3.Pagination;
 import org.cloudfoundry.client.v3.Relationship;
 import org.cloudfoundry.client.v3.ToOneRelationship;
 import org.cloudfoundry.client.v3.applications.ApplicationFeatureResource;
+import org.cloudfoundry.client.v3.applications.ApplicationInclude;
+import org.cloudfoundry.client.v3.applications.ApplicationIncluded;
 import org.cloudfoundry.client.v3.applications.ApplicationRelationships;
 import org.cloudfoundry.client.v3.applications.ApplicationResource;
 import org.cloudfoundry.client.v3.applications.ApplicationState;
@@ -91,6 +93,7 @@ import org.cloudfoundry.client.v3.builds.CreatedBy;
 import org.cloudfoundry.client.v3.droplets.Buildpack;
 import org.cloudfoundry.client.v3.droplets.DropletResource;
 import org.cloudfoundry.client.v3.droplets.DropletState;
+import org.cloudfoundry.client.v3.organizations.OrganizationResource;
 import org.cloudfoundry.client.v3.packages.BitsData;
 import org.cloudfoundry.client.v3.packages.PackageResource;
 import org.cloudfoundry.client.v3.packages.PackageState;
@@ -109,6 +112,8 @@ import org.cloudfoundry.client.v3.routes.Destination;
 import org.cloudfoundry.client.v3.routes.Process;
 import org.cloudfoundry.client.v3.routes.RouteRelationships;
 import org.cloudfoundry.client.v3.routes.RouteResource;
+import org.cloudfoundry.client.v3.spaces.SpaceRelationships;
+import org.cloudfoundry.client.v3.spaces.SpaceResource;
 import org.cloudfoundry.client.v3.tasks.Result;
 import org.cloudfoundry.client.v3.tasks.TaskResource;
 import org.cloudfoundry.client.v3.tasks.TaskState;
@@ -335,6 +340,124 @@ public final class ReactorApplicationsV3Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void getInclude() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/apps/test-application-id?include=space%2Cspace.organization")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/apps/GET_{id}_include_response.json")
+                .build())
+            .build());
+
+        this.applications
+            .get(GetApplicationRequest.builder()
+                .applicationId("test-application-id")
+                .includes(ApplicationInclude.SPACE, ApplicationInclude.SPACE_ORGANIZATION)
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(GetApplicationResponse.builder()
+                .id("1cb006ee-fb05-47e1-b541-c34179ddc446")
+                .name("my_app")
+                .state(ApplicationState.STOPPED)
+                .createdAt("2016-03-17T21:41:30Z")
+                .updatedAt("2016-06-08T16:41:26Z")
+                .lifecycle(Lifecycle.builder()
+                    .type(LifecycleType.BUILDPACK)
+                    .data(BuildpackData.builder()
+                        .buildpack("java_buildpack")
+                        .stack("cflinuxfs2")
+                        .build())
+                    .build())
+                .relationships(ApplicationRelationships.builder()
+                    .space(ToOneRelationship.builder()
+                        .data(Relationship.builder()
+                            .id("2f35885d-0c9d-4423-83ad-fd05066f8576")
+                            .build())
+                        .build())
+                    .build())
+                .metadata(Metadata.builder()
+                    .annotation("version", "1.2.4")
+                    .label("isLive", "false")
+                    .label("maintenance", "true")
+                    .build())
+                .included(ApplicationIncluded.builder()
+                    .organization(OrganizationResource.builder()
+                        .id("24637893-3b77-489d-bb79-8466f0d88b52")
+                        .createdAt("2017-02-01T01:33:58Z")
+                        .updatedAt("2017-02-01T01:33:58Z")
+                        .name("my-organization")
+                        .metadata(Metadata.builder()
+                            .annotations(Collections.emptyMap())
+                            .labels(Collections.emptyMap())
+                            .build())
+                        .link("self", Link.builder()
+                            .href("https://api.example.org/v3/organizations/24637893-3b77-489d-bb79-8466f0d88b52")
+                            .build())
+                        .build())
+                    .space(SpaceResource.builder()
+                        .id("2f35885d-0c9d-4423-83ad-fd05066f8576")
+                        .createdAt("2017-02-01T01:33:58Z")
+                        .updatedAt("2017-02-01T01:33:58Z")
+                        .name("my-space")
+                        .relationships(SpaceRelationships.builder()
+                            .organization(ToOneRelationship.builder()
+                                .data(Relationship.builder()
+                                    .id("24637893-3b77-489d-bb79-8466f0d88b52")
+                                    .build())
+                                .build())
+                            .build())
+                        .metadata(Metadata.builder()
+                            .annotations(Collections.emptyMap())
+                            .labels(Collections.emptyMap())
+                            .build())
+                        .link("self", Link.builder()
+                            .href("https://api.example.org/v3/spaces/2f35885d-0c9d-4423-83ad-fd05066f8576")
+                            .build())
+                        .build())
+                    .build())
+                .link("self", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446")
+                    .build())
+                .link("space", Link.builder()
+                    .href("https://api.example.org/v3/spaces/2f35885d-0c9d-4423-83ad-fd05066f8576")
+                    .build())
+                .link("processes", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/processes")
+                    .build())
+                .link("route_mappings", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/route_mappings")
+                    .build())
+                .link("packages", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/packages")
+                    .build())
+                .link("environment_variables", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/environment_variables")
+                    .build())
+                .link("current_droplet", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/droplets/current")
+                    .build())
+                .link("droplets", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/droplets")
+                    .build())
+                .link("tasks", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/tasks")
+                    .build())
+                .link("start", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/actions/start")
+                    .method("POST")
+                    .build())
+                .link("stop", Link.builder()
+                    .href("https://api.example.org/v3/apps/1cb006ee-fb05-47e1-b541-c34179ddc446/actions/stop")
+                    .method("POST")
+                    .build())
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void getCurrentDroplet() {
         mockRequest(InteractionContext.builder()
@@ -26,6 +26,7 @@ import org.cloudfoundry.client.v3.deployments.CreateDeploymentResponse;
 import org.cloudfoundry.client.v3.deployments.DeploymentRelationships;
 import org.cloudfoundry.client.v3.deployments.DeploymentResource;
 import org.cloudfoundry.client.v3.deployments.DeploymentState;
+import org.cloudfoundry.client.v3.deployments.DeploymentStrategy;
 import org.cloudfoundry.client.v3.deployments.GetDeploymentRequest;
 import org.cloudfoundry.client.v3.deployments.GetDeploymentResponse;
 import org.cloudfoundry.client.v3.deployments.ListDeploymentsRequest;
@@ -136,6 +137,71 @@ public class ReactorDeploymentsV3Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @SuppressWarnings("deprecation")
+    @Test
+    public void createRolling() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(POST).path("/deployments")
+                .payload("fixtures/client/v3/deployments/POST_request_rolling.json")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/deployments/POST_response.json")
+                .build())
+            .build());
+
+        this.deployments
+            .create(CreateDeploymentRequest.builder()
+                .droplet(Relationship.builder().id("44ccfa61-dbcf-4a0d-82fe-f668e9d2a962").build())
+                .relationships(DeploymentRelationships.builder()
+                    .app(ToOneRelationship.builder()
+                        .data(Relationship.builder()
+                            .id("305cea31-5a44-45ca-b51b-e89c7a8ef8b2")
+                            .build())
+                        .build())
+                    .build())
+                .strategy(DeploymentStrategy.ROLLING)
+                .build())
+            .as(StepVerifier::create)
+
+            .expectNext(CreateDeploymentResponse.builder()
+                .id("59c3d133-2b83-46f3-960e-7765a129aea4")
+                .state(DeploymentState.DEPLOYING)
+                .droplet(Relationship.builder()
+                    .id("44ccfa61-dbcf-4a0d-82fe-f668e9d2a962")
+                    .build())
+                .previousDroplet(Relationship.builder()
+                    .id("cc6bc315-bd06-49ce-92c2-bc3ad45268c2")
+                    .build())
+                .newProcesses(singletonList(Process.builder()
+                    .id("fd5d3e60-f88c-4c37-b1ae-667cfc65a856")
+                    .type("web-deployment-59c3d133-2b83-46f3-960e-7765a129aea4")
+                    .build()))
+                .revision(Revision.builder()
+                    .id("56126cba-656a-4eba-a81e-7e9951b2df57")
+                    .version(1)
+                    .build())
+                .createdAt("2018-04-25T22:42:10Z")
+                .updatedAt("2018-04-25T22:42:10Z")
+                .relationships(DeploymentRelationships.builder()
+                    .app(ToOneRelationship.builder()
+                        .data(Relationship.builder()
+                            .id("305cea31-5a44-45ca-b51b-e89c7a8ef8b2")
+                            .build())
+                        .build())
+                    .build())
+                .link("self", Link.builder()
+                    .href("https://api.example.org/v3/deployments/59c3d133-2b83-46f3-960e-7765a129aea4")
+                    .build())
+                .link("app", Link.builder()
+                    .href("https://api.example.org/v3/apps/305cea31-5a44-45ca-b51b-e89c7a8ef8b2")
+                    .build())
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void get() {
@@ -51,6 +51,8 @@ import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
 import org.cloudfoundry.reactor.InteractionContext;
 import org.cloudfoundry.reactor.TestRequest;
 import org.cloudfoundry.reactor.TestResponse;
+import org.cloudfoundry.reactor.UploadProgress;
+import org.cloudfoundry.reactor.UploadProgressListener;
 import org.cloudfoundry.reactor.client.AbstractClientApiTest;
 import org.cloudfoundry.util.OperationUtils;
 import org.junit.Test;
@@ -59,8 +61,14 @@ import reactor.test.StepVerifier;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
 import static io.netty.handler.codec.http.HttpMethod.GET;
@@ -234,6 +242,63 @@ public final class ReactorPackagesTest extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void downloadDigest() throws IOException, NoSuchAlgorithmException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/packages/test-package-id/download")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/packages/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Path destination = Files.createTempFile("test-package", ".zip");
+
+        this.packages
+            .download(DownloadPackageRequest.builder()
+                .packageId("test-package-id")
+                .build(), buffers -> buffers
+                .transform(OperationUtils.digest(digest))
+                .as(OperationUtils.write(destination)))
+            .as(StepVerifier::create)
+            .expectNext(destination)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(digest.digest()).isEqualTo(MessageDigest.getInstance("SHA-256").digest(getBytes("fixtures/client/v3/packages/GET_{id}_download_response.bin")));
+        Files.delete(destination);
+    }
+
+    @Test
+    public void downloadFile() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/packages/test-package-id/download")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/packages/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        Path destination = Files.createTempFile("test-package", ".zip");
+
+        this.packages
+            .download(DownloadPackageRequest.builder()
+                .packageId("test-package-id")
+                .build(), destination)
+            .as(StepVerifier::create)
+            .expectNext(destination)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(getBytes("fixtures/client/v3/packages/GET_{id}_download_response.bin"));
+        Files.delete(destination);
+    }
+
     @Test
     public void get() {
         mockRequest(InteractionContext.builder()
@@ -525,4 +590,37 @@ public final class ReactorPackagesTest extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void uploadProgress() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(POST).path("/packages/test-package-id/upload")
+                .contents(consumer((headers, body) -> assertThat(body.readString(Charset.defaultCharset())).contains("test-content")))
+                .build())
+            .response(TestResponse.builder()
+                .status(CREATED)
+                .payload("fixtures/client/v3/packages/POST_{id}_upload_response.json")
+                .build())
+            .build());
+
+        List<UploadProgress> progress = new CopyOnWriteArrayList<>();
+
+        this.packages
+            .upload(UploadPackageRequest.builder()
+                .bits(new ClassPathResource("fixtures/client/v3/packages/test-package.zip").getFile().toPath())
+                .packageId("test-package-id")
+                .build())
+            .contextWrite(UploadProgressListener.context(progress::add))
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(progress).isNotEmpty();
+        assertThat(progress).extracting(UploadProgress::getBytesTransferred).isSorted();
+
+        UploadProgress last = progress.get(progress.size() - 1);
+        assertThat(last.getBytesTransferred()).isEqualTo(last.getTotalBytes());
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.reactor.client.v3.serviceinstances;
 
+import org.cloudfoundry.client.v3.IncludedResource;
 import org.cloudfoundry.client.v3.Link;
 import org.cloudfoundry.client.v3.Metadata;
 import org.cloudfoundry.client.v3.Pagination;
@@ -25,6 +26,7 @@ import org.cloudfoundry.client.v3.serviceinstances.ListServiceInstancesRequest;
 import org.cloudfoundry.client.v3.serviceinstances.ListServiceInstancesResponse;
 import org.cloudfoundry.client.v3.serviceinstances.ListSharedSpacesRelationshipRequest;
 import org.cloudfoundry.client.v3.serviceinstances.ListSharedSpacesRelationshipResponse;
+import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceIncluded;
 import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceRelationships;
 import org.cloudfoundry.client.v3.serviceinstances.ServiceInstanceResource;
 import org.cloudfoundry.client.v3.serviceinstances.ShareServiceInstanceRequest;
@@ -40,6 +42,7 @@ import org.junit.Test;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
@@ -136,6 +139,70 @@ public final class ReactorServiceInstancesV3Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void listFields() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/service_instances?fields%5Bspace%5D=name%2Cguid%2Crelationships.organization&fields%5Bspace.organization%5D=name%2Cguid")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/serviceinstances/GET_fields_response.json")
+                .build())
+            .build());
+
+        this.serviceInstances
+            .list(ListServiceInstancesRequest.builder()
+                .field("space", Arrays.asList("name", "guid", "relationships.organization"))
+                .field("space.organization", Arrays.asList("name", "guid"))
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ListServiceInstancesResponse.builder()
+                .pagination(Pagination.builder()
+                    .totalResults(1)
+                    .totalPages(1)
+                    .first(Link.builder()
+                        .href("/v3/service_instances?page=1&per_page=50")
+                        .build())
+                    .last(Link.builder()
+                        .href("/v3/service_instances?page=1&per_page=50")
+                        .build())
+                    .build())
+                .resource(ServiceInstanceResource.builder()
+                    .id("85ccdcad-d725-4109-bca4-fd6ba062b5c8")
+                    .createdAt("2017-11-17T13:54:21Z")
+                    .name("my_service_instance1")
+                    .relationships(ServiceInstanceRelationships.builder()
+                        .space(ToOneRelationship.builder()
+                            .data(Relationship.builder()
+                                .id("ae0031f9-dd49-461c-a945-df40e77c39cb")
+                                .build())
+                            .build())
+                        .build())
+                    .link("space", Link.builder()
+                        .href("/v3/spaces/ae0031f9-dd49-461c-a945-df40e77c39cb")
+                        .build())
+                    .build())
+                .included(ServiceInstanceIncluded.builder()
+                    .organization(IncludedResource.builder()
+                        .id("24637893-3b77-489d-bb79-8466f0d88b52")
+                        .name("my-organization")
+                        .build())
+                    .space(IncludedResource.builder()
+                        .id("ae0031f9-dd49-461c-a945-df40e77c39cb")
+                        .name("my-space")
+                        .relationship("organization", ToOneRelationship.builder()
+                            .data(Relationship.builder()
+                                .id("24637893-3b77-489d-bb79-8466f0d88b52")
+                                .build())
+                            .build())
+                        .build())
+                    .build())
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void listSharedSpaces() {
         mockRequest(InteractionContext.builder()
@@ -21,8 +21,11 @@ import org.cloudfoundry.client.v3.Metadata;
 import org.cloudfoundry.client.v3.Pagination;
 import org.cloudfoundry.client.v3.Relationship;
 import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.spaces.ApplyManifestRequest;
 import org.cloudfoundry.client.v3.spaces.AssignSpaceIsolationSegmentRequest;
 import org.cloudfoundry.client.v3.spaces.AssignSpaceIsolationSegmentResponse;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffRequest;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffResponse;
 import org.cloudfoundry.client.v3.spaces.CreateSpaceRequest;
 import org.cloudfoundry.client.v3.spaces.CreateSpaceResponse;
 import org.cloudfoundry.client.v3.spaces.DeleteSpaceRequest;
@@ -33,6 +36,7 @@ import org.cloudfoundry.client.v3.spaces.GetSpaceRequest;
 import org.cloudfoundry.client.v3.spaces.GetSpaceResponse;
 import org.cloudfoundry.client.v3.spaces.ListSpacesRequest;
 import org.cloudfoundry.client.v3.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v3.spaces.ManifestDiff;
 import org.cloudfoundry.client.v3.spaces.SpaceRelationships;
 import org.cloudfoundry.client.v3.spaces.SpaceResource;
 import org.cloudfoundry.client.v3.spaces.UpdateSpaceRequest;
@@ -44,6 +48,7 @@ import org.cloudfoundry.reactor.client.AbstractClientApiTest;
 import org.junit.Test;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
 
@@ -52,12 +57,41 @@ import static io.netty.handler.codec.http.HttpMethod.GET;
 import static io.netty.handler.codec.http.HttpMethod.PATCH;
 import static io.netty.handler.codec.http.HttpMethod.POST;
 import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.util.tuple.TupleUtils.consumer;
 
 public class ReactorSpacesV3Test extends AbstractClientApiTest {
 
     private final ReactorSpacesV3 spaces = new ReactorSpacesV3(CONNECTION_CONTEXT, this.root, TOKEN_PROVIDER, Collections.emptyMap());
 
+    @Test
+    public void applyManifest() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(POST).path("/spaces/test-space-id/actions/apply_manifest")
+                .header("Content-Type", "application/x-yaml")
+                .contents(consumer((headers, body) -> assertThat(body.readString(StandardCharsets.UTF_8))
+                    .isEqualTo("applications:\n- name: test-application-name\n")))
+                .build())
+            .response(TestResponse.builder()
+                .status(ACCEPTED)
+                .header("Location", "https://api.example.org/v3/jobs/test-job-id")
+                .build())
+            .build());
+
+        this.spaces
+            .applyManifest(ApplyManifestRequest.builder()
+                .manifest("applications:\n- name: test-application-name\n")
+                .spaceId("test-space-id")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext("test-job-id")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void assignIsolationSegment() {
         mockRequest(InteractionContext.builder()
@@ -142,6 +176,44 @@ public class ReactorSpacesV3Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void createManifestDiff() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(POST).path("/spaces/test-space-id/manifest_diff")
+                .header("Content-Type", "application/x-yaml")
+                .contents(consumer((headers, body) -> assertThat(body.readString(StandardCharsets.UTF_8))
+                    .isEqualTo("applications:\n- name: test-application-name\n")))
+                .build())
+            .response(TestResponse.builder()
+                .status(CREATED)
+                .payload("fixtures/client/v3/spaces/POST_{id}_manifest_diff_response.json")
+                .build())
+            .build());
+
+        this.spaces
+            .createManifestDiff(CreateManifestDiffRequest.builder()
+                .manifest("applications:\n- name: test-application-name\n")
+                .spaceId("test-space-id")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(CreateManifestDiffResponse.builder()
+                .diff(ManifestDiff.builder()
+                    .operation("remove")
+                    .path("/applications/0/routes/1")
+                    .was(Collections.singletonMap("route", "route.example.com"))
+                    .build())
+                .diff(ManifestDiff.builder()
+                    .operation("replace")
+                    .path("/applications/0/instances")
+                    .value(3)
+                    .was(2)
+                    .build())
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void delete() {
         mockRequest(InteractionContext.builder()
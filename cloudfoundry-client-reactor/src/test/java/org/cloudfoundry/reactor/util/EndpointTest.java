@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.junit.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class EndpointTest {
+
+    @Test
+    public void encoding() {
+        assertEquivalent("https://api.test/v3", Endpoint.of("/apps/{applicationId}/env", "name with spaces/and+slash%"), "apps", "name with spaces/and+slash%", "env");
+    }
+
+    @Test
+    public void literalQuery() {
+        assertThat(Endpoint.of("/spaces/{spaceId}/routes?unmapped=true", "test-space-id").toUriString("https://api.test/v3", Stream.of(UriQueryParameter.of("page", 1))))
+            .isEqualTo("https://api.test/v3/spaces/test-space-id/routes?page=1&unmapped=true");
+    }
+
+    @Test
+    public void queryParameters() {
+        Stream<UriQueryParameter> parameters = Stream.of(UriQueryParameter.of("q", "name:a b"), UriQueryParameter.of("page", 1), UriQueryParameter.of("q", "label IN x,y&z"));
+
+        assertThat(Endpoint.of("/stacks").toUriString("https://api.test/v2", parameters))
+            .isEqualTo(transform("https://api.test/v2",
+                Stream.of(UriQueryParameter.of("q", "name:a b"), UriQueryParameter.of("page", 1), UriQueryParameter.of("q", "label IN x,y&z")), "stacks"));
+    }
+
+    @Test
+    public void rootWithoutPath() {
+        assertEquivalent("http://localhost:8080", Endpoint.of("/stacks/{stackId}", "test-stack-id"), "stacks", "test-stack-id");
+        assertEquivalent("http://localhost:8080/", Endpoint.of("/stacks/{stackId}", "test-stack-id"), "stacks", "test-stack-id");
+    }
+
+    @Test
+    public void template() {
+        assertThat(Endpoint.of("/stacks/{stackId}", "test-stack-id").getTemplate()).isEqualTo("/stacks/{stackId}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongVariableCount() {
+        Endpoint.of("/stacks/{stackId}");
+    }
+
+    private static void assertEquivalent(String root, Endpoint endpoint, String... pathSegments) {
+        assertThat(endpoint.toUriString(root, Stream.empty())).isEqualTo(transform(root, Stream.empty(), pathSegments));
+    }
+
+    private static String transform(String root, Stream<UriQueryParameter> parameters, String... pathSegments) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(root);
+        UriQueryParameters.set(builder, parameters);
+
+        return builder.pathSegment(pathSegments)
+            .encode()
+            .build()
+            .toUriString();
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.netty.ByteBufFlux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class FileChannelWriterTest {
+
+    @Test
+    public void write() throws IOException {
+        Path destination = Files.createTempFile("file-channel-writer-", ".bin");
+        ByteBuf first = buffer("alpha");
+        ByteBuf second = buffer("bravo");
+
+        try {
+            FileChannelWriter.write(ByteBufFlux.fromInbound(Flux.just(first, second)), destination)
+                .as(StepVerifier::create)
+                .expectNext(destination)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+            assertThat(new String(Files.readAllBytes(destination), StandardCharsets.UTF_8)).isEqualTo("alphabravo");
+            assertThat(first.refCnt()).isEqualTo(1);
+            assertThat(second.refCnt()).isEqualTo(1);
+        } finally {
+            first.release();
+            second.release();
+            Files.deleteIfExists(destination);
+        }
+    }
+
+    @Test
+    public void writeError() throws IOException {
+        Path destination = Files.createTempFile("file-channel-writer-", ".bin");
+        ByteBuf first = buffer("alpha");
+
+        try {
+            FileChannelWriter.write(ByteBufFlux.fromInbound(Flux.just(first).concatWith(Flux.error(new IOException("test-error")))), destination)
+                .as(StepVerifier::create)
+                .expectErrorMessage("test-error")
+                .verify(Duration.ofSeconds(5));
+
+            assertThat(destination).doesNotExist();
+            assertThat(first.refCnt()).isEqualTo(1);
+        } finally {
+            first.release();
+            Files.deleteIfExists(destination);
+        }
+    }
+
+    @Test
+    public void writePosition() throws IOException {
+        Path destination = Files.createTempFile("file-channel-writer-", ".bin");
+        Files.write(destination, "----------".getBytes(StandardCharsets.UTF_8));
+        AtomicLong written = new AtomicLong();
+
+        try (FileChannel channel = FileChannel.open(destination, WRITE)) {
+            FileChannelWriter.write(ByteBufFlux.fromInbound(Flux.just(buffer("ab"), buffer("cd"))), channel, 3, written::addAndGet)
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        }
+
+        try {
+            assertThat(new String(Files.readAllBytes(destination), StandardCharsets.UTF_8)).isEqualTo("---abcd---");
+            assertThat(written).hasValue(4);
+        } finally {
+            Files.deleteIfExists(destination);
+        }
+    }
+
+    private static ByteBuf buffer(String content) {
+        return Unpooled.copiedBuffer(content, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class JsonCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void write() throws JsonProcessingException {
+        Object value = Collections.singletonMap("environment_json", Collections.singletonMap("test-key", "test-value"));
+        ByteBuf buffer = JsonCodec.write(this.objectMapper, value, ByteBufAllocator.DEFAULT);
+
+        try {
+            assertThat(ByteBufUtil.getBytes(buffer)).isEqualTo(this.objectMapper.writeValueAsBytes(value));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void writeFailureReleasesBuffer() {
+        ByteBuf buffer = Unpooled.buffer();
+        ByteBufAllocator allocator = mock(ByteBufAllocator.class);
+        when(allocator.buffer()).thenReturn(buffer);
+
+        assertThatThrownBy(() -> JsonCodec.write(this.objectMapper, new Object(), allocator));
+        assertThat(buffer.refCnt()).isZero();
+    }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import org.cloudfoundry.UnknownCloudFoundryException;
+import org.cloudfoundry.client.v3.packages.DownloadPackageRequest;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.RangedDownloadConfiguration;
+import org.cloudfoundry.reactor.client.v3.packages.ReactorPackages;
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class RangedDownloadTest {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private final byte[] blob = new byte[1_000];
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+
+    private final List<String> ranges = new CopyOnWriteArrayList<>();
+
+    private DefaultConnectionContext connectionContext;
+
+    private Path destination;
+
+    private volatile String etag;
+
+    private Path stateFile;
+
+    public RangedDownloadTest() throws IOException {
+        ThreadLocalRandom.current().nextBytes(this.blob);
+        this.destination = Files.createTempFile("test-package", ".zip");
+        this.stateFile = this.destination.resolveSibling(this.destination.getFileName() + ".ranges");
+    }
+
+    @Test
+    public void download() throws IOException {
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(true, false, false, false));
+
+        requestDownload();
+
+        assertThat(Files.readAllBytes(this.destination)).isEqualTo(this.blob);
+        assertThat(this.ranges).hasSize(10);
+    }
+
+    @Test
+    public void downloadClientErrorNotRetried() {
+        this.mockWebServer.setDispatcher(new Dispatcher() {
+
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getPath().startsWith("/packages")) {
+                    return new MockResponse()
+                        .setResponseCode(302)
+                        .setHeader("Location", "/blobstore/test-package");
+                }
+
+                RangedDownloadTest.this.ranges.add(request.getHeader("Range"));
+                return new MockResponse().setResponseCode(403);
+            }
+
+        });
+
+        createConnectionContext();
+
+        requestDownloadPackage()
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t).isInstanceOf(UnknownCloudFoundryException.class))
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.ranges).hasSize(1);
+    }
+
+    @Test
+    public void downloadNotRedirected() throws IOException {
+        this.mockWebServer.setDispatcher(new Dispatcher() {
+
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody(new Buffer().write(RangedDownloadTest.this.blob));
+            }
+
+        });
+
+        requestDownload();
+
+        assertThat(Files.readAllBytes(this.destination)).isEqualTo(this.blob);
+    }
+
+    @Test
+    public void downloadRangesNotSupported() throws IOException {
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(false, false, false, false));
+
+        requestDownload();
+
+        assertThat(Files.readAllBytes(this.destination)).isEqualTo(this.blob);
+        assertThat(this.ranges).hasSize(1);
+    }
+
+    @Test
+    public void downloadRestartsChangedBlob() throws IOException {
+        this.etag = "\"test-etag-1\"";
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(true, false, false, true));
+        requestFailedDownload();
+
+        this.etag = "\"test-etag-2\"";
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(true, false, false, false));
+        requestDownload(1);
+
+        assertThat(Files.readAllBytes(this.destination)).isEqualTo(this.blob);
+        assertThat(this.ranges).hasSize(10);
+        assertThat(this.stateFile).doesNotExist();
+    }
+
+    @Test
+    public void downloadResumesAcrossCalls() throws IOException {
+        this.etag = "\"test-etag\"";
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(true, false, false, true));
+        requestFailedDownload();
+
+        assertThat(this.destination).exists();
+        assertThat(this.stateFile).exists();
+
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(true, false, false, false));
+        requestDownload(1);
+
+        assertThat(Files.readAllBytes(this.destination)).isEqualTo(this.blob);
+        assertThat(this.ranges).containsExactly("bytes=0-99", "bytes=500-599", "bytes=600-699", "bytes=700-799", "bytes=800-899", "bytes=900-999");
+        assertThat(this.stateFile).doesNotExist();
+    }
+
+    @Test
+    public void downloadResumesRange() throws IOException {
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(true, true, false, false));
+
+        requestDownload();
+
+        assertThat(Files.readAllBytes(this.destination)).isEqualTo(this.blob);
+        assertThat(this.ranges).hasSize(11);
+        assertThat(this.ranges).filteredOn(range -> range.endsWith("-599")).hasSize(2);
+    }
+
+    @Test
+    public void downloadResumesShortRange() throws IOException {
+        this.mockWebServer.setDispatcher(new BlobstoreDispatcher(true, false, true, false));
+
+        requestDownload();
+
+        assertThat(Files.readAllBytes(this.destination)).isEqualTo(this.blob);
+        assertThat(this.ranges).hasSize(11);
+        assertThat(this.ranges).contains("bytes=550-599");
+    }
+
+    @After
+    public void shutdown() throws IOException {
+        if (this.connectionContext != null) {
+            this.connectionContext.dispose();
+        }
+
+        this.mockWebServer.shutdown();
+        Files.deleteIfExists(this.destination);
+        Files.deleteIfExists(this.stateFile);
+    }
+
+    private void createConnectionContext() {
+        createConnectionContext(4);
+    }
+
+    private void createConnectionContext(int parallelism) {
+        if (this.connectionContext != null) {
+            this.connectionContext.dispose();
+        }
+
+        this.connectionContext = DefaultConnectionContext.builder()
+            .apiHost(this.mockWebServer.getHostName())
+            .port(this.mockWebServer.getPort())
+            .rangedDownloadConfiguration(RangedDownloadConfiguration.builder()
+                .parallelism(parallelism)
+                .rangeSize(100L)
+                .build())
+            .secure(false)
+            .build();
+    }
+
+    private void requestDownload() {
+        requestDownload(4);
+    }
+
+    private void requestDownload(int parallelism) {
+        createConnectionContext(parallelism);
+
+        requestDownloadPackage()
+            .as(StepVerifier::create)
+            .expectNext(this.destination)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private Mono<Path> requestDownloadPackage() {
+        return new ReactorPackages(this.connectionContext, Mono.just(this.mockWebServer.url("/").toString()), connectionContext -> Mono.just("test-authorization"), Collections.emptyMap())
+            .download(DownloadPackageRequest.builder()
+                .packageId("test-package-id")
+                .build(), this.destination);
+    }
+
+    private void requestFailedDownload() {
+        createConnectionContext(1);
+
+        requestDownloadPackage()
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t).isInstanceOf(UnknownCloudFoundryException.class))
+            .verify(Duration.ofSeconds(5));
+
+        this.ranges.clear();
+    }
+
+    private final class BlobstoreDispatcher extends Dispatcher {
+
+        private final AtomicBoolean disconnect;
+
+        private final boolean forbidden;
+
+        private final boolean rangesSupported;
+
+        private final AtomicBoolean shorten;
+
+        private BlobstoreDispatcher(boolean rangesSupported, boolean disconnect, boolean shorten, boolean forbidden) {
+            this.disconnect = new AtomicBoolean(disconnect);
+            this.forbidden = forbidden;
+            this.rangesSupported = rangesSupported;
+            this.shorten = new AtomicBoolean(shorten);
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            if (request.getPath().startsWith("/packages")) {
+                return new MockResponse()
+                    .setResponseCode(302)
+                    .setHeader("Location", "/blobstore/test-package");
+            }
+
+            assertThat(request.getHeader("Authorization")).isNull();
+            byte[] blob = RangedDownloadTest.this.blob;
+            String range = request.getHeader("Range");
+            RangedDownloadTest.this.ranges.add(range);
+
+            if (!this.rangesSupported) {
+                return new MockResponse().setBody(new Buffer().write(blob));
+            }
+
+            Matcher matcher = RANGE.matcher(range);
+            assertThat(matcher.matches()).isTrue();
+            int start = Integer.parseInt(matcher.group(1));
+
+            if (start == 500 && this.forbidden) {
+                return new MockResponse().setResponseCode(403);
+            }
+
+            int end = Math.min(Integer.parseInt(matcher.group(2)), blob.length - 1);
+            int bodyEnd = start == 500 && this.shorten.compareAndSet(true, false) ? start + (end - start) / 2 : end;
+
+            MockResponse response = new MockResponse()
+                .setResponseCode(206)
+                .setHeader("Content-Range", String.format("bytes %d-%d/%d", start, end, blob.length))
+                .setBody(new Buffer().write(blob, start, bodyEnd - start + 1));
+
+            if (RangedDownloadTest.this.etag != null) {
+                response.setHeader("ETag", RangedDownloadTest.this.etag);
+            }
+
+            if (start == 500 && this.disconnect.compareAndSet(true, false)) {
+                response.setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY);
+            }
+
+            return response;
+        }
+
+    }
+
+}
@@ -16,9 +16,14 @@
 
 package org.cloudfoundry.client.v2.applications;
 
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Function;
+
 /**
  * Main entry point to the Cloud Foundry Applications V2 Client API
  */
@@ -65,6 +70,26 @@ public interface ApplicationsV2 {
      */
     Flux<byte[]> download(DownloadApplicationRequest request);
 
+    /**
+     * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_bits_for_an_app.html">Downloads the bits for an App</a> request, writing the bits to a file
+     *
+     * @param request     the Download Application request
+     * @param destination the file to write the bits to
+     * @return the file the bits were written to
+     */
+    Mono<Path> download(DownloadApplicationRequest request, Path destination);
+
+    /**
+     * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_bits_for_an_app.html">Downloads the bits for an App</a> request, passing the bits to a transformer as buffers.
+     * Each buffer is released once the transformer has received it, so buffers must be consumed as they are received and must not be retained.
+     *
+     * @param request         the Download Application request
+     * @param bodyTransformer the transformer to pass the bits to
+     * @param <T>             the type of the transformed response
+     * @return the transformed response from the Download Application request
+     */
+    <T> Flux<T> download(DownloadApplicationRequest request, Function<Flux<ByteBuffer>, Publisher<T>> bodyTransformer);
+
     /**
      * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_staged_droplet_for_an_app.html">Downloads the staged droplet for an App</a> request
      *
@@ -73,6 +98,27 @@ public interface ApplicationsV2 {
      */
     Flux<byte[]> downloadDroplet(DownloadApplicationDropletRequest request);
 
+    /**
+     * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_staged_droplet_for_an_app.html">Downloads the staged droplet for an App</a> request, writing the droplet
+     * to a file
+     *
+     * @param request     the Download Droplet request
+     * @param destination the file to write the droplet to
+     * @return the file the droplet was written to
+     */
+    Mono<Path> downloadDroplet(DownloadApplicationDropletRequest request, Path destination);
+
+    /**
+     * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_staged_droplet_for_an_app.html">Downloads the staged droplet for an App</a> request, passing the
+     * droplet to a transformer as buffers.  Each buffer is released once the transformer has received it, so buffers must be consumed as they are received and must not be retained.
+     *
+     * @param request         the Download Droplet request
+     * @param bodyTransformer the transformer to pass the droplet to
+     * @param <T>             the type of the transformed response
+     * @return the transformed response from the Download Droplet request
+     */
+    <T> Flux<T> downloadDroplet(DownloadApplicationDropletRequest request, Function<Flux<ByteBuffer>, Publisher<T>> bodyTransformer);
+
     /**
      * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/get_the_env_for_an_app.html">Get the env for an App</a> request
      *
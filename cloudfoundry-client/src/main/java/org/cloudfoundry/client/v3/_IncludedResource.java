@@ -0,0 +1,54 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v3;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+
+import java.util.Map;
+
+/**
+ * A resource included with another resource, containing only the fields requested with a {@code fields} parameter
+ */
+@JsonDeserialize
+@Value.Immutable
+abstract class _IncludedResource {
+
+    /**
+     * The resource's id
+     */
+    @JsonProperty("guid")
+    @Nullable
+    abstract String getId();
+
+    /**
+     * The resource's name
+     */
+    @JsonProperty("name")
+    @Nullable
+    abstract String getName();
+
+    /**
+     * The resource's relationships
+     */
+    @JsonProperty("relationships")
+    @Nullable
+    abstract Map<String, ToOneRelationship> getRelationships();
+
+}
@@ -17,8 +17,12 @@
 package org.cloudfoundry.client.v3.applications;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.QueryParameter;
 import org.immutables.value.Value;
 
+import java.util.List;
+
 /**
  * The request payload for the Get Application operation
  */
@@ -31,4 +35,11 @@ abstract class _GetApplicationRequest {
     @JsonIgnore
     abstract String getApplicationId();
 
+    /**
+     * The resources to include with the application
+     */
+    @QueryParameter("include")
+    @Nullable
+    abstract List<ApplicationInclude> getIncludes();
+
 }
@@ -16,7 +16,9 @@
 
 package org.cloudfoundry.client.v3.applications;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.cloudfoundry.Nullable;
 import org.immutables.value.Value;
 
 /**
@@ -26,4 +28,11 @@ import org.immutables.value.Value;
 @Value.Immutable
 abstract class _GetApplicationResponse extends Application {
 
+    /**
+     * The included resources
+     */
+    @JsonProperty("included")
+    @Nullable
+    abstract ApplicationIncluded getIncluded();
+
 }
@@ -17,6 +17,7 @@
 package org.cloudfoundry.client.v3.applications;
 
 import org.cloudfoundry.Nullable;
+import org.cloudfoundry.QueryParameter;
 import org.cloudfoundry.client.v3.FilterParameter;
 import org.cloudfoundry.client.v3.PaginatedRequest;
 import org.immutables.value.Value;
@@ -35,6 +36,13 @@ abstract class _ListApplicationsRequest extends PaginatedRequest {
     @FilterParameter("guids")
     abstract List<String> getApplicationIds();
 
+    /**
+     * The resources to include with the applications
+     */
+    @QueryParameter("include")
+    @Nullable
+    abstract List<ApplicationInclude> getIncludes();
+
     /**
      * The metadata query
      */
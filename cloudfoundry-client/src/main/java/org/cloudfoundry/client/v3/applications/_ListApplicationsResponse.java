@@ -16,7 +16,9 @@
 
 package org.cloudfoundry.client.v3.applications;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.cloudfoundry.Nullable;
 import org.cloudfoundry.client.v3.PaginatedResponse;
 import org.immutables.value.Value;
 
@@ -27,4 +29,11 @@ import org.immutables.value.Value;
 @Value.Immutable
 abstract class _ListApplicationsResponse extends PaginatedResponse<ApplicationResource> {
 
+    /**
+     * The included resources
+     */
+    @JsonProperty("included")
+    @Nullable
+    abstract ApplicationIncluded getIncluded();
+
 }
@@ -42,4 +42,11 @@ abstract class _CreateDeploymentRequest {
     @JsonProperty("relationships")
     abstract DeploymentRelationships getRelationships();
 
+    /**
+     * The strategy
+     */
+    @JsonProperty("strategy")
+    @Nullable
+    abstract DeploymentStrategy getStrategy();
+
 }
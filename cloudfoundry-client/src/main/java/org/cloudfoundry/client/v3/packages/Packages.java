@@ -16,9 +16,14 @@
 
 package org.cloudfoundry.client.v3.packages;
 
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Function;
+
 /**
  * Main entry point to the Cloud Foundry Packages Client API
  */
@@ -56,6 +61,26 @@ public interface Packages {
      */
     Flux<byte[]> download(DownloadPackageRequest request);
 
+    /**
+     * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.27.0/index.html#download-package-bits">Download the bits for a package</a> request, writing the bits to a file
+     *
+     * @param request     the Download Package request
+     * @param destination the file to write the bits to
+     * @return the file the bits were written to
+     */
+    Mono<Path> download(DownloadPackageRequest request, Path destination);
+
+    /**
+     * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.27.0/index.html#download-package-bits">Download the bits for a package</a> request, passing the bits to a transformer as
+     * buffers.  Each buffer is released once the transformer has received it, so buffers must be consumed as they are received and must not be retained.
+     *
+     * @param request         the Download Package request
+     * @param bodyTransformer the transformer to pass the bits to
+     * @param <T>             the type of the transformed response
+     * @return the transformed response from the Download Package request
+     */
+    <T> Flux<T> download(DownloadPackageRequest request, Function<Flux<ByteBuffer>, Publisher<T>> bodyTransformer);
+
     /**
      * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.27.0/index.html#get-a-package">Get Package</a> request
      *
@@ -17,11 +17,13 @@
 package org.cloudfoundry.client.v3.serviceinstances;
 
 import org.cloudfoundry.Nullable;
+import org.cloudfoundry.QueryParameter;
 import org.cloudfoundry.client.v3.FilterParameter;
 import org.cloudfoundry.client.v3.PaginatedRequest;
 import org.immutables.value.Value;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * The request payload for the List Service Instances operation.
@@ -29,6 +31,13 @@ import java.util.List;
 @Value.Immutable
 abstract class _ListServiceInstancesRequest extends PaginatedRequest {
 
+    /**
+     * The fields of related resources to include, keyed by resource (for example {@code space.organization})
+     */
+    @QueryParameter("fields")
+    @Nullable
+    abstract Map<String, List<String>> getFields();
+
     /**
      * The metadata query
      */
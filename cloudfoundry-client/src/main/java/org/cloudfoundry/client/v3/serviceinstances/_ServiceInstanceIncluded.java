@@ -0,0 +1,69 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v3.serviceinstances;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.client.v3.IncludedResource;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * The resources included with service instances when requested with {@code fields}
+ */
+@JsonDeserialize
+@Value.Immutable
+abstract class _ServiceInstanceIncluded {
+
+    /**
+     * The included organizations
+     */
+    @JsonProperty("organizations")
+    @Nullable
+    abstract List<IncludedResource> getOrganizations();
+
+    /**
+     * The included service brokers
+     */
+    @JsonProperty("service_brokers")
+    @Nullable
+    abstract List<IncludedResource> getServiceBrokers();
+
+    /**
+     * The included service offerings
+     */
+    @JsonProperty("service_offerings")
+    @Nullable
+    abstract List<IncludedResource> getServiceOfferings();
+
+    /**
+     * The included service plans
+     */
+    @JsonProperty("service_plans")
+    @Nullable
+    abstract List<IncludedResource> getServicePlans();
+
+    /**
+     * The included spaces
+     */
+    @JsonProperty("spaces")
+    @Nullable
+    abstract List<IncludedResource> getSpaces();
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v3.spaces;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * A resource that can be included with a {@link Space}
+ */
+public enum SpaceInclude {
+
+    /**
+     * The organization
+     */
+    ORGANIZATION("organization");
+
+    private final String value;
+
+    SpaceInclude(String value) {
+        this.value = value;
+    }
+
+    @JsonCreator
+    public static SpaceInclude from(String s) {
+        switch (s.toLowerCase()) {
+            case "organization":
+                return ORGANIZATION;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown space include: %s", s));
+        }
+    }
+
+    @JsonValue
+    public String getValue() {
+        return this.value;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+}
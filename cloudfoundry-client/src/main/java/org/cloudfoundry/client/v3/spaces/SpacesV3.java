@@ -23,6 +23,14 @@ import reactor.core.publisher.Mono;
  */
 public interface SpacesV3 {
 
+    /**
+     * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.90.0/index.html#apply-a-manifest-to-a-space">Apply a Manifest</a> request
+     *
+     * @param request the Apply a Manifest request
+     * @return the response from the Apply a Manifest request
+     */
+    Mono<String> applyManifest(ApplyManifestRequest request);
+
     /**
      * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.27.0/index.html#assign-an-isolation-segment">Assign an Isolation Segment</a> request
      *
@@ -39,6 +47,14 @@ public interface SpacesV3 {
      */
     Mono<CreateSpaceResponse> create(CreateSpaceRequest request);
 
+    /**
+     * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.90.0/index.html#create-a-manifest-diff-for-a-space-experimental">Create a Manifest Diff</a> request
+     *
+     * @param request the Create a Manifest Diff request
+     * @return the response from the Create a Manifest Diff request
+     */
+    Mono<CreateManifestDiffResponse> createManifestDiff(CreateManifestDiffRequest request);
+
     /**
      * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.87.0/index.html#delete-a-space">Delete Space</a> request
      *
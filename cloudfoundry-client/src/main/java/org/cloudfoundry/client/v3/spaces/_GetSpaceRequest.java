@@ -17,14 +17,25 @@
 package org.cloudfoundry.client.v3.spaces;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.QueryParameter;
 import org.immutables.value.Value;
 
+import java.util.List;
+
 /**
  * The request payload for the Get Space operation
  */
 @Value.Immutable
 abstract class _GetSpaceRequest {
 
+    /**
+     * The resources to include with the space
+     */
+    @QueryParameter("include")
+    @Nullable
+    abstract List<SpaceInclude> getIncludes();
+
     /**
      * The space id
      */
@@ -16,6 +16,8 @@
 
 package org.cloudfoundry.client.v3.spaces;
 
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.QueryParameter;
 import org.cloudfoundry.client.v3.FilterParameter;
 import org.cloudfoundry.client.v3.PaginatedRequest;
 import org.immutables.value.Value;
@@ -28,6 +30,13 @@ import java.util.List;
 @Value.Immutable
 abstract class _ListSpacesRequest extends PaginatedRequest {
 
+    /**
+     * The resources to include with the spaces
+     */
+    @QueryParameter("include")
+    @Nullable
+    abstract List<SpaceInclude> getIncludes();
+
     /**
      * List of space names to filter by
      */
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.client.v3.spaces;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.client.v3.organizations.OrganizationResource;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * The resources included with spaces when requested with {@link SpaceInclude}
+ */
+@JsonDeserialize
+@Value.Immutable
+abstract class _SpaceIncluded {
+
+    /**
+     * The included organizations
+     */
+    @JsonProperty("organizations")
+    @Nullable
+    abstract List<OrganizationResource> getOrganizations();
+
+}
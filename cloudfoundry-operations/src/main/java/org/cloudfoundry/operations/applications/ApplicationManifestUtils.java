@@ -26,6 +26,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -98,7 +99,7 @@ public final class ApplicationManifestUtils {
     }
 
     /**
-     * Write {@link ApplicationManifest}s to an {@link OutputStream}
+     * Write {@link ApplicationManifest}s to an {@link OutputStream} as UTF-8
      *
      * @param out                  the {@link OutputStream} to write to
      * @param applicationManifests the manifests to write
@@ -108,13 +109,13 @@ public final class ApplicationManifestUtils {
     }
 
     /**
-     * Write {@link ApplicationManifest}s to an {@link OutputStream}
+     * Write {@link ApplicationManifest}s to an {@link OutputStream} as UTF-8
      *
      * @param out                  the {@link OutputStream} to write to
      * @param applicationManifests the manifests to write
      */
     public static void write(OutputStream out, List<ApplicationManifest> applicationManifests) {
-        try (Writer writer = new OutputStreamWriter(out)) {
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
             YAML.dump(Collections.singletonMap("applications",
                 applicationManifests.stream()
                     .map(ApplicationManifestUtils::toYaml)
@@ -350,6 +351,16 @@ public final class ApplicationManifestUtils {
         return builder;
     }
 
+    private static Map<String, Object> toDockerYaml(Docker docker) {
+        Map<String, Object> yaml = new TreeMap<>();
+
+        putIfPresent(yaml, "image", docker.getImage());
+        putIfPresent(yaml, "password", docker.getPassword());
+        putIfPresent(yaml, "username", docker.getUsername());
+
+        return yaml;
+    }
+
     private static List<Map<String, String>> toRoutesYaml(List<Route> routes) {
         return routes.stream()
             .map(route -> Collections.singletonMap("route", route.getRoute()))
@@ -365,7 +376,7 @@ public final class ApplicationManifestUtils {
         if (null != disk) {
             putIfPresent(yaml, "disk_quota", applicationManifest.getDisk().toString() + "M");
         }
-        putIfPresent(yaml, "docker", applicationManifest.getDocker());
+        putIfPresent(yaml, "docker", applicationManifest.getDocker(), ApplicationManifestUtils::toDockerYaml);
         putIfPresent(yaml, "domains", applicationManifest.getDomains());
         putIfPresent(yaml, "env", applicationManifest.getEnvironmentVariables());
         putIfPresent(yaml, "health-check-http-endpoint", applicationManifest.getHealthCheckHttpEndpoint());
@@ -67,6 +67,14 @@ public interface Applications {
      */
     Mono<ApplicationDetail> get(GetApplicationRequest request);
 
+    /**
+     * Gets information for a set of applications in the targeted space.  Lookups are shared between the applications, so this is cheaper than getting each application in turn.
+     *
+     * @param request the get applications request
+     * @return the applications, in the order they were named
+     */
+    Flux<ApplicationDetail> get(GetApplicationsRequest request);
+
     /**
      * Gets the manifest for a specific application
      *
@@ -106,6 +114,15 @@ public interface Applications {
      */
     Flux<ApplicationSummary> list();
 
+    /**
+     * Lists the applications in a set of organizations, or all applications visible to the user, without requiring a targeted space.  Applications are requested a page at a time and
+     * joined with their processes, instance statistics and routes, so memory use is proportional to the page size rather than the number of applications.
+     *
+     * @param request the list all applications request
+     * @return the applications
+     */
+    Flux<ApplicationSummary> listAll(ListAllApplicationsRequest request);
+
     /**
      * Lists the tasks for an application
      *
@@ -162,6 +179,14 @@ public interface Applications {
      */
     Mono<Void> restart(RestartApplicationRequest request);
 
+    /**
+     * Restarts many applications, stopping any that are running and then starting each and waiting for it to run.  Applications are selected with a single listing and operated on in rolling batches, and a failure for one application does not prevent the others from being operated on.
+     *
+     * @param request the restart applications request
+     * @return the result for each application
+     */
+    Flux<ApplicationOperationResult> restart(RestartApplicationsRequest request);
+
     /**
      * Restart a specific application instance
      *
@@ -170,6 +195,15 @@ public interface Applications {
      */
     Mono<Void> restartInstance(RestartApplicationInstanceRequest request);
 
+    /**
+     * Restarts many applications without downtime using rolling deployments, optionally restaging each application first.  Progress is followed through each deployment's status, a deployment
+     * that does not complete in time is canceled, and canceling the returned {@link Flux} cancels any deployments in progress.
+     *
+     * @param request the rolling restart applications request
+     * @return the result for each application
+     */
+    Flux<ApplicationOperationResult> rollingRestart(RollingRestartApplicationsRequest request);
+
     /**
      * Run a one-off task on an application
      *
@@ -194,6 +228,14 @@ public interface Applications {
      */
     Mono<Void> scale(ScaleApplicationRequest request);
 
+    /**
+     * Scales many applications, restarting any that are running if their disk or memory limit changes.  Applications are selected with a single listing and operated on in rolling batches, and a failure for one application does not prevent the others from being operated on.
+     *
+     * @param request the scale applications request
+     * @return the result for each application
+     */
+    Flux<ApplicationOperationResult> scale(ScaleApplicationsRequest request);
+
     /**
      * Set an environment variable of an application
      *
@@ -234,6 +276,14 @@ public interface Applications {
      */
     Mono<Void> stop(StopApplicationRequest request);
 
+    /**
+     * Stops many applications, skipping any that are already stopped.  Applications are selected with a single listing and operated on in rolling batches, and a failure for one application does not prevent the others from being operated on.
+     *
+     * @param request the stop applications request
+     * @return the result for each application
+     */
+    Flux<ApplicationOperationResult> stop(StopApplicationsRequest request);
+
     /**
      * Unset an environment variable of an application
      *
@@ -242,4 +292,13 @@ public interface Applications {
      */
     Mono<Void> unsetEnvironmentVariable(UnsetEnvironmentVariableApplicationRequest request);
 
+    /**
+     * Sets and unsets environment variables of many applications in the targeted space.  Each application is updated with a single request that only changes the named variables, and a
+     * failure to update one application does not prevent the others from being updated.
+     *
+     * @param request the update environment variables request
+     * @return the result for each application, in the order they were named
+     */
+    Flux<ApplicationOperationResult> updateEnvironmentVariables(UpdateEnvironmentVariablesApplicationRequest request);
+
 }
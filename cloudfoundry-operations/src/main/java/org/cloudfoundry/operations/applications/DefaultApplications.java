@@ -16,6 +16,7 @@
 
 package org.cloudfoundry.operations.applications;
 
+import org.cloudfoundry.Nullable;
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.client.v2.OrderDirection;
 import org.cloudfoundry.client.v2.applications.AbstractApplicationResource;
@@ -25,8 +26,6 @@ import org.cloudfoundry.client.v2.applications.ApplicationEnvironmentResponse;
 import org.cloudfoundry.client.v2.applications.ApplicationInstanceInfo;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesRequest;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesResponse;
-import org.cloudfoundry.client.v2.applications.ApplicationStatisticsRequest;
-import org.cloudfoundry.client.v2.applications.ApplicationStatisticsResponse;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteResponse;
 import org.cloudfoundry.client.v2.applications.CopyApplicationRequest;
@@ -34,20 +33,17 @@ import org.cloudfoundry.client.v2.applications.CopyApplicationResponse;
 import org.cloudfoundry.client.v2.applications.CreateApplicationRequest;
 import org.cloudfoundry.client.v2.applications.CreateApplicationResponse;
 import org.cloudfoundry.client.v2.applications.DockerCredentials;
-import org.cloudfoundry.client.v2.applications.InstanceStatistics;
 import org.cloudfoundry.client.v2.applications.ListApplicationRoutesRequest;
 import org.cloudfoundry.client.v2.applications.ListApplicationServiceBindingsRequest;
 import org.cloudfoundry.client.v2.applications.RemoveApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.RemoveApplicationServiceBindingRequest;
 import org.cloudfoundry.client.v2.applications.RestageApplicationResponse;
-import org.cloudfoundry.client.v2.applications.Statistics;
 import org.cloudfoundry.client.v2.applications.SummaryApplicationRequest;
 import org.cloudfoundry.client.v2.applications.SummaryApplicationResponse;
 import org.cloudfoundry.client.v2.applications.TerminateApplicationInstanceRequest;
 import org.cloudfoundry.client.v2.applications.UpdateApplicationRequest;
 import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
 import org.cloudfoundry.client.v2.applications.UploadApplicationResponse;
-import org.cloudfoundry.client.v2.applications.Usage;
 import org.cloudfoundry.client.v2.events.EventEntity;
 import org.cloudfoundry.client.v2.events.EventResource;
 import org.cloudfoundry.client.v2.events.ListEventsRequest;
@@ -83,11 +79,56 @@ import org.cloudfoundry.client.v2.stacks.GetStackResponse;
 import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
 import org.cloudfoundry.client.v2.stacks.StackResource;
 import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.ClientV3Exception;
 import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.Metadata;
+import org.cloudfoundry.client.v3.Relationship;
 import org.cloudfoundry.client.v3.Resource;
+import org.cloudfoundry.client.v3.ToOneRelationship;
 import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletResponse;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsResponse;
 import org.cloudfoundry.client.v3.applications.GetApplicationResponse;
+import org.cloudfoundry.client.v3.applications.ListApplicationPackagesRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationPackagesResponse;
 import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationEnvironmentVariablesRequest;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationEnvironmentVariablesResponse;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationResponse;
+import org.cloudfoundry.client.v3.builds.BuildState;
+import org.cloudfoundry.client.v3.builds.CreateBuildRequest;
+import org.cloudfoundry.client.v3.builds.CreateBuildResponse;
+import org.cloudfoundry.client.v3.builds.GetBuildRequest;
+import org.cloudfoundry.client.v3.builds.GetBuildResponse;
+import org.cloudfoundry.client.v3.deployments.CancelDeploymentRequest;
+import org.cloudfoundry.client.v3.deployments.CancelDeploymentResponse;
+import org.cloudfoundry.client.v3.deployments.CreateDeploymentRequest;
+import org.cloudfoundry.client.v3.deployments.CreateDeploymentResponse;
+import org.cloudfoundry.client.v3.deployments.Deployment;
+import org.cloudfoundry.client.v3.deployments.DeploymentRelationships;
+import org.cloudfoundry.client.v3.deployments.DeploymentStatusReason;
+import org.cloudfoundry.client.v3.deployments.DeploymentStatusValue;
+import org.cloudfoundry.client.v3.deployments.DeploymentStrategy;
+import org.cloudfoundry.client.v3.deployments.GetDeploymentRequest;
+import org.cloudfoundry.client.v3.deployments.GetDeploymentResponse;
+import org.cloudfoundry.client.v3.droplets.Droplet;
+import org.cloudfoundry.client.v3.packages.PackageResource;
+import org.cloudfoundry.client.v3.packages.PackageState;
+import org.cloudfoundry.client.v3.processes.GetProcessStatisticsRequest;
+import org.cloudfoundry.client.v3.processes.GetProcessStatisticsResponse;
+import org.cloudfoundry.client.v3.processes.ListProcessesRequest;
+import org.cloudfoundry.client.v3.processes.ProcessRelationships;
+import org.cloudfoundry.client.v3.processes.ProcessResource;
+import org.cloudfoundry.client.v3.processes.ProcessState;
+import org.cloudfoundry.client.v3.processes.ProcessStatistics;
+import org.cloudfoundry.client.v3.processes.ProcessUsage;
+import org.cloudfoundry.client.v3.spaces.ApplyManifestRequest;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffRequest;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffResponse;
 import org.cloudfoundry.client.v3.tasks.CancelTaskRequest;
 import org.cloudfoundry.client.v3.tasks.CancelTaskResponse;
 import org.cloudfoundry.client.v3.tasks.CreateTaskRequest;
@@ -100,6 +141,7 @@ import org.cloudfoundry.doppler.LogMessage;
 import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.operations.util.OperationsLogging;
+import org.cloudfoundry.util.CompletionTracker;
 import org.cloudfoundry.util.DateUtils;
 import org.cloudfoundry.util.DelayTimeoutException;
 import org.cloudfoundry.util.ExceptionUtils;
@@ -110,62 +152,84 @@ import org.cloudfoundry.util.PaginationUtils;
 import org.cloudfoundry.util.ResourceMatchingUtils;
 import org.cloudfoundry.util.ResourceUtils;
 import org.cloudfoundry.util.SortingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
-import reactor.util.function.Tuple5;
 import reactor.util.function.Tuples;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static org.cloudfoundry.client.v3.LifecycleType.BUILDPACK;
-import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
 
 public final class DefaultApplications implements Applications {
 
-    private static final int CF_APP_STOPPED_STATS_ERROR = 200003;
+    private static final int APPLICATION_IDS_PER_REQUEST = 100;
 
-    private static final int CF_BUILDPACK_COMPILED_FAILED = 170004;
-
-    private static final int CF_INSTANCES_ERROR = 220001;
+    private static final int APPLICATION_NAMES_PER_REQUEST = 50;
 
     private static final int CF_SERVICE_ALREADY_BOUND = 90003;
 
-    private static final int CF_STAGING_ERROR = 170001;
-
-    private static final int CF_STAGING_NOT_FINISHED = 170002;
-
-    private static final int CF_STAGING_TIME_EXPIRED = 170007;
-
     private static final String[] ENTRY_FIELDS_CRASH = {"index", "reason", "exit_description"};
 
     private static final String[] ENTRY_FIELDS_NORMAL = {"instances", "memory", "state", "environment_json"};
 
+    private static final Set<String> LIFECYCLE_SOURCE_TYPES = new HashSet<>(Arrays.asList("API", "CELL", "STG"));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.operations");
+
     private static final Comparator<LogMessage> LOG_MESSAGE_COMPARATOR = Comparator.comparing(LogMessage::getTimestamp);
 
     private static final Duration LOG_MESSAGE_TIMESPAN = Duration.ofMillis(500);
 
     private static final int MAX_NUMBER_OF_RECENT_EVENTS = 50;
 
+    private static final int MAX_RESULTS_PER_PAGE = 100;
+
+    private static final int PROCESS_STATISTICS_CONCURRENCY = 8;
+
+    private static final String PUSH_FINGERPRINT_ANNOTATION = "cf-java-client/push-fingerprint";
+
+    private static final List<String> READINESS_LOG_MESSAGES = Arrays.asList("App instance exited", "Container became healthy", "Exit status", "Process has crashed", "Staging complete",
+        "Staging failed", "Uploading complete");
+
+    private static final Duration READINESS_POLL_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Duration READINESS_STREAM_GRACE_PERIOD = Duration.ofSeconds(10);
+
+    private static final Duration READINESS_TRIGGER_INTERVAL = Duration.ofSeconds(1);
+
     private static final String STARTED_STATE = "STARTED";
 
     private static final String STOPPED_STATE = "STOPPED";
@@ -201,7 +265,7 @@ public final class DefaultApplications implements Applications {
             .flatMap(function((cloudFoundryClient, sourceApplicationId, targetApplicationId) -> copyBits(cloudFoundryClient, request.getStagingTimeout(), sourceApplicationId, targetApplicationId)
                 .thenReturn(Tuples.of(cloudFoundryClient, targetApplicationId))))
             .filter(predicate((cloudFoundryClient, targetApplicationId) -> Optional.ofNullable(request.getRestart()).orElse(false)))
-            .flatMap(function((cloudFoundryClient, targetApplicationId) -> restartApplication(cloudFoundryClient, request.getTargetName(), targetApplicationId, request.getStagingTimeout(),
+            .flatMap(function((cloudFoundryClient, targetApplicationId) -> restartApplication(cloudFoundryClient, this.dopplerClient, request.getTargetName(), targetApplicationId, request.getStagingTimeout(),
                 request.getStartupTimeout())))
             .transform(OperationsLogging.log("Copy Application Source"))
             .checkpoint();
@@ -253,16 +317,21 @@ public final class DefaultApplications implements Applications {
     public Mono<ApplicationDetail> get(GetApplicationRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
-                Mono.just(cloudFoundryClient),
-                getApplication(cloudFoundryClient, request.getName(), spaceId)
-            )))
-            .flatMap(function(DefaultApplications::getAuxiliaryContent))
-            .map(function(DefaultApplications::toApplicationDetail))
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> getApplicationDetails(cloudFoundryClient, Collections.singletonList(request.getName()), spaceId)))
+            .single()
             .transform(OperationsLogging.log("Get Application"))
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationDetail> get(GetApplicationsRequest request) {
+        return Mono
+            .zip(this.cloudFoundryClient, this.spaceId)
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> getApplicationDetails(cloudFoundryClient, request.getNames(), spaceId)))
+            .transform(OperationsLogging.log("Get Applications"))
+            .checkpoint();
+    }
+
     @Override
     public Mono<ApplicationManifest> getApplicationManifest(GetApplicationManifestRequest request) {
         return Mono
@@ -308,8 +377,8 @@ public final class DefaultApplications implements Applications {
                 Mono.just(cloudFoundryClient),
                 getApplicationId(cloudFoundryClient, request.getName(), spaceId)
             )))
-            .flatMapMany(function((cloudFoundryClient, applicationId) -> requestEvents(applicationId, cloudFoundryClient)
-                .take(Optional.ofNullable(request.getMaxNumberOfEvents()).orElse(MAX_NUMBER_OF_RECENT_EVENTS))))
+            .flatMapMany(function((cloudFoundryClient, applicationId) -> requestEvents(cloudFoundryClient, applicationId,
+                Optional.ofNullable(request.getMaxNumberOfEvents()).orElse(MAX_NUMBER_OF_RECENT_EVENTS), request.getSince())))
             .map(DefaultApplications::convertToApplicationEvent)
             .transform(OperationsLogging.log("Get Application Events"))
             .checkpoint();
@@ -336,6 +405,18 @@ public final class DefaultApplications implements Applications {
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationSummary> listAll(ListAllApplicationsRequest request) {
+        return this.cloudFoundryClient
+            .flatMapMany(cloudFoundryClient -> Flux.fromIterable(request.getOrganizationNames())
+                .flatMapSequential(organization -> getOrganizationId(cloudFoundryClient, organization))
+                .collectList()
+                .flatMapMany(organizationIds -> requestApplicationPagesV3(cloudFoundryClient, organizationIds, request.getPageSize()))
+                .flatMapSequential(response -> getApplicationSummaries(cloudFoundryClient, response.getResources()), request.getConcurrency(), 1))
+            .transform(OperationsLogging.log("List All Applications"))
+            .checkpoint();
+    }
+
     @Override
     public Flux<Task> listTasks(ListApplicationTasksRequest request) {
         return Mono
@@ -396,6 +477,7 @@ public final class DefaultApplications implements Applications {
             .dockerPassword(request.getDockerPassword())
             .dockerUsername(request.getDockerUsername())
             .noStart(request.getNoStart())
+            .skipUnchanged(request.getSkipUnchanged())
             .stagingTimeout(request.getStagingTimeout())
             .startupTimeout(request.getStartupTimeout())
             .build())
@@ -407,26 +489,10 @@ public final class DefaultApplications implements Applications {
     public Mono<Void> pushManifest(PushApplicationManifestRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
-                Mono.just(cloudFoundryClient),
-                getSpaceOrganizationId(cloudFoundryClient, spaceId),
-                Mono.just(spaceId)
-            )))
-            .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
-                Mono.just(cloudFoundryClient),
-                listAvailableDomains(cloudFoundryClient, organizationId),
-                Mono.just(spaceId))))
-            .flatMapMany(function((cloudFoundryClient, availableDomains, spaceId) -> Flux.fromIterable(request.getManifests())
-                .flatMap(manifest -> {
-                    if (manifest.getPath() != null) {
-                        return pushApplication(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, spaceId);
-                    } else if (!manifest.getDocker().getImage().isEmpty()) {
-                        return pushDocker(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, spaceId);
-                    } else {
-                        throw new IllegalStateException("One of application or dockerImage must be supplied");
-                    }
-                })))
-            .then()
+            .flatMap(function((cloudFoundryClient, spaceId) -> applyManifest(cloudFoundryClient, request, spaceId)
+                .flatMap(applied -> applied ?
+                    pushManifestBits(cloudFoundryClient, this.dopplerClient, request, spaceId) :
+                    pushManifestClientSide(cloudFoundryClient, this.dopplerClient, this.randomWords, request, spaceId))))
             .transform(OperationsLogging.log("Push Manifest"))
             .checkpoint();
     }
@@ -453,7 +519,7 @@ public final class DefaultApplications implements Applications {
                 Mono.just(cloudFoundryClient),
                 getApplicationId(cloudFoundryClient, request.getName(), spaceId)
             )))
-            .flatMap(function((cloudFoundryClient, applicationId) -> restageApplication(cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout
+            .flatMap(function((cloudFoundryClient, applicationId) -> restageApplication(cloudFoundryClient, this.dopplerClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout
                 ())))
             .transform(OperationsLogging.log("Restage Application"))
             .checkpoint();
@@ -471,12 +537,24 @@ public final class DefaultApplications implements Applications {
                 Mono.just(cloudFoundryClient),
                 stopApplicationIfNotStopped(cloudFoundryClient, resource)
             )))
-            .flatMap(function((cloudFoundryClient, stoppedApplication) -> startApplicationAndWait(cloudFoundryClient, request.getName(), ResourceUtils.getId(stoppedApplication),
+            .flatMap(function((cloudFoundryClient, stoppedApplication) -> startApplicationAndWait(cloudFoundryClient, this.dopplerClient, request.getName(), ResourceUtils.getId(stoppedApplication),
                 request.getStagingTimeout(), request.getStartupTimeout())))
             .transform(OperationsLogging.log("Restart Application"))
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationOperationResult> restart(RestartApplicationsRequest request) {
+        return Mono
+            .zip(this.cloudFoundryClient, this.spaceId)
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> forEachApplication(cloudFoundryClient, spaceId, request.getSelector(), request.getConcurrency(), request.getBatchSize(),
+                application -> stopApplicationIfNotStopped(cloudFoundryClient, application)
+                    .then(startApplicationAndWait(cloudFoundryClient, this.dopplerClient, application.getName(), application.getId(), request.getStagingTimeout(),
+                        request.getStartupTimeout())))))
+            .transform(OperationsLogging.log("Restart Applications"))
+            .checkpoint();
+    }
+
     @Override
     public Mono<Void> restartInstance(RestartApplicationInstanceRequest request) {
         return Mono
@@ -490,6 +568,16 @@ public final class DefaultApplications implements Applications {
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationOperationResult> rollingRestart(RollingRestartApplicationsRequest request) {
+        return Mono
+            .zip(this.cloudFoundryClient, this.spaceId)
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> forEachApplication(cloudFoundryClient, spaceId, request.getSelector(), request.getConcurrency(), null,
+                application -> deployApplication(cloudFoundryClient, application.getName(), application.getId(), request))))
+            .transform(OperationsLogging.log("Rolling Restart Applications"))
+            .checkpoint();
+    }
+
     @Override
     public Mono<Task> runTask(RunApplicationTaskRequest request) {
         return Mono
@@ -508,7 +596,7 @@ public final class DefaultApplications implements Applications {
     public Mono<Void> scale(ScaleApplicationRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .filter(predicate((cloudFoundryClient, spaceId) -> areModifiersPresent(request)))
+            .filter(predicate((cloudFoundryClient, spaceId) -> areModifiersPresent(request.getDiskLimit(), request.getInstances(), request.getMemoryLimit())))
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 getApplicationId(cloudFoundryClient, request.getName(), spaceId)
@@ -517,13 +605,27 @@ public final class DefaultApplications implements Applications {
                 Mono.just(cloudFoundryClient),
                 requestUpdateApplicationScale(cloudFoundryClient, applicationId, request.getDiskLimit(), request.getInstances(), request.getMemoryLimit())
             )))
-            .filter(predicate((cloudFoundryClient, resource) -> isRestartRequired(request, resource)))
-            .flatMap(function((cloudFoundryClient, resource) -> restartApplication(cloudFoundryClient, request.getName(), ResourceUtils.getId(resource), request.getStagingTimeout(),
+            .filter(predicate((cloudFoundryClient, resource) -> isRestartRequired(request.getDiskLimit(), request.getMemoryLimit(), resource)))
+            .flatMap(function((cloudFoundryClient, resource) -> restartApplication(cloudFoundryClient, this.dopplerClient, request.getName(), ResourceUtils.getId(resource), request.getStagingTimeout(),
                 request.getStartupTimeout())))
             .transform(OperationsLogging.log("Scale Application"))
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationOperationResult> scale(ScaleApplicationsRequest request) {
+        return Mono
+            .zip(this.cloudFoundryClient, this.spaceId)
+            .filter(predicate((cloudFoundryClient, spaceId) -> areModifiersPresent(request.getDiskLimit(), request.getInstances(), request.getMemoryLimit())))
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> forEachApplication(cloudFoundryClient, spaceId, request.getSelector(), request.getConcurrency(), request.getBatchSize(),
+                application -> requestUpdateApplicationScale(cloudFoundryClient, application.getId(), request.getDiskLimit(), request.getInstances(), request.getMemoryLimit())
+                    .filter(resource -> isRestartRequired(request.getDiskLimit(), request.getMemoryLimit(), resource))
+                    .flatMap(resource -> restartApplication(cloudFoundryClient, this.dopplerClient, application.getName(), application.getId(), request.getStagingTimeout(),
+                        request.getStartupTimeout())))))
+            .transform(OperationsLogging.log("Scale Applications"))
+            .checkpoint();
+    }
+
     @Override
     public Mono<Void> setEnvironmentVariable(SetEnvironmentVariableApplicationRequest request) {
         return Mono
@@ -571,7 +673,7 @@ public final class DefaultApplications implements Applications {
                 Mono.just(cloudFoundryClient),
                 getApplicationIdWhere(cloudFoundryClient, request.getName(), spaceId, isNotIn(STARTED_STATE))
             )))
-            .flatMap(function((cloudFoundryClient, applicationId) -> startApplicationAndWait(cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(),
+            .flatMap(function((cloudFoundryClient, applicationId) -> startApplicationAndWait(cloudFoundryClient, this.dopplerClient, request.getName(), applicationId, request.getStagingTimeout(),
                 request.getStartupTimeout())))
             .transform(OperationsLogging.log("Start Application"))
             .checkpoint();
@@ -591,6 +693,16 @@ public final class DefaultApplications implements Applications {
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationOperationResult> stop(StopApplicationsRequest request) {
+        return Mono
+            .zip(this.cloudFoundryClient, this.spaceId)
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> forEachApplication(cloudFoundryClient, spaceId, request.getSelector(), request.getConcurrency(), request.getBatchSize(),
+                application -> stopApplicationIfNotStopped(cloudFoundryClient, application))))
+            .transform(OperationsLogging.log("Stop Applications"))
+            .checkpoint();
+    }
+
     @Override
     public Mono<Void> terminateTask(TerminateApplicationTaskRequest request) {
         return Mono
@@ -624,6 +736,20 @@ public final class DefaultApplications implements Applications {
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationOperationResult> updateEnvironmentVariables(UpdateEnvironmentVariablesApplicationRequest request) {
+        Map<String, String> variables = toEnvironmentVariables(request);
+
+        return Mono
+            .zip(this.cloudFoundryClient, this.spaceId)
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> forEachApplication(cloudFoundryClient, spaceId, ApplicationSelector.builder()
+                    .names(request.getNames())
+                    .build(), request.getConcurrency(), null,
+                application -> requestUpdateEnvironmentVariables(cloudFoundryClient, application.getId(), variables))))
+            .transform(OperationsLogging.log("Update Application Environment Variables"))
+            .checkpoint();
+    }
+
     private static Map<String, Object> addToEnvironment(Map<String, Object> environment, String variableName, Object variableValue) {
         return FluentMap.<String, Object>builder()
             .entries(environment)
@@ -631,8 +757,27 @@ public final class DefaultApplications implements Applications {
             .build();
     }
 
-    private static boolean areModifiersPresent(ScaleApplicationRequest request) {
-        return request.getMemoryLimit() != null || request.getDiskLimit() != null || request.getInstances() != null;
+    // Emits false, so that the manifest is pushed client-side, if the server does not support manifests or rejects this one as unprocessable.  A manifest that is accepted but whose apply job
+    // fails is not retried client-side.
+    private static Mono<Boolean> applyManifest(CloudFoundryClient cloudFoundryClient, PushApplicationManifestRequest request, String spaceId) {
+        if (!isServerSideManifestSupported(request)) {
+            return Mono.just(false);
+        }
+
+        String manifest = toManifestYaml(request.getManifests());
+
+        return requestCreateManifestDiff(cloudFoundryClient, manifest, spaceId)
+            .map(response -> !response.getDiffs().isEmpty())
+            .onErrorResume(DefaultApplications::isNotFound, t -> Mono.just(true))
+            .filter(changed -> changed)
+            .flatMap(changed -> requestApplyManifest(cloudFoundryClient, manifest, spaceId))
+            .flatMap(job -> JobUtils.waitForCompletion(cloudFoundryClient, request.getApplyManifestTimeout(), job))
+            .thenReturn(true)
+            .onErrorResume(t -> isNotFound(t) || isUnprocessableEntity(t), t -> Mono.just(false));
+    }
+
+    private static boolean areModifiersPresent(Integer disk, Integer instances, Integer memory) {
+        return memory != null || disk != null || instances != null;
     }
 
     private static Flux<String> associateDefaultDomain(CloudFoundryClient cloudFoundryClient, String applicationId, List<DomainSummary> availableDomains, ApplicationManifest manifest,
@@ -709,6 +854,15 @@ public final class DefaultApplications implements Applications {
             .then();
     }
 
+    private static Mono<Void> deployApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, RollingRestartApplicationsRequest request) {
+        Mono<Optional<String>> dropletId = request.getRestage() ?
+            stageLatestPackage(cloudFoundryClient, application, applicationId, request.getStagingTimeout()).map(Optional::of) : Mono.just(Optional.empty());
+
+        return dropletId
+            .flatMap(droplet -> requestCreateDeployment(cloudFoundryClient, applicationId, droplet.orElse(null)))
+            .flatMap(deployment -> waitForDeployment(cloudFoundryClient, application, deployment.getId(), request.getDeploymentTimeout()));
+    }
+
     private static String deriveHostname(String host, ApplicationManifest manifest, RandomWords randomWords) {
         if (Optional.ofNullable(manifest.getNoHostname()).orElse(false)) {
             return "";
@@ -721,23 +875,6 @@ public final class DefaultApplications implements Applications {
         }
     }
 
-    private static Statistics emptyApplicationStatistics() {
-        return Statistics.builder()
-            .usage(emptyApplicationUsage())
-            .build();
-    }
-
-    private static Usage emptyApplicationUsage() {
-        return Usage.builder()
-            .build();
-    }
-
-    private static InstanceStatistics emptyInstanceStats() {
-        return InstanceStatistics.builder()
-            .statistics(emptyApplicationStatistics())
-            .build();
-    }
-
     private static String eventDescription(Map<String, Object> request, String... entryNames) {
         if (request == null) {
             return "";
@@ -762,6 +899,21 @@ public final class DefaultApplications implements Applications {
         return Flux.fromIterable(getSpaceSummaryResponse.getApplications());
     }
 
+    private static Flux<ApplicationOperationResult> forEachApplication(CloudFoundryClient cloudFoundryClient, String spaceId, ApplicationSelector selector, int concurrency,
+                                                                       @Nullable Integer batchSize, Function<ApplicationResource, Mono<?>> operation) {
+        List<String> names = selector.getNames().stream()
+            .distinct()
+            .collect(Collectors.toList());
+        List<String> spaceIds = selector.getSpaceIds().isEmpty() ? Collections.singletonList(spaceId) : selector.getSpaceIds();
+
+        return requestApplicationsV3(cloudFoundryClient, names, selector.getLabelSelector(), spaceIds)
+            .collectList()
+            .flatMapIterable(applications -> getTargets(applications, names))
+            .buffer(Optional.ofNullable(batchSize).orElse(Integer.MAX_VALUE))
+            .concatMap(batch -> Flux.fromIterable(batch)
+                .flatMapSequential(function((name, application) -> getOperationResult(name, application, operation)), concurrency));
+    }
+
     private static Mono<AbstractApplicationResource> getApplication(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
         return requestApplications(cloudFoundryClient, application, spaceId)
             .single()
@@ -781,6 +933,49 @@ public final class DefaultApplications implements Applications {
             .defaultIfEmpty(Collections.emptyList());
     }
 
+    private static Flux<ApplicationDetail> getApplicationDetails(CloudFoundryClient cloudFoundryClient, List<String> names, String spaceId) {
+        if (names.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return requestApplicationsV3(cloudFoundryClient, names, spaceId)
+            .collectMap(ApplicationResource::getName, Function.identity(), LinkedHashMap::new)
+            .flatMapMany(applications -> {
+                Optional<String> missing = names.stream()
+                    .filter(name -> !applications.containsKey(name))
+                    .findFirst();
+
+                if (missing.isPresent()) {
+                    return ExceptionUtils.<ApplicationDetail>illegalArgument("Application %s does not exist", missing.get()).flux();
+                }
+
+                List<String> applicationIds = applications.values().stream()
+                    .map(ApplicationResource::getId)
+                    .collect(Collectors.toList());
+
+                return Mono
+                    .zip(
+                        requestListProcesses(cloudFoundryClient, applicationIds)
+                            .collectMap(DefaultApplications::getApplicationId),
+                        getApplicationUrls(cloudFoundryClient, applicationIds),
+                        Flux.fromIterable(applications.values())
+                            .flatMap(application -> Mono
+                                .zip(
+                                    getCurrentDroplet(cloudFoundryClient, application.getId()),
+                                    getInstanceDetails(cloudFoundryClient, application)
+                                )
+                                .map(runtime -> Tuples.of(application.getId(), runtime)), PROCESS_STATISTICS_CONCURRENCY)
+                            .collectMap(Tuple2::getT1, Tuple2::getT2)
+                    )
+                    .flatMapIterable(function((processes, urls, runtimes) -> names.stream()
+                        .distinct()
+                        .map(applications::get)
+                        .map(application -> toApplicationDetail(application, processes.get(application.getId()), runtimes.get(application.getId()).getT1(),
+                            runtimes.get(application.getId()).getT2(), urls.getOrDefault(application.getId(), Collections.emptyList())))
+                        .collect(Collectors.toList())));
+            });
+    }
+
     private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
         return getApplication(cloudFoundryClient, application, spaceId)
             .map(ResourceUtils::getId);
@@ -808,6 +1003,16 @@ public final class DefaultApplications implements Applications {
                 .flatMap(spaceId1 -> getApplicationId(cloudFoundryClient, application, spaceId1));
     }
 
+    private static String getApplicationId(ProcessResource process) {
+        return Optional.ofNullable(process.getRelationships())
+            .map(ProcessRelationships::getApp)
+            .map(relationship -> relationship.getData().getId())
+            .orElseGet(() -> {
+                String href = process.getLinks().get("app").getHref();
+                return href.substring(href.lastIndexOf('/') + 1);
+            });
+    }
+
     private static Mono<String> getApplicationIdV3(CloudFoundryClient cloudFoundryClient, String applicationName, String spaceId) {
         return getApplicationV3(cloudFoundryClient, applicationName, spaceId)
             .map(ApplicationResource::getId);
@@ -819,20 +1024,45 @@ public final class DefaultApplications implements Applications {
             .map(ResourceUtils::getId);
     }
 
-    private static Mono<ApplicationInstancesResponse> getApplicationInstances(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        return requestApplicationInstances(cloudFoundryClient, applicationId)
-            .onErrorResume(ExceptionUtils.statusCode(CF_BUILDPACK_COMPILED_FAILED, CF_INSTANCES_ERROR, CF_STAGING_NOT_FINISHED, CF_STAGING_TIME_EXPIRED, CF_STAGING_ERROR),
-                t -> Mono.just(ApplicationInstancesResponse.builder().build()));
-    }
-
     private static Mono<List<RouteResource>> getApplicationRoutes(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return requestApplicationRoutes(cloudFoundryClient, applicationId)
             .collectList();
     }
 
-    private static Mono<ApplicationStatisticsResponse> getApplicationStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        return requestApplicationStatistics(cloudFoundryClient, applicationId)
-            .onErrorResume(ExceptionUtils.statusCode(CF_APP_STOPPED_STATS_ERROR), t -> Mono.just(ApplicationStatisticsResponse.builder().build()));
+    private static Flux<ApplicationSummary> getApplicationSummaries(CloudFoundryClient cloudFoundryClient, List<ApplicationResource> applications) {
+        if (applications.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<String> applicationIds = applications.stream()
+            .map(ApplicationResource::getId)
+            .collect(Collectors.toList());
+
+        return Mono
+            .zip(
+                requestListProcesses(cloudFoundryClient, applicationIds)
+                    .collectMap(DefaultApplications::getApplicationId),
+                getApplicationUrls(cloudFoundryClient, applicationIds)
+            )
+            .flatMapMany(function((processes, urls) -> Flux.fromIterable(applications)
+                .flatMapSequential(application -> {
+                    ProcessResource process = processes.get(application.getId());
+
+                    return getRunningInstances(cloudFoundryClient, application, process)
+                        .map(runningInstances -> toApplicationSummary(application, process, runningInstances, urls.getOrDefault(application.getId(), Collections.emptyList())));
+                }, PROCESS_STATISTICS_CONCURRENCY)));
+    }
+
+    private static Mono<Map<String, List<String>>> getApplicationUrls(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return requestListRoutesV3(cloudFoundryClient, applicationIds)
+            .flatMapIterable(route -> route.getDestinations().stream()
+                .filter(destination -> destination.getApplication().getProcess() == null || "web".equals(destination.getApplication().getProcess().getType()))
+                .map(destination -> Tuples.of(destination.getApplication().getApplicationId(), route.getUrl()))
+                .distinct()
+                .collect(Collectors.toList()))
+            .collectMultimap(Tuple2::getT1, Tuple2::getT2)
+            .map(urls -> urls.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> new ArrayList<>(entry.getValue()))));
     }
 
     private static Mono<ApplicationResource> getApplicationV3(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
@@ -841,24 +1071,10 @@ public final class DefaultApplications implements Applications {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Application %s does not exist", application));
     }
 
-    private static Mono<Tuple5<List<String>, SummaryApplicationResponse, GetStackResponse, List<InstanceDetail>, List<String>>> getAuxiliaryContent(CloudFoundryClient cloudFoundryClient,
-                                                                                                                                                    AbstractApplicationResource applicationResource) {
-        String applicationId = ResourceUtils.getId(applicationResource);
-        String stackId = ResourceUtils.getEntity(applicationResource).getStackId();
-
-        return Mono
-            .zip(
-                getApplicationStatistics(cloudFoundryClient, applicationId),
-                requestApplicationSummary(cloudFoundryClient, applicationId),
-                getApplicationInstances(cloudFoundryClient, applicationId)
-            )
-            .flatMap(function((applicationStatisticsResponse, summaryApplicationResponse, applicationInstancesResponse) -> Mono.zip(
-                getApplicationBuildpacks(cloudFoundryClient, applicationId),
-                Mono.just(summaryApplicationResponse),
-                requestStack(cloudFoundryClient, stackId),
-                toInstanceDetailList(applicationInstancesResponse, applicationStatisticsResponse),
-                toUrls(summaryApplicationResponse.getRoutes())
-            )));
+    private static Mono<Optional<Droplet>> getCurrentDroplet(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        return requestCurrentDroplet(cloudFoundryClient, applicationId)
+            .map(droplet -> Optional.<Droplet>of(droplet))
+            .onErrorResume(DefaultApplications::isNotFound, t -> Mono.just(Optional.empty()));
     }
 
     private static Mono<String> getDefaultDomainId(CloudFoundryClient cloudFoundryClient) {
@@ -885,10 +1101,34 @@ public final class DefaultApplications implements Applications {
         return ResourceUtils.getEntity(resource).getEnvironmentJsons();
     }
 
+    private static Mono<List<InstanceDetail>> getInstanceDetails(CloudFoundryClient cloudFoundryClient, ApplicationResource application) {
+        if (application.getState() != ApplicationState.STARTED) {
+            return Mono.just(Collections.emptyList());
+        }
+
+        return requestApplicationProcessStatistics(cloudFoundryClient, application.getId())
+            .flatMapIterable(GetApplicationProcessStatisticsResponse::getResources)
+            .map(DefaultApplications::toInstanceDetail)
+            .collectList()
+            .onErrorResume(DefaultApplications::isNotFound, t -> Mono.just(Collections.emptyList()));
+    }
+
     private static int getInstances(AbstractApplicationResource resource) {
         return Optional.ofNullable(resource.getEntity()).map(ApplicationEntity::getInstances).orElse(0);
     }
 
+    // A single stream is shared by the staging and startup waits, and is kept open briefly between them
+    private static Flux<String> getLifecycleEvents(Mono<DopplerClient> dopplerClient, String applicationId) {
+        return requestLogsStream(dopplerClient, applicationId)
+            .filter(e -> EventType.LOG_MESSAGE == e.getEventType())
+            .map(Envelope::getLogMessage)
+            .filter(DefaultApplications::isReadinessLogMessage)
+            .map(LogMessage::getSourceType)
+            .onErrorResume(t -> Mono.empty())
+            .publish()
+            .refCount(1, READINESS_STREAM_GRACE_PERIOD);
+    }
+
     private static Flux<LogMessage> getLogs(Mono<DopplerClient> dopplerClient, String applicationId, Boolean recent) {
         if (Optional.ofNullable(recent).orElse(false)) {
             return requestLogsRecent(dopplerClient, applicationId)
@@ -922,6 +1162,24 @@ public final class DefaultApplications implements Applications {
         }
     }
 
+    private static Mono<ApplicationOperationResult> getOperationResult(String name, Optional<ApplicationResource> application, Function<ApplicationResource, Mono<?>> operation) {
+        if (!application.isPresent()) {
+            return Mono.just(ApplicationOperationResult.builder()
+                .error(String.format("Application %s does not exist", name))
+                .name(name)
+                .build());
+        }
+
+        return operation.apply(application.get())
+            .then(Mono.just(ApplicationOperationResult.builder()
+                .name(name)
+                .build()))
+            .onErrorResume(t -> Mono.just(ApplicationOperationResult.builder()
+                .error(Optional.ofNullable(t.getMessage()).orElse(t.getClass().getName()))
+                .name(name)
+                .build()));
+    }
+
     private static Mono<Optional<List<org.cloudfoundry.client.v2.routes.Route>>> getOptionalRoutes(CloudFoundryClient cloudFoundryClient, boolean deleteRoutes, String applicationId) {
         if (deleteRoutes) {
             return getRoutes(cloudFoundryClient, applicationId)
@@ -998,6 +1256,19 @@ public final class DefaultApplications implements Applications {
             });
     }
 
+    private static Duration getReadinessPollInterval(int attempt) {
+        return attempt < 3 ? Duration.ofSeconds(1L << attempt) : READINESS_POLL_INTERVAL;
+    }
+
+    private static Flux<String> getReadinessTriggers(Flux<String> lifecycleEvents) {
+        Flux<String> polls = Flux.range(0, Integer.MAX_VALUE)
+            .concatMap(attempt -> Mono.delay(getReadinessPollInterval(attempt)), 1)
+            .map(tick -> "POLL");
+
+        return Flux.merge(lifecycleEvents, polls)
+            .onBackpressureLatest();
+    }
+
     private static Mono<String> getRouteId(CloudFoundryClient cloudFoundryClient, String domainId, String host, String routePath) {
         return requestRoutes(cloudFoundryClient, domainId, host, null, routePath)
             .filter(resource -> isIdentical(host, ResourceUtils.getEntity(resource).getHost()))
@@ -1037,6 +1308,17 @@ public final class DefaultApplications implements Applications {
                 .zipWith(Mono.just(applicationId)));
     }
 
+    private static Mono<Integer> getRunningInstances(CloudFoundryClient cloudFoundryClient, ApplicationResource application, ProcessResource process) {
+        if (process == null || process.getInstances() == 0 || application.getState() != ApplicationState.STARTED) {
+            return Mono.just(0);
+        }
+
+        return requestProcessStatistics(cloudFoundryClient, process.getId())
+            .map(response -> (int) response.getResources().stream()
+                .filter(statistics -> ProcessState.RUNNING == statistics.getState())
+                .count());
+    }
+
     private static Mono<String> getServiceId(CloudFoundryClient cloudFoundryClient, String serviceInstanceName, String spaceId) {
         return requestListServiceInstances(cloudFoundryClient, serviceInstanceName, spaceId)
             .map(ResourceUtils::getId)
@@ -1049,6 +1331,19 @@ public final class DefaultApplications implements Applications {
             .map(ResourceUtils::getId);
     }
 
+    @Nullable
+    private static String getPushFingerprint(ApplicationResource application) {
+        return Optional.ofNullable(application.getMetadata())
+            .map(Metadata::getAnnotations)
+            .map(annotations -> annotations.get(PUSH_FINGERPRINT_ANNOTATION))
+            .orElse(null);
+    }
+
+    private static String getPushFingerprint(ApplicationManifest manifest, List<ResourceMatchingUtils.ArtifactMetadata> artifactMetadatas) {
+        String content = ResourceMatchingUtils.getFingerprint(artifactMetadatas) + "\n" + toManifestYaml(Collections.singletonList(manifest));
+        return FileUtils.hash(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
     private static Mono<String> getSpaceOrganizationId(CloudFoundryClient cloudFoundryClient, String spaceId) {
         return requestSpace(cloudFoundryClient, spaceId)
             .map(response -> ResourceUtils.getEntity(response).getOrganizationId());
@@ -1066,6 +1361,30 @@ public final class DefaultApplications implements Applications {
             .map(getStackResponse -> getStackResponse.getEntity().getName());
     }
 
+    private static List<Tuple2<String, Optional<ApplicationResource>>> getTargets(List<ApplicationResource> applications, List<String> names) {
+        if (names.isEmpty()) {
+            return applications.stream()
+                .map(application -> Tuples.of(application.getName(), Optional.of(application)))
+                .collect(Collectors.toList());
+        }
+
+        List<Tuple2<String, Optional<ApplicationResource>>> targets = new ArrayList<>();
+
+        for (String name : names) {
+            List<ApplicationResource> matches = applications.stream()
+                .filter(application -> name.equals(application.getName()))
+                .collect(Collectors.toList());
+
+            if (matches.isEmpty()) {
+                targets.add(Tuples.of(name, Optional.empty()));
+            } else {
+                matches.forEach(application -> targets.add(Tuples.of(name, Optional.of(application))));
+            }
+        }
+
+        return targets;
+    }
+
     private static Mono<String> getTaskId(CloudFoundryClient cloudFoundryClient, String applicationId, Integer sequenceId) {
         return listTasks(cloudFoundryClient, applicationId, sequenceId)
             .single()
@@ -1095,12 +1414,53 @@ public final class DefaultApplications implements Applications {
         return resource -> isNotIn(resource, expectedState);
     }
 
+    private static boolean isDeploymentComplete(Deployment deployment) {
+        return deployment.getStatus() != null && DeploymentStatusValue.FINALIZED == deployment.getStatus().getValue();
+    }
+
+    private static boolean isDeploymentSuccessful(Deployment deployment) {
+        return DeploymentStatusReason.DEPLOYED == deployment.getStatus().getReason();
+    }
+
+    private static boolean isNotFound(Throwable t) {
+        return t instanceof ClientV3Exception && ((ClientV3Exception) t).getStatusCode() == 404;
+    }
+
     private static boolean isNotIn(AbstractApplicationResource resource, String expectedState) {
         return !expectedState.equals(ResourceUtils.getEntity(resource).getState());
     }
 
-    private static boolean isRestartRequired(ScaleApplicationRequest request, AbstractApplicationResource applicationResource) {
-        return (request.getDiskLimit() != null || request.getMemoryLimit() != null)
+    private static boolean isNullOrEmpty(@Nullable Collection<?> collection) {
+        return collection == null || collection.isEmpty();
+    }
+
+    private static Mono<Boolean> isPushRequired(CloudFoundryClient cloudFoundryClient, ApplicationManifest manifest, String fingerprint, PushApplicationManifestRequest request, String spaceId) {
+        if (!Optional.ofNullable(request.getSkipUnchanged()).orElse(false)) {
+            return Mono.just(true);
+        }
+
+        ApplicationState expectedState = shouldStartApplication(request) && !Integer.valueOf(0).equals(manifest.getInstances()) ? ApplicationState.STARTED : ApplicationState.STOPPED;
+
+        return requestApplicationsV3(cloudFoundryClient, manifest.getName(), spaceId)
+            .next()
+            .flatMap(application -> {
+                String current = getPushFingerprint(application);
+
+                if (fingerprint.equals(current) && expectedState == application.getState()) {
+                    return Mono.just(false);
+                }
+
+                return current == null ? Mono.just(true) : requestUpdatePushFingerprint(cloudFoundryClient, application.getId(), null).thenReturn(true);
+            })
+            .defaultIfEmpty(true);
+    }
+
+    private static boolean isReadinessLogMessage(LogMessage logMessage) {
+        return LIFECYCLE_SOURCE_TYPES.contains(logMessage.getSourceType()) && READINESS_LOG_MESSAGES.stream().anyMatch(logMessage.getMessage()::startsWith);
+    }
+
+    private static boolean isRestartRequired(Integer disk, Integer memory, AbstractApplicationResource applicationResource) {
+        return (disk != null || memory != null)
             && STARTED_STATE.equals(ResourceUtils.getEntity(applicationResource).getState());
     }
 
@@ -1108,6 +1468,16 @@ public final class DefaultApplications implements Applications {
         return "RUNNING"::equals;
     }
 
+    private static boolean isServerSideManifestSupported(PushApplicationManifestRequest request) {
+        if (request.getDockerPassword() != null || request.getDockerUsername() != null) {
+            return false;
+        }
+
+        return request.getManifests().stream()
+            .allMatch(manifest -> isNullOrEmpty(manifest.getDomains()) && isNullOrEmpty(manifest.getHosts()) && manifest.getNoHostname() == null && manifest.getRoutePath() == null
+                && (manifest.getDocker() == null || manifest.getDocker().getPassword() == null));
+    }
+
     private static Predicate<String> isStaged() {
         return "STAGED"::equals;
     }
@@ -1125,6 +1495,10 @@ public final class DefaultApplications implements Applications {
         return tcpDomainIds.contains(domainId);
     }
 
+    private static boolean isUnprocessableEntity(Throwable t) {
+        return t instanceof ClientV3Exception && ((ClientV3Exception) t).getStatusCode() == 422;
+    }
+
     private static Mono<List<DomainSummary>> listAvailableDomains(CloudFoundryClient cloudFoundryClient, String organizationId) {
         return requestListPrivateDomains(cloudFoundryClient, organizationId)
             .map(DefaultApplications::toDomain)
@@ -1171,29 +1545,37 @@ public final class DefaultApplications implements Applications {
             .then();
     }
 
-    private static Flux<Void> pushApplication(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
+    private static Flux<Void> pushApplication(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
                                               PushApplicationManifestRequest request, String spaceId) {
 
-        return getOptionalStackId(cloudFoundryClient, manifest.getStack())
-            .flatMapMany(stackId -> getApplicationId(cloudFoundryClient, manifest, spaceId, stackId.orElse(null)))
-            .flatMap(applicationId -> Mono.zip(
-                Mono.just(applicationId),
-                getApplicationRoutes(cloudFoundryClient, applicationId),
-                ResourceMatchingUtils.getMatchedResources(cloudFoundryClient, manifest.getPath())
-            ))
-            .flatMap(function((applicationId, existingRoutes, matchedResources) -> prepareDomainsAndRoutes(cloudFoundryClient, applicationId, availableDomains, manifest, existingRoutes,
-                randomWords, spaceId)
-                .thenReturn(Tuples.of(applicationId, matchedResources))))
-            .flatMap(function((applicationId, matchedResources) -> Mono.when(
-                bindServices(cloudFoundryClient, applicationId, manifest, spaceId),
-                updateBuildpacks(cloudFoundryClient, applicationId, manifest),
-                uploadApplicationAndWait(cloudFoundryClient, applicationId, manifest.getPath(), matchedResources, request.getStagingTimeout())
-            )
-                .thenReturn(applicationId)))
-            .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, applicationId, manifest.getName(), request));
+        return ResourceMatchingUtils.getArtifactMetadata(manifest.getPath())
+            .flatMapMany(artifactMetadatas -> {
+                String fingerprint = getPushFingerprint(manifest, artifactMetadatas);
+
+                return isPushRequired(cloudFoundryClient, manifest, fingerprint, request, spaceId)
+                    .filter(required -> required)
+                    .flatMap(required -> getOptionalStackId(cloudFoundryClient, manifest.getStack()))
+                    .flatMapMany(stackId -> getApplicationId(cloudFoundryClient, manifest, spaceId, stackId.orElse(null)))
+                    .flatMap(applicationId -> Mono.zip(
+                        Mono.just(applicationId),
+                        getApplicationRoutes(cloudFoundryClient, applicationId),
+                        ResourceMatchingUtils.getMatchedResources(cloudFoundryClient, artifactMetadatas)
+                    ))
+                    .flatMap(function((applicationId, existingRoutes, matchedResources) -> prepareDomainsAndRoutes(cloudFoundryClient, applicationId, availableDomains, manifest, existingRoutes,
+                        randomWords, spaceId)
+                        .thenReturn(Tuples.of(applicationId, matchedResources))))
+                    .flatMap(function((applicationId, matchedResources) -> Mono.when(
+                        bindServices(cloudFoundryClient, applicationId, manifest, spaceId),
+                        updateBuildpacks(cloudFoundryClient, applicationId, manifest),
+                        uploadApplicationAndWait(cloudFoundryClient, applicationId, manifest.getPath(), matchedResources, request.getStagingTimeout())
+                    )
+                        .thenReturn(applicationId)))
+                    .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, dopplerClient, applicationId, manifest.getName(), request)
+                        .then(updatePushFingerprint(cloudFoundryClient, applicationId, fingerprint, request)));
+            });
     }
 
-    private static Flux<Void> pushDocker(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
+    private static Flux<Void> pushDocker(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
                                          PushApplicationManifestRequest request, String spaceId) {
 
         return getOptionalStackId(cloudFoundryClient, manifest.getStack())
@@ -1205,7 +1587,48 @@ public final class DefaultApplications implements Applications {
             .flatMap(function((applicationId, existingRoutes) -> prepareDomainsAndRoutes(cloudFoundryClient, applicationId, availableDomains, manifest, existingRoutes, randomWords, spaceId)
                 .thenReturn(applicationId)))
             .delayUntil(applicationId -> bindServices(cloudFoundryClient, applicationId, manifest, spaceId))
-            .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, applicationId, manifest.getName(), request));
+            .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, dopplerClient, applicationId, manifest.getName(), request));
+    }
+
+    private static Mono<Void> pushManifestBits(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, PushApplicationManifestRequest request, String spaceId) {
+        return Flux.fromIterable(request.getManifests())
+            .flatMap(manifest -> {
+                if (manifest.getPath() == null) {
+                    return getApplicationId(cloudFoundryClient, manifest.getName(), spaceId)
+                        .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, dopplerClient, applicationId, manifest.getName(), request));
+                }
+
+                return ResourceMatchingUtils.getArtifactMetadata(manifest.getPath())
+                    .flatMap(artifactMetadatas -> {
+                        String fingerprint = getPushFingerprint(manifest, artifactMetadatas);
+
+                        return isPushRequired(cloudFoundryClient, manifest, fingerprint, request, spaceId)
+                            .filter(required -> required)
+                            .flatMap(required -> getApplicationId(cloudFoundryClient, manifest.getName(), spaceId))
+                            .delayUntil(applicationId -> ResourceMatchingUtils.getMatchedResources(cloudFoundryClient, artifactMetadatas)
+                                .flatMap(matchedResources -> uploadApplicationAndWait(cloudFoundryClient, applicationId, manifest.getPath(), matchedResources, request.getStagingTimeout())))
+                            .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, dopplerClient, applicationId, manifest.getName(), request)
+                                .then(updatePushFingerprint(cloudFoundryClient, applicationId, fingerprint, request)));
+                    });
+            })
+            .then();
+    }
+
+    private static Mono<Void> pushManifestClientSide(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, RandomWords randomWords, PushApplicationManifestRequest request,
+                                                     String spaceId) {
+        return getSpaceOrganizationId(cloudFoundryClient, spaceId)
+            .flatMap(organizationId -> listAvailableDomains(cloudFoundryClient, organizationId))
+            .flatMapMany(availableDomains -> Flux.fromIterable(request.getManifests())
+                .flatMap(manifest -> {
+                    if (manifest.getPath() != null) {
+                        return pushApplication(cloudFoundryClient, dopplerClient, availableDomains, manifest, randomWords, request, spaceId);
+                    } else if (!manifest.getDocker().getImage().isEmpty()) {
+                        return pushDocker(cloudFoundryClient, dopplerClient, availableDomains, manifest, randomWords, request, spaceId);
+                    } else {
+                        throw new IllegalStateException("One of application or dockerImage must be supplied");
+                    }
+                }))
+            .then();
     }
 
     private static Map<String, Object> removeFromEnvironment(Map<String, Object> environment, String variableName) {
@@ -1244,13 +1667,6 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
-    private static Mono<ApplicationStatisticsResponse> requestApplicationStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        return cloudFoundryClient.applicationsV2()
-            .statistics(ApplicationStatisticsRequest.builder()
-                .applicationId(applicationId)
-                .build());
-    }
-
     private static Mono<SummaryApplicationResponse> requestApplicationSummary(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return cloudFoundryClient.applicationsV2()
             .summary(SummaryApplicationRequest.builder()
@@ -1269,6 +1685,24 @@ public final class DefaultApplications implements Applications {
             .cast(AbstractApplicationResource.class);
     }
 
+    private static Flux<ListApplicationsResponse> requestApplicationPagesV3(CloudFoundryClient cloudFoundryClient, List<String> organizationIds, Integer pageSize) {
+        return PaginationUtils
+            .requestClientV3Pages(page -> cloudFoundryClient.applicationsV3()
+                .list(ListApplicationsRequest.builder()
+                    .organizationIds(organizationIds)
+                    .page(page)
+                    .perPage(pageSize)
+                    .build()));
+    }
+
+    private static Mono<GetApplicationProcessStatisticsResponse> requestApplicationProcessStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        return cloudFoundryClient.applicationsV3()
+            .getProcessStatistics(GetApplicationProcessStatisticsRequest.builder()
+                .applicationId(applicationId)
+                .type("web")
+                .build());
+    }
+
     private static Flux<ApplicationResource> requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
         return PaginationUtils
             .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
@@ -1279,6 +1713,45 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
+    private static Flux<ApplicationResource> requestApplicationsV3(CloudFoundryClient cloudFoundryClient, List<String> applications, String spaceId) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
+                .list(ListApplicationsRequest.builder()
+                    .names(applications)
+                    .spaceId(spaceId)
+                    .page(page)
+                    .build()));
+    }
+
+    private static Flux<ApplicationResource> requestApplicationsV3(CloudFoundryClient cloudFoundryClient, List<String> applications, @Nullable String labelSelector, List<String> spaceIds) {
+        if (applications.isEmpty()) {
+            return requestApplicationsV3(cloudFoundryClient, builder -> builder, labelSelector, spaceIds);
+        }
+
+        return Flux.fromIterable(applications)
+            .buffer(APPLICATION_NAMES_PER_REQUEST)
+            .concatMap(names -> requestApplicationsV3(cloudFoundryClient, builder -> builder.names(names), labelSelector, spaceIds));
+    }
+
+    private static Flux<ApplicationResource> requestApplicationsV3(CloudFoundryClient cloudFoundryClient, UnaryOperator<ListApplicationsRequest.Builder> modifier, @Nullable String labelSelector,
+                                                                   List<String> spaceIds) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
+                .list(modifier.apply(ListApplicationsRequest.builder())
+                    .labelSelector(labelSelector)
+                    .spaceIds(spaceIds)
+                    .page(page)
+                    .build()));
+    }
+
+    private static Mono<String> requestApplyManifest(CloudFoundryClient cloudFoundryClient, String manifest, String spaceId) {
+        return cloudFoundryClient.spacesV3()
+            .applyManifest(ApplyManifestRequest.builder()
+                .manifest(manifest)
+                .spaceId(spaceId)
+                .build());
+    }
+
     private static Mono<AssociateApplicationRouteResponse> requestAssociateRoute(CloudFoundryClient cloudFoundryClient, String applicationId, String routeId) {
         return cloudFoundryClient.applicationsV2()
             .associateRoute(AssociateApplicationRouteRequest.builder()
@@ -1287,6 +1760,13 @@ public final class DefaultApplications implements Applications {
                 .build());
     }
 
+    private static Mono<CancelDeploymentResponse> requestCancelDeployment(CloudFoundryClient cloudFoundryClient, String deploymentId) {
+        return cloudFoundryClient.deploymentsV3()
+            .cancel(CancelDeploymentRequest.builder()
+                .deploymentId(deploymentId)
+                .build());
+    }
+
     private static Mono<CopyApplicationResponse> requestCopyBits(CloudFoundryClient cloudFoundryClient, String sourceApplicationId, String targetApplicationId) {
         return cloudFoundryClient.applicationsV2()
             .copy(CopyApplicationRequest.builder()
@@ -1335,6 +1815,42 @@ public final class DefaultApplications implements Applications {
             .create(builder.build());
     }
 
+    private static Mono<CreateBuildResponse> requestCreateBuild(CloudFoundryClient cloudFoundryClient, String packageId) {
+        return cloudFoundryClient.builds()
+            .create(CreateBuildRequest.builder()
+                .getPackage(Relationship.builder()
+                    .id(packageId)
+                    .build())
+                .build());
+    }
+
+    private static Mono<CreateDeploymentResponse> requestCreateDeployment(CloudFoundryClient cloudFoundryClient, String applicationId, @Nullable String dropletId) {
+        return cloudFoundryClient.deploymentsV3()
+            .create(CreateDeploymentRequest.builder()
+                .droplet(Optional.ofNullable(dropletId)
+                    .map(id -> Relationship.builder()
+                        .id(id)
+                        .build())
+                    .orElse(null))
+                .relationships(DeploymentRelationships.builder()
+                    .app(ToOneRelationship.builder()
+                        .data(Relationship.builder()
+                            .id(applicationId)
+                            .build())
+                        .build())
+                    .build())
+                .strategy(DeploymentStrategy.ROLLING)
+                .build());
+    }
+
+    private static Mono<CreateManifestDiffResponse> requestCreateManifestDiff(CloudFoundryClient cloudFoundryClient, String manifest, String spaceId) {
+        return cloudFoundryClient.spacesV3()
+            .createManifestDiff(CreateManifestDiffRequest.builder()
+                .manifest(manifest)
+                .spaceId(spaceId)
+                .build());
+    }
+
     private static Mono<CreateRouteResponse> requestCreateRoute(CloudFoundryClient cloudFoundryClient, String domainId, String host, String routePath, String spaceId) {
         return cloudFoundryClient.routes()
             .create(org.cloudfoundry.client.v2.routes.CreateRouteRequest.builder()
@@ -1382,6 +1898,13 @@ public final class DefaultApplications implements Applications {
                 .build());
     }
 
+    private static Mono<GetApplicationCurrentDropletResponse> requestCurrentDroplet(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        return cloudFoundryClient.applicationsV3()
+            .getCurrentDroplet(GetApplicationCurrentDropletRequest.builder()
+                .applicationId(applicationId)
+                .build());
+    }
+
     private static Mono<Void> requestDeleteApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return cloudFoundryClient.applicationsV2()
             .delete(org.cloudfoundry.client.v2.applications.DeleteApplicationRequest.builder()
@@ -1397,15 +1920,25 @@ public final class DefaultApplications implements Applications {
                 .build());
     }
 
-    private static Flux<EventResource> requestEvents(String applicationId, CloudFoundryClient cloudFoundryClient) {
+    private static Flux<EventResource> requestEvents(CloudFoundryClient cloudFoundryClient, String applicationId, int maxNumberOfEvents, @Nullable Date since) {
+        if (maxNumberOfEvents < 1) {
+            return Flux.empty();
+        }
+
         return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.events()
+            .requestClientV2Pages(page -> cloudFoundryClient.events()
                 .list(ListEventsRequest.builder()
                     .actee(applicationId)
                     .orderDirection(OrderDirection.DESCENDING)
-                    .resultsPerPage(50)
+                    .resultsPerPage(Math.min(maxNumberOfEvents, MAX_RESULTS_PER_PAGE))
                     .page(page)
-                    .build()));
+                    .timestamps(Optional.ofNullable(since)
+                        .map(DateUtils::formatToIso8601)
+                        .map(Collections::singletonList)
+                        .orElse(null))
+                    .build()))
+            .concatMap(ResourceUtils::getResources, 1)
+            .take(maxNumberOfEvents);
     }
 
     private static Mono<AbstractApplicationResource> requestGetApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
@@ -1416,6 +1949,32 @@ public final class DefaultApplications implements Applications {
             .cast(AbstractApplicationResource.class);
     }
 
+    private static Mono<GetBuildResponse> requestGetBuild(CloudFoundryClient cloudFoundryClient, String buildId) {
+        return cloudFoundryClient.builds()
+            .get(GetBuildRequest.builder()
+                .buildId(buildId)
+                .build());
+    }
+
+    private static Mono<GetDeploymentResponse> requestGetDeployment(CloudFoundryClient cloudFoundryClient, String deploymentId) {
+        return cloudFoundryClient.deploymentsV3()
+            .get(GetDeploymentRequest.builder()
+                .deploymentId(deploymentId)
+                .build());
+    }
+
+    private static Flux<PackageResource> requestLatestReadyPackage(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        return cloudFoundryClient.applicationsV3()
+            .listPackages(ListApplicationPackagesRequest.builder()
+                .applicationId(applicationId)
+                .orderBy("-created_at")
+                .page(1)
+                .perPage(1)
+                .state(PackageState.READY)
+                .build())
+            .flatMapIterable(ListApplicationPackagesResponse::getResources);
+    }
+
     private static Flux<PrivateDomainResource> requestListPrivateDomains(CloudFoundryClient cloudFoundryClient, String organizationId) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.organizations()
@@ -1425,6 +1984,30 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
+    private static Flux<ProcessResource> requestListProcesses(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return Flux.fromIterable(applicationIds)
+            .buffer(APPLICATION_IDS_PER_REQUEST)
+            .concatMap(ids -> PaginationUtils
+                .requestClientV3Resources(page -> cloudFoundryClient.processes()
+                    .list(ListProcessesRequest.builder()
+                        .applicationIds(ids)
+                        .type("web")
+                        .page(page)
+                        .perPage(ids.size())
+                        .build())));
+    }
+
+    private static Flux<org.cloudfoundry.client.v3.routes.RouteResource> requestListRoutesV3(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return Flux.fromIterable(applicationIds)
+            .buffer(APPLICATION_IDS_PER_REQUEST)
+            .concatMap(ids -> PaginationUtils
+                .requestClientV3Resources(page -> cloudFoundryClient.routesV3()
+                    .list(org.cloudfoundry.client.v3.routes.ListRoutesRequest.builder()
+                        .applicationIds(ids)
+                        .page(page)
+                        .build())));
+    }
+
     private static Flux<ServiceBindingResource> requestListServiceBindings(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.applicationsV2()
@@ -1507,6 +2090,13 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
+    private static Mono<GetProcessStatisticsResponse> requestProcessStatistics(CloudFoundryClient cloudFoundryClient, String processId) {
+        return cloudFoundryClient.processes()
+            .getStatistics(GetProcessStatisticsRequest.builder()
+                .processId(processId)
+                .build());
+    }
+
     private static Mono<Void> requestRemoveRouteFromApplication(CloudFoundryClient cloudFoundryClient, String applicationId, String routeId) {
         return cloudFoundryClient.applicationsV2()
             .removeRoute(RemoveApplicationRouteRequest.builder()
@@ -1669,6 +2259,24 @@ public final class DefaultApplications implements Applications {
         return requestUpdateApplication(cloudFoundryClient, applicationId, builder -> builder.state(state));
     }
 
+    private static Mono<UpdateApplicationEnvironmentVariablesResponse> requestUpdateEnvironmentVariables(CloudFoundryClient cloudFoundryClient, String applicationId, Map<String, String> variables) {
+        return cloudFoundryClient.applicationsV3()
+            .updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest.builder()
+                .applicationId(applicationId)
+                .vars(variables)
+                .build());
+    }
+
+    private static Mono<UpdateApplicationResponse> requestUpdatePushFingerprint(CloudFoundryClient cloudFoundryClient, String applicationId, @Nullable String fingerprint) {
+        return cloudFoundryClient.applicationsV3()
+            .update(org.cloudfoundry.client.v3.applications.UpdateApplicationRequest.builder()
+                .applicationId(applicationId)
+                .metadata(Metadata.builder()
+                    .annotation(PUSH_FINGERPRINT_ANNOTATION, fingerprint)
+                    .build())
+                .build());
+    }
+
     private static Mono<UploadApplicationResponse> requestUploadApplication(CloudFoundryClient cloudFoundryClient, String applicationId, Path application,
                                                                             List<ResourceMatchingUtils.ArtifactMetadata> matchedResources) {
         UploadApplicationRequest request = matchedResources.stream()
@@ -1689,15 +2297,17 @@ public final class DefaultApplications implements Applications {
             .upload(request);
     }
 
-    private static Mono<Void> restageApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<Void> restageApplication(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+        Flux<String> lifecycleEvents = getLifecycleEvents(dopplerClient, applicationId);
+
         return requestRestageApplication(cloudFoundryClient, applicationId)
-            .flatMap(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout))
-            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout));
+            .flatMap(response -> waitForStaging(cloudFoundryClient, lifecycleEvents, application, applicationId, stagingTimeout))
+            .then(waitForRunning(cloudFoundryClient, lifecycleEvents, application, applicationId, startupTimeout));
     }
 
-    private static Mono<Void> restartApplication(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<Void> restartApplication(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
         return stopApplication(cloudFoundryClient, applicationId)
-            .then(startApplicationAndWait(cloudFoundryClient, application, applicationId, stagingTimeout, startupTimeout));
+            .then(startApplicationAndWait(cloudFoundryClient, dopplerClient, application, applicationId, stagingTimeout, startupTimeout));
     }
 
     private static boolean shouldStartApplication(PushApplicationManifestRequest request, AbstractApplicationResource resource) {
@@ -1712,16 +2322,31 @@ public final class DefaultApplications implements Applications {
         return resource -> enabled.equals(ResourceUtils.getEntity(resource).getEnableSsh());
     }
 
-    private static Mono<Void> startApplicationAndWait(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+    private static Mono<String> stageLatestPackage(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout) {
+        return requestLatestReadyPackage(cloudFoundryClient, applicationId)
+            .next()
+            .switchIfEmpty(ExceptionUtils.illegalState("Application %s has no package to stage", application))
+            .flatMap(resource -> requestCreateBuild(cloudFoundryClient, resource.getId()))
+            .flatMap(build -> CompletionTracker.forClient(cloudFoundryClient)
+                .waitForCompletion(requestGetBuild(cloudFoundryClient, build.getId()), response -> BuildState.STAGING != response.getState(), stagingTimeout)
+                .onErrorResume(DelayTimeoutException.class, t -> ExceptionUtils.illegalState("Application %s timed out during staging", application)))
+            .filter(build -> BuildState.STAGED == build.getState())
+            .switchIfEmpty(ExceptionUtils.illegalState("Application %s failed during staging", application))
+            .map(build -> build.getDroplet().getId());
+    }
+
+    private static Mono<Void> startApplicationAndWait(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String application, String applicationId, Duration stagingTimeout, Duration startupTimeout) {
+        Flux<String> lifecycleEvents = getLifecycleEvents(dopplerClient, applicationId);
+
         return requestUpdateApplicationState(cloudFoundryClient, applicationId, STARTED_STATE)
-            .flatMap(response -> waitForStaging(cloudFoundryClient, application, applicationId, stagingTimeout))
-            .then(waitForRunning(cloudFoundryClient, application, applicationId, startupTimeout));
+            .flatMap(response -> waitForStaging(cloudFoundryClient, lifecycleEvents, application, applicationId, stagingTimeout))
+            .then(waitForRunning(cloudFoundryClient, lifecycleEvents, application, applicationId, startupTimeout));
     }
 
-    private static Mono<Void> stopAndStartApplication(CloudFoundryClient cloudFoundryClient, String applicationId, String name, PushApplicationManifestRequest request) {
+    private static Mono<Void> stopAndStartApplication(CloudFoundryClient cloudFoundryClient, Mono<DopplerClient> dopplerClient, String applicationId, String name, PushApplicationManifestRequest request) {
         return stopApplication(cloudFoundryClient, applicationId)
             .filter(resource -> shouldStartApplication(request, resource))
-            .flatMap(resource -> startApplicationAndWait(cloudFoundryClient, name, applicationId, request.getStagingTimeout(), request.getStartupTimeout()));
+            .flatMap(resource -> startApplicationAndWait(cloudFoundryClient, dopplerClient, name, applicationId, request.getStagingTimeout(), request.getStartupTimeout()));
     }
 
     private static Mono<AbstractApplicationResource> stopApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
@@ -1732,24 +2357,26 @@ public final class DefaultApplications implements Applications {
         return isNotIn(resource, STOPPED_STATE) ? stopApplication(cloudFoundryClient, ResourceUtils.getId(resource)) : Mono.just(resource);
     }
 
-    private static ApplicationDetail toApplicationDetail(List<String> buildpacks, SummaryApplicationResponse summaryApplicationResponse, GetStackResponse getStackResponse,
-                                                         List<InstanceDetail> instanceDetails, List<String> urls) {
-        if (buildpacks.size() == 0) {
-            buildpacks = Collections.singletonList(summaryApplicationResponse.getDetectedBuildpack());
-        }
+    private static Mono<Void> stopApplicationIfNotStopped(CloudFoundryClient cloudFoundryClient, ApplicationResource application) {
+        return ApplicationState.STOPPED == application.getState() ? Mono.empty() : stopApplication(cloudFoundryClient, application.getId()).then();
+    }
 
+    private static ApplicationDetail toApplicationDetail(ApplicationResource application, ProcessResource process, Optional<Droplet> droplet, List<InstanceDetail> instanceDetails,
+                                                         List<String> urls) {
         return ApplicationDetail.builder()
-            .buildpacks(buildpacks)
-            .diskQuota(summaryApplicationResponse.getDiskQuota())
-            .id(summaryApplicationResponse.getId())
+            .buildpacks(toBuildpacks(application, droplet))
+            .diskQuota(process == null ? 0 : process.getDiskInMb())
+            .id(application.getId())
             .instanceDetails(instanceDetails)
-            .instances(summaryApplicationResponse.getInstances())
-            .lastUploaded(toDate(summaryApplicationResponse.getPackageUpdatedAt()))
-            .memoryLimit(summaryApplicationResponse.getMemory())
-            .name(summaryApplicationResponse.getName())
-            .requestedState(summaryApplicationResponse.getState())
-            .runningInstances(summaryApplicationResponse.getRunningInstances())
-            .stack(getStackResponse.getEntity().getName())
+            .instances(process == null ? 0 : process.getInstances())
+            .lastUploaded(droplet.map(Droplet::getCreatedAt).map(DefaultApplications::toDate).orElse(null))
+            .memoryLimit(process == null ? 0 : process.getMemoryInMb())
+            .name(application.getName())
+            .requestedState(application.getState().getValue())
+            .runningInstances((int) instanceDetails.stream()
+                .filter(instanceDetail -> ProcessState.RUNNING.getValue().equals(instanceDetail.getState()))
+                .count())
+            .stack(droplet.map(Droplet::getStack).orElseGet(() -> toStack(application)))
             .urls(urls)
             .build();
     }
@@ -1800,6 +2427,19 @@ public final class DefaultApplications implements Applications {
                 .build());
     }
 
+    private static ApplicationSummary toApplicationSummary(ApplicationResource application, ProcessResource process, Integer runningInstances, List<String> urls) {
+        return ApplicationSummary.builder()
+            .diskQuota(process == null ? 0 : process.getDiskInMb())
+            .id(application.getId())
+            .instances(process == null ? 0 : process.getInstances())
+            .memoryLimit(process == null ? 0 : process.getMemoryInMb())
+            .name(application.getName())
+            .requestedState(application.getState().getValue())
+            .runningInstances(runningInstances)
+            .urls(urls)
+            .build();
+    }
+
     private static ApplicationSummary toApplicationSummary(SpaceApplicationSummary spaceApplicationSummary) {
         return ApplicationSummary.builder()
             .diskQuota(spaceApplicationSummary.getDiskQuota())
@@ -1813,6 +2453,25 @@ public final class DefaultApplications implements Applications {
             .build();
     }
 
+    private static List<String> toBuildpacks(ApplicationResource application, Optional<Droplet> droplet) {
+        List<String> buildpacks = Optional.of(application.getLifecycle())
+            .filter(lifecycle -> BUILDPACK == lifecycle.getType())
+            .map(Lifecycle::getData)
+            .map(BuildpackData.class::cast)
+            .map(BuildpackData::getBuildpacks)
+            .orElse(Collections.emptyList());
+
+        if (!buildpacks.isEmpty()) {
+            return buildpacks;
+        }
+
+        return Collections.singletonList(droplet
+            .map(Droplet::getBuildpacks)
+            .flatMap(candidates -> candidates.stream().findFirst())
+            .map(buildpack -> Optional.ofNullable(buildpack.getDetectOutput()).orElse(buildpack.getName()))
+            .orElse(null));
+    }
+
     private static Date toDate(String date) {
         return date == null ? null : DateUtils.parseFromIso8601(date);
     }
@@ -1851,6 +2510,25 @@ public final class DefaultApplications implements Applications {
             .build();
     }
 
+    private static String toManifestYaml(List<ApplicationManifest> manifests) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ApplicationManifestUtils.write(out, manifests.stream()
+            .map(manifest -> ApplicationManifest.builder()
+                .from(manifest)
+                .path(null)
+                .build())
+            .collect(Collectors.toList()));
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> toEnvironmentVariables(UpdateEnvironmentVariablesApplicationRequest request) {
+        Map<String, String> variables = new LinkedHashMap<>(request.getVariables());
+        request.getUnsetVariableNames().forEach(variableName -> variables.put(variableName, null));
+        return variables;
+    }
+
     private static ApplicationHealthCheck toHealthCheck(AbstractApplicationResource resource) {
         String type = resource.getEntity().getHealthCheckType();
 
@@ -1867,28 +2545,28 @@ public final class DefaultApplications implements Applications {
         }
     }
 
-    private static InstanceDetail toInstanceDetail(Map.Entry<String, ApplicationInstanceInfo> entry, ApplicationStatisticsResponse statisticsResponse) {
-        InstanceStatistics instanceStatistics = Optional.ofNullable(statisticsResponse.getInstances().get(entry.getKey())).orElse(emptyInstanceStats());
-        Statistics stats = Optional.ofNullable(instanceStatistics.getStatistics()).orElse(emptyApplicationStatistics());
-        Usage usage = Optional.ofNullable(stats.getUsage()).orElse(emptyApplicationUsage());
+    private static InstanceDetail toInstanceDetail(ProcessStatistics statistics) {
+        Optional<ProcessUsage> usage = Optional.ofNullable(statistics.getUsage());
 
         return InstanceDetail.builder()
-            .index(entry.getKey())
-            .state(entry.getValue().getState())
-            .since(toDate(entry.getValue().getSince()))
-            .cpu(usage.getCpu())
-            .memoryUsage(usage.getMemory())
-            .diskUsage(usage.getDisk())
-            .diskQuota(stats.getDiskQuota())
-            .memoryQuota(stats.getMemoryQuota())
+            .cpu(usage.map(ProcessUsage::getCpu).orElse(null))
+            .diskQuota(statistics.getDiskQuota())
+            .diskUsage(usage.map(ProcessUsage::getDisk).orElse(null))
+            .index(String.valueOf(statistics.getIndex()))
+            .memoryQuota(statistics.getMemoryQuota())
+            .memoryUsage(usage.map(ProcessUsage::getMemory).orElse(null))
+            .since(Optional.ofNullable(statistics.getUptime()).map(uptime -> new Date(System.currentTimeMillis() - uptime * 1_000)).orElse(null))
+            .state(Optional.ofNullable(statistics.getState()).map(ProcessState::getValue).orElse(null))
             .build();
     }
 
-    private static Mono<List<InstanceDetail>> toInstanceDetailList(ApplicationInstancesResponse instancesResponse, ApplicationStatisticsResponse statisticsResponse) {
-        return Flux
-            .fromIterable(instancesResponse.getInstances().entrySet())
-            .map(entry -> toInstanceDetail(entry, statisticsResponse))
-            .collectList();
+    private static String toStack(ApplicationResource application) {
+        return Optional.of(application.getLifecycle())
+            .filter(lifecycle -> BUILDPACK == lifecycle.getType())
+            .map(Lifecycle::getData)
+            .map(BuildpackData.class::cast)
+            .map(BuildpackData::getStack)
+            .orElse(null);
     }
 
     private static Task toTask(org.cloudfoundry.client.v3.tasks.Task task) {
@@ -1919,13 +2597,6 @@ public final class DefaultApplications implements Applications {
         return sb.toString();
     }
 
-    private static Mono<List<String>> toUrls(List<org.cloudfoundry.client.v2.routes.Route> routes) {
-        return Flux
-            .fromIterable(routes)
-            .map(DefaultApplications::toUrl)
-            .collectList();
-    }
-
     private static Mono<Void> updateBuildpacks(CloudFoundryClient cloudFoundryClient, String applicationId, ApplicationManifest manifest) {
         if (manifest.getBuildpacks() == null || manifest.getBuildpacks().size() < 2) {
             return Mono.empty();
@@ -1944,6 +2615,15 @@ public final class DefaultApplications implements Applications {
             .then();
     }
 
+    private static Mono<Void> updatePushFingerprint(CloudFoundryClient cloudFoundryClient, String applicationId, String fingerprint, PushApplicationManifestRequest request) {
+        if (!Optional.ofNullable(request.getSkipUnchanged()).orElse(false)) {
+            return Mono.empty();
+        }
+
+        return requestUpdatePushFingerprint(cloudFoundryClient, applicationId, fingerprint)
+            .then();
+    }
+
     private static Mono<Void> uploadApplicationAndWait(CloudFoundryClient cloudFoundryClient, String applicationId, Path application, List<ResourceMatchingUtils.ArtifactMetadata> matchedResources,
                                                        Duration stagingTimeout) {
         return Mono
@@ -1969,31 +2649,54 @@ public final class DefaultApplications implements Applications {
             .flatMap(job -> JobUtils.waitForCompletion(cloudFoundryClient, stagingTimeout, job));
     }
 
-    private static Mono<Void> waitForRunning(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration startupTimeout) {
+    private static Mono<Void> waitForDeployment(CloudFoundryClient cloudFoundryClient, String application, String deploymentId, Duration deploymentTimeout) {
+        return CompletionTracker.forClient(cloudFoundryClient)
+            .waitForCompletion(requestGetDeployment(cloudFoundryClient, deploymentId), DefaultApplications::isDeploymentComplete, deploymentTimeout)
+            .onErrorResume(DelayTimeoutException.class, t -> requestCancelDeployment(cloudFoundryClient, deploymentId)
+                .then(ExceptionUtils.illegalState("Application %s timed out during deployment", application)))
+            .doOnCancel(() -> requestCancelDeployment(cloudFoundryClient, deploymentId)
+                .subscribe(null, t -> LOGGER.warn("Unable to cancel deployment {} of application {}", deploymentId, application, t)))
+            .filter(DefaultApplications::isDeploymentSuccessful)
+            .switchIfEmpty(ExceptionUtils.illegalState("Application %s failed during deployment", application))
+            .then();
+    }
+
+    // Each triggered check is followed by a pause, during which only the latest trigger is kept, so that bursts of triggers result in at most one check per interval
+    private static <T> Mono<T> waitForReadiness(Mono<T> check, Predicate<T> isComplete, Flux<String> triggers, Duration timeout, Supplier<Mono<T>> onTimeout) {
+        return check
+            .filter(isComplete)
+            .switchIfEmpty(triggers
+                .concatMap(trigger -> check.concatWith(Mono.delay(READINESS_TRIGGER_INTERVAL).then(Mono.empty())), 1)
+                .filter(isComplete)
+                .next())
+            .timeout(timeout, Mono.defer(onTimeout));
+    }
+
+    private static Mono<Void> waitForRunning(CloudFoundryClient cloudFoundryClient, Flux<String> lifecycleEvents, String application, String applicationId, Duration startupTimeout) {
         Duration timeout = Optional.ofNullable(startupTimeout).orElse(Duration.ofMinutes(5));
 
-        return requestApplicationInstances(cloudFoundryClient, applicationId)
+        Mono<String> check = requestApplicationInstances(cloudFoundryClient, applicationId)
             .flatMapMany(response -> Flux.fromIterable(response.getInstances().values()))
             .map(ApplicationInstanceInfo::getState)
-            .reduce("UNKNOWN", collectStates())
-            .filter(isInstanceComplete())
-            .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), timeout))
+            .reduce("UNKNOWN", collectStates());
+
+        return waitForReadiness(check, isInstanceComplete(), getReadinessTriggers(lifecycleEvents), timeout,
+            () -> ExceptionUtils.illegalState("Application %s timed out during start", application))
             .filter(isRunning())
             .switchIfEmpty(ExceptionUtils.illegalState("Application %s failed during start", application))
-            .onErrorResume(DelayTimeoutException.class, t -> ExceptionUtils.illegalState("Application %s timed out during start", application))
             .then();
     }
 
-    private static Mono<Void> waitForStaging(CloudFoundryClient cloudFoundryClient, String application, String applicationId, Duration stagingTimeout) {
+    private static Mono<Void> waitForStaging(CloudFoundryClient cloudFoundryClient, Flux<String> lifecycleEvents, String application, String applicationId, Duration stagingTimeout) {
         Duration timeout = Optional.ofNullable(stagingTimeout).orElse(Duration.ofMinutes(15));
 
-        return requestGetApplication(cloudFoundryClient, applicationId)
-            .map(response -> ResourceUtils.getEntity(response).getPackageState())
-            .filter(isStagingComplete())
-            .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), timeout))
+        Mono<String> check = requestGetApplication(cloudFoundryClient, applicationId)
+            .map(response -> ResourceUtils.getEntity(response).getPackageState());
+
+        return waitForReadiness(check, isStagingComplete(), getReadinessTriggers(lifecycleEvents), timeout,
+            () -> ExceptionUtils.illegalState("Application %s timed out during staging", application))
             .filter(isStaged())
             .switchIfEmpty(ExceptionUtils.illegalState("Application %s failed during staging", application))
-            .onErrorResume(DelayTimeoutException.class, t -> ExceptionUtils.illegalState("Application %s timed out during staging", application))
             .then();
     }
 
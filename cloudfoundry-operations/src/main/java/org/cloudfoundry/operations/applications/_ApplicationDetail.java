@@ -48,8 +48,9 @@ abstract class _ApplicationDetail extends AbstractApplicationSummary {
     abstract Date getLastUploaded();
 
     /**
-     * The name of the stack running the application
+     * The name of the stack running the application, or {@code null} for applications without a stack such as Docker images
      */
+    @Nullable
     abstract String getStack();
 
 }
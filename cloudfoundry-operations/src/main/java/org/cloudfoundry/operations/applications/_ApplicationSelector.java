@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * A selection of applications for a bulk operation.  Applications must match every criterion that is specified.
+ */
+@Value.Immutable
+abstract class _ApplicationSelector {
+
+    /**
+     * A label selector, such as {@code env=production,tier!=batch}, that applications must match
+     */
+    @Nullable
+    abstract String getLabelSelector();
+
+    /**
+     * The application names.  If empty, applications are not selected by name.
+     */
+    abstract List<String> getNames();
+
+    /**
+     * The ids of the spaces to select applications from.  If empty, applications are selected from the targeted space.
+     */
+    abstract List<String> getSpaceIds();
+
+    @Value.Check
+    void check() {
+        if (getLabelSelector() == null && getNames().isEmpty() && getSpaceIds().isEmpty()) {
+            throw new IllegalStateException("at least one of label selector, names or space ids must be specified");
+        }
+    }
+
+}
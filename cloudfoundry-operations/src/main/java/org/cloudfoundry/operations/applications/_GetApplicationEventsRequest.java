@@ -19,6 +19,8 @@ package org.cloudfoundry.operations.applications;
 import org.cloudfoundry.Nullable;
 import org.immutables.value.Value;
 
+import java.util.Date;
+
 /**
  * The request options for the get application events operation
  */
@@ -36,4 +38,10 @@ abstract class _GetApplicationEventsRequest {
      */
     abstract String getName();
 
+    /**
+     * Only return events that occurred at or after this time
+     */
+    @Nullable
+    abstract Date getSince();
+
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.immutables.value.Value;
+
+import java.util.List;
+
+/**
+ * The request options for the list all applications operation
+ */
+@Value.Immutable
+abstract class _ListAllApplicationsRequest {
+
+    /**
+     * The maximum number of pages of applications that are joined with their processes, statistics and routes concurrently
+     */
+    @Value.Default
+    Integer getConcurrency() {
+        return 4;
+    }
+
+    /**
+     * The names of the organizations to list applications in.  If empty, all applications visible to the user are listed.
+     */
+    abstract List<String> getOrganizationNames();
+
+    /**
+     * The number of applications requested in each page
+     */
+    @Value.Default
+    Integer getPageSize() {
+        return 100;
+    }
+
+    @Value.Check
+    void check() {
+        if (getConcurrency() < 1) {
+            throw new IllegalStateException("concurrency must be greater than zero");
+        }
+
+        if (getPageSize() < 1 || getPageSize() > 5_000) {
+            throw new IllegalStateException("page size must be between 1 and 5000 inclusive");
+        }
+    }
+
+}
@@ -39,6 +39,14 @@ abstract class _PushApplicationManifestRequest {
         }
     }
 
+    /**
+     * How long to wait for a manifest applied server-side to be applied.  Staging and startup are not included.
+     */
+    @Value.Default
+    Duration getApplyManifestTimeout() {
+        return Duration.ofMinutes(5);
+    }
+
     /**
      * The Docker repository password
      */
@@ -62,6 +70,13 @@ abstract class _PushApplicationManifestRequest {
     @Nullable
     abstract Boolean getNoStart();
 
+    /**
+     * Skip uploading, staging and restarting the application when neither its bits nor its manifest have changed since it was last pushed with this option.  A repeated push will not pick
+     * up buildpack or stack updates.
+     */
+    @Nullable
+    abstract Boolean getSkipUnchanged();
+
     /**
      * How long to wait for staging
      */
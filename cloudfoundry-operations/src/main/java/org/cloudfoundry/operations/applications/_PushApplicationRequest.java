@@ -183,6 +183,13 @@ abstract class _PushApplicationRequest {
     @Nullable
     abstract String getStack();
 
+    /**
+     * Skip uploading, staging and restarting the application when neither its bits nor its manifest have changed since it was last pushed with this option.  A repeated push will not pick
+     * up buildpack or stack updates.
+     */
+    @Nullable
+    abstract Boolean getSkipUnchanged();
+
     /**
      * How long to wait for staging
      */
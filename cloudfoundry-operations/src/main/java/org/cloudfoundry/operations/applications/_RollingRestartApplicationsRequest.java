@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * The request options for the rolling restart applications operation
+ */
+@Value.Immutable
+abstract class _RollingRestartApplicationsRequest {
+
+    /**
+     * The maximum number of applications that are deployed concurrently
+     */
+    @Value.Default
+    Integer getConcurrency() {
+        return 8;
+    }
+
+    /**
+     * How long to wait for each deployment to complete before canceling it
+     */
+    @Value.Default
+    Duration getDeploymentTimeout() {
+        return Duration.ofMinutes(10);
+    }
+
+    /**
+     * Whether to stage each application's most recent package and deploy the resulting droplet, rather than redeploying the current droplet
+     */
+    @Value.Default
+    Boolean getRestage() {
+        return false;
+    }
+
+    /**
+     * The applications to restart
+     */
+    abstract ApplicationSelector getSelector();
+
+    /**
+     * How long to wait for staging, if restaging
+     */
+    @Value.Default
+    Duration getStagingTimeout() {
+        return Duration.ofMinutes(15);
+    }
+
+    @Value.Check
+    void check() {
+        if (getConcurrency() < 1) {
+            throw new IllegalStateException("concurrency must be greater than zero");
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * The request options for the scale applications operation
+ */
+@Value.Immutable
+abstract class _ScaleApplicationsRequest {
+
+    /**
+     * The number of applications that are operated on in each rolling batch.  Each batch completes before the next begins.  If not specified, all applications form a single batch.
+     */
+    @Nullable
+    abstract Integer getBatchSize();
+
+    /**
+     * The maximum number of applications in a batch that are operated on concurrently
+     */
+    @Value.Default
+    Integer getConcurrency() {
+        return 8;
+    }
+
+    /**
+     * The disk limit in MB
+     */
+    @Nullable
+    abstract Integer getDiskLimit();
+
+    /**
+     * The number of instances
+     */
+    @Nullable
+    abstract Integer getInstances();
+
+    /**
+     * The memory limit in MB
+     */
+    @Nullable
+    abstract Integer getMemoryLimit();
+
+    /**
+     * The applications to scale
+     */
+    abstract ApplicationSelector getSelector();
+
+    /**
+     * How long to wait for staging
+     */
+    @Value.Default
+    Duration getStagingTimeout() {
+        return Duration.ofMinutes(5);
+    }
+
+    /**
+     * How long to wait for startup
+     */
+    @Value.Default
+    Duration getStartupTimeout() {
+        return Duration.ofMinutes(5);
+    }
+
+    @Value.Check
+    void check() {
+        if (getBatchSize() != null && getBatchSize() < 1) {
+            throw new IllegalStateException("batch size must be greater than zero");
+        }
+
+        if (getConcurrency() < 1) {
+            throw new IllegalStateException("concurrency must be greater than zero");
+        }
+    }
+
+}
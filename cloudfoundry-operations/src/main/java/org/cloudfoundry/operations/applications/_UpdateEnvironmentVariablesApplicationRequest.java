@@ -0,0 +1,70 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.immutables.value.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The request options for the update environment variables of applications operation
+ */
+@Value.Immutable
+abstract class _UpdateEnvironmentVariablesApplicationRequest {
+
+    /**
+     * The maximum number of applications that are updated concurrently
+     */
+    @Value.Default
+    Integer getConcurrency() {
+        return 8;
+    }
+
+    /**
+     * The application names
+     */
+    abstract List<String> getNames();
+
+    /**
+     * The names of the variables to remove
+     */
+    abstract List<String> getUnsetVariableNames();
+
+    /**
+     * The variables to add or replace
+     */
+    abstract Map<String, String> getVariables();
+
+    @Value.Check
+    void check() {
+        if (getConcurrency() < 1) {
+            throw new IllegalStateException("concurrency must be greater than zero");
+        }
+
+        if (getVariables().isEmpty() && getUnsetVariableNames().isEmpty()) {
+            throw new IllegalStateException("at least one variable must be set or unset");
+        }
+
+        for (String variableName : getUnsetVariableNames()) {
+            if (getVariables().containsKey(variableName)) {
+                throw new IllegalStateException(String.format("variable %s cannot be both set and unset", variableName));
+            }
+        }
+    }
+
+}
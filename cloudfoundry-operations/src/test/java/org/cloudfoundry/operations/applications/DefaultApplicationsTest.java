@@ -27,8 +27,6 @@ import org.cloudfoundry.client.v2.applications.ApplicationInstanceInfo;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesRequest;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesResponse;
 import org.cloudfoundry.client.v2.applications.ApplicationResource;
-import org.cloudfoundry.client.v2.applications.ApplicationStatisticsRequest;
-import org.cloudfoundry.client.v2.applications.ApplicationStatisticsResponse;
 import org.cloudfoundry.client.v2.applications.AssociateApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.CopyApplicationRequest;
 import org.cloudfoundry.client.v2.applications.CopyApplicationResponse;
@@ -36,7 +34,6 @@ import org.cloudfoundry.client.v2.applications.CreateApplicationRequest;
 import org.cloudfoundry.client.v2.applications.CreateApplicationResponse;
 import org.cloudfoundry.client.v2.applications.DockerCredentials;
 import org.cloudfoundry.client.v2.applications.GetApplicationResponse;
-import org.cloudfoundry.client.v2.applications.InstanceStatistics;
 import org.cloudfoundry.client.v2.applications.ListApplicationRoutesRequest;
 import org.cloudfoundry.client.v2.applications.ListApplicationRoutesResponse;
 import org.cloudfoundry.client.v2.applications.ListApplicationServiceBindingsRequest;
@@ -44,7 +41,6 @@ import org.cloudfoundry.client.v2.applications.ListApplicationServiceBindingsRes
 import org.cloudfoundry.client.v2.applications.RemoveApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.RemoveApplicationServiceBindingRequest;
 import org.cloudfoundry.client.v2.applications.RestageApplicationResponse;
-import org.cloudfoundry.client.v2.applications.Statistics;
 import org.cloudfoundry.client.v2.applications.SummaryApplicationRequest;
 import org.cloudfoundry.client.v2.applications.SummaryApplicationResponse;
 import org.cloudfoundry.client.v2.applications.TerminateApplicationInstanceRequest;
@@ -52,7 +48,6 @@ import org.cloudfoundry.client.v2.applications.UpdateApplicationRequest;
 import org.cloudfoundry.client.v2.applications.UpdateApplicationResponse;
 import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
 import org.cloudfoundry.client.v2.applications.UploadApplicationResponse;
-import org.cloudfoundry.client.v2.applications.Usage;
 import org.cloudfoundry.client.v2.events.EventEntity;
 import org.cloudfoundry.client.v2.events.EventResource;
 import org.cloudfoundry.client.v2.events.ListEventsRequest;
@@ -104,11 +99,59 @@ import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
 import org.cloudfoundry.client.v2.stacks.ListStacksResponse;
 import org.cloudfoundry.client.v2.stacks.StackEntity;
 import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.ClientV3Exception;
 import org.cloudfoundry.client.v3.DockerData;
+import org.cloudfoundry.client.v3.Error;
 import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
 import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletResponse;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsResponse;
+import org.cloudfoundry.client.v3.applications.ListApplicationPackagesRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationPackagesResponse;
 import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
 import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationEnvironmentVariablesRequest;
+import org.cloudfoundry.client.v3.applications.UpdateApplicationEnvironmentVariablesResponse;
+import org.cloudfoundry.client.v3.builds.BuildState;
+import org.cloudfoundry.client.v3.builds.CreateBuildRequest;
+import org.cloudfoundry.client.v3.builds.CreateBuildResponse;
+import org.cloudfoundry.client.v3.builds.CreatedBy;
+import org.cloudfoundry.client.v3.builds.GetBuildRequest;
+import org.cloudfoundry.client.v3.builds.GetBuildResponse;
+import org.cloudfoundry.client.v3.deployments.CreateDeploymentRequest;
+import org.cloudfoundry.client.v3.deployments.CreateDeploymentResponse;
+import org.cloudfoundry.client.v3.deployments.DeploymentRelationships;
+import org.cloudfoundry.client.v3.deployments.DeploymentStatusReason;
+import org.cloudfoundry.client.v3.deployments.DeploymentStatusValue;
+import org.cloudfoundry.client.v3.deployments.DeploymentStrategy;
+import org.cloudfoundry.client.v3.deployments.GetDeploymentRequest;
+import org.cloudfoundry.client.v3.deployments.GetDeploymentResponse;
+import org.cloudfoundry.client.v3.deployments.Status;
+import org.cloudfoundry.client.v3.droplets.Buildpack;
+import org.cloudfoundry.client.v3.droplets.DropletState;
+import org.cloudfoundry.client.v3.jobs.JobState;
+import org.cloudfoundry.client.v3.packages.BitsData;
+import org.cloudfoundry.client.v3.packages.PackageResource;
+import org.cloudfoundry.client.v3.packages.PackageState;
+import org.cloudfoundry.client.v3.packages.PackageType;
+import org.cloudfoundry.client.v3.processes.GetProcessStatisticsRequest;
+import org.cloudfoundry.client.v3.processes.GetProcessStatisticsResponse;
+import org.cloudfoundry.client.v3.processes.ListProcessesRequest;
+import org.cloudfoundry.client.v3.processes.ListProcessesResponse;
+import org.cloudfoundry.client.v3.processes.ProcessRelationships;
+import org.cloudfoundry.client.v3.processes.ProcessResource;
+import org.cloudfoundry.client.v3.processes.ProcessState;
+import org.cloudfoundry.client.v3.processes.ProcessStatisticsResource;
+import org.cloudfoundry.client.v3.processes.ProcessUsage;
+import org.cloudfoundry.client.v3.routes.Destination;
+import org.cloudfoundry.client.v3.spaces.ApplyManifestRequest;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffRequest;
+import org.cloudfoundry.client.v3.spaces.CreateManifestDiffResponse;
+import org.cloudfoundry.client.v3.spaces.ManifestDiff;
 import org.cloudfoundry.client.v3.tasks.CancelTaskRequest;
 import org.cloudfoundry.client.v3.tasks.CancelTaskResponse;
 import org.cloudfoundry.client.v3.tasks.CreateTaskRequest;
@@ -122,6 +165,7 @@ import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.operations.AbstractOperationsTest;
 import org.cloudfoundry.util.DateUtils;
+import org.cloudfoundry.util.FileUtils;
 import org.cloudfoundry.util.FluentMap;
 import org.cloudfoundry.util.ResourceMatchingUtils;
 import org.junit.Test;
@@ -131,7 +175,9 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.test.scheduler.VirtualTimeScheduler;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
@@ -139,21 +185,36 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.cloudfoundry.client.v3.LifecycleType.BUILDPACK;
 import static org.cloudfoundry.client.v3.LifecycleType.DOCKER;
 import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class DefaultApplicationsTest extends AbstractOperationsTest {
 
+    private static final Lifecycle BUILDPACK_LIFECYCLE = Lifecycle.builder()
+        .data(BuildpackData.builder()
+            .buildpack("test-buildpack")
+            .stack("test-lifecycle-stack")
+            .build())
+        .type(BUILDPACK)
+        .build();
+
     private RandomWords randomWords = mock(RandomWords.class, RETURNS_SMART_NULLS);
 
     private final DefaultApplications applications = new DefaultApplications(Mono.just(this.cloudFoundryClient), Mono.just(this.dopplerClient), this.randomWords, Mono.just(TEST_SPACE_ID));
@@ -413,32 +474,44 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
 
     @Test
     public void get() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STARTED, BUILDPACK_LIFECYCLE, "test-app");
+        requestListProcesses(this.cloudFoundryClient, "test-application-id-1");
+        requestListRoutesV3(this.cloudFoundryClient, "test-application-id-1");
+        requestCurrentDroplet(this.cloudFoundryClient, "test-application-id-1");
+        requestApplicationProcessStatistics(this.cloudFoundryClient, "test-application-id-1");
 
         this.applications
             .get(GetApplicationRequest.builder()
                 .name("test-app")
                 .build())
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .instanceDetail(fill(InstanceDetail.builder())
-                    .index("instance-0")
-                    .since(new Date(1000))
-                    .state("test-application-instance-info-state")
-                    .build())
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
-                .build())
+            .assertNext(applicationDetail -> {
+                assertThat(withoutSince(applicationDetail)).isEqualTo(ApplicationDetail.builder()
+                    .buildpack("test-buildpack")
+                    .diskQuota(1024)
+                    .id("test-application-id-1")
+                    .instanceDetail(InstanceDetail.builder()
+                        .cpu(0.5)
+                        .diskQuota(1024L)
+                        .diskUsage(1L)
+                        .index("0")
+                        .memoryQuota(512L)
+                        .memoryUsage(1L)
+                        .state("RUNNING")
+                        .build())
+                    .instances(2)
+                    .lastUploaded(new Date(0))
+                    .memoryLimit(512)
+                    .name("test-app")
+                    .requestedState("STARTED")
+                    .runningInstances(1)
+                    .stack("test-droplet-stack")
+                    .url("test-host.test-domain")
+                    .build());
+
+                assertThat(applicationDetail.getInstanceDetails().get(0).getSince())
+                    .isCloseTo(new Date(System.currentTimeMillis() - 60_000), 5_000);
+            })
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
@@ -577,59 +650,65 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     }
 
     @Test
-    public void getBuildpackError() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstancesError(this.cloudFoundryClient, "test-application-id", 170004);
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+    public void getDetectedBuildpack() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STOPPED, Lifecycle.builder()
+            .data(BuildpackData.builder()
+                .build())
+            .type(BUILDPACK)
+            .build(), "test-app");
+        requestListProcesses(this.cloudFoundryClient, "test-application-id-1");
+        requestListRoutesV3(this.cloudFoundryClient, "test-application-id-1");
+        requestCurrentDroplet(this.cloudFoundryClient, "test-application-id-1");
 
         this.applications
             .get(GetApplicationRequest.builder()
                 .name("test-app")
                 .build())
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
+            .expectNext(ApplicationDetail.builder()
+                .buildpack("test-detect-output")
+                .diskQuota(1024)
+                .id("test-application-id-1")
+                .instances(2)
                 .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
+                .memoryLimit(512)
+                .name("test-app")
+                .requestedState("STOPPED")
+                .runningInstances(0)
+                .stack("test-droplet-stack")
+                .url("test-host.test-domain")
                 .build())
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void getDetectedBuildpack() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummaryDetectedBuildpack(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Docker(this.cloudFoundryClient, "test-application-id");
+    public void getDocker() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STOPPED, Lifecycle.builder()
+            .data(DockerData.builder()
+                .build())
+            .type(DOCKER)
+            .build(), "test-app");
+        requestListProcesses(this.cloudFoundryClient, "test-application-id-1");
+        requestListRoutesV3(this.cloudFoundryClient, "test-application-id-1");
+        requestCurrentDropletDocker(this.cloudFoundryClient, "test-application-id-1");
 
         this.applications
             .get(GetApplicationRequest.builder()
                 .name("test-app")
                 .build())
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-application-summary-detectedBuildpack")
-                .id("test-application-summary-id")
-                .instanceDetail(fill(InstanceDetail.builder())
-                    .index("instance-0")
-                    .since(new Date(1000))
-                    .state("test-application-instance-info-state")
-                    .build())
+            .expectNext(ApplicationDetail.builder()
+                .buildpack(null)
+                .diskQuota(1024)
+                .id("test-application-id-1")
+                .instances(2)
                 .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name:1")
+                .memoryLimit(512)
+                .name("test-app")
+                .requestedState("STOPPED")
+                .runningInstances(0)
+                .url("test-host.test-domain")
                 .build())
             .expectComplete()
             .verify(Duration.ofSeconds(5));
@@ -748,6 +827,41 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void getEventsLimitPages() {
+        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-metadata-id");
+        requestEventsPaged(this.cloudFoundryClient, "test-metadata-id", 1, 3,
+            fill(EventEntity.builder(), "event-")
+                .timestamp("2016-02-08T15:45:59Z")
+                .metadata("request", Optional.of(FluentMap.builder()
+                    .entry("state", "test-state")
+                    .build()))
+                .build());
+
+        this.applications
+            .getEvents(GetApplicationEventsRequest.builder()
+                .name("test-app")
+                .maxNumberOfEvents(1)
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationEvent.builder()
+                .actor("test-event-actorName")
+                .description("state: test-state")
+                .event("test-event-type")
+                .id("test-event-id")
+                .time(DateUtils.parseFromIso8601("2016-02-08T15:45:59Z"))
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        verify(this.cloudFoundryClient.events(), never()).list(ListEventsRequest.builder()
+            .actee("test-metadata-id")
+            .orderDirection(OrderDirection.DESCENDING)
+            .resultsPerPage(1)
+            .page(2)
+            .build());
+    }
+
     @Test
     public void getEventsLimitZero() {
         requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-metadata-id");
@@ -797,6 +911,34 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void getEventsSince() {
+        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-metadata-id");
+        requestEventsSince(this.cloudFoundryClient, "test-metadata-id", "2016-02-08T15:45:59Z",
+            fill(EventEntity.builder(), "event-")
+                .timestamp("2016-02-08T15:45:59Z")
+                .metadata("request", Optional.of(FluentMap.builder()
+                    .entry("state", "test-state")
+                    .build()))
+                .build());
+
+        this.applications
+            .getEvents(GetApplicationEventsRequest.builder()
+                .name("test-app")
+                .since(DateUtils.parseFromIso8601("2016-02-08T15:45:59Z"))
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationEvent.builder()
+                .actor("test-event-actorName")
+                .description("state: test-state")
+                .event("test-event-type")
+                .id("test-event-id")
+                .time(DateUtils.parseFromIso8601("2016-02-08T15:45:59Z"))
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void getEventsTwo() {
         requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-metadata-id");
@@ -856,291 +998,173 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     }
 
     @Test
-    public void getInstancesError() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstancesError(this.cloudFoundryClient, "test-application-id", 220001);
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
-
-        this.applications
-            .get(GetApplicationRequest.builder()
-                .name("test-app")
-                .build())
-            .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
-                .build())
-            .expectComplete()
-            .verify(Duration.ofSeconds(5));
-    }
-
-    @Test
-    public void getNoBuildpack() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummaryNoBuildpack(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Docker(this.cloudFoundryClient, "test-application-id");
+    public void getMultiple() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STOPPED, BUILDPACK_LIFECYCLE, "test-app-2", "test-app-1");
+        requestListProcesses(this.cloudFoundryClient, "test-application-id-1", "test-application-id-2");
+        requestListRoutesV3(this.cloudFoundryClient, "test-application-id-1", "test-application-id-2");
+        requestCurrentDroplet(this.cloudFoundryClient, "test-application-id-1");
+        requestCurrentDroplet(this.cloudFoundryClient, "test-application-id-2");
 
         this.applications
-            .get(GetApplicationRequest.builder()
-                .name("test-app")
+            .get(GetApplicationsRequest.builder()
+                .names("test-app-2", "test-app-1")
                 .build())
+            .map(ApplicationDetail::getName)
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack(null)
-                .id("test-application-summary-id")
-                .instanceDetail(fill(InstanceDetail.builder())
-                    .index("instance-0")
-                    .since(new Date(1000))
-                    .state("test-application-instance-info-state")
-                    .build())
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name:1")
-                .build())
+            .expectNext("test-app-2", "test-app-1")
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void getStagingError() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstancesError(this.cloudFoundryClient, "test-application-id", 170002);
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+    public void getNoDroplet() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STOPPED, BUILDPACK_LIFECYCLE, "test-app");
+        requestListProcesses(this.cloudFoundryClient, "test-application-id-1");
+        requestListRoutesV3(this.cloudFoundryClient, "test-application-id-1");
+        requestCurrentDropletNotFound(this.cloudFoundryClient, "test-application-id-1");
 
         this.applications
             .get(GetApplicationRequest.builder()
                 .name("test-app")
                 .build())
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
+            .expectNext(ApplicationDetail.builder()
                 .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
-                .build())
-            .expectComplete()
-            .verify(Duration.ofSeconds(5));
-    }
-
-    @Test
-    public void getStoppedError() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatisticsError(this.cloudFoundryClient, "test-application-id", 200003);
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
-
-        this.applications
-            .get(GetApplicationRequest.builder()
+                .diskQuota(1024)
+                .id("test-application-id-1")
+                .instances(2)
+                .memoryLimit(512)
                 .name("test-app")
-                .build())
-            .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .instanceDetail(InstanceDetail.builder()
-                    .index("instance-0")
-                    .since(new Date(1000))
-                    .state("test-application-instance-info-state")
-                    .build())
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
+                .requestedState("STOPPED")
+                .runningInstances(0)
+                .stack("test-lifecycle-stack")
+                .url("test-host.test-domain")
                 .build())
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void getWithEmptyInstance() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationEmptyInstance(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+    public void getNotFound() {
+        requestApplicationsV3Empty(this.cloudFoundryClient, TEST_SPACE_ID, "test-app");
 
         this.applications
-            .get(GetApplicationRequest.builder()
-                .name("test-app")
+            .get(GetApplicationsRequest.builder()
+                .names("test-app")
                 .build())
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .instanceDetail(fill(InstanceDetail.builder())
-                    .index("instance-0")
-                    .since(null)
-                    .state(null)
-                    .build())
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
-                .build())
-            .expectComplete()
+            .consumeErrorWith(t -> assertThat(t).isInstanceOf(IllegalArgumentException.class).hasMessage("Application test-app does not exist"))
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void getWithEmptyInstanceStats() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationEmptyStats(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+    public void getWithNullUsage() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STARTED, BUILDPACK_LIFECYCLE, "test-app");
+        requestListProcesses(this.cloudFoundryClient, "test-application-id-1");
+        requestListRoutesV3(this.cloudFoundryClient, "test-application-id-1");
+        requestCurrentDroplet(this.cloudFoundryClient, "test-application-id-1");
+        requestApplicationProcessStatisticsNullUsage(this.cloudFoundryClient, "test-application-id-1");
 
         this.applications
             .get(GetApplicationRequest.builder()
                 .name("test-app")
                 .build())
+            .map(DefaultApplicationsTest::withoutSince)
+            .map(ApplicationDetail::getInstanceDetails)
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .instanceDetail(InstanceDetail.builder()
-                    .index("instance-0")
-                    .since(new Date(1000))
-                    .state("test-application-instance-info-state")
-                    .build())
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
-                .build())
+            .expectNext(Collections.singletonList(InstanceDetail.builder()
+                .diskQuota(1024L)
+                .index("0")
+                .memoryQuota(512L)
+                .state("DOWN")
+                .build()))
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void getWithNoInstances() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationNoInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+    public void list() {
+        requestSpaceSummary(this.cloudFoundryClient, TEST_SPACE_ID);
 
-        this.applications
-            .get(GetApplicationRequest.builder()
-                .name("test-app")
-                .build())
+        this.applications.list()
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
+            .expectNext(fill(ApplicationSummary.builder())
                 .id("test-application-summary-id")
-                .lastUploaded(new Date(0))
                 .name("test-application-summary-name")
                 .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
                 .build())
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void getWithNullStats() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationNullStats(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+    public void listAll() {
+        requestOrganizations(this.cloudFoundryClient, TEST_ORGANIZATION_NAME);
+        requestApplicationPagesV3(this.cloudFoundryClient, "test-organization-resource-metadata-id");
+        requestListProcesses(this.cloudFoundryClient, "test-application-id-1", "test-application-id-2");
+        requestListRoutesV3(this.cloudFoundryClient, "test-application-id-1", "test-application-id-2");
+        requestProcessStatistics(this.cloudFoundryClient, "test-process-id-1");
 
         this.applications
-            .get(GetApplicationRequest.builder()
-                .name("test-app")
+            .listAll(ListAllApplicationsRequest.builder()
+                .organizationName(TEST_ORGANIZATION_NAME)
                 .build())
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .instanceDetail(InstanceDetail.builder()
-                    .index("instance-0")
-                    .since(new Date(1000))
-                    .state("test-application-instance-info-state")
+            .expectNext(ApplicationSummary.builder()
+                    .diskQuota(1024)
+                    .id("test-application-id-1")
+                    .instances(2)
+                    .memoryLimit(512)
+                    .name("test-application-name-1")
+                    .requestedState("STARTED")
+                    .runningInstances(1)
+                    .url("test-host.test-domain")
+                    .build(),
+                ApplicationSummary.builder()
+                    .diskQuota(1024)
+                    .id("test-application-id-2")
+                    .instances(2)
+                    .memoryLimit(512)
+                    .name("test-application-name-2")
+                    .requestedState("STOPPED")
+                    .runningInstances(0)
                     .build())
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
-                .build())
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void getWithNullUsage() {
-        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
-        requestApplicationNullUsage(this.cloudFoundryClient, "test-application-id");
-        requestStack(this.cloudFoundryClient, "test-application-stackId");
-        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
-        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+    public void listAllManyApplications() {
+        String[] applicationIds = IntStream.rangeClosed(1, 101)
+            .mapToObj(i -> String.format("test-application-id-%d", i))
+            .toArray(String[]::new);
+
+        requestOrganizations(this.cloudFoundryClient, TEST_ORGANIZATION_NAME);
+        requestApplicationPagesV3(this.cloudFoundryClient, "test-organization-resource-metadata-id", 150, applicationIds);
+        requestListProcesses(this.cloudFoundryClient, Arrays.copyOfRange(applicationIds, 0, 100));
+        requestListProcesses(this.cloudFoundryClient, applicationIds[100]);
+        requestListRoutesV3(this.cloudFoundryClient, Arrays.copyOfRange(applicationIds, 0, 100));
+        requestListRoutesV3(this.cloudFoundryClient, applicationIds[100]);
 
         this.applications
-            .get(GetApplicationRequest.builder()
-                .name("test-app")
+            .listAll(ListAllApplicationsRequest.builder()
+                .organizationName(TEST_ORGANIZATION_NAME)
+                .pageSize(150)
                 .build())
             .as(StepVerifier::create)
-            .expectNext(fill(ApplicationDetail.builder())
-                .buildpack("test-buildpack")
-                .id("test-application-summary-id")
-                .instanceDetail(InstanceDetail.builder()
-                    .index("instance-0")
-                    .diskQuota(1L)
-                    .memoryQuota(1L)
-                    .since(new Date(1000))
-                    .state("test-application-instance-info-state")
-                    .build())
-                .lastUploaded(new Date(0))
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
-                .stack("test-stack-entity-name")
-                .url("test-route-host.test-domain-name/test-path")
-                .build())
+            .expectNextCount(101)
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
 
     @Test
-    public void list() {
-        requestSpaceSummary(this.cloudFoundryClient, TEST_SPACE_ID);
+    public void listAllNoApplications() {
+        requestApplicationPagesV3Empty(this.cloudFoundryClient);
 
-        this.applications.list()
-            .as(StepVerifier::create)
-            .expectNext(fill(ApplicationSummary.builder())
-                .id("test-application-summary-id")
-                .name("test-application-summary-name")
-                .requestedState("test-application-summary-state")
+        this.applications
+            .listAll(ListAllApplicationsRequest.builder()
                 .build())
+            .as(StepVerifier::create)
             .expectComplete()
             .verify(Duration.ofSeconds(5));
     }
@@ -1490,6 +1514,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushInvalidStack() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
         requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
         requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
@@ -1507,32 +1532,18 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     }
 
     @Test
-    public void pushMultipleRoutes() throws IOException {
+    public void pushManifestServerSide() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
-        requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
-        requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
-        requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
-        requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
-        requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
-            .path(testApplication)
-            .domain("test-shared-domain")
-            .name("test-name")
-            .build(), TEST_SPACE_ID, null, "test-application-id");
-        requestApplicationRoutes(this.cloudFoundryClient, "test-application-id", "test-route-id");
+        requestCreateManifestDiff(this.cloudFoundryClient, TEST_SPACE_ID, "---\napplications:\n- name: test-name\n  routes:\n  - route: test-route.test-domain\n");
+        requestApplyManifest(this.cloudFoundryClient, TEST_SPACE_ID, "---\napplications:\n- name: test-name\n  routes:\n  - route: test-route.test-domain\n", "test-apply-job-id");
+        requestJobV3Success(this.cloudFoundryClient, "test-apply-job-id");
+        requestApplications(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-application-id");
         requestListMatchingResources(this.cloudFoundryClient, Arrays.asList(new ResourceMatchingUtils.ArtifactMetadata("da39a3ee5e6b4b0d3255bfef95601890afd80709", "Staticfile", "100644", 0),
             new ResourceMatchingUtils.ArtifactMetadata("45044a6ddbfe11415a8f8a6219de68a2c66b496b", "index.html", "100644", 178)));
-        requestRoutesEmpty(this.cloudFoundryClient, "test-shared-domain-id", "test1", null, null);
-        requestCreateRoute(this.cloudFoundryClient, "test-shared-domain-id", "test1", null, null, TEST_SPACE_ID, "test-route-id");
-        requestRoutesEmpty(this.cloudFoundryClient, "test-shared-domain-id", "test2", null, null);
-        requestCreateRoute(this.cloudFoundryClient, "test-shared-domain-id", "test2", null, null, TEST_SPACE_ID, "test-route-id");
-        requestAssociateRoute(this.cloudFoundryClient, "test-application-id", "test-route-id");
         requestUpload(this.cloudFoundryClient, "test-application-id", testApplication, "test-job-id");
         requestJobSuccess(this.cloudFoundryClient, "test-job-entity-id");
         requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STOPPED");
-        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STARTED");
-        requestGetApplication(this.cloudFoundryClient, "test-application-id");
-        requestApplicationInstancesRunning(this.cloudFoundryClient, "test-application-id");
 
         StepVerifier.withVirtualTime(() -> this.applications
             .pushManifest(PushApplicationManifestRequest.builder()
@@ -1540,10 +1551,81 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .path(testApplication)
                     .name("test-name")
                     .route(Route.builder()
-                        .route("test1.test-shared-domain")
-                        .build())
-                    .route(Route.builder()
-                        .route("test2.test-shared-domain")
+                        .route("test-route.test-domain")
+                        .build())
+                    .build())
+                .noStart(true)
+                .build()))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofSeconds(3)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void pushManifestUnprocessable() throws IOException {
+        Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
+
+        requestCreateManifestDiff(this.cloudFoundryClient, TEST_SPACE_ID, "---\napplications:\n- name: test-name\n");
+        requestApplyManifestUnprocessable(this.cloudFoundryClient);
+        requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
+        requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
+        requestApplicationsV3Fingerprint(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-application-id", ApplicationState.STOPPED,
+            getPushFingerprint(testApplication, "---\napplications:\n- name: test-name\n"));
+
+        this.applications
+            .pushManifest(PushApplicationManifestRequest.builder()
+                .manifest(ApplicationManifest.builder()
+                    .path(testApplication)
+                    .name("test-name")
+                    .build())
+                .noStart(true)
+                .skipUnchanged(true)
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void pushMultipleRoutes() throws IOException {
+        Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
+
+        requestManifestActionsNotFound(this.cloudFoundryClient);
+        requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
+        requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
+        requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
+        requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
+            .path(testApplication)
+            .domain("test-shared-domain")
+            .name("test-name")
+            .build(), TEST_SPACE_ID, null, "test-application-id");
+        requestApplicationRoutes(this.cloudFoundryClient, "test-application-id", "test-route-id");
+        requestListMatchingResources(this.cloudFoundryClient, Arrays.asList(new ResourceMatchingUtils.ArtifactMetadata("da39a3ee5e6b4b0d3255bfef95601890afd80709", "Staticfile", "100644", 0),
+            new ResourceMatchingUtils.ArtifactMetadata("45044a6ddbfe11415a8f8a6219de68a2c66b496b", "index.html", "100644", 178)));
+        requestRoutesEmpty(this.cloudFoundryClient, "test-shared-domain-id", "test1", null, null);
+        requestCreateRoute(this.cloudFoundryClient, "test-shared-domain-id", "test1", null, null, TEST_SPACE_ID, "test-route-id");
+        requestRoutesEmpty(this.cloudFoundryClient, "test-shared-domain-id", "test2", null, null);
+        requestCreateRoute(this.cloudFoundryClient, "test-shared-domain-id", "test2", null, null, TEST_SPACE_ID, "test-route-id");
+        requestAssociateRoute(this.cloudFoundryClient, "test-application-id", "test-route-id");
+        requestUpload(this.cloudFoundryClient, "test-application-id", testApplication, "test-job-id");
+        requestJobSuccess(this.cloudFoundryClient, "test-job-entity-id");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STOPPED");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STARTED");
+        requestGetApplication(this.cloudFoundryClient, "test-application-id");
+        requestApplicationInstancesRunning(this.cloudFoundryClient, "test-application-id");
+
+        StepVerifier.withVirtualTime(() -> this.applications
+            .pushManifest(PushApplicationManifestRequest.builder()
+                .manifest(ApplicationManifest.builder()
+                    .path(testApplication)
+                    .name("test-name")
+                    .route(Route.builder()
+                        .route("test1.test-shared-domain")
+                        .build())
+                    .route(Route.builder()
+                        .route("test2.test-shared-domain")
                         .build())
                     .build())
                 .build()))
@@ -1716,6 +1798,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushNoDomainNoneFound() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
         requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
             .path(testApplication)
@@ -1742,6 +1825,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushNoDomainPrivate() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
         requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
             .path(testApplication)
@@ -1768,6 +1852,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushNoDomainShared() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
         requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
             .path(testApplication)
@@ -1842,6 +1927,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushNoInstances() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
         requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
             .path(testApplication)
@@ -1876,6 +1962,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushNoRoute() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
         requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
             .path(testApplication)
@@ -1910,6 +1997,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushNoRouteFlag() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
         requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
         requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
@@ -1947,6 +2035,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushNoStart() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
         requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
             .path(testApplication)
@@ -2091,6 +2180,104 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void pushSkipUnchanged() throws IOException {
+        Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
+
+        requestManifestActionsNotFound(this.cloudFoundryClient);
+        requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
+        requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
+        requestApplicationsV3Fingerprint(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-application-id", ApplicationState.STOPPED,
+            getPushFingerprint(testApplication, "---\napplications:\n- name: test-name\n"));
+
+        this.applications
+            .pushManifest(PushApplicationManifestRequest.builder()
+                .manifest(ApplicationManifest.builder()
+                    .path(testApplication)
+                    .name("test-name")
+                    .build())
+                .noStart(true)
+                .skipUnchanged(true)
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void pushSkipUnchangedNonAsciiEnvironment() throws IOException {
+        Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
+
+        requestManifestActionsNotFound(this.cloudFoundryClient);
+        requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
+        requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
+        requestApplicationsV3Fingerprint(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-application-id", ApplicationState.STOPPED,
+            getPushFingerprint(testApplication, "---\napplications:\n- env:\n    test-key: t\u00ebst-v\u00e4lue-\u65e5\u672c\n  name: test-name\n"));
+
+        this.applications
+            .pushManifest(PushApplicationManifestRequest.builder()
+                .manifest(ApplicationManifest.builder()
+                    .environmentVariable("test-key", "t\u00ebst-v\u00e4lue-\u65e5\u672c")
+                    .path(testApplication)
+                    .name("test-name")
+                    .build())
+                .noStart(true)
+                .skipUnchanged(true)
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void pushSkipUnchangedStale() throws IOException {
+        Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
+
+        requestManifestActionsNotFound(this.cloudFoundryClient);
+        requestApplicationsV3Fingerprint(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-application-id", ApplicationState.STOPPED, "test-stale-fingerprint");
+        requestUpdatePushFingerprint(this.cloudFoundryClient, "test-application-id", null);
+        requestUpdatePushFingerprint(this.cloudFoundryClient, "test-application-id", getPushFingerprint(testApplication, "---\napplications:\n- name: test-name\n"));
+        requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
+        requestCreateApplication(this.cloudFoundryClient, ApplicationManifest.builder()
+            .path(testApplication)
+            .name("test-name")
+            .build(), TEST_SPACE_ID, null, "test-application-id");
+        requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
+        requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestSharedDomains(this.cloudFoundryClient, "test-shared-domain", "test-shared-domain-id");
+        requestRoutesEmpty(this.cloudFoundryClient, "test-shared-domain-id", "test-name", null, null);
+        requestListMatchingResources(this.cloudFoundryClient, Arrays.asList(new ResourceMatchingUtils.ArtifactMetadata("da39a3ee5e6b4b0d3255bfef95601890afd80709", "Staticfile", "100644", 0),
+            new ResourceMatchingUtils.ArtifactMetadata("45044a6ddbfe11415a8f8a6219de68a2c66b496b", "index.html", "100644", 178)));
+        requestApplicationRoutesEmpty(this.cloudFoundryClient, "test-application-id");
+        requestCreateRoute(this.cloudFoundryClient, "test-shared-domain-id", "test-name", null, null, TEST_SPACE_ID, "test-route-id");
+        requestAssociateRoute(this.cloudFoundryClient, "test-application-id", "test-route-id");
+        requestUpload(this.cloudFoundryClient, "test-application-id", testApplication, "test-job-id");
+        requestJobSuccess(this.cloudFoundryClient, "test-job-entity-id");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STOPPED");
+
+        StepVerifier.withVirtualTime(() -> this.applications
+            .pushManifest(PushApplicationManifestRequest.builder()
+                .manifest(ApplicationManifest.builder()
+                    .path(testApplication)
+                    .name("test-name")
+                    .build())
+                .noStart(true)
+                .skipUnchanged(true)
+                .build()))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofSeconds(3)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        verify(this.cloudFoundryClient.applicationsV3()).update(org.cloudfoundry.client.v3.applications.UpdateApplicationRequest.builder()
+            .applicationId("test-application-id")
+            .metadata(org.cloudfoundry.client.v3.Metadata.builder()
+                .annotation("cf-java-client/push-fingerprint", getPushFingerprint(testApplication, "---\napplications:\n- name: test-name\n"))
+                .build())
+            .build());
+    }
+
     @Test
     public void pushStartFailsRunning() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
@@ -2206,6 +2393,7 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
     public void pushTcpRoute() throws IOException {
         Path testApplication = new ClassPathResource("test-application.zip").getFile().toPath();
 
+        requestManifestActionsNotFound(this.cloudFoundryClient);
         requestSpace(this.cloudFoundryClient, TEST_SPACE_ID, TEST_ORGANIZATION_ID);
         requestApplicationsEmpty(this.cloudFoundryClient, "test-name", TEST_SPACE_ID);
         requestPrivateDomainsEmpty(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
@@ -2397,6 +2585,37 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void restartApplications() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STARTED, BUILDPACK_LIFECYCLE, "test-application-name-1", "test-application-name-2");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id-1", "STOPPED");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id-1", "STARTED");
+        requestGetApplication(this.cloudFoundryClient, "test-application-id-1");
+        requestApplicationInstancesRunning(this.cloudFoundryClient, "test-application-id-1");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id-2", "STOPPED");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id-2", "STARTED");
+        requestGetApplication(this.cloudFoundryClient, "test-application-id-2");
+        requestApplicationInstancesRunning(this.cloudFoundryClient, "test-application-id-2");
+
+        this.applications
+            .restart(RestartApplicationsRequest.builder()
+                .batchSize(1)
+                .selector(ApplicationSelector.builder()
+                    .name("test-application-name-1")
+                    .name("test-application-name-2")
+                    .build())
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationOperationResult.builder()
+                    .name("test-application-name-1")
+                    .build(),
+                ApplicationOperationResult.builder()
+                    .name("test-application-name-2")
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void restartFailurePartial() {
         requestApplicationsSpecificState(this.cloudFoundryClient, "test-app-name", TEST_SPACE_ID, "STARTED");
@@ -2446,6 +2665,57 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void rollingRestart() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STARTED, BUILDPACK_LIFECYCLE, "test-application-name-1", "test-application-name-2");
+        requestCreateDeployment(this.cloudFoundryClient, "test-application-id-1", null, "test-deployment-id-1");
+        requestGetDeployment(this.cloudFoundryClient, "test-deployment-id-1", DeploymentStatusReason.DEPLOYED);
+        requestCreateDeployment(this.cloudFoundryClient, "test-application-id-2", null, "test-deployment-id-2");
+        requestGetDeployment(this.cloudFoundryClient, "test-deployment-id-2", DeploymentStatusReason.CANCELED);
+
+        this.applications
+            .rollingRestart(RollingRestartApplicationsRequest.builder()
+                .selector(ApplicationSelector.builder()
+                    .name("test-application-name-1")
+                    .name("test-application-name-2")
+                    .build())
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationOperationResult.builder()
+                    .name("test-application-name-1")
+                    .build(),
+                ApplicationOperationResult.builder()
+                    .error("Application test-application-name-2 failed during deployment")
+                    .name("test-application-name-2")
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void rollingRestartRestage() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STARTED, BUILDPACK_LIFECYCLE, "test-application-name-1");
+        requestListApplicationPackages(this.cloudFoundryClient, "test-application-id-1", "test-package-id");
+        requestCreateBuild(this.cloudFoundryClient, "test-package-id", "test-build-id");
+        requestGetBuild(this.cloudFoundryClient, "test-build-id", "test-droplet-id");
+        requestCreateDeployment(this.cloudFoundryClient, "test-application-id-1", "test-droplet-id", "test-deployment-id-1");
+        requestGetDeployment(this.cloudFoundryClient, "test-deployment-id-1", DeploymentStatusReason.DEPLOYED);
+
+        this.applications
+            .rollingRestart(RollingRestartApplicationsRequest.builder()
+                .restage(true)
+                .selector(ApplicationSelector.builder()
+                    .name("test-application-name-1")
+                    .build())
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationOperationResult.builder()
+                .name("test-application-name-1")
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void restartNoApp() {
         requestApplicationsEmpty(this.cloudFoundryClient, "test-non-existent-app-name", TEST_SPACE_ID);
@@ -2531,6 +2801,31 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void scaleApplications() {
+        requestApplicationsV3Subset(this.cloudFoundryClient, TEST_SPACE_ID, Arrays.asList("test-application-name-1", "test-application-name-2"), "test-application-name-1");
+        requestUpdateApplicationScale(this.cloudFoundryClient, "test-application-id-1", null, 2, null);
+
+        this.applications
+            .scale(ScaleApplicationsRequest.builder()
+                .instances(2)
+                .selector(ApplicationSelector.builder()
+                    .name("test-application-name-1")
+                    .name("test-application-name-2")
+                    .build())
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationOperationResult.builder()
+                    .name("test-application-name-1")
+                    .build(),
+                ApplicationOperationResult.builder()
+                    .error("Application test-application-name-2 does not exist")
+                    .name("test-application-name-2")
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void scaleDiskAndInstancesNotStarted() {
         requestApplicationsSpecificState(this.cloudFoundryClient, "test-app-name", TEST_SPACE_ID, "STOPPED");
@@ -2781,6 +3076,66 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void startStoppedApplicationLifecycleEvent() {
+        requestApplicationsSpecificState(this.cloudFoundryClient, "test-application-name", TEST_SPACE_ID, "STOPPED");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STARTED");
+        requestGetApplication(this.cloudFoundryClient, "test-application-id");
+        requestApplicationInstancesStartingThenRunning(this.cloudFoundryClient, "test-application-id");
+        requestLogsStreamLifecycle(this.dopplerClient, "test-application-id");
+
+        StepVerifier.withVirtualTime(() -> this.applications
+            .start(StartApplicationRequest.builder()
+                .name("test-application-name")
+                .build()))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofMillis(600)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void startStoppedApplicationStagingOutput() {
+        AtomicInteger checks = new AtomicInteger();
+
+        requestApplicationsSpecificState(this.cloudFoundryClient, "test-application-name", TEST_SPACE_ID, "STOPPED");
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id", "STARTED");
+        requestGetApplication(this.cloudFoundryClient, "test-application-id");
+        requestApplicationInstancesStartingThenRunning(this.cloudFoundryClient, "test-application-id", checks);
+        requestLogsStreamStagingOutput(this.dopplerClient, "test-application-id");
+
+        StepVerifier.withVirtualTime(() -> this.applications
+            .start(StartApplicationRequest.builder()
+                .name("test-application-name")
+                .build()))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofMillis(900)))
+            .then(() -> assertThat(checks).hasValue(0))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofSeconds(3)))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void stopApplications() {
+        requestApplicationsV3LabelSelector(this.cloudFoundryClient, TEST_SPACE_ID, "test-label=test-value", ApplicationState.STARTED, ApplicationState.STOPPED);
+        requestUpdateApplicationState(this.cloudFoundryClient, "test-application-id-1", "STOPPED");
+
+        this.applications
+            .stop(StopApplicationsRequest.builder()
+                .selector(ApplicationSelector.builder()
+                    .labelSelector("test-label=test-value")
+                    .build())
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationOperationResult.builder()
+                    .name("test-application-name-1")
+                    .build(),
+                ApplicationOperationResult.builder()
+                    .name("test-application-name-2")
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void stopInvalidApplication() {
         requestApplicationsEmpty(this.cloudFoundryClient, "test-application-name", TEST_SPACE_ID);
@@ -2891,34 +3246,72 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void updateEnvironmentVariables() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID, ApplicationState.STARTED, BUILDPACK_LIFECYCLE, "test-application-name-1", "test-application-name-2");
+        requestUpdateEnvironmentVariables(this.cloudFoundryClient, "test-application-id-1");
+        requestUpdateEnvironmentVariables(this.cloudFoundryClient, "test-application-id-2");
+
+        this.applications
+            .updateEnvironmentVariables(UpdateEnvironmentVariablesApplicationRequest.builder()
+                .name("test-application-name-1")
+                .name("test-application-name-2")
+                .unsetVariableName("test-unset-variable-name")
+                .variable("test-variable-name", "test-variable-value")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationOperationResult.builder()
+                    .name("test-application-name-1")
+                    .build(),
+                ApplicationOperationResult.builder()
+                    .name("test-application-name-2")
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void updateEnvironmentVariablesPartialFailure() {
+        requestApplicationsV3Subset(this.cloudFoundryClient, TEST_SPACE_ID, Arrays.asList("test-application-name-1", "test-application-name-2", "test-application-name-3"),
+            "test-application-name-1", "test-application-name-2");
+        requestUpdateEnvironmentVariables(this.cloudFoundryClient, "test-application-id-1");
+        requestUpdateEnvironmentVariablesError(this.cloudFoundryClient, "test-application-id-2");
+
+        this.applications
+            .updateEnvironmentVariables(UpdateEnvironmentVariablesApplicationRequest.builder()
+                .name("test-application-name-1")
+                .name("test-application-name-2")
+                .name("test-application-name-3")
+                .unsetVariableName("test-unset-variable-name")
+                .variable("test-variable-name", "test-variable-value")
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationOperationResult.builder()
+                    .name("test-application-name-1")
+                    .build(),
+                ApplicationOperationResult.builder()
+                    .error("test-error")
+                    .name("test-application-name-2")
+                    .build(),
+                ApplicationOperationResult.builder()
+                    .error("Application test-application-name-3 does not exist")
+                    .name("test-application-name-3")
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static String getPushFingerprint(Path application, String manifest) {
+        String content = ResourceMatchingUtils.getFingerprint(ResourceMatchingUtils.getArtifactMetadata(application).block()) + "\n" + manifest;
+        return FileUtils.hash(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
     private static void provideRandomWords(RandomWords randomWords) {
         when(randomWords.getAdjective()).thenReturn("test-adjective");
         when(randomWords.getNoun()).thenReturn("test-noun");
     }
 
-    private static void requestApplicationEmptyInstance(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .instances(ApplicationInstancesRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(ApplicationInstancesResponse.builder()
-                    .instance("instance-0", ApplicationInstanceInfo.builder()
-                        .build())
-                    .build()));
-    }
-
-    private static void requestApplicationEmptyStats(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .statistics(ApplicationStatisticsRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(ApplicationStatisticsResponse.builder()
-                    .build()));
-    }
-
-    private static void requestApplicationEnvironment(CloudFoundryClient cloudFoundryClient, String applicationId) {
+    private static void requestApplicationEnvironment(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .environment(ApplicationEnvironmentRequest.builder()
                 .applicationId(applicationId)
@@ -2933,27 +3326,6 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
-    private static void requestApplicationInstances(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .instances(ApplicationInstancesRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(ApplicationInstancesResponse.builder()
-                    .instance("instance-0", fill(ApplicationInstanceInfo.builder(), "application-instance-info-")
-                        .build())
-                    .build()));
-    }
-
-    private static void requestApplicationInstancesError(CloudFoundryClient cloudFoundryClient, String applicationId, Integer code) {
-        when(cloudFoundryClient.applicationsV2()
-            .instances(ApplicationInstancesRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .error(new ClientV2Exception(null, code, "test-exception-description", "test-exception-errorCode")));
-    }
-
     private static void requestApplicationInstancesFailingPartial(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .instances(ApplicationInstancesRequest.builder()
@@ -2996,52 +3368,32 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
-    private static void requestApplicationInstancesTimeout(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .instances(ApplicationInstancesRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(fill(ApplicationInstancesResponse.builder(), "application-instances-")
-                    .instance("instance-0", fill(ApplicationInstanceInfo.builder(), "application-instance-info-")
-                        .state("STARTING")
-                        .build())
-                    .build()));
+    private static void requestApplicationInstancesStartingThenRunning(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        requestApplicationInstancesStartingThenRunning(cloudFoundryClient, applicationId, new AtomicInteger());
     }
 
-    private static void requestApplicationNoInstances(CloudFoundryClient cloudFoundryClient, String applicationId) {
+    private static void requestApplicationInstancesStartingThenRunning(CloudFoundryClient cloudFoundryClient, String applicationId, AtomicInteger count) {
         when(cloudFoundryClient.applicationsV2()
             .instances(ApplicationInstancesRequest.builder()
                 .applicationId(applicationId)
                 .build()))
             .thenReturn(Mono
-                .just(ApplicationInstancesResponse.builder().build()));
-    }
-
-    private static void requestApplicationNullStats(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .statistics(ApplicationStatisticsRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(ApplicationStatisticsResponse.builder()
-                    .instance("instance-0", fill(InstanceStatistics.builder(), "instance-statistics-")
-                        .statistics(null)
+                .fromSupplier(() -> fill(ApplicationInstancesResponse.builder(), "application-instances-")
+                    .instance("instance-0", fill(ApplicationInstanceInfo.builder(), "application-instance-info-")
+                        .state(count.getAndIncrement() == 0 ? "STARTING" : "RUNNING")
                         .build())
                     .build()));
     }
 
-    private static void requestApplicationNullUsage(CloudFoundryClient cloudFoundryClient, String applicationId) {
+    private static void requestApplicationInstancesTimeout(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
-            .statistics(ApplicationStatisticsRequest.builder()
+            .instances(ApplicationInstancesRequest.builder()
                 .applicationId(applicationId)
                 .build()))
             .thenReturn(Mono
-                .just(ApplicationStatisticsResponse.builder()
-                    .instance("instance-0", fill(InstanceStatistics.builder(), "instance-statistics-")
-                        .statistics(fill(Statistics.builder(), "statistics-")
-                            .usage(null)
-                            .build())
+                .just(fill(ApplicationInstancesResponse.builder(), "application-instances-")
+                    .instance("instance-0", fill(ApplicationInstanceInfo.builder(), "application-instance-info-")
+                        .state("STARTING")
                         .build())
                     .build()));
     }
@@ -3101,31 +3453,6 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .thenReturn(Mono.empty());
     }
 
-    private static void requestApplicationStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .statistics(ApplicationStatisticsRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(ApplicationStatisticsResponse.builder()
-                    .instance("instance-0", fill(InstanceStatistics.builder(), "instance-statistics-")
-                        .statistics(fill(Statistics.builder(), "statistics-")
-                            .usage(fill(Usage.builder(), "usage-")
-                                .build())
-                            .build())
-                        .build())
-                    .build()));
-    }
-
-    private static void requestApplicationStatisticsError(CloudFoundryClient cloudFoundryClient, String applicationId, Integer code) {
-        when(cloudFoundryClient.applicationsV2()
-            .statistics(ApplicationStatisticsRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .error(new ClientV2Exception(null, code, "test-exception-description", "test-exception-errorCode")));
-    }
-
     private static void requestApplicationSummary(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .summary(SummaryApplicationRequest.builder()
@@ -3149,22 +3476,6 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
-    private static void requestApplicationSummaryDetectedBuildpack(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .summary(SummaryApplicationRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(fill(SummaryApplicationResponse.builder(), "application-summary-")
-                    .route(fill(org.cloudfoundry.client.v2.routes.Route.builder(), "route-")
-                        .domain(fill(org.cloudfoundry.client.v2.domains.Domain.builder(), "domain-")
-                            .build())
-                        .build())
-                    .buildpack(null)
-                    .packageUpdatedAt(DateUtils.formatToIso8601(new Date(0)))
-                    .build()));
-    }
-
     private static void requestApplicationSummaryDocker(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .summary(SummaryApplicationRequest.builder()
@@ -3191,23 +3502,6 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
-    private static void requestApplicationSummaryNoBuildpack(CloudFoundryClient cloudFoundryClient, String applicationId) {
-        when(cloudFoundryClient.applicationsV2()
-            .summary(SummaryApplicationRequest.builder()
-                .applicationId(applicationId)
-                .build()))
-            .thenReturn(Mono
-                .just(fill(SummaryApplicationResponse.builder(), "application-summary-")
-                    .route(fill(org.cloudfoundry.client.v2.routes.Route.builder(), "route-")
-                        .domain(fill(org.cloudfoundry.client.v2.domains.Domain.builder(), "domain-")
-                            .build())
-                        .build())
-                    .buildpack(null)
-                    .detectedBuildpack(null)
-                    .packageUpdatedAt(DateUtils.formatToIso8601(new Date(0)))
-                    .build()));
-    }
-
     private static void requestApplicationSummaryNoRoutes(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .summary(SummaryApplicationRequest.builder()
@@ -3300,6 +3594,130 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestApplicationPagesV3(CloudFoundryClient cloudFoundryClient, String organizationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .organizationId(organizationId)
+                .page(1)
+                .perPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                        .createdAt("test-created-at")
+                        .id("test-application-id-1")
+                        .lifecycle(Lifecycle.builder()
+                            .data(BuildpackData.builder()
+                                .build())
+                            .type(BUILDPACK)
+                            .build())
+                        .name("test-application-name-1")
+                        .state(ApplicationState.STARTED)
+                        .updatedAt("test-updated-at")
+                        .build())
+                    .resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                        .createdAt("test-created-at")
+                        .id("test-application-id-2")
+                        .lifecycle(Lifecycle.builder()
+                            .data(BuildpackData.builder()
+                                .build())
+                            .type(BUILDPACK)
+                            .build())
+                        .name("test-application-name-2")
+                        .state(ApplicationState.STOPPED)
+                        .updatedAt("test-updated-at")
+                        .build())
+                    .build()));
+    }
+
+    private static void requestApplicationPagesV3(CloudFoundryClient cloudFoundryClient, String organizationId, Integer pageSize, String... applicationIds) {
+        ListApplicationsResponse.Builder responseBuilder = fill(ListApplicationsResponse.builder());
+
+        for (String applicationId : applicationIds) {
+            responseBuilder.resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                .createdAt("test-created-at")
+                .id(applicationId)
+                .lifecycle(Lifecycle.builder()
+                    .data(BuildpackData.builder()
+                        .build())
+                    .type(BUILDPACK)
+                    .build())
+                .name(applicationId.replace("-id-", "-name-"))
+                .state(ApplicationState.STOPPED)
+                .updatedAt("test-updated-at")
+                .build());
+        }
+
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .organizationId(organizationId)
+                .page(1)
+                .perPage(pageSize)
+                .build()))
+            .thenReturn(Mono
+                .just(responseBuilder
+                    .build()));
+    }
+
+    private static void requestApplicationPagesV3Empty(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .page(1)
+                .perPage(100)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .build()));
+    }
+
+    private static void requestApplicationProcessStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .getProcessStatistics(GetApplicationProcessStatisticsRequest.builder()
+                .applicationId(applicationId)
+                .type("web")
+                .build()))
+            .thenReturn(Mono
+                .just(GetApplicationProcessStatisticsResponse.builder()
+                    .resource(ProcessStatisticsResource.builder()
+                        .diskQuota(1024L)
+                        .fileDescriptorQuota(16384L)
+                        .host("test-host")
+                        .index(0)
+                        .memoryQuota(512L)
+                        .state(ProcessState.RUNNING)
+                        .type("web")
+                        .uptime(60L)
+                        .usage(ProcessUsage.builder()
+                            .cpu(0.5)
+                            .disk(1L)
+                            .memory(1L)
+                            .time("test-time")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestApplicationProcessStatisticsNullUsage(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .getProcessStatistics(GetApplicationProcessStatisticsRequest.builder()
+                .applicationId(applicationId)
+                .type("web")
+                .build()))
+            .thenReturn(Mono
+                .just(GetApplicationProcessStatisticsResponse.builder()
+                    .resource(ProcessStatisticsResource.builder()
+                        .diskQuota(1024L)
+                        .fileDescriptorQuota(16384L)
+                        .host("test-host")
+                        .index(0)
+                        .memoryQuota(512L)
+                        .state(ProcessState.DOWN)
+                        .type("web")
+                        .uptime(0L)
+                        .build())
+                    .build()));
+    }
+
     private static void requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String application, String spaceId, String applicationId) {
         when(cloudFoundryClient.applicationsV3()
             .list(ListApplicationsRequest.builder()
@@ -3325,6 +3743,117 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String spaceId, ApplicationState state, Lifecycle lifecycle, String... applications) {
+        ListApplicationsResponse.Builder responseBuilder = fill(ListApplicationsResponse.builder());
+
+        for (int i = 0; i < applications.length; i++) {
+            responseBuilder.resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                .createdAt("test-created-at")
+                .id(String.format("test-application-id-%d", i + 1))
+                .lifecycle(lifecycle)
+                .name(applications[i])
+                .state(state)
+                .updatedAt("test-updated-at")
+                .build());
+        }
+
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .names(applications)
+                .page(1)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(responseBuilder
+                    .build()));
+    }
+
+    private static void requestApplicationsV3Empty(CloudFoundryClient cloudFoundryClient, String spaceId, String... applications) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .names(applications)
+                .page(1)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .build()));
+    }
+
+    private static void requestApplicationsV3Fingerprint(CloudFoundryClient cloudFoundryClient, String application, String spaceId, String applicationId, ApplicationState state,
+                                                         String fingerprint) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .name(application)
+                .page(1)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                        .createdAt("test-created-at")
+                        .id(applicationId)
+                        .lifecycle(BUILDPACK_LIFECYCLE)
+                        .metadata(org.cloudfoundry.client.v3.Metadata.builder()
+                            .annotation("cf-java-client/push-fingerprint", fingerprint)
+                            .build())
+                        .name(application)
+                        .state(state)
+                        .updatedAt("test-updated-at")
+                        .build())
+                    .build()));
+    }
+
+    private static void requestApplicationsV3LabelSelector(CloudFoundryClient cloudFoundryClient, String spaceId, String labelSelector, ApplicationState... states) {
+        ListApplicationsResponse.Builder responseBuilder = fill(ListApplicationsResponse.builder());
+
+        for (int i = 0; i < states.length; i++) {
+            responseBuilder.resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                .createdAt("test-created-at")
+                .id(String.format("test-application-id-%d", i + 1))
+                .lifecycle(BUILDPACK_LIFECYCLE)
+                .name(String.format("test-application-name-%d", i + 1))
+                .state(states[i])
+                .updatedAt("test-updated-at")
+                .build());
+        }
+
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .labelSelector(labelSelector)
+                .page(1)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(responseBuilder
+                    .build()));
+    }
+
+    private static void requestApplicationsV3Subset(CloudFoundryClient cloudFoundryClient, String spaceId, List<String> requested, String... applications) {
+        ListApplicationsResponse.Builder responseBuilder = fill(ListApplicationsResponse.builder());
+
+        for (int i = 0; i < applications.length; i++) {
+            responseBuilder.resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                .createdAt("test-created-at")
+                .id(String.format("test-application-id-%d", i + 1))
+                .lifecycle(BUILDPACK_LIFECYCLE)
+                .name(applications[i])
+                .state(ApplicationState.STARTED)
+                .updatedAt("test-updated-at")
+                .build());
+        }
+
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .names(requested)
+                .page(1)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(responseBuilder
+                    .build()));
+    }
+
     private static void requestApplicationsWithSsh(CloudFoundryClient cloudFoundryClient, String application, String spaceId, Boolean sshEnabled) {
         when(cloudFoundryClient.spaces()
             .listApplications(ListSpaceApplicationsRequest.builder()
@@ -3347,6 +3876,27 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestApplyManifest(CloudFoundryClient cloudFoundryClient, String spaceId, String manifest, String jobId) {
+        when(cloudFoundryClient.spacesV3()
+            .applyManifest(ApplyManifestRequest.builder()
+                .manifest(manifest)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(jobId));
+    }
+
+    private static void requestApplyManifestUnprocessable(CloudFoundryClient cloudFoundryClient) {
+        when(cloudFoundryClient.spacesV3()
+            .applyManifest(any(ApplyManifestRequest.class)))
+            .thenReturn(Mono
+                .error(new ClientV3Exception(422, Collections.singletonList(Error.builder()
+                    .code(10008)
+                    .detail("The request is semantically invalid")
+                    .title("CF-UnprocessableEntity")
+                    .build()))));
+    }
+
     private static void requestAssociateRoute(CloudFoundryClient cloudFoundryClient, String applicationId, String routeId) {
         when(cloudFoundryClient.applicationsV2()
             .associateRoute(AssociateApplicationRouteRequest.builder()
@@ -3405,6 +3955,48 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestCreateBuild(CloudFoundryClient cloudFoundryClient, String packageId, String buildId) {
+        when(cloudFoundryClient.builds()
+            .create(CreateBuildRequest.builder()
+                .getPackage(Relationship.builder()
+                    .id(packageId)
+                    .build())
+                .build()))
+            .thenReturn(Mono
+                .just(CreateBuildResponse.builder()
+                    .createdAt("test-created-at")
+                    .createdBy(fill(CreatedBy.builder())
+                        .build())
+                    .id(buildId)
+                    .inputPackage(Relationship.builder()
+                        .id(packageId)
+                        .build())
+                    .lifecycle(BUILDPACK_LIFECYCLE)
+                    .state(BuildState.STAGING)
+                    .build()));
+    }
+
+    private static void requestCreateDeployment(CloudFoundryClient cloudFoundryClient, String applicationId, String dropletId, String deploymentId) {
+        when(cloudFoundryClient.deploymentsV3()
+            .create(CreateDeploymentRequest.builder()
+                .droplet(dropletId == null ? null : Relationship.builder()
+                    .id(dropletId)
+                    .build())
+                .relationships(DeploymentRelationships.builder()
+                    .app(ToOneRelationship.builder()
+                        .data(Relationship.builder()
+                            .id(applicationId)
+                            .build())
+                        .build())
+                    .build())
+                .strategy(DeploymentStrategy.ROLLING)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(CreateDeploymentResponse.builder())
+                    .id(deploymentId)
+                    .build()));
+    }
+
     private static void requestCreateDockerApplication(CloudFoundryClient cloudFoundryClient, PushApplicationRequest request, String spaceId, String stackId, String applicationId) {
         CreateApplicationRequest.Builder requestBuilder = CreateApplicationRequest.builder();
         requestBuilder.dockerCredentials(DockerCredentials.builder().username(request.getDockerUsername()).password(request.getDockerPassword()).build());
@@ -3431,6 +4023,22 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestCreateManifestDiff(CloudFoundryClient cloudFoundryClient, String spaceId, String manifest) {
+        when(cloudFoundryClient.spacesV3()
+            .createManifestDiff(CreateManifestDiffRequest.builder()
+                .manifest(manifest)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(CreateManifestDiffResponse.builder()
+                    .diff(ManifestDiff.builder()
+                        .operation("add")
+                        .path("/applications/0")
+                        .value(Collections.singletonMap("name", "test-name"))
+                        .build())
+                    .build()));
+    }
+
     private static void requestCreateRoute(CloudFoundryClient cloudFoundryClient, String domainId, String host, String path, Integer port, String spaceId, String routeId) {
         when(cloudFoundryClient.routes()
             .create(CreateRouteRequest.builder()
@@ -3468,6 +4076,59 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestCurrentDroplet(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .getCurrentDroplet(GetApplicationCurrentDropletRequest.builder()
+                .applicationId(applicationId)
+                .build()))
+            .thenReturn(Mono
+                .just(GetApplicationCurrentDropletResponse.builder()
+                    .buildpack(Buildpack.builder()
+                        .detectOutput("test-detect-output")
+                        .name("test-buildpack-name")
+                        .build())
+                    .createdAt("1970-01-01T00:00:00Z")
+                    .executionMetadata("test-execution-metadata")
+                    .id("test-droplet-id")
+                    .lifecycle(BUILDPACK_LIFECYCLE)
+                    .stack("test-droplet-stack")
+                    .state(DropletState.STAGED)
+                    .build()));
+    }
+
+    private static void requestCurrentDropletDocker(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .getCurrentDroplet(GetApplicationCurrentDropletRequest.builder()
+                .applicationId(applicationId)
+                .build()))
+            .thenReturn(Mono
+                .just(GetApplicationCurrentDropletResponse.builder()
+                    .createdAt("1970-01-01T00:00:00Z")
+                    .executionMetadata("test-execution-metadata")
+                    .id("test-droplet-id")
+                    .image("test-image")
+                    .lifecycle(Lifecycle.builder()
+                        .data(DockerData.builder()
+                            .build())
+                        .type(DOCKER)
+                        .build())
+                    .state(DropletState.STAGED)
+                    .build()));
+    }
+
+    private static void requestCurrentDropletNotFound(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .getCurrentDroplet(GetApplicationCurrentDropletRequest.builder()
+                .applicationId(applicationId)
+                .build()))
+            .thenReturn(Mono
+                .error(new ClientV3Exception(404, Collections.singletonList(Error.builder()
+                    .code(10010)
+                    .detail("Droplet not found")
+                    .title("CF-ResourceNotFound")
+                    .build()))));
+    }
+
     private static void requestDeleteApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .delete(org.cloudfoundry.client.v2.applications.DeleteApplicationRequest.builder()
@@ -3514,6 +4175,47 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestEventsPaged(CloudFoundryClient cloudFoundryClient, String applicationId, Integer resultsPerPage, Integer totalPages, EventEntity entity) {
+        when(cloudFoundryClient.events()
+            .list(ListEventsRequest.builder()
+                .actee(applicationId)
+                .orderDirection(OrderDirection.DESCENDING)
+                .resultsPerPage(resultsPerPage)
+                .page(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListEventsResponse.builder())
+                    .resource(EventResource.builder()
+                        .metadata(fill(Metadata.builder())
+                            .id("test-event-id")
+                            .build())
+                        .entity(entity)
+                        .build())
+                    .totalPages(totalPages)
+                    .build()));
+    }
+
+    private static void requestEventsSince(CloudFoundryClient cloudFoundryClient, String applicationId, String timestamp, EventEntity entity) {
+        when(cloudFoundryClient.events()
+            .list(ListEventsRequest.builder()
+                .actee(applicationId)
+                .orderDirection(OrderDirection.DESCENDING)
+                .resultsPerPage(50)
+                .page(1)
+                .timestamp(timestamp)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListEventsResponse.builder())
+                    .resource(EventResource.builder()
+                        .metadata(fill(Metadata.builder())
+                            .id("test-event-id")
+                            .build())
+                        .entity(entity)
+                        .build())
+                    .totalPages(1)
+                    .build()));
+    }
+
     private static void requestGetApplication(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .get(org.cloudfoundry.client.v2.applications.GetApplicationRequest.builder()
@@ -3569,6 +4271,43 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestGetBuild(CloudFoundryClient cloudFoundryClient, String buildId, String dropletId) {
+        when(cloudFoundryClient.builds()
+            .get(GetBuildRequest.builder()
+                .buildId(buildId)
+                .build()))
+            .thenReturn(Mono
+                .just(GetBuildResponse.builder()
+                    .createdAt("test-created-at")
+                    .createdBy(fill(CreatedBy.builder())
+                        .build())
+                    .droplet(org.cloudfoundry.client.v3.builds.Droplet.builder()
+                        .id(dropletId)
+                        .build())
+                    .id(buildId)
+                    .inputPackage(Relationship.builder()
+                        .id("test-package-id")
+                        .build())
+                    .lifecycle(BUILDPACK_LIFECYCLE)
+                    .state(BuildState.STAGED)
+                    .build()));
+    }
+
+    private static void requestGetDeployment(CloudFoundryClient cloudFoundryClient, String deploymentId, DeploymentStatusReason reason) {
+        when(cloudFoundryClient.deploymentsV3()
+            .get(GetDeploymentRequest.builder()
+                .deploymentId(deploymentId)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(GetDeploymentResponse.builder())
+                    .id(deploymentId)
+                    .status(Status.builder()
+                        .reason(reason)
+                        .value(DeploymentStatusValue.FINALIZED)
+                        .build())
+                    .build()));
+    }
+
     private static void requestGetApplicationV3Buildpack(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV3()
             .get(org.cloudfoundry.client.v3.applications.GetApplicationRequest.builder()
@@ -3704,6 +4443,40 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                 }));
     }
 
+    private static void requestJobV3Success(CloudFoundryClient cloudFoundryClient, String jobId) {
+        when(cloudFoundryClient.jobsV3()
+            .get(org.cloudfoundry.client.v3.jobs.GetJobRequest.builder()
+                .jobId(jobId)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(org.cloudfoundry.client.v3.jobs.GetJobResponse.builder())
+                    .id(jobId)
+                    .state(JobState.COMPLETE)
+                    .build()));
+    }
+
+    private static void requestListApplicationPackages(CloudFoundryClient cloudFoundryClient, String applicationId, String packageId) {
+        when(cloudFoundryClient.applicationsV3()
+            .listPackages(ListApplicationPackagesRequest.builder()
+                .applicationId(applicationId)
+                .orderBy("-created_at")
+                .page(1)
+                .perPage(1)
+                .state(PackageState.READY)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationPackagesResponse.builder())
+                    .resource(PackageResource.builder()
+                        .createdAt("test-created-at")
+                        .data(BitsData.builder()
+                            .build())
+                        .id(packageId)
+                        .state(PackageState.READY)
+                        .type(PackageType.BITS)
+                        .build())
+                    .build()));
+    }
+
     private static void requestListMatchingResources(CloudFoundryClient cloudFoundryClient, Collection<ResourceMatchingUtils.ArtifactMetadata> artifactMetadatas) {
         ListMatchingResourcesRequest request = artifactMetadatas.stream()
             .reduce(ListMatchingResourcesRequest.builder(), (builder, artifactMetadata) -> builder.resource(Resource.builder()
@@ -3720,6 +4493,61 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestListProcesses(CloudFoundryClient cloudFoundryClient, String... applicationIds) {
+        ListProcessesResponse.Builder responseBuilder = fill(ListProcessesResponse.builder());
+
+        for (int i = 0; i < applicationIds.length; i++) {
+            responseBuilder.resource(fill(ProcessResource.builder())
+                .diskInMb(1024)
+                .id(String.format("test-process-id-%d", i + 1))
+                .instances(2)
+                .memoryInMb(512)
+                .relationships(ProcessRelationships.builder()
+                    .app(ToOneRelationship.builder()
+                        .data(Relationship.builder()
+                            .id(applicationIds[i])
+                            .build())
+                        .build())
+                    .build())
+                .type("web")
+                .build());
+        }
+
+        when(cloudFoundryClient.processes()
+            .list(ListProcessesRequest.builder()
+                .applicationIds(applicationIds)
+                .page(1)
+                .perPage(applicationIds.length)
+                .type("web")
+                .build()))
+            .thenReturn(Mono
+                .just(responseBuilder
+                    .build()));
+    }
+
+    private static void requestListRoutesV3(CloudFoundryClient cloudFoundryClient, String... applicationIds) {
+        when(cloudFoundryClient.routesV3()
+            .list(org.cloudfoundry.client.v3.routes.ListRoutesRequest.builder()
+                .applicationIds(applicationIds)
+                .page(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(org.cloudfoundry.client.v3.routes.ListRoutesResponse.builder())
+                    .resource(fill(org.cloudfoundry.client.v3.routes.RouteResource.builder())
+                        .destination(Destination.builder()
+                            .application(org.cloudfoundry.client.v3.routes.Application.builder()
+                                .applicationId(applicationIds[0])
+                                .process(org.cloudfoundry.client.v3.routes.Process.builder()
+                                    .type("web")
+                                    .build())
+                                .build())
+                            .destinationId("test-destination-id")
+                            .build())
+                        .url("test-host.test-domain")
+                        .build())
+                    .build()));
+    }
+
     private static void requestListTasks(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV3()
             .listTasks(org.cloudfoundry.client.v3.applications.ListApplicationTasksRequest.builder()
@@ -3787,6 +4615,65 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestLogsStreamLifecycle(DopplerClient dopplerClient, String applicationId) {
+        when(dopplerClient
+            .stream(StreamRequest.builder()
+                .applicationId(applicationId)
+                .build()))
+            .thenReturn(Flux
+                .concat(Mono.just(Envelope.builder()
+                    .eventType(EventType.LOG_MESSAGE)
+                    .logMessage(fill(LogMessage.builder(), "log-message-")
+                        .message("Uploading complete")
+                        .sourceType("STG")
+                        .build())
+                    .origin("rsp")
+                    .build()), Mono.delay(Duration.ofMillis(500))
+                    .thenReturn(Envelope.builder()
+                        .eventType(EventType.LOG_MESSAGE)
+                        .logMessage(fill(LogMessage.builder(), "log-message-")
+                            .message("Container became healthy")
+                            .sourceType("CELL")
+                            .build())
+                        .origin("rsp")
+                        .build()), Flux.never()));
+    }
+
+    private static void requestLogsStreamStagingOutput(DopplerClient dopplerClient, String applicationId) {
+        when(dopplerClient
+            .stream(StreamRequest.builder()
+                .applicationId(applicationId)
+                .build()))
+            .thenReturn(Flux
+                .concat(Flux.range(0, 100)
+                    .map(i -> Envelope.builder()
+                        .eventType(EventType.LOG_MESSAGE)
+                        .logMessage(fill(LogMessage.builder(), "log-message-")
+                            .message(String.format("Downloading dependency %d", i))
+                            .sourceType("STG")
+                            .build())
+                        .origin("rsp")
+                        .build()), Flux.never()));
+    }
+
+    private static void requestManifestActionsNotFound(CloudFoundryClient cloudFoundryClient) {
+        ClientV3Exception notFound = new ClientV3Exception(404, Collections.singletonList(Error.builder()
+            .code(10000)
+            .detail("Unknown request")
+            .title("CF-NotFound")
+            .build()));
+
+        when(cloudFoundryClient.spacesV3()
+            .createManifestDiff(any(CreateManifestDiffRequest.class)))
+            .thenReturn(Mono
+                .error(notFound));
+
+        when(cloudFoundryClient.spacesV3()
+            .applyManifest(any(ApplyManifestRequest.class)))
+            .thenReturn(Mono
+                .error(notFound));
+    }
+
     private static void requestOrganizationSpacesByName(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
         when(cloudFoundryClient.organizations()
             .listSpaces(ListOrganizationSpacesRequest.builder()
@@ -3891,6 +4778,24 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestProcessStatistics(CloudFoundryClient cloudFoundryClient, String processId) {
+        when(cloudFoundryClient.processes()
+            .getStatistics(GetProcessStatisticsRequest.builder()
+                .processId(processId)
+                .build()))
+            .thenReturn(Mono
+                .just(GetProcessStatisticsResponse.builder()
+                    .resource(fill(ProcessStatisticsResource.builder())
+                        .index(0)
+                        .state(ProcessState.RUNNING)
+                        .build())
+                    .resource(fill(ProcessStatisticsResource.builder())
+                        .index(1)
+                        .state(ProcessState.STARTING)
+                        .build())
+                    .build()));
+    }
+
     private static void requestRemoveApplicationRoute(CloudFoundryClient cloudFoundryClient, String applicationId, String routeId) {
         when(cloudFoundryClient.applicationsV2()
             .removeRoute(RemoveApplicationRouteRequest.builder()
@@ -4219,6 +5124,49 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestUpdateEnvironmentVariables(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest.builder()
+                .applicationId(applicationId)
+                .var("test-variable-name", "test-variable-value")
+                .var("test-unset-variable-name", null)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(UpdateApplicationEnvironmentVariablesResponse.builder())
+                    .var("test-variable-name", "test-variable-value")
+                    .build()));
+    }
+
+    private static void requestUpdateEnvironmentVariablesError(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest.builder()
+                .applicationId(applicationId)
+                .var("test-variable-name", "test-variable-value")
+                .var("test-unset-variable-name", null)
+                .build()))
+            .thenReturn(Mono
+                .error(new IllegalStateException("test-error")));
+    }
+
+    private static void requestUpdatePushFingerprint(CloudFoundryClient cloudFoundryClient, String applicationId, String fingerprint) {
+        when(cloudFoundryClient.applicationsV3()
+            .update(org.cloudfoundry.client.v3.applications.UpdateApplicationRequest.builder()
+                .applicationId(applicationId)
+                .metadata(org.cloudfoundry.client.v3.Metadata.builder()
+                    .annotation("cf-java-client/push-fingerprint", fingerprint)
+                    .build())
+                .build()))
+            .thenReturn(Mono
+                .just(org.cloudfoundry.client.v3.applications.UpdateApplicationResponse.builder()
+                    .createdAt("test-created-at")
+                    .id(applicationId)
+                    .lifecycle(BUILDPACK_LIFECYCLE)
+                    .name("test-name")
+                    .state(ApplicationState.STOPPED)
+                    .updatedAt("test-updated-at")
+                    .build()));
+    }
+
     private static void requestUpload(CloudFoundryClient cloudFoundryClient, String applicationId, Path application, String jobId) {
         when(cloudFoundryClient.applicationsV2()
             .upload(UploadApplicationRequest.builder()
@@ -4236,4 +5184,16 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static ApplicationDetail withoutSince(ApplicationDetail applicationDetail) {
+        return ApplicationDetail.builder()
+            .from(applicationDetail)
+            .instanceDetails(applicationDetail.getInstanceDetails().stream()
+                .map(instanceDetail -> InstanceDetail.builder()
+                    .from(instanceDetail)
+                    .since(null)
+                    .build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+
 }
@@ -16,102 +16,263 @@
 
 package org.cloudfoundry.util;
 
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
  * Dynamically creates {@link byte} arrays and caches them, reusing them once they have been released.
  * <p>
- * The maximum number of byte arrays is unbounded
+ * Byte arrays are pooled in power-of-two size classes from 8 KiB to 1 MiB.  Each size class holds a fixed number of byte arrays, proportional to the number of processors, and byte
+ * arrays released to a full size class are discarded, so the memory held by the pool is bounded.  Threads start searching a size class at different positions so that concurrent
+ * callers rarely contend.
  * <p>
- * The default time-to-live for unused byte arrays is one minute
+ * Byte arrays that have been unused for one minute are evicted.  Metrics are available from {@link #getMetrics()} and are registered as the
+ * {@code org.cloudfoundry.util:type=ByteArrayPool} MBean.
  */
-public final class ByteArrayPool {
+public final class ByteArrayPool implements ByteArrayPoolMXBean {
 
-    private static final AtomicLong EVICTOR_COUNTER = new AtomicLong();
+    static final int MAXIMUM_SIZE = 1_024 * 1_024;
 
-    private static final ThreadFactory EVICTOR_FACTORY = r -> {
-        Thread t = new Thread(r, "byte-buffer-evictor-" + EVICTOR_COUNTER.incrementAndGet());
-        t.setDaemon(true);
-        return t;
-    };
+    static final int MINIMUM_SIZE = 8 * 1_024;
 
-    private static final int MIBIBYTE = 1_024 * 1_024;
+    private static final Duration TTL = Duration.ofMinutes(1);
 
-    private static ByteArrayPool INSTANCE = new ByteArrayPool(MIBIBYTE, Duration.ofMinutes(1));
+    private static final ByteArrayPool INSTANCE = new ByteArrayPool(Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors() * 2 - 1)), TTL);
 
-    private final Queue<ByteArrayExpiry> cache = new ConcurrentLinkedQueue<>();
+    private final LongAdder acquisitions = new LongAdder();
 
-    private final int capacity;
+    private final LongAdder discards = new LongAdder();
 
-    private final Duration ttl;
+    private final LongAdder evictions = new LongAdder();
 
-    private ByteArrayPool(int capacity, Duration ttl) {
-        this.capacity = capacity;
-        this.ttl = ttl;
+    private final LongAdder misses = new LongAdder();
 
-        Executors.newScheduledThreadPool(1, EVICTOR_FACTORY)
-            .scheduleAtFixedRate(this::evict, ttl.toMillis(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    private final SizeClass[] sizeClasses;
+
+    private final long ttl;
+
+    static {
+        Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "byte-array-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        }).scheduleAtFixedRate(() -> INSTANCE.evict(System.nanoTime()), TTL.toMillis(), TTL.toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, ObjectName.getInstance("org.cloudfoundry.util:type=ByteArrayPool"));
+        } catch (JMException | SecurityException e) {
+            // Metrics remain available from getMetrics()
+        }
+    }
+
+    ByteArrayPool(int slots, Duration ttl) {
+        int count = Integer.numberOfTrailingZeros(MAXIMUM_SIZE) - Integer.numberOfTrailingZeros(MINIMUM_SIZE) + 1;
+
+        this.sizeClasses = new SizeClass[count];
+        for (int i = 0; i < count; i++) {
+            this.sizeClasses[i] = new SizeClass(MINIMUM_SIZE << i, slots);
+        }
+
+        this.ttl = ttl.toNanos();
+    }
+
+    /**
+     * Returns the metrics of the pool
+     */
+    public static ByteArrayPoolMXBean getMetrics() {
+        return INSTANCE;
     }
 
     /**
-     * Executes a {@link Consumer} providing a pooled {@code byte} array
+     * Executes a {@link Consumer} providing a pooled 1 MiB {@code byte} array
      *
      * @param consumer the {@link Consumer} of the {@link byte} array
      */
     public static void withByteArray(Consumer<byte[]> consumer) {
-        INSTANCE.doWithByteArray(consumer);
+        INSTANCE.doWithByteArray(MAXIMUM_SIZE, consumer);
+    }
+
+    /**
+     * Executes a {@link Consumer} providing a pooled {@code byte} array sized for a number of bytes.  The array is the smallest size class that can hold {@code size} bytes, and is at
+     * most 1 MiB.
+     *
+     * @param size     the number of bytes that will be processed, or a negative number if unknown
+     * @param consumer the {@link Consumer} of the {@link byte} array
+     */
+    public static void withByteArray(long size, Consumer<byte[]> consumer) {
+        INSTANCE.doWithByteArray(size, consumer);
     }
 
-    private void doWithByteArray(Consumer<byte[]> consumer) {
-        byte[] byteArray = Optional.ofNullable(this.cache.poll())
-            .map(ByteArrayExpiry::getByteArray)
-            .orElseGet(() -> new byte[this.capacity]);
+    @Override
+    public long getAcquisitionCount() {
+        return this.acquisitions.sum();
+    }
+
+    @Override
+    public long getDiscardCount() {
+        return this.discards.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public long getPooledBytes() {
+        long bytes = 0;
+
+        for (SizeClass sizeClass : this.sizeClasses) {
+            bytes += (long) sizeClass.count() * sizeClass.size;
+        }
+
+        return bytes;
+    }
+
+    @Override
+    public long getPooledCount() {
+        long count = 0;
+
+        for (SizeClass sizeClass : this.sizeClasses) {
+            count += sizeClass.count();
+        }
+
+        return count;
+    }
+
+    void doWithByteArray(long size, Consumer<byte[]> consumer) {
+        SizeClass sizeClass = getSizeClass(size);
+        byte[] byteArray = sizeClass.acquire();
+
+        this.acquisitions.increment();
+        if (byteArray == null) {
+            this.misses.increment();
+            byteArray = new byte[sizeClass.size];
+        }
 
         try {
             consumer.accept(byteArray);
         } finally {
-            this.cache.offer(new ByteArrayExpiry(byteArray, Instant.now().plus(this.ttl)));
+            if (!sizeClass.release(byteArray, System.nanoTime())) {
+                this.discards.increment();
+            }
         }
     }
 
-    private void evict() {
-        Instant now = Instant.now();
+    void evict(long now) {
+        for (SizeClass sizeClass : this.sizeClasses) {
+            this.evictions.add(sizeClass.evict(now, this.ttl));
+        }
+    }
 
-        new ArrayList<>(this.cache).stream()
-            .filter(expiry -> expiry.getExpiration().isBefore(now))
-            .forEach(this.cache::remove);
+    private SizeClass getSizeClass(long size) {
+        if (size < 0 || size >= MAXIMUM_SIZE) {
+            return this.sizeClasses[this.sizeClasses.length - 1];
+        }
+
+        if (size <= MINIMUM_SIZE) {
+            return this.sizeClasses[0];
+        }
+
+        int rounded = Integer.highestOneBit((int) size - 1) << 1;
+        return this.sizeClasses[Integer.numberOfTrailingZeros(rounded) - Integer.numberOfTrailingZeros(MINIMUM_SIZE)];
     }
 
-    private static class ByteArrayExpiry {
+    private static final class SizeClass {
+
+        private final AtomicReferenceArray<byte[]> byteArrays;
 
-        private final byte[] byteArray;
+        private final int mask;
 
-        private final Instant expiration;
+        private final AtomicLongArray releasedAt;
 
-        private ByteArrayExpiry(byte[] byteArray, Instant expiration) {
-            this.byteArray = byteArray;
-            this.expiration = expiration;
+        private final int size;
+
+        private SizeClass(int size, int slots) {
+            this.byteArrays = new AtomicReferenceArray<>(slots);
+            this.mask = slots - 1;
+            this.releasedAt = new AtomicLongArray(slots);
+            this.size = size;
         }
 
-        private byte[] getByteArray() {
-            return this.byteArray;
+        private byte[] acquire() {
+            int start = probe();
+
+            for (int i = 0; i <= this.mask; i++) {
+                int index = (start + i) & this.mask;
+                byte[] byteArray = this.byteArrays.get(index);
+
+                if (byteArray != null && this.byteArrays.compareAndSet(index, byteArray, null)) {
+                    return byteArray;
+                }
+            }
+
+            return null;
         }
 
-        private Instant getExpiration() {
-            return this.expiration;
+        private int count() {
+            int count = 0;
+
+            for (int i = 0; i <= this.mask; i++) {
+                if (this.byteArrays.get(i) != null) {
+                    count++;
+                }
+            }
+
+            return count;
         }
 
-    }
+        private int evict(long now, long ttl) {
+            int evicted = 0;
+
+            for (int i = 0; i <= this.mask; i++) {
+                byte[] byteArray = this.byteArrays.get(i);
+
+                // The slot is read before its timestamp, which release() writes before publishing the slot, so the timestamp is never older than the byte array read
+                if (byteArray != null && now - this.releasedAt.get(i) >= ttl && this.byteArrays.compareAndSet(i, byteArray, null)) {
+                    evicted++;
+                }
+            }
+
+            return evicted;
+        }
+
+        private int probe() {
+            return (int) Thread.currentThread().getId();
+        }
+
+        private boolean release(byte[] byteArray, long now) {
+            int start = probe();
+
+            for (int i = 0; i <= this.mask; i++) {
+                int index = (start + i) & this.mask;
+
+                if (this.byteArrays.get(index) == null) {
+                    // Written before the slot is published.  If another thread publishes first, this only refreshes the timestamp of a byte array released at the same time.
+                    this.releasedAt.set(index, now);
 
+                    if (this.byteArrays.compareAndSet(index, null, byteArray)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+    }
 
 }
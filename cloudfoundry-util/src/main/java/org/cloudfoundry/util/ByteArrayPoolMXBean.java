@@ -0,0 +1,51 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+public interface ByteArrayPoolMXBean {
+
+    /**
+     * Returns the number of byte arrays that have been requested from the pool
+     */
+    long getAcquisitionCount();
+
+    /**
+     * Returns the number of released byte arrays that were discarded because the pool was full
+     */
+    long getDiscardCount();
+
+    /**
+     * Returns the number of idle byte arrays that have been evicted from the pool
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of requests that could not be served from the pool and allocated a new byte array
+     */
+    long getMissCount();
+
+    /**
+     * Returns the total size, in bytes, of the byte arrays currently held by the pool
+     */
+    long getPooledBytes();
+
+    /**
+     * Returns the number of byte arrays currently held by the pool
+     */
+    long getPooledCount();
+
+}
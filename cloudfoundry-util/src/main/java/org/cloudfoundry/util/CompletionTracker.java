@@ -0,0 +1,238 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Tracks the completion of many long-running operations, such as jobs and service instance last operations, sharing a single polling loop between them.  Each operation is checked as soon as it
+ * is tracked and then re-checked on a jittered exponential backoff, with the number of checks issued across all operations, first checks included, capped per second.  Each waiter completes individually once its
+ * operation completes.
+ */
+public final class CompletionTracker {
+
+    static final int DEFAULT_REQUESTS_PER_SECOND = 20;
+
+    static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+
+    private static final long MAXIMUM_DELAY = Duration.ofSeconds(15).toMillis();
+
+    private static final long MINIMUM_DELAY = Duration.ofSeconds(1).toMillis();
+
+    private static final CompletionTracker SHARED = new CompletionTracker(DEFAULT_REQUESTS_PER_SECOND, DEFAULT_TICK);
+
+    private static final Map<Object, CompletionTracker> TRACKERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int requestsPerTick;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Duration tick;
+
+    private final Queue<Waiter<?>> waiters = new ConcurrentLinkedQueue<>();
+
+    private int windowChecks;
+
+    private long windowStart = Long.MIN_VALUE;
+
+    CompletionTracker(int requestsPerSecond, Duration tick) {
+        this.requestsPerTick = (int) Math.max(1, requestsPerSecond * tick.toMillis() / 1_000);
+        this.tick = tick;
+    }
+
+    /**
+     * Returns the tracker shared by all operations against a client
+     *
+     * @param client the client that completion checks are made against
+     * @return the tracker for the client
+     */
+    public static CompletionTracker forClient(Object client) {
+        return TRACKERS.computeIfAbsent(client, key -> new CompletionTracker(DEFAULT_REQUESTS_PER_SECOND, DEFAULT_TICK));
+    }
+
+    /**
+     * Returns a tracker shared by all operations that are not associated with a client
+     *
+     * @return the shared tracker
+     */
+    public static CompletionTracker shared() {
+        return SHARED;
+    }
+
+    /**
+     * Waits for an operation to complete
+     *
+     * @param check             a {@link Mono} that is subscribed to each time the operation's state is checked
+     * @param isComplete        whether a checked state is complete
+     * @param completionTimeout the amount of time to wait for the operation to complete
+     * @param <T>               the type of the checked state
+     * @return the completed state, or a {@link DelayTimeoutException} if the operation does not complete in time
+     */
+    public <T> Mono<T> waitForCompletion(Mono<T> check, Predicate<T> isComplete, Duration completionTimeout) {
+        return Mono.create(sink -> {
+            long now = now();
+            Waiter<T> waiter = new Waiter<>(check, isComplete, now + completionTimeout.toMillis(), sink);
+            sink.onDispose(() -> {
+                waiter.disposed = true;
+                this.waiters.remove(waiter);
+                waiter.cancel();
+            });
+
+            this.waiters.add(waiter);
+            if (tryAcquire(now)) {
+                waiter.check(this.waiters);
+            }
+            start();
+        });
+    }
+
+    int getPendingCount() {
+        return this.waiters.size();
+    }
+
+    private static long getDelay(int attempt) {
+        long delay = Math.min(MINIMUM_DELAY << Math.min(attempt, 16), MAXIMUM_DELAY);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private static long now() {
+        return Schedulers.parallel().now(TimeUnit.MILLISECONDS);
+    }
+
+    private void poll() {
+        long now = now();
+
+        for (Waiter<?> waiter : this.waiters) {
+            if (waiter.disposed) {
+                this.waiters.remove(waiter);
+                continue;
+            }
+
+            if (now >= waiter.deadline) {
+                this.waiters.remove(waiter);
+                waiter.cancel();
+                waiter.sink.error(new DelayTimeoutException());
+                continue;
+            }
+
+            if (waiter.checking) {
+                continue;
+            }
+
+            if (now >= waiter.nextCheck && tryAcquire(now)) {
+                this.waiters.remove(waiter);
+                this.waiters.add(waiter);
+                waiter.check(this.waiters);
+            }
+        }
+
+        this.running.set(false);
+        if (!this.waiters.isEmpty()) {
+            start();
+        }
+    }
+
+    private void start() {
+        if (this.running.compareAndSet(false, true)) {
+            Mono.delay(this.tick)
+                .subscribe(t -> poll(), t -> this.running.set(false));
+        }
+    }
+
+    // Checks are counted in fixed windows of one tick, shared by first checks and polled re-checks
+    private synchronized boolean tryAcquire(long now) {
+        if (now >= this.windowStart + this.tick.toMillis()) {
+            this.windowChecks = 0;
+            this.windowStart = now;
+        }
+
+        if (this.windowChecks >= this.requestsPerTick) {
+            return false;
+        }
+
+        this.windowChecks++;
+        return true;
+    }
+
+    private static final class Waiter<T> {
+
+        private final Mono<T> check;
+
+        private final Predicate<T> isComplete;
+
+        private final long deadline;
+
+        private final MonoSink<T> sink;
+
+        private volatile int attempt;
+
+        private volatile boolean checking;
+
+        private volatile boolean disposed;
+
+        private volatile long nextCheck;
+
+        private volatile Disposable subscription;
+
+        private Waiter(Mono<T> check, Predicate<T> isComplete, long deadline, MonoSink<T> sink) {
+            this.check = check;
+            this.deadline = deadline;
+            this.isComplete = isComplete;
+            this.sink = sink;
+        }
+
+        private void cancel() {
+            Disposable subscription = this.subscription;
+            if (subscription != null) {
+                subscription.dispose();
+            }
+        }
+
+        private void check(Queue<Waiter<?>> waiters) {
+            this.checking = true;
+
+            this.subscription = this.check
+                .filter(this.isComplete)
+                .subscribe(value -> {
+                    waiters.remove(this);
+                    this.sink.success(value);
+                }, t -> {
+                    waiters.remove(this);
+                    this.sink.error(t);
+                }, () -> {
+                    this.nextCheck = now() + getDelay(this.attempt++);
+                    this.checking = false;
+                });
+        }
+
+    }
+
+}
@@ -118,7 +118,7 @@ public final class FileUtils {
      */
     public static String hash(Path path) {
         try (InputStream in = Files.newInputStream(path)) {
-            return hash(in);
+            return hash(in, Files.size(path));
         } catch (IOException e) {
             throw Exceptions.propagate(e);
         }
@@ -131,24 +131,7 @@ public final class FileUtils {
      * @return {@link String} representation of the hash
      */
     public static String hash(InputStream in) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("sha1");
-
-            ByteArrayPool.withByteArray(buffer -> {
-                try {
-                    int length;
-                    while ((length = in.read(buffer)) != -1) {
-                        digest.update(buffer, 0, length);
-                    }
-                } catch (IOException e) {
-                    throw Exceptions.propagate(e);
-                }
-            });
-
-            return String.format("%040x", new BigInteger(1, digest.digest()));
-        } catch (NoSuchAlgorithmException e) {
-            throw Exceptions.propagate(e);
-        }
+        return hash(in, -1);
     }
 
     /**
@@ -202,7 +185,7 @@ public final class FileUtils {
                 .filter(path -> filter.test(getRelativePathName(candidate, path)))
                 .forEach(path -> {
                     try (InputStream in = Files.isDirectory(path) ? null : Files.newInputStream(path)) {
-                        write(in, Files.getLastModifiedTime(path), getUnixMode(path), out, getRelativePathName(candidate, path));
+                        write(in, Files.isDirectory(path) ? 0 : Files.size(path), Files.getLastModifiedTime(path), getUnixMode(path), out, getRelativePathName(candidate, path));
                     } catch (IOException e) {
                         throw Exceptions.propagate(e);
                     }
@@ -222,7 +205,7 @@ public final class FileUtils {
                 if (filter.test(entry.getName())) {
                     try (InputStream in = zipFile.getInputStream(entry)) {
                         int mode = entry.getUnixMode();
-                        write(in, entry.getLastModifiedTime(), mode == 0 ? DEFAULT_PERMISSIONS : mode, out, entry.getName());
+                        write(in, entry.getSize(), entry.getLastModifiedTime(), mode == 0 ? DEFAULT_PERMISSIONS : mode, out, entry.getName());
                     }
                 }
             }
@@ -241,11 +224,32 @@ public final class FileUtils {
             .sum();
     }
 
+    private static String hash(InputStream in, long size) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("sha1");
+
+            ByteArrayPool.withByteArray(size, buffer -> {
+                try {
+                    int length;
+                    while ((length = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, length);
+                    }
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
+            });
+
+            return String.format("%040x", new BigInteger(1, digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     private static boolean isPosixFile(Path path) {
         return path.getFileSystem().supportedFileAttributeViews().contains("posix");
     }
 
-    private static void write(InputStream in, FileTime lastModifiedTime, int mode, ZipArchiveOutputStream out, String path) {
+    private static void write(InputStream in, long size, FileTime lastModifiedTime, int mode, ZipArchiveOutputStream out, String path) {
         try {
             ZipArchiveEntry entry = new ZipArchiveEntry(path);
             entry.setUnixMode(mode);
@@ -253,7 +257,7 @@ public final class FileUtils {
             out.putArchiveEntry(entry);
 
             if (in != null) {
-                ByteArrayPool.withByteArray(buffer -> {
+                ByteArrayPool.withByteArray(size, buffer -> {
                     try {
                         int length;
                         while ((length = in.read(buffer)) != -1) {
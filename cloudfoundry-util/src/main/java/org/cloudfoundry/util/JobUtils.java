@@ -32,8 +32,6 @@ import reactor.core.publisher.Mono;
 import java.time.Duration;
 import java.util.List;
 
-import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
-
 /**
  * Utilities for Jobs
  */
@@ -71,10 +69,9 @@ public final class JobUtils {
         if (JobUtils.isComplete(jobEntity)) {
             job = Mono.just(jobEntity);
         } else {
-            job = requestJobV2(cloudFoundryClient, jobEntity.getId())
-                .map(GetJobResponse::getEntity)
-                .filter(JobUtils::isComplete)
-                .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), completionTimeout));
+            job = CompletionTracker.forClient(cloudFoundryClient)
+                .waitForCompletion(requestJobV2(cloudFoundryClient, jobEntity.getId())
+                    .map(GetJobResponse::getEntity), JobUtils::isComplete, completionTimeout);
         }
 
         return job
@@ -91,9 +88,8 @@ public final class JobUtils {
      * @return {@code onComplete} once job has completed
      */
     public static Mono<Void> waitForCompletion(CloudFoundryClient cloudFoundryClient, Duration completionTimeout, String jobId) {
-        return requestJobV3(cloudFoundryClient, jobId)
-            .filter(job -> JobState.PROCESSING != job.getState())
-            .repeatWhenEmpty(exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), completionTimeout))
+        return CompletionTracker.forClient(cloudFoundryClient)
+            .waitForCompletion(requestJobV3(cloudFoundryClient, jobId), job -> JobState.PROCESSING != job.getState(), completionTimeout)
             .filter(job -> JobState.FAILED == job.getState())
             .flatMap(JobUtils::getError);
     }
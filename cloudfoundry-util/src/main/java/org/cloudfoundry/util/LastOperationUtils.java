@@ -34,10 +34,9 @@ public final class LastOperationUtils {
     }
 
     public static Mono<Void> waitForCompletion(Duration completionTimeout, Supplier<Mono<LastOperation>> lastOperationSupplier) {
-        return lastOperationSupplier.get()
-            .map(LastOperation::getState)
-            .filter(state -> !IN_PROGRESS.equals(state))
-            .repeatWhenEmpty(DelayUtils.exponentialBackOff(Duration.ofSeconds(1), Duration.ofSeconds(15), completionTimeout))
+        return CompletionTracker.shared()
+            .waitForCompletion(lastOperationSupplier.get()
+                .map(LastOperation::getState), state -> !IN_PROGRESS.equals(state), completionTimeout)
             .onErrorResume(t -> t instanceof ClientV2Exception && ((ClientV2Exception) t).getStatusCode() == 404, t -> Mono.empty())
             .then();
     }
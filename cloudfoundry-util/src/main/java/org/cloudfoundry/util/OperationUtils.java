@@ -22,8 +22,17 @@ import reactor.core.publisher.Mono;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.function.Function;
 
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 /**
  * Utilities with operations that do not (yet) exist
  */
@@ -51,4 +60,59 @@ public final class OperationUtils {
             .map(ByteArrayOutputStream::toByteArray);
     }
 
+    /**
+     * Operation to update a {@link MessageDigest} with the contents of each {@link ByteBuffer} in a {@code Flux<ByteBuffer>} as it passes through.  The buffers are passed on unchanged.
+     *
+     * @param digest the digest to update
+     * @return a function that updates the digest with the contents of each buffer
+     */
+    public static Function<Flux<ByteBuffer>, Flux<ByteBuffer>> digest(MessageDigest digest) {
+        return buffers -> buffers
+            .doOnNext(buffer -> digest.update(buffer.duplicate()));
+    }
+
+    /**
+     * Operation to write the contents of a {@code Flux<ByteBuffer>} to a file, as each buffer is received.  The file is created if it does not exist, truncated if it does, and deleted if the
+     * {@code Flux} terminates with an error.  Each buffer is written on the thread that emits it, as the buffers of a download body are only valid while they are emitted.  Downloads that only need
+     * to be written to a file should use the download methods that take a {@link Path}, which write off the network threads.
+     *
+     * @param destination the file to write to
+     * @return a function that writes the buffers to the file, and returns the file once all buffers have been written
+     */
+    public static Function<Flux<ByteBuffer>, Mono<Path>> write(Path destination) {
+        return buffers -> Mono.using(
+            () -> FileChannel.open(destination, CREATE, TRUNCATE_EXISTING, WRITE),
+            channel -> buffers
+                .doOnNext(buffer -> write(channel, buffer.duplicate()))
+                .then(Mono.just(destination)),
+            OperationUtils::close)
+            .doOnError(t -> delete(destination));
+    }
+
+    private static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Ignore, as the original error is more useful
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
 }
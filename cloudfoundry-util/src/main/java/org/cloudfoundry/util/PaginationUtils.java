@@ -30,6 +30,28 @@ public final class PaginationUtils {
     private PaginationUtils() {
     }
 
+    /**
+     * Generate the stream of responses obtained from the page supplier.  Unlike {@link #requestClientV2Resources(Function)}, pages are requested one at a time as they are demanded, so
+     * that no further pages are requested once a consumer has cancelled.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v2.PaginatedResponse}s.
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v2.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <T extends org.cloudfoundry.client.v2.Resource<?>, U extends org.cloudfoundry.client.v2.PaginatedResponse<T>> Flux<U> requestClientV2Pages(Function<Integer, Mono<U>> pageSupplier) {
+        return pageSupplier
+            .apply(1)
+            .flatMapMany(response -> {
+                Integer totalPages = Optional.ofNullable(response.getTotalPages()).orElse(1);
+
+                return Flux
+                    .range(2, Math.max(totalPages - 1, 0))
+                    .concatMap(pageSupplier, 1)
+                    .startWith(response);
+            });
+    }
+
     /**
      * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
      *
@@ -47,6 +69,28 @@ public final class PaginationUtils {
             .flatMap(ResourceUtils::getResources);
     }
 
+    /**
+     * Generate the stream of responses obtained from the page supplier.  Unlike {@link #requestClientV3Resources(Function)}, pages are requested one at a time as they are demanded, so
+     * that at most one page is held in memory ahead of a slow consumer.
+     *
+     * @param pageSupplier a function from integers to {@link Mono}s of {@link org.cloudfoundry.client.v3.PaginatedResponse}s.
+     * @param <T>          the type of resource in the list on each {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @param <U>          the type of {@link org.cloudfoundry.client.v3.PaginatedResponse}.
+     * @return a stream of <code>U</code> objects.
+     */
+    public static <T, U extends org.cloudfoundry.client.v3.PaginatedResponse<T>> Flux<U> requestClientV3Pages(Function<Integer, Mono<U>> pageSupplier) {
+        return pageSupplier
+            .apply(1)
+            .flatMapMany(response -> {
+                Integer totalPages = Optional.ofNullable(response.getPagination().getTotalPages()).orElse(1);
+
+                return Flux
+                    .range(2, Math.max(totalPages - 1, 0))
+                    .concatMap(pageSupplier, 1)
+                    .startWith(response);
+            });
+    }
+
     /**
      * Generate the stream of resources accumulated from a series of responses obtained from the page supplier.
      *
@@ -29,14 +29,18 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Utilities for matching resources
@@ -48,17 +52,49 @@ public final class ResourceMatchingUtils {
     private ResourceMatchingUtils() {
     }
 
+    /**
+     * Returns the metadata of every file in an application
+     *
+     * @param application the application, either a directory or an archive
+     * @return the metadata of the application's files
+     */
+    public static Mono<List<ArtifactMetadata>> getArtifactMetadata(Path application) {
+        return Flux
+            .defer(() -> Files.isDirectory(application) ? getArtifactMetadataFromDirectory(application) : getArtifactMetadataFromZip(application))
+            .collectList()
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Returns an aggregate fingerprint of an application's files.  The fingerprint changes when any file is added, removed, renamed, modified, or has its permissions changed.
+     *
+     * @param artifactMetadatas the metadata of the application's files
+     * @return the fingerprint
+     */
+    public static String getFingerprint(Collection<ArtifactMetadata> artifactMetadatas) {
+        String listing = artifactMetadatas.stream()
+            .sorted(Comparator.comparing(ArtifactMetadata::getPath))
+            .map(artifactMetadata -> String.format("%s %s %s\n", artifactMetadata.getHash(), artifactMetadata.getPermissions(), artifactMetadata.getPath()))
+            .collect(Collectors.joining());
+
+        return FileUtils.hash(new ByteArrayInputStream(listing.getBytes(StandardCharsets.UTF_8)));
+    }
+
     public static Mono<List<ArtifactMetadata>> getMatchedResources(CloudFoundryClient cloudFoundryClient, Path application) {
-        return (Files.isDirectory(application) ? getArtifactMetadataFromDirectory(application) : getArtifactMetadataFromZip(application))
+        return getArtifactMetadata(application)
+            .flatMap(artifactMetadatas -> getMatchedResources(cloudFoundryClient, artifactMetadatas));
+    }
+
+    public static Mono<List<ArtifactMetadata>> getMatchedResources(CloudFoundryClient cloudFoundryClient, List<ArtifactMetadata> artifactMetadatas) {
+        return Flux.fromIterable(artifactMetadatas)
             .collectMap(ArtifactMetadata::getHash)
-            .flatMapMany(artifactMetadatas -> requestListMatchingResources(cloudFoundryClient, artifactMetadatas.values())
+            .flatMapMany(artifactMetadatasByHash -> requestListMatchingResources(cloudFoundryClient, artifactMetadatasByHash.values())
                 .flatMapIterable(ListMatchingResourcesResponse::getResources)
-                .map(resource -> artifactMetadatas.get(resource.getHash())))
+                .map(resource -> artifactMetadatasByHash.get(resource.getHash())))
             .collectList()
             .doOnNext(matched -> LOGGER.debug("{} resources matched totaling {}", matched.size(), SizeUtils.asIbi(matched.stream()
                 .mapToInt(ArtifactMetadata::getSize)
-                .sum())))
-            .subscribeOn(Schedulers.boundedElastic());
+                .sum())));
     }
 
     private static Flux<ArtifactMetadata> getArtifactMetadataFromDirectory(Path application) {
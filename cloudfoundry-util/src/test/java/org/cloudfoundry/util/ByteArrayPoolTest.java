@@ -0,0 +1,86 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ByteArrayPoolTest {
+
+    private final ByteArrayPool pool = new ByteArrayPool(2, Duration.ofMinutes(1));
+
+    @Test
+    public void bounded() {
+        this.pool.doWithByteArray(-1, a ->
+            this.pool.doWithByteArray(-1, b ->
+                this.pool.doWithByteArray(-1, c -> {
+                })));
+
+        assertThat(this.pool.getPooledCount()).isEqualTo(2);
+        assertThat(this.pool.getDiscardCount()).isEqualTo(1);
+        assertThat(this.pool.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void evict() {
+        this.pool.doWithByteArray(-1, buffer -> {
+        });
+
+        this.pool.evict(System.nanoTime());
+        assertThat(this.pool.getPooledCount()).isEqualTo(1);
+
+        this.pool.evict(System.nanoTime() + Duration.ofMinutes(1).toNanos());
+        assertThat(this.pool.getPooledCount()).isZero();
+        assertThat(this.pool.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void reuse() {
+        AtomicReference<byte[]> first = new AtomicReference<>();
+        AtomicReference<byte[]> second = new AtomicReference<>();
+
+        this.pool.doWithByteArray(-1, first::set);
+        this.pool.doWithByteArray(-1, second::set);
+
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(this.pool.getAcquisitionCount()).isEqualTo(2);
+        assertThat(this.pool.getMissCount()).isEqualTo(1);
+        assertThat(this.pool.getPooledBytes()).isEqualTo(ByteArrayPool.MAXIMUM_SIZE);
+    }
+
+    @Test
+    public void sizeClasses() {
+        assertThat(length(0)).isEqualTo(ByteArrayPool.MINIMUM_SIZE);
+        assertThat(length(ByteArrayPool.MINIMUM_SIZE)).isEqualTo(ByteArrayPool.MINIMUM_SIZE);
+        assertThat(length(ByteArrayPool.MINIMUM_SIZE + 1)).isEqualTo(2 * ByteArrayPool.MINIMUM_SIZE);
+        assertThat(length(100_000)).isEqualTo(128 * 1_024);
+        assertThat(length(ByteArrayPool.MAXIMUM_SIZE)).isEqualTo(ByteArrayPool.MAXIMUM_SIZE);
+        assertThat(length(Long.MAX_VALUE)).isEqualTo(ByteArrayPool.MAXIMUM_SIZE);
+        assertThat(length(-1)).isEqualTo(ByteArrayPool.MAXIMUM_SIZE);
+    }
+
+    private int length(long size) {
+        AtomicReference<byte[]> buffer = new AtomicReference<>();
+        this.pool.doWithByteArray(size, buffer::set);
+        return buffer.get().length;
+    }
+
+}
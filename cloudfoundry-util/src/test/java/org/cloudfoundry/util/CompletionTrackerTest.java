@@ -0,0 +1,141 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class CompletionTrackerTest {
+
+    @Test
+    public void cancel() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+
+        try {
+            CompletionTracker tracker = new CompletionTracker(10, Duration.ofMillis(100));
+            Disposable disposable = tracker.waitForCompletion(check(new AtomicInteger(), Integer.MAX_VALUE), state -> state, Duration.ofMinutes(1))
+                .subscribe();
+
+            assertThat(tracker.getPendingCount()).isEqualTo(1);
+            disposable.dispose();
+            assertThat(tracker.getPendingCount()).isEqualTo(0);
+        } finally {
+            VirtualTimeScheduler.reset();
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    public void complete() {
+        CompletionTracker tracker = new CompletionTracker(10, Duration.ofMillis(100));
+        AtomicInteger checks = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> tracker.waitForCompletion(check(checks, 3), state -> state, Duration.ofMinutes(1)))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofSeconds(4)))
+            .expectNext(true)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(checks).hasValue(3);
+        assertThat(tracker.getPendingCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void completeImmediately() {
+        CompletionTracker tracker = new CompletionTracker(10, Duration.ofMillis(100));
+
+        tracker.waitForCompletion(Mono.just(true), state -> state, Duration.ofMinutes(1))
+            .as(StepVerifier::create)
+            .expectNext(true)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(tracker.getPendingCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void forClient() {
+        Object client = new Object();
+
+        assertThat(CompletionTracker.forClient(client)).isSameAs(CompletionTracker.forClient(client));
+        assertThat(CompletionTracker.forClient(client)).isNotSameAs(CompletionTracker.forClient(new Object()));
+    }
+
+    @Test
+    public void rateLimited() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.getOrSet();
+
+        try {
+            CompletionTracker tracker = new CompletionTracker(10, Duration.ofMillis(100));
+            AtomicInteger checks = new AtomicInteger();
+
+            for (int i = 0; i < 20; i++) {
+                tracker.waitForCompletion(check(checks, Integer.MAX_VALUE), state -> state, Duration.ofMinutes(1))
+                    .subscribe();
+            }
+            assertThat(checks).hasValue(1);
+
+            scheduler.advanceTimeBy(Duration.ofSeconds(1));
+            assertThat(checks.get()).isLessThanOrEqualTo(11);
+
+            scheduler.advanceTimeBy(Duration.ofSeconds(2));
+            assertThat(checks.get()).isBetween(20, 31);
+        } finally {
+            VirtualTimeScheduler.reset();
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    public void timeoutHungCheck() {
+        CompletionTracker tracker = new CompletionTracker(10, Duration.ofMillis(100));
+        AtomicInteger cancellations = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> tracker.waitForCompletion(Mono.<Boolean>never().doOnCancel(cancellations::incrementAndGet), state -> state, Duration.ofSeconds(5)))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofSeconds(6)))
+            .expectError(DelayTimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(cancellations).hasValue(1);
+        assertThat(tracker.getPendingCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void timeout() {
+        CompletionTracker tracker = new CompletionTracker(10, Duration.ofMillis(100));
+
+        StepVerifier.withVirtualTime(() -> tracker.waitForCompletion(check(new AtomicInteger(), Integer.MAX_VALUE), state -> state, Duration.ofSeconds(5)))
+            .then(() -> VirtualTimeScheduler.get().advanceTimeBy(Duration.ofSeconds(6)))
+            .expectError(DelayTimeoutException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(tracker.getPendingCount()).isEqualTo(0);
+    }
+
+    private static Mono<Boolean> check(AtomicInteger checks, int completeAfter) {
+        return Mono.fromSupplier(() -> checks.incrementAndGet() >= completeAfter);
+    }
+
+}
@@ -45,10 +45,35 @@ import java.util.concurrent.TimeoutException;
 
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class PaginationUtilsTest {
 
+    @Test
+    public void requestClientV2Pages() {
+        Spaces spaces = mock(Spaces.class, RETURNS_SMART_NULLS);
+
+        requestListSpaces(spaces, 1, 3);
+        requestListSpaces(spaces, 2, 3);
+        requestListSpaces(spaces, 3, 3);
+
+        StepVerifier.create(PaginationUtils
+            .requestClientV2Pages(page -> spaces
+                .list(ListSpacesRequest.builder()
+                    .page(page)
+                    .build())), 1)
+            .expectNextCount(1)
+            .then(() -> verify(spaces, never()).list(ListSpacesRequest.builder()
+                .page(3)
+                .build()))
+            .thenRequest(2)
+            .expectNextCount(2)
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
+
     @Test
     public void requestClientV2Resources() {
         Spaces spaces = mock(Spaces.class, RETURNS_SMART_NULLS);
@@ -100,6 +125,29 @@ public final class PaginationUtilsTest {
             .verify(Duration.ofSeconds(1));
     }
 
+    @Test
+    public void requestClientV3Pages() {
+        Packages packages = mock(Packages.class, RETURNS_SMART_NULLS);
+
+        requestListPackages(packages, 1, 3);
+        requestListPackages(packages, 2, 3);
+        requestListPackages(packages, 3, 3);
+
+        StepVerifier.create(PaginationUtils
+            .requestClientV3Pages(page -> packages
+                .list(ListPackagesRequest.builder()
+                    .page(page)
+                    .build())), 1)
+            .expectNextCount(1)
+            .then(() -> verify(packages, never()).list(ListPackagesRequest.builder()
+                .page(3)
+                .build()))
+            .thenRequest(2)
+            .expectNextCount(2)
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+    }
+
     @Test
     public void requestClientV3Resources() {
         Packages packages = mock(Packages.class, RETURNS_SMART_NULLS);
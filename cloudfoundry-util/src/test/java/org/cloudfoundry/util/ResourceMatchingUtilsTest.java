@@ -0,0 +1,60 @@
+/*
+ * Copyright 2013-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.util.ResourceMatchingUtils.ArtifactMetadata;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ResourceMatchingUtilsTest {
+
+    @Test
+    public void fingerprintChanged() {
+        String fingerprint = ResourceMatchingUtils.getFingerprint(Arrays.asList(
+            new ArtifactMetadata("test-hash-1", "test-path-1", "100644", 1),
+            new ArtifactMetadata("test-hash-2", "test-path-2", "100644", 2)));
+
+        assertThat(ResourceMatchingUtils.getFingerprint(Arrays.asList(
+            new ArtifactMetadata("test-hash-1", "test-path-1", "100644", 1),
+            new ArtifactMetadata("test-hash-3", "test-path-2", "100644", 2))))
+            .isNotEqualTo(fingerprint);
+
+        assertThat(ResourceMatchingUtils.getFingerprint(Arrays.asList(
+            new ArtifactMetadata("test-hash-1", "test-path-1", "100644", 1),
+            new ArtifactMetadata("test-hash-2", "test-path-2", "100755", 2))))
+            .isNotEqualTo(fingerprint);
+
+        assertThat(ResourceMatchingUtils.getFingerprint(Arrays.asList(
+            new ArtifactMetadata("test-hash-1", "test-path-1", "100644", 1),
+            new ArtifactMetadata("test-hash-2", "test-path-3", "100644", 2))))
+            .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void fingerprintOrderIndependent() {
+        assertThat(ResourceMatchingUtils.getFingerprint(Arrays.asList(
+            new ArtifactMetadata("test-hash-1", "test-path-1", "100644", 1),
+            new ArtifactMetadata("test-hash-2", "test-path-2", "100644", 2))))
+            .isEqualTo(ResourceMatchingUtils.getFingerprint(Arrays.asList(
+                new ArtifactMetadata("test-hash-2", "test-path-2", "100644", 2),
+                new ArtifactMetadata("test-hash-1", "test-path-1", "100644", 1))));
+    }
+
+}